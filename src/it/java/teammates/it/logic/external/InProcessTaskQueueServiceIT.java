@@ -0,0 +1,203 @@
+package teammates.it.logic.external;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailType;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.TaskWrapper;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.logic.external.InProcessTaskQueueService;
+import teammates.logic.external.InProcessTaskQueueService.JdbcPendingTaskStore;
+import teammates.logic.external.InProcessTaskQueueService.PendingTask;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.ui.webapi.BasicFeedbackSessionEmailAction;
+
+/**
+ * SUT: {@link InProcessTaskQueueService.JdbcPendingTaskStore}.
+ */
+public class InProcessTaskQueueServiceIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private static final String QUEUE_NAME = "queue-name";
+    private static final String OTHER_QUEUE_NAME = "other-queue-name";
+    private static final long LEASE_MILLIS = 60_000;
+
+    private final JdbcPendingTaskStore store = new JdbcPendingTaskStore();
+
+    @BeforeClass
+    public void createPendingTasksTable() {
+        // The table is not mapped to an entity, so it is not created by Hibernate for the tests
+        executeUpdate("CREATE TABLE IF NOT EXISTS pending_tasks (id TEXT PRIMARY KEY, "
+                + "queue_name VARCHAR(255) NOT NULL, worker_uri TEXT NOT NULL, request_body TEXT, "
+                + "attempt INTEGER NOT NULL, eta TIMESTAMP WITH TIME ZONE NOT NULL)");
+    }
+
+    @BeforeMethod
+    public void deletePendingTasks() {
+        executeUpdate("DELETE FROM pending_tasks");
+    }
+
+    private static void executeUpdate(String sql) {
+        HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+            try (Statement statement = conn.createStatement()) {
+                return statement.executeUpdate(sql);
+            }
+        });
+    }
+
+    private static PendingTask createTask(String queueName, long eta) {
+        return PendingTask.of(new TaskWrapper(queueName, "/worker/test", null, null), eta);
+    }
+
+    @Test
+    public void testClaim_dueTasks_claimedInOrderUntilLeaseExpires() {
+        long now = 1_700_000_000_000L;
+        PendingTask laterTask = createTask(QUEUE_NAME, now - 1_000);
+        PendingTask earlierTask = createTask(QUEUE_NAME, now - 2_000);
+        PendingTask notDueTask = createTask(QUEUE_NAME, now + 1_000);
+        PendingTask otherQueueTask = createTask(OTHER_QUEUE_NAME, now);
+        store.save(List.of(laterTask, earlierTask, notDueTask, otherQueueTask));
+
+        assertEquals(Set.of(QUEUE_NAME, OTHER_QUEUE_NAME), new HashSet<>(store.getQueueNamesWithDueTasks(now)));
+
+        ______TS("due tasks of the queue are claimed earliest first, up to the limit");
+
+        List<PendingTask> claimedTasks = store.claim(QUEUE_NAME, 1, now, now + LEASE_MILLIS);
+
+        assertEquals(1, claimedTasks.size());
+        assertEquals(earlierTask.getId(), claimedTasks.get(0).getId());
+        assertEquals(now + LEASE_MILLIS, claimedTasks.get(0).getEta());
+
+        claimedTasks = store.claim(QUEUE_NAME, 10, now, now + LEASE_MILLIS);
+
+        assertEquals(1, claimedTasks.size());
+        assertEquals(laterTask.getId(), claimedTasks.get(0).getId());
+
+        ______TS("claimed tasks are not claimed again while their lease lasts");
+
+        assertTrue(store.claim(QUEUE_NAME, 10, now + LEASE_MILLIS - 1, now + 2 * LEASE_MILLIS).stream()
+                .allMatch(task -> task.getId().equals(notDueTask.getId())));
+
+        ______TS("claimed tasks which are not completed are claimed again once their lease expires");
+
+        claimedTasks = store.claim(QUEUE_NAME, 10, now + 2 * LEASE_MILLIS, now + 3 * LEASE_MILLIS);
+
+        assertEquals(Set.of(earlierTask.getId(), laterTask.getId(), notDueTask.getId()),
+                claimedTasks.stream().map(PendingTask::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testRescheduleAndComplete() {
+        long now = 1_700_000_000_000L;
+        PendingTask task = createTask(QUEUE_NAME, now);
+        store.save(List.of(task));
+        store.claim(QUEUE_NAME, 1, now, now + LEASE_MILLIS);
+
+        ______TS("rescheduled task is due again at its new due time, with its attempt count");
+
+        store.reschedule(task.getId(), 2, now + 1_000);
+
+        assertTrue(store.claim(QUEUE_NAME, 1, now + 999, now + LEASE_MILLIS).isEmpty());
+        List<PendingTask> claimedTasks = store.claim(QUEUE_NAME, 1, now + 1_000, now + LEASE_MILLIS);
+        assertEquals(1, claimedTasks.size());
+        assertEquals(2, claimedTasks.get(0).getAttempt());
+
+        ______TS("completed task is not claimed again");
+
+        store.complete(task.getId(), now + 2 * LEASE_MILLIS);
+
+        assertTrue(store.getQueueNamesWithDueTasks(now + 3 * LEASE_MILLIS).isEmpty());
+        assertTrue(store.claim(QUEUE_NAME, 1, now + 3 * LEASE_MILLIS, now + 4 * LEASE_MILLIS).isEmpty());
+
+        ______TS("task with the ID of a completed task is not saved while the completed task is kept");
+
+        store.save(List.of(new PendingTask(task.getId(), QUEUE_NAME, "/worker/test", null, 0, now)));
+
+        assertTrue(store.claim(QUEUE_NAME, 1, now + 3 * LEASE_MILLIS, now + 4 * LEASE_MILLIS).isEmpty());
+
+        ______TS("completed task is deleted once it has been kept for long enough");
+
+        store.deleteCompleted(now + 2 * LEASE_MILLIS - 1);
+        store.save(List.of(new PendingTask(task.getId(), QUEUE_NAME, "/worker/test", null, 0, now)));
+        assertTrue(store.claim(QUEUE_NAME, 1, now + 3 * LEASE_MILLIS, now + 4 * LEASE_MILLIS).isEmpty());
+
+        store.deleteCompleted(now + 2 * LEASE_MILLIS);
+        store.save(List.of(new PendingTask(task.getId(), QUEUE_NAME, "/worker/test", null, 0, now)));
+        assertEquals(1, store.claim(QUEUE_NAME, 1, now + 3 * LEASE_MILLIS, now + 4 * LEASE_MILLIS).size());
+    }
+
+    @Test
+    public void testSave_namedTasks_identifiedByTheirNames() {
+        long now = 1_700_000_000_000L;
+        FeedbackSession session = getTypicalSqlDataBundle().feedbackSessions.get("session1InCourse1");
+        String taskNamePrefix = BasicFeedbackSessionEmailAction.getBatchTaskName(
+                session, EmailType.FEEDBACK_OPENED, "cursor");
+        TaskWrapper namedTask = new TaskWrapper(QUEUE_NAME, "/worker/test", null, null, 0, taskNamePrefix + "-0");
+
+        ______TS("task named like the tasks of a session email batch is saved under its name");
+
+        store.save(List.of(PendingTask.of(namedTask, now)));
+
+        List<PendingTask> claimedTasks = store.claim(QUEUE_NAME, 10, now, now + LEASE_MILLIS);
+        assertEquals(1, claimedTasks.size());
+        assertEquals(taskNamePrefix + "-0", claimedTasks.get(0).getId());
+
+        ______TS("task with the same name is not saved again");
+
+        store.complete(claimedTasks.get(0).getId(), now);
+        store.save(List.of(PendingTask.of(namedTask, now)));
+
+        assertTrue(store.claim(QUEUE_NAME, 10, now + 2 * LEASE_MILLIS, now + 3 * LEASE_MILLIS).isEmpty());
+    }
+
+    @Test
+    public void testClaim_concurrentClaims_eachTaskClaimedOnce() throws Exception {
+        long now = 1_700_000_000_000L;
+        int taskCount = 200;
+        List<PendingTask> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(createTask(QUEUE_NAME, now - i));
+        }
+        store.save(tasks);
+
+        // Each thread stands for an instance polling the shared table
+        int instanceCount = 8;
+        ExecutorService instances = Executors.newFixedThreadPool(instanceCount);
+        List<Future<List<String>>> claimedIdsOfInstances = new ArrayList<>();
+        try {
+            for (int i = 0; i < instanceCount; i++) {
+                claimedIdsOfInstances.add(instances.submit(() -> {
+                    List<String> claimedIds = new ArrayList<>();
+                    List<PendingTask> claimedTasks;
+                    do {
+                        claimedTasks = store.claim(QUEUE_NAME, 7, now, now + LEASE_MILLIS);
+                        claimedTasks.forEach(task -> claimedIds.add(task.getId()));
+                    } while (!claimedTasks.isEmpty());
+                    return claimedIds;
+                }));
+            }
+
+            List<String> allClaimedIds = new ArrayList<>();
+            for (Future<List<String>> claimedIds : claimedIdsOfInstances) {
+                allClaimedIds.addAll(claimedIds.get());
+            }
+
+            assertEquals(taskCount, allClaimedIds.size());
+            assertEquals(taskCount, new HashSet<>(allClaimedIds).size());
+        } finally {
+            instances.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains test cases for {@link teammates.logic.external} package.
+ */
+package teammates.it.logic.external;
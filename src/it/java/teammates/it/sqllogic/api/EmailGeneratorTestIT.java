@@ -1,12 +1,16 @@
 package teammates.it.sqllogic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.EmailBatch;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.util.Config;
@@ -16,6 +20,8 @@ import teammates.common.util.HibernateUtil;
 import teammates.common.util.TimeHelper;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.api.SqlEmailGenerator;
+import teammates.sqllogic.core.FeedbackSessionsLogic;
+import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Student;
 import teammates.test.EmailChecker;
@@ -26,6 +32,8 @@ import teammates.test.EmailChecker;
 public class EmailGeneratorTestIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private final SqlEmailGenerator emailGenerator = SqlEmailGenerator.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final UsersLogic usersLogic = UsersLogic.inst();
 
     private SqlDataBundle dataBundle;
 
@@ -122,6 +130,59 @@ public class EmailGeneratorTestIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     }
 
+    @Test
+    public void testGenerateFeedbackSessionEmailBatch_rosterChangesBetweenBatches_eachRecipientEmailedOnce()
+            throws Exception {
+        Student student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        Student unregisteredStudent = dataBundle.students.get("student1UnregisteredInCourse1");
+        FeedbackSession session = fsLogic.getFeedbackSession(
+                dataBundle.feedbackSessions.get("session1InCourse1").getName(), student1InCourse1.getCourseId());
+        List<String> allRecipients = getRecipients(
+                emailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_PUBLISHED, null, 100));
+
+        // Students come first, ordered by email
+        assertEquals(student1InCourse1.getEmail(), allRecipients.get(0));
+        assertEquals(unregisteredStudent.getEmail(), allRecipients.get(1));
+
+        EmailBatch firstBatch = emailGenerator.generateFeedbackSessionEmailBatch(
+                session, EmailType.FEEDBACK_PUBLISHED, null, 1);
+
+        assertEquals(List.of(student1InCourse1.getEmail()), getRecipients(firstBatch));
+        assertTrue(firstBatch.hasNextBatch());
+
+        ______TS("recipients after the cursor are emailed once even if earlier recipients are removed");
+
+        usersLogic.deleteStudentCascade(student1InCourse1.getCourseId(), student1InCourse1.getEmail());
+        Student addedStudent = new Student(student1InCourse1.getCourse(), "added student",
+                "student2InCourse1@gmail.tmt", "", student1InCourse1.getTeam());
+        usersLogic.createStudent(addedStudent);
+        HibernateUtil.flushSession();
+
+        List<String> remainingRecipients = new ArrayList<>();
+        String cursor = firstBatch.getNextCursor();
+        while (cursor != null) {
+            EmailBatch batch = emailGenerator.generateFeedbackSessionEmailBatch(
+                    session, EmailType.FEEDBACK_PUBLISHED, cursor, 2);
+            remainingRecipients.addAll(getRecipients(batch));
+            cursor = batch.getNextCursor();
+        }
+
+        List<String> expectedRecipients = new ArrayList<>(allRecipients.subList(1, allRecipients.size()));
+        expectedRecipients.add(1, addedStudent.getEmail());
+        assertEquals(expectedRecipients, remainingRecipients);
+
+        ______TS("invalid cursor");
+
+        assertThrows(IllegalArgumentException.class, () -> emailGenerator.generateFeedbackSessionEmailBatch(
+                session, EmailType.FEEDBACK_PUBLISHED, "not-a-cursor", 1));
+    }
+
+    private static List<String> getRecipients(EmailBatch batch) {
+        return batch.getEmails().getEmailHeaders().stream()
+                .map(EmailWrapper::getRecipient)
+                .collect(Collectors.toList());
+    }
+
     private void verifyEmail(EmailWrapper email, String recipient, String subject, String emailContentFilePath)
             throws Exception {
         // check recipient
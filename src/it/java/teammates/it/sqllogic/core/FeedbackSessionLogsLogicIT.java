@@ -3,6 +3,9 @@ package teammates.it.sqllogic.core;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.criteria.CriteriaDelete;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -128,4 +131,87 @@ public class FeedbackSessionLogsLogicIT extends BaseTestCaseWithSqlDatabaseAcces
         assertEquals(expectedLogs, actualLogs);
     }
 
+    @Test
+    public void test_getOrderedFeedbackSessionLogs_longTimeRange_rolledUpDaysReadFromRollups() {
+        Instant startTime = Instant.parse("2011-12-20T00:00:00Z");
+        Instant endTime = Instant.parse("2012-01-10T00:00:00Z");
+        Course course = typicalDataBundle.courses.get("course1");
+        Student student1 = typicalDataBundle.students.get("student1InCourse1");
+        FeedbackSession fs1 = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Instant laterTimestamp = Instant.parse("2012-01-01T20:00:00Z");
+        fslLogic.createFeedbackSessionLog(new FeedbackSessionLog(student1, fs1, FeedbackSessionLogType.ACCESS,
+                laterTimestamp));
+        HibernateUtil.flushSession();
+
+        ______TS("Days not rolled up yet, no logs returned");
+        List<FeedbackSessionLog> actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(), null, null,
+                startTime, endTime);
+
+        assertTrue(actualLogs.isEmpty());
+
+        ______TS("Last log of each type of each student in each session on each day returned");
+        fslLogic.rollUpRecentFeedbackSessionLogs(Instant.parse("2012-01-02T06:00:00Z"));
+        HibernateUtil.clearSession();
+
+        actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(), null, null, startTime, endTime);
+
+        assertEquals(List.of(
+                Instant.parse("2012-01-01T12:00:01Z"),
+                Instant.parse("2012-01-01T12:00:02Z"),
+                Instant.parse("2012-01-01T12:00:03Z"),
+                Instant.parse("2012-01-01T12:00:04Z"),
+                laterTimestamp),
+                actualLogs.stream().map(FeedbackSessionLog::getTimestamp).collect(Collectors.toList()));
+        assertEquals(student1.getId(), actualLogs.get(4).getStudent().getId());
+        assertEquals(fs1.getId(), actualLogs.get(4).getFeedbackSession().getId());
+        assertEquals(FeedbackSessionLogType.ACCESS, actualLogs.get(4).getFeedbackSessionLogType());
+        assertTrue(actualLogs.get(4).isRolledUp());
+        assertEquals(Integer.valueOf(2), actualLogs.get(4).getRolledUpLogCount());
+        assertEquals(Instant.parse("2012-01-01T12:00:00Z"), actualLogs.get(4).getRolledUpFirstTimestamp());
+
+        ______TS("Short time range, all logs returned");
+        actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(), student1.getId(), fs1.getId(),
+                Instant.parse("2012-01-01T00:00:00Z"), Instant.parse("2012-01-02T00:00:00Z"));
+
+        assertEquals(2, actualLogs.size());
+        assertFalse(actualLogs.get(0).isRolledUp());
+    }
+
+    @Test
+    public void test_getOrderedFeedbackSessionLogs_shortTimeRangeWithLogsDropped_readFromRollups() {
+        Course course = typicalDataBundle.courses.get("course1");
+        Student student1 = typicalDataBundle.students.get("student1InCourse1");
+        FeedbackSession fs1 = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        fslLogic.rollUpRecentFeedbackSessionLogs(Instant.parse("2012-01-02T06:00:00Z"));
+        CriteriaDelete<FeedbackSessionLog> cd = HibernateUtil.getCriteriaBuilder()
+                .createCriteriaDelete(FeedbackSessionLog.class);
+        cd.from(FeedbackSessionLog.class);
+        HibernateUtil.executeDelete(cd);
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        ______TS("Logs dropped, rollups of the days in the time range returned");
+        List<FeedbackSessionLog> actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(),
+                student1.getId(), fs1.getId(), Instant.parse("2012-01-01T00:00:00Z"),
+                Instant.parse("2012-01-02T00:00:00Z"));
+
+        assertEquals(1, actualLogs.size());
+        assertEquals(FeedbackSessionLogType.ACCESS, actualLogs.get(0).getFeedbackSessionLogType());
+        assertEquals(Instant.parse("2012-01-01T12:00:00Z"), actualLogs.get(0).getTimestamp());
+        assertTrue(actualLogs.get(0).isRolledUp());
+        assertEquals(Integer.valueOf(1), actualLogs.get(0).getRolledUpLogCount());
+        assertEquals(Instant.parse("2012-01-01T12:00:00Z"), actualLogs.get(0).getRolledUpFirstTimestamp());
+
+        ______TS("Logs dropped, rollups whose logs are all outside the time range not returned");
+        actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(), null, null,
+                Instant.parse("2012-01-01T00:00:00Z"), Instant.parse("2012-01-01T12:00:00Z"));
+
+        assertTrue(actualLogs.isEmpty());
+
+        actualLogs = fslLogic.getOrderedFeedbackSessionLogs(course.getId(), null, null,
+                Instant.parse("2012-01-01T12:00:02Z"), Instant.parse("2012-01-01T13:00:00Z"));
+
+        assertEquals(3, actualLogs.size());
+    }
+
 }
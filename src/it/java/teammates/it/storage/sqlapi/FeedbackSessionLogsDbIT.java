@@ -1,6 +1,8 @@
 package teammates.it.storage.sqlapi;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,6 +18,7 @@ import teammates.storage.sqlapi.FeedbackSessionLogsDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.FeedbackSessionLogDailyRollup;
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -125,4 +128,67 @@ public class FeedbackSessionLogsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
         assertEquals(expectedLogs, actualLogs);
     }
+
+    @Test
+    public void test_rollUpFeedbackSessionLogs_success() {
+        Course course = typicalDataBundle.courses.get("course1");
+        Student student1 = typicalDataBundle.students.get("student1InCourse1");
+        FeedbackSession fs1 = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionLog student1Session1Log1 = typicalDataBundle.feedbackSessionLogs.get("student1Session1Log1");
+        Instant laterTimestamp = Instant.parse("2012-01-01T20:00:00Z");
+        fslDb.createFeedbackSessionLog(new FeedbackSessionLog(student1, fs1, FeedbackSessionLogType.ACCESS,
+                laterTimestamp));
+        HibernateUtil.flushSession();
+        LocalDate logDate = LocalDate.parse("2012-01-01");
+
+        ______TS("One rollup for each type of log of each student in each session on the date");
+        int rollupCount = fslDb.rollUpFeedbackSessionLogs(logDate);
+
+        assertEquals(6, rollupCount);
+
+        List<FeedbackSessionLogDailyRollup> rollups = fslDb.getOrderedFeedbackSessionLogDailyRollups(course.getId(),
+                student1.getId(), fs1.getId(), logDate, logDate.plusDays(1));
+
+        assertEquals(1, rollups.size());
+        FeedbackSessionLogDailyRollup rollup = rollups.get(0);
+        assertEquals(FeedbackSessionLogType.ACCESS, rollup.getFeedbackSessionLogType());
+        assertEquals(logDate, rollup.getLogDate());
+        assertEquals(2, rollup.getLogCount());
+        assertEquals(student1Session1Log1.getTimestamp(), rollup.getFirstTimestamp());
+        assertEquals(laterTimestamp, rollup.getLastTimestamp());
+
+        ______TS("Rolling up the same date again replaces the rollups");
+        rollupCount = fslDb.rollUpFeedbackSessionLogs(logDate);
+        HibernateUtil.clearSession();
+
+        assertEquals(6, rollupCount);
+        assertEquals(5, fslDb.getOrderedFeedbackSessionLogDailyRollups(course.getId(), null, null,
+                logDate, logDate.plusDays(1)).size());
+
+        ______TS("No logs on the date, no rollups");
+        assertEquals(0, fslDb.rollUpFeedbackSessionLogs(logDate.plusDays(1)));
+    }
+
+    @Test
+    public void test_createAndDropFeedbackSessionLogsPartitions_success() {
+        Instant startTime = Instant.parse("2012-01-01T12:00:00Z");
+        Instant endTime = Instant.parse("2012-01-01T23:59:59Z");
+        Course course = typicalDataBundle.courses.get("course1");
+        YearMonth month = YearMonth.of(2012, 1);
+
+        ______TS("Partition created with the logs of its month");
+        assertTrue(fslDb.createFeedbackSessionLogsPartition(month));
+        assertEquals(5, fslDb.getOrderedFeedbackSessionLogs(course.getId(), null, null, startTime, endTime).size());
+
+        ______TS("Existing partition not created again");
+        assertFalse(fslDb.createFeedbackSessionLogsPartition(month));
+
+        ______TS("Partitions before the cutoff dropped");
+        assertEquals(0, fslDb.dropFeedbackSessionLogsPartitionsBefore(LocalDate.parse("2012-01-31")));
+        assertEquals(5, fslDb.getOrderedFeedbackSessionLogs(course.getId(), null, null, startTime, endTime).size());
+
+        assertEquals(1, fslDb.dropFeedbackSessionLogsPartitionsBefore(LocalDate.parse("2012-02-01")));
+        HibernateUtil.clearSession();
+        assertEquals(0, fslDb.getOrderedFeedbackSessionLogs(course.getId(), null, null, startTime, endTime).size());
+    }
 }
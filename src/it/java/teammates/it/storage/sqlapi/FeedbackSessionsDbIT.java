@@ -92,6 +92,50 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedUniqueOngoingSessions, actualUniqueOngoingSessions);
     }
 
+    @Test
+    public void testGetFeedbackSessionsForCoursesStartingAfter_typicalCase_shouldGetUndeletedSessionsOfAllCourses()
+            throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
+        Instant instantNow = Instant.now();
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        FeedbackSession c1Fs1 = new FeedbackSession("name1-1", course1, "test1@test.com", "test-instruction",
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)),
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)), Duration.ofMinutes(10L),
+                true, true, true);
+        fsDb.createFeedbackSession(c1Fs1);
+        FeedbackSession c1Fs2 = new FeedbackSession("name1-2", course1, "test1@test.com", "test-instruction",
+                instantNow.minus(Duration.ofDays(200L)), instantNow.minus(Duration.ofDays(190L)),
+                instantNow.minus(Duration.ofDays(200L)), instantNow.minus(Duration.ofDays(190L)),
+                Duration.ofMinutes(10L), true, true, true);
+        fsDb.createFeedbackSession(c1Fs2);
+        Course course2 = new Course("test-id2", "test-name2", "UTC", "MIT");
+        coursesDb.createCourse(course2);
+        FeedbackSession c2Fs1 = new FeedbackSession("name2-1", course2, "test2@test.com", "test-instruction",
+                instantNow.minus(Duration.ofDays(2L)), instantNow.plus(Duration.ofDays(7L)),
+                instantNow.minus(Duration.ofDays(2L)), instantNow.plus(Duration.ofDays(7L)), Duration.ofMinutes(10L),
+                true, true, true);
+        fsDb.createFeedbackSession(c2Fs1);
+        FeedbackSession c2Fs2 = new FeedbackSession("name2-2", course2, "test2@test.com", "test-instruction",
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)),
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)), Duration.ofMinutes(10L),
+                true, true, true);
+        fsDb.createFeedbackSession(c2Fs2);
+        fsDb.softDeleteFeedbackSession(c2Fs2.getName(), course2.getId());
+        Course course3 = new Course("test-id3", "test-name3", "UTC", "UCL");
+        coursesDb.createCourse(course3);
+        FeedbackSession c3Fs1 = new FeedbackSession("name3-1", course3, "test3@test.com", "test-instruction",
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)),
+                instantNow.minus(Duration.ofDays(1L)), instantNow.plus(Duration.ofDays(7L)), Duration.ofMinutes(10L),
+                true, true, true);
+        fsDb.createFeedbackSession(c3Fs1);
+
+        List<FeedbackSession> actualSessions = fsDb.getFeedbackSessionsForCoursesStartingAfter(
+                List.of(course1.getId(), course2.getId()), instantNow.minus(Duration.ofDays(90L)));
+
+        assertEquals(List.of(c2Fs1, c1Fs1), actualSessions);
+        assertTrue(fsDb.getFeedbackSessionsForCoursesStartingAfter(List.of(), instantNow).isEmpty());
+    }
+
     @Test
     public void testSoftDeleteFeedbackSession()
             throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
@@ -297,7 +341,7 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
     }
 
     @Test
-    public void testGetFeedbackSessionEntitiesForCourseStartingAfter_sqlInjectionAttempt_shouldNotRunSqlInjectionQuery()
+    public void testGetFeedbackSessionsForCoursesStartingAfter_sqlInjectionAttempt_shouldNotRunSqlInjectionQuery()
             throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
         Course course = createTypicalCourse();
         coursesDb.createCourse(course);
@@ -305,7 +349,7 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         fsDb.createFeedbackSession(fs);
         Instant beforeStart = Instant.now().minus(Duration.ofDays(7L));
         List<FeedbackSession> sessions =
-                fsDb.getFeedbackSessionEntitiesForCourseStartingAfter("course-id", beforeStart);
+                fsDb.getFeedbackSessionsForCoursesStartingAfter(List.of("course-id"), beforeStart);
         assertEquals(1, sessions.size());
         // select f1_0.id,f1_0.course_id,f1_0.created_at,f1_0.creator_email,f1_0.deleted_at,f1_0.end_time,
         // f1_0.grace_period,f1_0.instructions,f1_0.is_closed_email_sent,f1_0.is_closing_email_enabled,
@@ -313,10 +357,10 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         // f1_0.is_opening_soon_email_sent,f1_0.is_published_email_enabled,f1_0.is_published_email_sent,f1_0.name,
         // f1_0.results_visible_from_time,f1_0.session_visible_from_time,f1_0.start_time,f1_0.updated_at from
         // feedback_sessions f1_0 join courses c1_0 on c1_0.id=f1_0.course_id where f1_0.start_time>=? and
-        // f1_0.course_id=?
+        // f1_0.course_id in (?) and f1_0.deleted_at is null order by f1_0.start_time
         String sqlInjectionCourseId = "course-id' OR 1 = 1;--";
         List<FeedbackSession> nonExistentSessions =
-                fsDb.getFeedbackSessionEntitiesForCourseStartingAfter(sqlInjectionCourseId, beforeStart);
+                fsDb.getFeedbackSessionsForCoursesStartingAfter(List.of(sqlInjectionCourseId), beforeStart);
         assertEquals(0, nonExistentSessions.size());
     }
 
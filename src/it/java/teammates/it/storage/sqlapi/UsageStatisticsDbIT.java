@@ -6,8 +6,14 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.AccountRequestStatus;
+import teammates.common.util.Const;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.AccountRequestsDb;
+import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.UsageStatisticsDb;
+import teammates.storage.sqlentity.AccountRequest;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.UsageStatistics;
 
 /**
@@ -16,6 +22,8 @@ import teammates.storage.sqlentity.UsageStatistics;
 public class UsageStatisticsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private final UsageStatisticsDb usageStatisticsDb = UsageStatisticsDb.inst();
+    private final CoursesDb coursesDb = CoursesDb.inst();
+    private final AccountRequestsDb accountRequestsDb = AccountRequestsDb.inst();
 
     @Test
     public void testGetUsageStatisticsForTimeRange() {
@@ -62,4 +70,51 @@ public class UsageStatisticsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNotEquals(actualUsageStatistics.size(), 0);
         verifyEquals(newUsageStatistics, actualUsageStatistics.get(0));
     }
+
+    @Test
+    public void testGetLatestUsageStatistics() {
+        ______TS("success: returns the statistics with the latest start time");
+        UsageStatistics earlierUsageStatistics = new UsageStatistics(
+                Instant.parse("2099-01-01T00:00:00Z"), 60, 0, 0, 0, 0, 0, 0, 0);
+        UsageStatistics latestUsageStatistics = new UsageStatistics(
+                Instant.parse("2099-01-01T01:00:00Z"), 60, 0, 0, 0, 0, 0, 0, 0);
+
+        usageStatisticsDb.createUsageStatistics(latestUsageStatistics);
+        usageStatisticsDb.createUsageStatistics(earlierUsageStatistics);
+
+        verifyEquals(latestUsageStatistics, usageStatisticsDb.getLatestUsageStatistics());
+    }
+
+    @Test
+    public void testCountEntitiesCreatedInTimeRange() throws Exception {
+        ______TS("success: no entities created in time range");
+        Instant startTime = Instant.parse("2000-01-01T00:00:00Z");
+        UsageStatistics counts = usageStatisticsDb.countEntitiesCreatedInTimeRange(
+                startTime, startTime.plus(1, ChronoUnit.HOURS));
+
+        assertEquals(startTime, counts.getStartTime());
+        assertEquals(0, counts.getNumResponses());
+        assertEquals(0, counts.getNumCourses());
+        assertEquals(0, counts.getNumStudents());
+        assertEquals(0, counts.getNumInstructors());
+        assertEquals(0, counts.getNumAccountRequests());
+
+        ______TS("success: counts the entities created in time range");
+        Instant countStartTime = Instant.now().minus(1, ChronoUnit.HOURS);
+        Instant countEndTime = Instant.now().plus(1, ChronoUnit.HOURS);
+        UsageStatistics countsBefore = usageStatisticsDb.countEntitiesCreatedInTimeRange(countStartTime, countEndTime);
+
+        coursesDb.createCourse(new Course("usage-statistics-course", "course name", Const.DEFAULT_TIME_ZONE,
+                "institute"));
+        accountRequestsDb.createAccountRequest(new AccountRequest("usage-statistics@teammates.tmt", "name",
+                "institute", AccountRequestStatus.PENDING, "comments"));
+
+        UsageStatistics countsAfter = usageStatisticsDb.countEntitiesCreatedInTimeRange(countStartTime, countEndTime);
+
+        assertEquals(countsBefore.getNumCourses() + 1, countsAfter.getNumCourses());
+        assertEquals(countsBefore.getNumAccountRequests() + 1, countsAfter.getNumAccountRequests());
+        assertEquals(countsBefore.getNumResponses(), countsAfter.getNumResponses());
+        assertEquals(countsBefore.getNumStudents(), countsAfter.getNumStudents());
+        assertEquals(countsBefore.getNumInstructors(), countsAfter.getNumInstructors());
+    }
 }
@@ -225,6 +225,39 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedStudents.containsAll(actualStudents));
     }
 
+    @Test
+    public void testGetStudentsForCourseAfter() throws InvalidParametersException, EntityAlreadyExistsException {
+        Student firstStudent = new Student(course, "student-name", "student-a@teammates.tmt", "comments");
+        firstStudent.setTeam(student.getTeam());
+        usersDb.createStudent(firstStudent);
+        Student secondStudent = new Student(course, "student-name", "student-b@teammates.tmt", "comments");
+        secondStudent.setTeam(student.getTeam());
+        usersDb.createStudent(secondStudent);
+        HibernateUtil.flushSession();
+
+        ______TS("success: students ordered by email, from the first student");
+        List<Student> actualStudents = usersDb.getStudentsForCourseAfter(course.getId(), null, null, List.of(), 2);
+
+        assertEquals(List.of(firstStudent, secondStudent), actualStudents);
+
+        ______TS("success: students after the given student");
+        actualStudents = usersDb.getStudentsForCourseAfter(course.getId(), secondStudent.getEmail(),
+                secondStudent.getId(), List.of(), 2);
+
+        assertEquals(List.of(student), actualStudents);
+
+        actualStudents = usersDb.getStudentsForCourseAfter(course.getId(), student.getEmail(),
+                student.getId(), List.of(), 2);
+
+        assertTrue(actualStudents.isEmpty());
+
+        ______TS("success: excluded students left out");
+        actualStudents = usersDb.getStudentsForCourseAfter(course.getId(), null, null,
+                List.of(secondStudent.getId()), 5);
+
+        assertEquals(List.of(firstStudent, student), actualStudents);
+    }
+
     @Test
     public void testGetStudentsForTeam()
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
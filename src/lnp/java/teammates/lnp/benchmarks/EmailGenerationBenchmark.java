@@ -0,0 +1,238 @@
+package teammates.lnp.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.EmailBatch;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPermissionRole;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.api.MockTaskQueuer;
+import teammates.sqllogic.api.SqlEmailGenerator;
+import teammates.sqllogic.core.CoursesLogic;
+import teammates.sqllogic.core.FeedbackSessionsLogic;
+import teammates.sqllogic.core.LogicStarter;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+
+/**
+ * Benchmarks the generation and enqueueing of the emails of a feedback session blast, for each type of
+ * feedback session notification email, against a course seeded in the local Postgres database.
+ *
+ * <p>The database is the one configured in build.properties, e.g. the one started with docker compose
+ * for the dev server. The courses are seeded once and kept, so that later runs can reuse them.
+ *
+ * <p>Each invocation generates and enqueues the emails for the whole course in the same way as
+ * the feedback session notification cron job and the email generation worker, in batches of
+ * {@link #EMAIL_GENERATION_BATCH_SIZE} recipients. The tasks are enqueued into {@link MockTaskQueuer}
+ * and serialized as they would be for the task queue. Besides the wall time, the number of SQL statements
+ * and the size of the task payloads are reported; run with the GC profiler for the allocation rate.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dhibernate.session_factory.statement_inspector="
+        + "teammates.lnp.benchmarks.QueryCountingStatementInspector")
+@State(Scope.Benchmark)
+public class EmailGenerationBenchmark {
+
+    /**
+     * Same as the batch size used by the feedback session email actions.
+     */
+    private static final int EMAIL_GENERATION_BATCH_SIZE = 500;
+
+    private static final int STUDENTS_PER_TEAM = 4;
+    private static final int TEAMS_PER_SECTION = 25;
+    private static final int NUMBER_OF_INSTRUCTORS = 5;
+    private static final int SEEDING_FLUSH_SIZE = 500;
+    private static final String SESSION_NAME = "Benchmark Session";
+
+    @Param({ "100", "1000", "10000" })
+    public int numberOfStudents;
+
+    @Param({ "FEEDBACK_OPENED", "FEEDBACK_OPENING_SOON", "FEEDBACK_CLOSING_SOON", "FEEDBACK_CLOSED",
+            "FEEDBACK_PUBLISHED" })
+    public EmailType emailType;
+
+    private final SqlEmailGenerator emailGenerator = SqlEmailGenerator.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final MockTaskQueuer taskQueuer = new MockTaskQueuer();
+
+    private String courseId;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() {
+        HibernateUtil.buildSessionFactory(Config.getDbConnectionUrl(), Config.POSTGRES_USERNAME,
+                Config.POSTGRES_PASSWORD);
+        LogicStarter.initializeDependencies();
+
+        courseId = "benchmark.email-generation." + numberOfStudents;
+        HibernateUtil.beginTransaction();
+        if (CoursesLogic.inst().getCourse(courseId) == null) {
+            // seeded in a single transaction, so that an existing course is always a complete one
+            seedCourse();
+        }
+        HibernateUtil.commitTransaction();
+    }
+
+    private void seedCourse() {
+        Course course = new Course(courseId, "Benchmark Course", Const.DEFAULT_TIME_ZONE, "TEAMMATES Benchmarks");
+        HibernateUtil.persist(course);
+
+        for (int i = 0; i < NUMBER_OF_INSTRUCTORS; i++) {
+            String roleName = i == 0
+                    ? Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER
+                    : Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR;
+            HibernateUtil.persist(new Instructor(course, "Instructor " + i, "instructor" + i + "@benchmark.tmt",
+                    true, Const.DEFAULT_DISPLAY_NAME_FOR_INSTRUCTOR, InstructorPermissionRole.getEnum(roleName),
+                    new InstructorPrivileges(roleName)));
+        }
+
+        Section section = null;
+        Team team = null;
+        for (int i = 0; i < numberOfStudents; i++) {
+            if (i % (STUDENTS_PER_TEAM * TEAMS_PER_SECTION) == 0) {
+                section = new Section(course, "Section " + i / (STUDENTS_PER_TEAM * TEAMS_PER_SECTION));
+                HibernateUtil.persist(section);
+            }
+            if (i % STUDENTS_PER_TEAM == 0) {
+                team = new Team(section, "Team " + i / STUDENTS_PER_TEAM);
+                HibernateUtil.persist(team);
+            }
+            HibernateUtil.persist(new Student(course, "Student " + i, "student" + i + "@benchmark.tmt", "", team));
+            if (i % SEEDING_FLUSH_SIZE == 0) {
+                HibernateUtil.flushSession();
+            }
+        }
+
+        // visible to students and instructors with questions for both, so that every type of email has recipients
+        Instant now = Instant.now();
+        FeedbackSession session = new FeedbackSession(SESSION_NAME, course, "instructor0@benchmark.tmt",
+                "<p>Please answer all the questions in this session.</p>", now.minus(Duration.ofDays(6)),
+                now.plus(Duration.ofHours(12)), now.minus(Duration.ofDays(7)), now.minus(Duration.ofHours(1)),
+                Duration.ofMinutes(15), true, true, true);
+        HibernateUtil.persist(session);
+        HibernateUtil.persist(FeedbackQuestion.makeQuestion(session, 1, "Questions for students",
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.SELF, 1, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new FeedbackTextQuestionDetails("How did the project go?")));
+        HibernateUtil.persist(FeedbackQuestion.makeQuestion(session, 2, "Questions for instructors",
+                FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.SELF, 1, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new FeedbackTextQuestionDetails("How did the course go?")));
+    }
+
+    @Setup(Level.Invocation)
+    public void beginTransaction() {
+        taskQueuer.clearTasks();
+        HibernateUtil.beginTransaction();
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollbackTransaction() {
+        HibernateUtil.rollbackTransaction();
+    }
+
+    @Benchmark
+    public int generateAndEnqueueEmails(EmailCounters counters) {
+        long statementCountBefore = QueryCountingStatementInspector.getStatementCount();
+
+        switch (emailType) {
+        case FEEDBACK_OPENING_SOON:
+            scheduleEmails(emailGenerator.generateFeedbackSessionOpeningSoonEmails(getSession()), counters);
+            break;
+        case FEEDBACK_CLOSED:
+            scheduleEmails(emailGenerator.generateFeedbackSessionClosedEmails(getSession()), counters);
+            break;
+        default:
+            generateAndScheduleEmailBatches(counters);
+            break;
+        }
+
+        // serialize the tasks as the task queue would
+        for (TaskWrapper task : taskQueuer.getTasksAdded()) {
+            counters.taskPayloadBytes += JsonUtils.toCompactJson(task.getRequestBody()).length();
+        }
+        counters.tasksEnqueued += taskQueuer.getTasksAdded().size();
+        counters.queriesIssued += QueryCountingStatementInspector.getStatementCount() - statementCountBefore;
+        return taskQueuer.getTasksAdded().size();
+    }
+
+    private void generateAndScheduleEmailBatches(EmailCounters counters) {
+        String cursor = null;
+        boolean hasNextBatch = true;
+        while (hasNextBatch) {
+            // each batch is generated by a separate request, which loads the session again
+            HibernateUtil.clearSession();
+            EmailBatch emailBatch = emailGenerator.generateFeedbackSessionEmailBatch(
+                    getSession(), emailType, cursor, EMAIL_GENERATION_BATCH_SIZE);
+            taskQueuer.scheduleEmailBatchesForSending(emailBatch.getEmails());
+            counters.emailsGenerated += emailBatch.getEmails().size();
+
+            hasNextBatch = emailBatch.hasNextBatch();
+            cursor = emailBatch.getNextCursor();
+        }
+    }
+
+    private void scheduleEmails(List<EmailWrapper> emails, EmailCounters counters) {
+        taskQueuer.scheduleEmailsForSending(emails);
+        counters.emailsGenerated += emails.size();
+    }
+
+    private FeedbackSession getSession() {
+        return fsLogic.getFeedbackSession(SESSION_NAME, courseId);
+    }
+
+    /**
+     * The counters reported together with the time of each blast.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EmailCounters {
+
+        public long queriesIssued;
+        public long emailsGenerated;
+        public long tasksEnqueued;
+        public long taskPayloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queriesIssued = 0;
+            emailsGenerated = 0;
+            tasksEnqueued = 0;
+            taskPayloadBytes = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Benchmarks the population of the email bodies for a feedback session opened blast.
+ *
+ * <p>Each invocation renders the email bodies for all recipients, with the same key-value pairs
+ * as the ones used by the email generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateBenchmark {
+
+    @Param("2000")
+    public int numberOfRecipients;
+
+    private String template;
+    private List<String[]> keyValuePairsOfRecipients;
+
+    @Setup
+    public void setUp() {
+        template = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_OPENED,
+                "${status}", "A new feedback session has been opened.");
+        String additionalContactInformation = Templates.populateTemplate(
+                EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+                "${coOwnersEmails}", "owner@benchmark.tmt",
+                "${supportEmail}", "support@benchmark.tmt");
+
+        keyValuePairsOfRecipients = new ArrayList<>();
+        for (int i = 0; i < numberOfRecipients; i++) {
+            String regKey = "regkey" + i;
+            keyValuePairsOfRecipients.add(new String[] {
+                    "${userName}", "Student " + i,
+                    "${courseName}", "Benchmark Course",
+                    "${courseId}", "benchmark.course",
+                    "${feedbackSessionName}", "Benchmark Session",
+                    "${deadline}", "Sun, 01 Nov 2026, 11:59 PM SGT",
+                    "${instructorPreamble}", "",
+                    "${sessionInstructions}", "<p>Please answer all the questions in this session.</p>",
+                    "${submitUrl}", "https://teammates.example/web/sessions/submission"
+                            + "?courseid=benchmark.course&fsname=Benchmark%20Session&key=" + regKey,
+                    "${reportUrl}", "https://teammates.example/web/sessions/result"
+                            + "?courseid=benchmark.course&fsname=Benchmark%20Session&key=" + regKey,
+                    "${feedbackAction}", "submit, edit or view",
+                    "${additionalContactInformation}", additionalContactInformation,
+            });
+        }
+    }
+
+    /**
+     * Populates the template by replacing the keys one after another, as was done before the templates were compiled.
+     */
+    @Benchmark
+    public void populateByChainedReplace(Blackhole blackhole) {
+        for (String[] keyValuePairs : keyValuePairsOfRecipients) {
+            String emailBody = template;
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                emailBody = emailBody.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
+            blackhole.consume(emailBody);
+        }
+    }
+
+    @Benchmark
+    public void populateByCompiledTemplate(Blackhole blackhole) {
+        for (String[] keyValuePairs : keyValuePairsOfRecipients) {
+            blackhole.consume(Templates.populateTemplate(template, keyValuePairs));
+        }
+    }
+
+}
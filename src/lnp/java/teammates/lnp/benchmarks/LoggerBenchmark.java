@@ -0,0 +1,131 @@
+package teammates.lnp.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.reflect.TypeToken;
+
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
+import teammates.common.util.CloudLoggingPayloadEncoder;
+import teammates.common.util.Config;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Benchmarks the overhead of producing the structured log line of an HTTP request.
+ *
+ * <p>Each invocation resolves the source location of the log and encodes the payload of a typical request log,
+ * as is done for every request served in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerBenchmark {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private String message;
+    private RequestLogDetails details;
+
+    @Setup
+    public void setUp() {
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setEmail("instructor@benchmark.tmt");
+        userInfo.setGoogleId("instructor.benchmark");
+
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("courseid", "benchmark.course");
+        requestParams.put("fsname", "Benchmark Session");
+        requestParams.put("intent", "INSTRUCTOR_RESULT");
+        Map<String, Object> requestHeaders = new HashMap<>();
+        requestHeaders.put("accept", "application/json, text/plain, */*");
+        requestHeaders.put("content-type", "application/json");
+        requestHeaders.put("x-web-version", "9.0.0");
+
+        details = new RequestLogDetails();
+        details.setResponseStatus(200);
+        details.setResponseTime(42L);
+        details.setRequestMethod("GET");
+        details.setRequestUrl("/webapi/session");
+        details.setUserAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko)");
+        details.setWebVersion("9.0.0");
+        details.setReferrer("https://teammates.example/web/instructor/sessions");
+        details.setInstanceId("00c61b117c8a0bd3b6b4f1f7d4e3c2b1a0f9e8d7c6b5a4");
+        details.setRequestParams(requestParams);
+        details.setRequestHeaders(requestHeaders);
+        details.setUserInfo(userInfo);
+        details.setActionClass("GetFeedbackSessionAction");
+
+        message = "[200] [42ms] [GET /webapi/session] Test log";
+    }
+
+    /**
+     * Encodes the payload as was done before the single-pass encoder, i.e. by serializing the details,
+     * parsing them back into a map, and serializing the merged map again.
+     */
+    @Benchmark
+    public String encodeByMapRoundTrip() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("message", message);
+        payload.put("severity", LogSeverity.INFO);
+
+        StackTraceElement source = getSourceByStackTrace();
+        if (source != null) {
+            payload.put("logging.googleapis.com/sourceLocation", new SourceLocation(
+                    source.getClassName(), (long) source.getLineNumber(), source.getMethodName()));
+        }
+        payload.put("logging.googleapis.com/trace", "projects/" + Config.APP_ID + "/traces/trace-id");
+        payload.put("logging.googleapis.com/spanId", "span-id");
+
+        Map<String, Object> detailsSpecificPayload =
+                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
+        payload.putAll(detailsSpecificPayload);
+
+        return JsonUtils.toCompactJson(payload);
+    }
+
+    @Benchmark
+    public String encodeInSinglePass() {
+        StackWalker.StackFrame source = getSourceByStackWalker();
+        SourceLocation sourceLocation = source == null ? null
+                : new SourceLocation(source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
+        return CloudLoggingPayloadEncoder.encode(message, LogSeverity.INFO, sourceLocation,
+                "trace-id", "span-id", details);
+    }
+
+    private StackTraceElement getSourceByStackTrace() {
+        StackTraceElement[] stes = Thread.currentThread().getStackTrace();
+        for (int i = 0; i < stes.length; i++) {
+            if (stes[i].getClassName().equals(LoggerBenchmark.class.getName()) && i + 1 < stes.length
+                    && !stes[i + 1].getClassName().equals(LoggerBenchmark.class.getName())) {
+                return stes[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private StackWalker.StackFrame getSourceByStackWalker() {
+        return STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().equals(LoggerBenchmark.class.getName()))
+                .findFirst()
+                .orElse(null));
+    }
+
+}
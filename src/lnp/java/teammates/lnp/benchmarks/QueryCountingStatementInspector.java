@@ -0,0 +1,32 @@
+package teammates.lnp.benchmarks;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements prepared by Hibernate, so that benchmarks can report the number of queries issued.
+ *
+ * <p>Registered through the {@code hibernate.session_factory.statement_inspector} system property
+ * of the forked benchmark JVM.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final AtomicLong STATEMENT_COUNT = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENT_COUNT.incrementAndGet();
+        return sql;
+    }
+
+    /**
+     * Gets the number of statements prepared so far.
+     */
+    public static long getStatementCount() {
+        return STATEMENT_COUNT.get();
+    }
+
+}
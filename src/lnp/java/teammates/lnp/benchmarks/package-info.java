@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks for performance-sensitive code paths.
+ */
+package teammates.lnp.benchmarks;
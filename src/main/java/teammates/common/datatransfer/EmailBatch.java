@@ -0,0 +1,32 @@
+package teammates.common.datatransfer;
+
+import teammates.common.util.TemplatedEmails;
+
+/**
+ * Represents a batch of emails generated for part of the recipients,
+ * together with the cursor from which the generation for the remaining recipients continues.
+ */
+public class EmailBatch {
+    private final TemplatedEmails emails;
+    private final String nextCursor;
+
+    public EmailBatch(TemplatedEmails emails, String nextCursor) {
+        this.emails = emails;
+        this.nextCursor = nextCursor;
+    }
+
+    public TemplatedEmails getEmails() {
+        return emails;
+    }
+
+    public boolean hasNextBatch() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Gets the cursor identifying the last recipient of this batch, or null if there are no remaining recipients.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
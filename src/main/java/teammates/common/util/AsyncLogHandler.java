@@ -0,0 +1,113 @@
+package teammates.common.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} implementation that publishes log records to another handler from a background thread,
+ * so that the logging thread does not wait for the output to be written.
+ *
+ * <p>The records waiting to be published are bounded. When there are too many of them, records are dropped,
+ * and the number of dropped records is published with the next record which is not dropped.
+ */
+class AsyncLogHandler extends Handler {
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> pendingRecords;
+    private final Thread publisher;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount;
+
+    private volatile boolean closed;
+
+    AsyncLogHandler(Handler delegate, int capacity, String threadName) {
+        this.delegate = delegate;
+        this.pendingRecords = new ArrayBlockingQueue<>(capacity);
+        this.publisher = new Thread(this::publishPendingRecords, threadName);
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+    }
+
+    @Override
+    public void publish(LogRecord logRecord) {
+        if (closed || !isLoggable(logRecord)) {
+            return;
+        }
+        if (!pendingRecords.offer(logRecord)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void publishPendingRecords() {
+        try {
+            while (!closed) {
+                LogRecord logRecord = pendingRecords.poll(1, TimeUnit.SECONDS);
+                if (logRecord != null) {
+                    publishToDelegate(logRecord);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishToDelegate(LogRecord logRecord) {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            LogRecord droppedRecord = new LogRecord(Level.WARNING, "Dropped " + (dropped - reportedDroppedCount)
+                    + " log records as the logging thread could not keep up");
+            droppedRecord.setLoggerName(logRecord.getLoggerName());
+            delegate.publish(droppedRecord);
+            reportedDroppedCount = dropped;
+        }
+        delegate.publish(logRecord);
+    }
+
+    /**
+     * Returns the number of records dropped as there were too many records waiting to be published.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of records waiting to be published.
+     */
+    int getPendingCount() {
+        return pendingRecords.size();
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * Stops the background thread and publishes the remaining records from the calling thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            publisher.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        LogRecord logRecord = pendingRecords.poll();
+        while (logRecord != null) {
+            publishToDelegate(logRecord);
+            logRecord = pendingRecords.poll();
+        }
+        delegate.flush();
+    }
+
+}
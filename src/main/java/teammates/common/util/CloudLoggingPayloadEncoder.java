@@ -0,0 +1,155 @@
+package teammates.common.util;
+
+import teammates.common.datatransfer.logs.LogDetails;
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.SourceLocation;
+
+/**
+ * Encodes log payloads in the structured format recognized by Google Cloud Logging.
+ *
+ * <p>The log details are serialized directly into a buffer owned by the current thread, after which
+ * the special Cloud Logging fields are appended, so that each log line is encoded in a single pass.
+ */
+public final class CloudLoggingPayloadEncoder {
+
+    static final String SOURCE_LOCATION_KEY = "logging.googleapis.com/sourceLocation";
+    static final String TRACE_KEY = "logging.googleapis.com/trace";
+    static final String SPAN_ID_KEY = "logging.googleapis.com/spanId";
+
+    // Buffers which have grown beyond this (e.g. for a request with a large body) are not kept for reuse
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private CloudLoggingPayloadEncoder() {
+        // utility class
+    }
+
+    /**
+     * Encodes a log payload into a JSON string.
+     *
+     * @param message the log message; it is replaced by the message in {@code details}, if any
+     * @param severity the severity of the log
+     * @param sourceLocation the location of the code which produces the log, or null if unknown
+     * @param traceId the ID of the trace of the request being served, or null if none
+     * @param spanId the ID of the span of the request being served, or null if none
+     * @param details the structured details of the log, or null if none
+     */
+    public static String encode(String message, LogSeverity severity, SourceLocation sourceLocation,
+            String traceId, String spanId, LogDetails details) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+
+        if (details == null) {
+            sb.append('{');
+        } else {
+            JsonUtils.toCompactJson(details, sb);
+            // Re-open the serialized object so that the remaining fields can be appended to it
+            sb.setLength(sb.length() - 1);
+        }
+
+        if (message != null && (details == null || details.getMessage() == null)) {
+            appendName(sb, "message");
+            appendString(sb, message);
+        }
+        if (severity != null) {
+            appendName(sb, "severity");
+            appendString(sb, severity.name());
+        }
+        if (sourceLocation != null) {
+            appendName(sb, SOURCE_LOCATION_KEY);
+            appendSourceLocation(sb, sourceLocation);
+        }
+        if (traceId != null) {
+            appendName(sb, TRACE_KEY);
+            appendString(sb, "projects/" + Config.APP_ID + "/traces/" + traceId);
+        }
+        if (spanId != null) {
+            appendName(sb, SPAN_ID_KEY);
+            appendString(sb, spanId);
+        }
+        sb.append('}');
+
+        String payload = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        return payload;
+    }
+
+    private static void appendSourceLocation(StringBuilder sb, SourceLocation sourceLocation) {
+        sb.append('{');
+        if (sourceLocation.getFile() != null) {
+            appendName(sb, "file");
+            appendString(sb, sourceLocation.getFile());
+        }
+        if (sourceLocation.getLine() != null) {
+            appendName(sb, "line");
+            sb.append(sourceLocation.getLine().longValue());
+        }
+        if (sourceLocation.getFunction() != null) {
+            appendName(sb, "function");
+            appendString(sb, sourceLocation.getFunction());
+        }
+        sb.append('}');
+    }
+
+    private static void appendName(StringBuilder sb, String name) {
+        if (sb.charAt(sb.length() - 1) != '{') {
+            sb.append(',');
+        }
+        appendString(sb, name);
+        sb.append(':');
+    }
+
+    /**
+     * Appends a JSON string literal, escaping the same characters as Gson does with HTML escaping disabled.
+     */
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            case '\b':
+                sb.append("\\b");
+                break;
+            case '\f':
+                sb.append("\\f");
+                break;
+            case '\u2028':
+            case '\u2029':
+                appendUnicodeEscape(sb, c);
+                break;
+            default:
+                if (c < 0x20) {
+                    appendUnicodeEscape(sb, c);
+                } else {
+                    sb.append(c);
+                }
+                break;
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void appendUnicodeEscape(StringBuilder sb, char c) {
+        sb.append(String.format("\\u%04x", (int) c));
+    }
+
+}
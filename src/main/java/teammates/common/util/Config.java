@@ -2,9 +2,13 @@ package teammates.common.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -88,6 +92,9 @@ public final class Config {
     /** The value of the "app.email.service" in build.properties file. */
     public static final String EMAIL_SERVICE;
 
+    /** The value of the "app.email.ratelimit" in build.properties file. */
+    public static final int EMAIL_RATE_LIMIT;
+
     /** The value of the "app.sendgrid.apikey" in build.properties file. */
     public static final String SENDGRID_APIKEY;
 
@@ -103,6 +110,9 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.taskqueue.service" in build.properties file. */
+    public static final String TASKQUEUE_SERVICE;
+
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
@@ -112,6 +122,24 @@ public final class Config {
     /** The value of the "app.maintenance" in build.properties file. */
     public static final boolean MAINTENANCE;
 
+    /** The value of the "app.requestlog.sampling.rate" in build.properties file. */
+    public static final double REQUEST_LOG_SAMPLING_RATE;
+
+    /** The value of the "app.requestlog.sampling.rate.overrides" in build.properties file, by action class. */
+    public static final Map<String, Double> REQUEST_LOG_SAMPLING_RATE_OVERRIDES;
+
+    /** The value of the "app.requestlog.max.body.length" in build.properties file. */
+    public static final int REQUEST_LOG_MAX_BODY_LENGTH;
+
+    /** The value of the "app.requestlog.max.value.length" in build.properties file. */
+    public static final int REQUEST_LOG_MAX_VALUE_LENGTH;
+
+    /** The value of the "app.metrics.token" in build.properties file. */
+    public static final String METRICS_TOKEN;
+
+    /** The value of the "app.tracing.export.file" in build.properties file. */
+    public static final String TRACING_EXPORT_FILE;
+
     /** The value of the "app.localdatastore.port" in build-dev.properties file. */
     public static final int APP_LOCALDATASTORE_PORT;
 
@@ -126,6 +154,12 @@ public final class Config {
     /** Indicates whether the current server is dev server. */
     public static final boolean IS_DEV_SERVER;
 
+    /**
+     * The secret sent with the requests of the task queues which run a task by sending a request back to the same
+     * server, i.e. the local and in-process task queues. It is generated anew every time the server starts.
+     */
+    public static final String TASKQUEUE_SECRET = generateTaskQueueSecret();
+
     private static final Logger log = Logger.getLogger();
 
     static {
@@ -181,15 +215,27 @@ public final class Config {
         EMAIL_SENDERNAME = getProperty(properties, devProperties, "app.email.sendername");
         EMAIL_REPLYTO = getProperty(properties, devProperties, "app.email.replyto");
         EMAIL_SERVICE = getProperty(properties, devProperties, "app.email.service");
+        EMAIL_RATE_LIMIT = Integer.parseInt(getProperty(properties, devProperties, "app.email.ratelimit", "0"));
         SENDGRID_APIKEY = getProperty(properties, devProperties, "app.sendgrid.apikey");
         MAILGUN_APIKEY = getProperty(properties, devProperties, "app.mailgun.apikey");
         MAILGUN_DOMAINNAME = getProperty(properties, devProperties, "app.mailgun.domainname");
         MAILJET_APIKEY = getProperty(properties, devProperties, "app.mailjet.apikey");
         MAILJET_SECRETKEY = getProperty(properties, devProperties, "app.mailjet.secretkey");
+        TASKQUEUE_SERVICE = getProperty(properties, devProperties, "app.taskqueue.service");
         SEARCH_SERVICE_HOST = getProperty(properties, devProperties, "app.search.service.host");
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
+        REQUEST_LOG_SAMPLING_RATE =
+                Double.parseDouble(getProperty(properties, devProperties, "app.requestlog.sampling.rate", "1"));
+        REQUEST_LOG_SAMPLING_RATE_OVERRIDES = parseSamplingRates(
+                getProperty(properties, devProperties, "app.requestlog.sampling.rate.overrides", ""));
+        REQUEST_LOG_MAX_BODY_LENGTH =
+                Integer.parseInt(getProperty(properties, devProperties, "app.requestlog.max.body.length", "10000"));
+        REQUEST_LOG_MAX_VALUE_LENGTH =
+                Integer.parseInt(getProperty(properties, devProperties, "app.requestlog.max.value.length", "1000"));
+        METRICS_TOKEN = getProperty(properties, devProperties, "app.metrics.token", "");
+        TRACING_EXPORT_FILE = getProperty(properties, devProperties, "app.tracing.export.file", "");
 
         // The following properties are not used in production server.
         // So they will only be read from build-dev.properties file.
@@ -202,6 +248,12 @@ public final class Config {
         // access static fields directly
     }
 
+    private static String generateTaskQueueSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
     /**
      * Returns the a default frontend URL if it is not set in property file(s).
      */
@@ -235,6 +287,24 @@ public final class Config {
         return getProperty(properties, devProperties, key, null);
     }
 
+    /**
+     * Parses sampling rates specified as comma-separated {@code name:rate} pairs, e.g. {@code GetCourseAction:0.1}.
+     */
+    static Map<String, Double> parseSamplingRates(String samplingRates) {
+        Map<String, Double> samplingRatesByName = new HashMap<>();
+        for (String entry : samplingRates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] nameAndRate = entry.split(":");
+            if (nameAndRate.length != 2) {
+                throw new IllegalArgumentException("Invalid sampling rate entry: " + entry);
+            }
+            samplingRatesByName.put(nameAndRate[0].trim(), Double.parseDouble(nameAndRate[1].trim()));
+        }
+        return Collections.unmodifiableMap(samplingRatesByName);
+    }
+
     /**
      * Returns the port number at which the system will be run in.
      */
@@ -309,6 +379,10 @@ public final class Config {
         return String.format("jdbc:postgresql://%s:%s/%s", POSTGRES_HOST, POSTGRES_PORT, POSTGRES_DATABASENAME);
     }
 
+    public static boolean isUsingInProcessTaskQueue() {
+        return "inprocess".equalsIgnoreCase(TASKQUEUE_SERVICE);
+    }
+
     public static boolean isUsingSendgrid() {
         return "sendgrid".equalsIgnoreCase(EMAIL_SERVICE) && SENDGRID_APIKEY != null && !SENDGRID_APIKEY.isEmpty();
     }
@@ -44,6 +44,8 @@ public final class Const {
 
     public static final Duration STUDENT_ACTIVITY_LOGS_UPDATE_INTERVAL = Duration.ofMinutes(15);
     public static final Duration STUDENT_ACTIVITY_LOGS_FILTER_WINDOW = Duration.ofSeconds(2);
+    public static final Duration STUDENT_ACTIVITY_LOGS_RETENTION_PERIOD = Duration.ofDays(180);
+    public static final Duration STUDENT_ACTIVITY_LOGS_ROLLUP_MIN_TIME_RANGE = Duration.ofDays(7);
 
     public static final String ACCOUNT_REQUEST_NOT_FOUND = "Account request with id = %s not found";
 
@@ -198,6 +200,7 @@ public final class Const {
         public static final String QUERY_LOGS_ORDER = "order";
 
         public static final String LIMIT = "limit";
+        public static final String CURSOR = "cursor";
 
         public static final String NOTIFICATION_ID = "notificationid";
         public static final String NOTIFICATION_TARGET_USER = "usertype";
@@ -214,6 +217,8 @@ public final class Const {
         public static final String CSRF_KEY = "CSRF-Key";
         public static final String WEB_VERSION = "X-WEB-VERSION";
         public static final String CSRF_TOKEN = "X-CSRF-TOKEN";
+        public static final String TASK_QUEUE_NAME = "X-AppEngine-QueueName";
+        public static final String TASK_QUEUE_SECRET = "X-TEAMMATES-Task-Secret";
     }
 
     /**
@@ -390,6 +395,7 @@ public final class Const {
         public static final String SESSION_LOGS = URI_PREFIX + "/logs/session";
         public static final String LOGS = URI_PREFIX + "/logs/query";
         public static final String ACTION_CLASS = URI_PREFIX + "/actionclass";
+        public static final String REQUEST_METRICS = URI_PREFIX + "/metrics/requests";
         public static final String USER_COOKIE = URI_PREFIX + "/cookie";
     }
 
@@ -411,10 +417,14 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionClosingSoonReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS =
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_SESSION_NOTIFICATIONS =
+                URI_PREFIX + "/feedbackSessionNotifications";
         public static final String AUTOMATED_USAGE_STATISTICS_COLLECTION =
                 URI_PREFIX + "/calculateUsageStatistics";
         public static final String AUTOMATED_FEEDBACK_SESSION_LOGS_PROCESSING =
                 URI_PREFIX + "/updateFeedbackSessionLogs";
+        public static final String AUTOMATED_FEEDBACK_SESSION_LOGS_MAINTENANCE =
+                URI_PREFIX + "/maintainFeedbackSessionLogs";
     }
 
     /**
@@ -428,6 +438,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
                 URI_PREFIX + "/feedbackSessionPublishedEmail";
 
+        public static final String FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME =
+                "feedback-session-email-generation-queue";
+        public static final String FEEDBACK_SESSION_EMAIL_GENERATION_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionEmailGeneration";
+
         public static final String FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-resend-published-email-queue";
         public static final String FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL =
@@ -452,6 +467,9 @@ public final class Const {
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
 
+        public static final String SEND_EMAIL_BATCH_QUEUE_NAME = "send-email-batch-queue";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = URI_PREFIX + "/sendEmailBatch";
+
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
 
@@ -0,0 +1,48 @@
+package teammates.common.util;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent in executing JDBC statements and batches to the current request,
+ * see {@link RequestTracer#getDbTimeNanos()}, and records a span for each of them.
+ *
+ * <p>Hibernate creates one listener for each session, and a session is used by one thread at a time.
+ */
+public class DbTimeSessionEventListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient long statementStartNanos;
+    private transient long batchStartNanos;
+    private transient TraceSpan statementSpan;
+    private transient TraceSpan batchSpan;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementSpan = startSpan("db.execute");
+        statementStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTracer.addDbTimeNanos(System.nanoTime() - statementStartNanos);
+        statementSpan.close();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchSpan = startSpan("db.execute_batch");
+        batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTracer.addDbTimeNanos(System.nanoTime() - batchStartNanos);
+        batchSpan.close();
+    }
+
+    private static TraceSpan startSpan(String name) {
+        return RequestTracer.startSpan(name, TraceSpan.Kind.CLIENT).setAttribute("db.system", "postgresql");
+    }
+
+}
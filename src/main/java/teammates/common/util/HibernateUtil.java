@@ -6,13 +6,16 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 import teammates.storage.sqlentity.Account;
@@ -25,6 +28,7 @@ import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.FeedbackSessionLogDailyRollup;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Notification;
 import teammates.storage.sqlentity.ReadNotification;
@@ -93,7 +97,8 @@ public final class HibernateUtil {
             FeedbackRubricResponse.class,
             FeedbackTextResponse.class,
             FeedbackResponseComment.class,
-            FeedbackSessionLog.class);
+            FeedbackSessionLog.class,
+            FeedbackSessionLogDailyRollup.class);
 
     private HibernateUtil() {
         // Utility class
@@ -119,12 +124,15 @@ public final class HibernateUtil {
                 .setProperty("hibernate.connection.password", password)
                 .setProperty("hibernate.connection.url", dbUrl)
                 .setProperty("hibernate.hbm2ddl.auto", "validate")
+                // so that partitioned tables, e.g. feedback_session_logs, are validated as tables
+                .setProperty("hibernate.hbm2ddl.extra_physical_table_types", "PARTITIONED TABLE")
                 .setProperty("show_sql", "true")
                 .setProperty("hibernate.current_session_context_class", "thread")
                 .setProperty("hibernate.hikari.minimumIdle", "10")
                 .setProperty("hibernate.hikari.maximumPoolSize", "30")
                 .setProperty("hibernate.hikari.idleTimeout", "300000")
                 .setProperty("hibernate.hikari.connectionTimeout", "30000")
+                .setProperty("hibernate.session.events.auto", DbTimeSessionEventListener.class.getName())
                 // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
                 // .setProperty("hibernate.jdbc.batch_size", "50")
                 // .setProperty("hibernate.order_updates", "true")
@@ -185,6 +193,53 @@ public final class HibernateUtil {
         return getCurrentSession().createMutationQuery(cd);
     }
 
+    /**
+     * Returns a MutationQuery object.
+     * @see Session#createMutationQuery(CriteriaUpdate)
+     */
+    public static <T> MutationQuery createMutationQuery(CriteriaUpdate<T> cu) {
+        return getCurrentSession().createMutationQuery(cu);
+    }
+
+    /**
+     * Returns a NativeQuery object for SQL which cannot be expressed with the criteria API,
+     * e.g. calls to database functions.
+     * @see Session#createNativeQuery(String, Class)
+     */
+    public static <T> NativeQuery<T> createNativeQuery(String sql, Class<T> resultClass) {
+        return getCurrentSession().createNativeQuery(sql, resultClass);
+    }
+
+    /**
+     * Returns a MutationQuery object for SQL which cannot be expressed with the criteria API,
+     * e.g. inserts from a select.
+     * @see Session#createNativeMutationQuery(String)
+     */
+    public static MutationQuery createNativeMutationQuery(String sql) {
+        return getCurrentSession().createNativeMutationQuery(sql);
+    }
+
+    /**
+     * Runs the given work on a pooled JDBC connection, in a new session and transaction which are independent of
+     * the current session, e.g. for work done outside of any request.
+     * @see Session#doReturningWork(ReturningWork)
+     */
+    public static <T> T doReturningWorkInNewTransaction(ReturningWork<T> work) {
+        try (Session session = getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                T result = session.doReturningWork(work);
+                transaction.commit();
+                return result;
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+    }
+
     public static void setSessionFactory(SessionFactory sessionFactory) {
         HibernateUtil.sessionFactory = sessionFactory;
     }
@@ -215,8 +270,10 @@ public final class HibernateUtil {
      * @see Transaction#commit()
      */
     public static void commitTransaction() {
-        Transaction transaction = getCurrentSession().getTransaction();
-        transaction.commit();
+        try (TraceSpan ignored = RequestTracer.startSpan("hibernate.commit")) {
+            Transaction transaction = getCurrentSession().getTransaction();
+            transaction.commit();
+        }
     }
 
     /**
@@ -224,7 +281,18 @@ public final class HibernateUtil {
      * @see Session#flush()
      */
     public static void flushSession() {
-        getCurrentSession().flush();
+        try (TraceSpan ignored = RequestTracer.startSpan("hibernate.flush")) {
+            getCurrentSession().flush();
+        }
+    }
+
+    /**
+     * Sets the JDBC batch size of the current session, so that the inserts of many entities
+     * in the current transaction are sent in batches.
+     * @see Session#setJdbcBatchSize(Integer)
+     */
+    public static void setJdbcBatchSize(int batchSize) {
+        getCurrentSession().setJdbcBatchSize(batchSize);
     }
 
     /**
@@ -241,7 +309,9 @@ public final class HibernateUtil {
      * @see Session#get(Class, Object)
      */
     public static <T extends BaseEntity> T get(Class<T> entityType, Object id) {
-        return getCurrentSession().get(entityType, id);
+        try (TraceSpan ignored = startEntitySpan("hibernate.get", entityType)) {
+            return getCurrentSession().get(entityType, id);
+        }
     }
 
     /**
@@ -250,7 +320,9 @@ public final class HibernateUtil {
      * @see Session#get(Class, Object)
      */
     public static <T extends BaseEntity> T getBySimpleNaturalId(Class<T> entityType, Object id) {
-        return getCurrentSession().bySimpleNaturalId(entityType).load(id);
+        try (TraceSpan ignored = startEntitySpan("hibernate.get_by_natural_id", entityType)) {
+            return getCurrentSession().bySimpleNaturalId(entityType).load(id);
+        }
     }
 
     /**
@@ -258,7 +330,9 @@ public final class HibernateUtil {
      * @see Session#merge(E)
      */
     public static <E> E merge(E object) {
-        return getCurrentSession().merge(object);
+        try (TraceSpan ignored = startEntitySpan("hibernate.merge", object.getClass())) {
+            return getCurrentSession().merge(object);
+        }
     }
 
     /**
@@ -266,7 +340,9 @@ public final class HibernateUtil {
      * @see Session#persist(Object)
      */
     public static void persist(BaseEntity entity) {
-        getCurrentSession().persist(entity);
+        try (TraceSpan ignored = startEntitySpan("hibernate.persist", entity.getClass())) {
+            getCurrentSession().persist(entity);
+        }
     }
 
     /**
@@ -274,14 +350,23 @@ public final class HibernateUtil {
      * @see Session#remove(Object)
      */
     public static void remove(BaseEntity entity) {
-        getCurrentSession().remove(entity);
+        try (TraceSpan ignored = startEntitySpan("hibernate.remove", entity.getClass())) {
+            getCurrentSession().remove(entity);
+        }
     }
 
     /**
      * Create and execute a {@code MutationQuery} for the given delete criteria tree.
      */
     public static <T> void executeDelete(CriteriaDelete<T> cd) {
-        getCurrentSession().createMutationQuery(cd).executeUpdate();
+        try (TraceSpan span = RequestTracer.startSpan("hibernate.execute_delete")) {
+            int deletedCount = getCurrentSession().createMutationQuery(cd).executeUpdate();
+            span.setAttribute("db.deleted_count", deletedCount);
+        }
+    }
+
+    private static TraceSpan startEntitySpan(String name, Class<?> entityType) {
+        return RequestTracer.startSpan(name).setAttribute("db.entity", entityType.getSimpleName());
     }
 
     /**
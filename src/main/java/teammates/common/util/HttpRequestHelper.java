@@ -2,6 +2,8 @@ package teammates.common.util;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,6 +48,8 @@ public final class HttpRequestHelper {
                 .filter(headerName -> Config.IS_DEV_SERVER || !"cookie".equalsIgnoreCase(headerName))
                 .filter(headerName -> Config.IS_DEV_SERVER || !Const.HeaderNames.BACKDOOR_KEY.equalsIgnoreCase(headerName))
                 .filter(headerName -> Config.IS_DEV_SERVER || !Const.HeaderNames.CSRF_KEY.equalsIgnoreCase(headerName))
+                // The task queue secret is also used on self-hosted deployments, which run as dev server
+                .filter(headerName -> !Const.HeaderNames.TASK_QUEUE_SECRET.equalsIgnoreCase(headerName))
                 .forEach(headerName -> {
                     List<String> headerValues = Collections.list(req.getHeaders(headerName));
                     if (headerValues.size() == 1) {
@@ -75,6 +79,41 @@ public final class HttpRequestHelper {
                 .orElse(null);
     }
 
+    /**
+     * Returns the name of the task queue which sent the request, or null if the request is not sent by a task queue.
+     *
+     * <p>On GAE, the header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent
+     * X-AppEngine-QueueName headers.
+     * Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_task_request_headers
+     *
+     * <p>Elsewhere, e.g. on the dev server or on a self-hosted deployment using the in-process task queue,
+     * nothing strips the header, so it is trusted only if the request also carries {@link Config#TASKQUEUE_SECRET}.
+     */
+    public static String getTaskQueueName(HttpServletRequest req) {
+        String queueName = req.getHeader(Const.HeaderNames.TASK_QUEUE_NAME);
+        if (queueName == null) {
+            return null;
+        }
+        if (!Config.IS_DEV_SERVER && !Config.isUsingInProcessTaskQueue()) {
+            return queueName;
+        }
+        String secret = req.getHeader(Const.HeaderNames.TASK_QUEUE_SECRET);
+        if (secret == null || !MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                Config.TASKQUEUE_SECRET.getBytes(StandardCharsets.UTF_8))) {
+            return null;
+        }
+        return queueName;
+    }
+
+    /**
+     * Returns true if the request is sent by a task queue.
+     *
+     * @see #getTaskQueueName(HttpServletRequest)
+     */
+    public static boolean isRequestFromTaskQueue(HttpServletRequest req) {
+        return getTaskQueueName(req) != null;
+    }
+
     /**
      * Gets the request body payload.
      */
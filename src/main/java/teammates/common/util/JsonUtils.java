@@ -55,15 +55,23 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  */
 public final class JsonUtils {
 
+    // Gson instances are thread-safe, and creating one is costly compared to most of the (de)serializations
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+    private static final Gson PRETTY_PRINTING_GSON = createGsonInstance(true);
+
     private JsonUtils() {
         // utility class
     }
 
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_PRINTING_GSON : COMPACT_GSON;
+    }
+
     /**
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
                 .setExclusionStrategies(new HibernateExclusionStrategy())
                 .registerTypeAdapter(User.class, new UserAdapter())
@@ -144,6 +152,18 @@ public final class JsonUtils {
         return getGsonInstance(false).fromJson(json, classOfT);
     }
 
+    /**
+     * Converts the specified object, e.g. the map of a structured log payload, into an object of the specified class
+     * through a JSON tree, without serializing it into a JSON string first.
+     *
+     * @see Gson#toJsonTree(Object)
+     * @see Gson#fromJson(JsonElement, Class)
+     */
+    public static <T> T fromJsonTree(Object src, Class<T> classOfT) {
+        Gson gson = getGsonInstance(false);
+        return gson.fromJson(gson.toJsonTree(src), classOfT);
+    }
+
     /**
      * Parses the specified JSON string into a {@link JsonElement} object.
      *
@@ -0,0 +1,119 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies into buckets of log-linear widths, so that percentiles can be estimated with a bounded
+ * relative error in constant memory, in the way of an HDR histogram.
+ *
+ * <p>Latencies are recorded in microseconds. Each power of two is divided into {@value #SUB_BUCKET_COUNT} buckets
+ * of equal widths, so estimated percentiles are at most 1/{@value #SUB_BUCKET_COUNT} above the actual values.
+ * Latencies above {@link #MAX_TRACKABLE_MICROS} are recorded in the last bucket.
+ *
+ * <p>Recording is thread-safe and lock-free. Reads are not atomic with respect to concurrent recording,
+ * which is acceptable for monitoring purposes.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets each power of two is divided into.
+     */
+    public static final int SUB_BUCKET_COUNT = 16;
+
+    /**
+     * Largest latency (in microseconds) recorded accurately, which is about 3 days.
+     */
+    public static final long MAX_TRACKABLE_MICROS = (1L << 38) - 1;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int MAX_EXPONENT = 63 - Long.numberOfLeadingZeros(MAX_TRACKABLE_MICROS);
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a latency given in nanoseconds.
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * Records a latency given in microseconds. Negative latencies are recorded as 0.
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        bucketCounts.incrementAndGet(getBucketIndex(Math.min(value, MAX_TRACKABLE_MICROS)));
+        count.increment();
+        sumMicros.add(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    static int getBucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest latency (in microseconds) recorded in the bucket of the given index.
+     */
+    static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (bucketIndex - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Returns the estimated latency (in microseconds) at or below which the given percentage of the latencies are,
+     * or 0 if there is no latency recorded.
+     *
+     * @param percentile the percentage, from 0 to 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        long totalCount = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            totalCount += counts[i];
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+}
@@ -4,14 +4,10 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import com.google.common.reflect.TypeToken;
-
 import teammates.common.datatransfer.logs.ExceptionLogDetails;
 import teammates.common.datatransfer.logs.InstanceLogDetails;
 import teammates.common.datatransfer.logs.LogDetails;
@@ -26,11 +22,20 @@ import teammates.common.datatransfer.logs.SourceLocation;
 @SuppressWarnings("PMD.MoreThanOneLogger") // class is designed as a facade for two different loggers
 public final class Logger {
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final int MAX_PENDING_REQUEST_LOGS = 4096;
+
+    // Request logs are written from a background thread, as there is one for every request served
+    private static final AsyncLogHandler requestLogHandler =
+            new AsyncLogHandler(new StdOutConsoleHandler(), MAX_PENDING_REQUEST_LOGS, "request-log-publisher");
+    private static final java.util.logging.Logger requestLog = createRequestLog();
+
     private final java.util.logging.Logger standardLog;
     private final java.util.logging.Logger errorLog;
 
     private Logger() {
-        StackTraceElement logRequester = getLoggerSource();
+        StackWalker.StackFrame logRequester = getLoggerSource();
         String loggerName = logRequester == null ? "null" : logRequester.getClassName();
         this.standardLog = java.util.logging.Logger.getLogger(loggerName + "-out");
         this.standardLog.setUseParentHandlers(false);
@@ -43,6 +48,20 @@ public final class Logger {
         return new Logger();
     }
 
+    private static java.util.logging.Logger createRequestLog() {
+        java.util.logging.Logger logger = java.util.logging.Logger.getLogger("teammates-request-out");
+        logger.setUseParentHandlers(false);
+        logger.addHandler(requestLogHandler);
+        return logger;
+    }
+
+    /**
+     * Writes the request logs which are yet to be written, and stops writing request logs in the background.
+     */
+    public static void closeRequestLogs() {
+        requestLogHandler.close();
+    }
+
     /**
      * Logs a message at FINE level.
      */
@@ -85,16 +104,8 @@ public final class Logger {
 
         String message = "Instance " + instanceEvent.toLowerCase() + ": " + shortenedInstanceId;
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", LogSeverity.INFO);
-
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
         // Need to use println as the logger is disabled when the instance is shutting down
-        System.out.println(JsonUtils.toCompactJson(payload));
+        System.out.println(CloudLoggingPayloadEncoder.encode(message, LogSeverity.INFO, null, null, null, details));
     }
 
     /**
@@ -105,12 +116,17 @@ public final class Logger {
     }
 
     /**
-     * Logs an HTTP request.
+     * Logs an HTTP request, if it is to be logged according to the {@link RequestLogPolicy}.
      */
     public void request(HttpServletRequest request, int statusCode, String message,
                         RequestLogUser userInfo, String requestBody, String actionClass) {
-        long timeElapsed = RequestTracer.getTimeElapsedMillis();
         String method = request.getMethod();
+        RequestLogPolicy policy = RequestLogPolicy.inst();
+        if (!policy.shouldLog(method, statusCode, actionClass)) {
+            return;
+        }
+
+        long timeElapsed = RequestTracer.getTimeElapsedMillis();
         String requestUrl = request.getRequestURI();
         RequestLogDetails details = new RequestLogDetails();
         details.setResponseStatus(statusCode);
@@ -121,39 +137,34 @@ public final class Logger {
         details.setWebVersion(request.getHeader(Const.HeaderNames.WEB_VERSION));
         details.setReferrer(request.getHeader("referer"));
         details.setInstanceId(Config.getInstanceId());
-        details.setRequestParams(HttpRequestHelper.getRequestParameters(request));
-        details.setRequestHeaders(HttpRequestHelper.getRequestHeaders(request));
+        details.setRequestParams(policy.truncateValues(HttpRequestHelper.getRequestParameters(request)));
+        details.setRequestHeaders(policy.truncateValues(HttpRequestHelper.getRequestHeaders(request)));
 
         if (request.getParameter(Const.ParamsNames.REGKEY) != null && userInfo.getRegkey() == null) {
             userInfo.setRegkey(request.getParameter(Const.ParamsNames.REGKEY));
         }
         details.setUserInfo(userInfo);
-        details.setRequestBody(requestBody);
+        details.setRequestBody(policy.truncateBody(requestBody));
         details.setActionClass(actionClass);
 
         String logMessage = String.format("[%s] [%sms] [%s %s] %s",
                 statusCode, timeElapsed, method, requestUrl, message);
 
-        event(logMessage, details);
+        requestLog.info(formatEventLogMessage(logMessage, details));
     }
 
     /**
      * Logs a particular event at INFO level.
      */
     public void event(String message, LogDetails details) {
-        String logMessage;
+        standardLog.info(formatEventLogMessage(message, details));
+    }
+
+    private String formatEventLogMessage(String message, LogDetails details) {
         if (Config.IS_DEV_SERVER) {
-            logMessage = formatLogMessageForHumanDisplay(message) + " extra_info: "
-                    + JsonUtils.toCompactJson(details);
-        } else {
-            Map<String, Object> payload = getBaseCloudLoggingPayload(message, LogSeverity.INFO);
-            Map<String, Object> detailsSpecificPayload =
-                    JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-            payload.putAll(detailsSpecificPayload);
-
-            logMessage = JsonUtils.toCompactJson(payload);
+            return formatLogMessageForHumanDisplay(message) + " extra_info: " + JsonUtils.toCompactJson(details);
         }
-        standardLog.info(logMessage);
+        return encodeForCloudLogging(message, LogSeverity.INFO, getLoggerSourceLocation(), details);
     }
 
     /**
@@ -197,8 +208,6 @@ public final class Logger {
                     + System.lineSeparator() + sw.toString();
         }
 
-        Map<String, Object> payload = getBaseCloudLoggingPayload(message, severity);
-
         List<String> exceptionClasses = new ArrayList<>();
         List<List<String>> exceptionStackTraces = new ArrayList<>();
         List<String> exceptionMessages = new ArrayList<>();
@@ -218,23 +227,16 @@ public final class Logger {
         details.setExceptionStackTraces(exceptionStackTraces);
         details.setExceptionMessages(exceptionMessages);
 
+        SourceLocation sourceLocation = getLoggerSourceLocation();
         StackTraceElement tSource = getFirstInternalStackTrace(t);
         if (tSource != null) {
-            SourceLocation tSourceLocation = new SourceLocation(
-                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
-
             // Replace the source location with the Throwable's source location instead
-            SourceLocation loggerSourceLocation = (SourceLocation) payload.get("logging.googleapis.com/sourceLocation");
-            payload.put("logging.googleapis.com/sourceLocation", tSourceLocation);
-
-            details.setLoggerSourceLocation(loggerSourceLocation);
+            details.setLoggerSourceLocation(sourceLocation);
+            sourceLocation = new SourceLocation(
+                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
         }
 
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
-        return JsonUtils.toCompactJson(payload);
+        return encodeForCloudLogging(message, severity, sourceLocation, details);
     }
 
     /**
@@ -279,7 +281,7 @@ public final class Logger {
     private String formatLogMessageForHumanDisplay(String message) {
         StringBuilder prefix = new StringBuilder();
 
-        StackTraceElement source = getLoggerSource();
+        StackWalker.StackFrame source = getLoggerSource();
         if (source != null) {
             prefix.append(source.getClassName()).append(':')
                     .append(source.getMethodName()).append(':')
@@ -294,45 +296,32 @@ public final class Logger {
     }
 
     private String formatLogMessageForCloudLogging(String message, LogSeverity severity) {
-        return JsonUtils.toCompactJson(getBaseCloudLoggingPayload(message, severity));
+        return encodeForCloudLogging(message, severity, getLoggerSourceLocation(), null);
     }
 
-    private Map<String, Object> getBaseCloudLoggingPayload(String message, LogSeverity severity) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", severity);
-
-        StackTraceElement source = getLoggerSource();
-        if (source != null) {
-            SourceLocation sourceLocation = new SourceLocation(
-                    source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
-            payload.put("logging.googleapis.com/sourceLocation", sourceLocation);
-        }
-
-        if (RequestTracer.getTraceId() != null) {
-            payload.put("logging.googleapis.com/trace",
-                    "projects/" + Config.APP_ID + "/traces/" + RequestTracer.getTraceId());
-        }
+    private String encodeForCloudLogging(String message, LogSeverity severity, SourceLocation sourceLocation,
+            LogDetails details) {
+        return CloudLoggingPayloadEncoder.encode(message, severity, sourceLocation,
+                RequestTracer.getTraceId(), RequestTracer.getSpanId(), details);
+    }
 
-        if (RequestTracer.getSpanId() != null) {
-            payload.put("logging.googleapis.com/spanId", RequestTracer.getSpanId());
+    private SourceLocation getLoggerSourceLocation() {
+        StackWalker.StackFrame source = getLoggerSource();
+        if (source == null) {
+            return null;
         }
-
-        return payload;
+        return new SourceLocation(source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
     }
 
-    private StackTraceElement getLoggerSource() {
-        StackTraceElement[] stes = Thread.currentThread().getStackTrace();
-        for (int i = 0; i < stes.length; i++) {
-            StackTraceElement ste = stes[i];
-            if (ste.getClassName().equals(Logger.class.getName()) && i + 1 < stes.length) {
-                StackTraceElement nextSte = stes[i + 1];
-                if (!nextSte.getClassName().equals(Logger.class.getName())) {
-                    return nextSte;
-                }
-            }
-        }
-        return null;
+    /**
+     * Returns the first stack frame outside of this class, i.e. the code which requested the logging.
+     */
+    private StackWalker.StackFrame getLoggerSource() {
+        // The frames are walked lazily, so only the frames up to the first one outside of this class are visited
+        return STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().equals(Logger.class.getName()))
+                .findFirst()
+                .orElse(null));
     }
 
 }
@@ -0,0 +1,117 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends the spans of requests to a file in the OTLP/JSON format, one {@code ExportTraceServiceRequest} per line,
+ * so that the traces can be loaded into local tools such as the OpenTelemetry collector's file receiver.
+ */
+public class OtlpJsonFileSpanExporter {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final String SERVICE_NAME = "teammates";
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private final Path file;
+    private final Object lock = new Object();
+
+    public OtlpJsonFileSpanExporter(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Appends the given spans of the trace with the given ID to the file.
+     * Failures to write are logged and otherwise ignored.
+     */
+    public void export(String traceId, List<TraceSpan> spans) {
+        if (spans.isEmpty()) {
+            return;
+        }
+        String line = toOtlpJson(traceId, spans) + System.lineSeparator();
+        synchronized (lock) {
+            try {
+                Files.writeString(file, line, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.warning("Failed to export spans to " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Formats the given spans of the trace with the given ID as an OTLP/JSON {@code ExportTraceServiceRequest}.
+     */
+    static String toOtlpJson(String traceId, List<TraceSpan> spans) {
+        List<Map<String, Object>> otlpSpans = new ArrayList<>();
+        for (TraceSpan span : spans) {
+            otlpSpans.add(toOtlpSpan(traceId, span));
+        }
+
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("attributes", toOtlpAttributes(Map.of("service.name", SERVICE_NAME)));
+        Map<String, Object> scopeSpans = new LinkedHashMap<>();
+        scopeSpans.put("scope", Map.of("name", RequestTracer.class.getName()));
+        scopeSpans.put("spans", otlpSpans);
+        Map<String, Object> resourceSpans = new LinkedHashMap<>();
+        resourceSpans.put("resource", resource);
+        resourceSpans.put("scopeSpans", List.of(scopeSpans));
+
+        return JsonUtils.toCompactJson(Map.of("resourceSpans", List.of(resourceSpans)));
+    }
+
+    private static Map<String, Object> toOtlpSpan(String traceId, TraceSpan span) {
+        Map<String, Object> otlpSpan = new LinkedHashMap<>();
+        otlpSpan.put("traceId", traceId);
+        otlpSpan.put("spanId", span.getSpanId());
+        if (span.getParentSpanId() != null) {
+            otlpSpan.put("parentSpanId", span.getParentSpanId());
+        }
+        otlpSpan.put("name", span.getName());
+        otlpSpan.put("kind", span.getKind().getOtlpValue());
+        // 64-bit integers are represented as strings in OTLP/JSON
+        otlpSpan.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+        otlpSpan.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+        otlpSpan.put("attributes", toOtlpAttributes(span.getAttributes()));
+        if (span.getErrorMessage() != null) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("code", STATUS_CODE_ERROR);
+            status.put("message", span.getErrorMessage());
+            otlpSpan.put("status", status);
+        }
+        return otlpSpan;
+    }
+
+    private static List<Map<String, Object>> toOtlpAttributes(Map<String, ?> attributes) {
+        List<Map<String, Object>> otlpAttributes = new ArrayList<>();
+        attributes.forEach((key, value) -> {
+            Map<String, Object> otlpAttribute = new LinkedHashMap<>();
+            otlpAttribute.put("key", key);
+            otlpAttribute.put("value", toOtlpValue(value));
+            otlpAttributes.add(otlpAttribute);
+        });
+        return otlpAttributes;
+    }
+
+    private static Map<String, Object> toOtlpValue(Object value) {
+        if (value instanceof Boolean) {
+            return Map.of("boolValue", value);
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Map.of("intValue", String.valueOf(value));
+        }
+        if (value instanceof Number) {
+            return Map.of("doubleValue", ((Number) value).doubleValue());
+        }
+        return Map.of("stringValue", String.valueOf(value));
+    }
+
+}
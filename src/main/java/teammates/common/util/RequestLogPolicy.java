@@ -0,0 +1,97 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decides which HTTP requests are logged, and caps the size of the request data in their logs.
+ *
+ * <p>Failed requests and requests which are not GET requests are always logged. Successful GET requests are logged
+ * with the sampling rate configured for their action class, or with the default sampling rate otherwise.
+ */
+public final class RequestLogPolicy {
+
+    private static final String TRUNCATION_MARKER = "...[truncated ";
+
+    private static final RequestLogPolicy instance = new RequestLogPolicy(Config.REQUEST_LOG_SAMPLING_RATE,
+            Config.REQUEST_LOG_SAMPLING_RATE_OVERRIDES, Config.REQUEST_LOG_MAX_BODY_LENGTH,
+            Config.REQUEST_LOG_MAX_VALUE_LENGTH, () -> ThreadLocalRandom.current().nextDouble());
+
+    private final double defaultSamplingRate;
+    private final Map<String, Double> samplingRatesByActionClass;
+    private final int maxBodyLength;
+    private final int maxValueLength;
+    private final DoubleSupplier random;
+
+    RequestLogPolicy(double defaultSamplingRate, Map<String, Double> samplingRatesByActionClass,
+            int maxBodyLength, int maxValueLength, DoubleSupplier random) {
+        this.defaultSamplingRate = defaultSamplingRate;
+        this.samplingRatesByActionClass = samplingRatesByActionClass;
+        this.maxBodyLength = maxBodyLength;
+        this.maxValueLength = maxValueLength;
+        this.random = random;
+    }
+
+    public static RequestLogPolicy inst() {
+        return instance;
+    }
+
+    /**
+     * Returns whether a request is to be logged.
+     *
+     * @param actionClass the simple name of the action class serving the request, or null if none
+     */
+    public boolean shouldLog(String method, int statusCode, String actionClass) {
+        if (statusCode >= 400 || !"GET".equals(method)) {
+            return true;
+        }
+        double samplingRate = actionClass == null
+                ? defaultSamplingRate
+                : samplingRatesByActionClass.getOrDefault(actionClass, defaultSamplingRate);
+        return samplingRate >= 1 || samplingRate > 0 && random.getAsDouble() < samplingRate;
+    }
+
+    /**
+     * Returns the request body to be logged, truncated if it is longer than the configured maximum length.
+     */
+    public String truncateBody(String body) {
+        return truncate(body, maxBodyLength);
+    }
+
+    /**
+     * Returns the request parameters or headers to be logged, with the values longer than the configured maximum
+     * length truncated. Multi-valued entries are expected to be string arrays.
+     */
+    public Map<String, Object> truncateValues(Map<String, Object> values) {
+        Map<String, Object> truncatedValues = new HashMap<>(values);
+        truncatedValues.replaceAll((key, value) -> {
+            if (value instanceof String) {
+                return truncate((String) value, maxValueLength);
+            }
+            if (value instanceof String[]) {
+                String[] multiValues = ((String[]) value).clone();
+                for (int i = 0; i < multiValues.length; i++) {
+                    multiValues[i] = truncate(multiValues[i], maxValueLength);
+                }
+                return multiValues;
+            }
+            return value;
+        });
+        return truncatedValues;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || maxLength <= 0 || value.length() <= maxLength) {
+            return value;
+        }
+        int end = maxLength;
+        if (Character.isHighSurrogate(value.charAt(end - 1))) {
+            // do not split a surrogate pair
+            end--;
+        }
+        return value.substring(0, end) + TRUNCATION_MARKER + (value.length() - end) + " characters]";
+    }
+
+}
@@ -0,0 +1,156 @@
+package teammates.common.util;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the latency histograms and counters of the requests served by this instance, by action class.
+ *
+ * <p>The metrics are kept in memory since the instance started, and are not aggregated across instances.
+ */
+public final class RequestMetrics {
+
+    private static final RequestMetrics instance = new RequestMetrics();
+
+    private final Instant startTimestamp = Instant.now();
+    private final Map<String, ActionMetrics> metricsByActionClass = new ConcurrentHashMap<>();
+
+    private RequestMetrics() {
+        // prevent initialization
+    }
+
+    public static RequestMetrics inst() {
+        return instance;
+    }
+
+    /**
+     * Records the latency of a phase of a request served by the given action class.
+     */
+    public void recordPhase(String actionClass, Phase phase, long nanos) {
+        getActionMetrics(actionClass).phaseLatencies.get(phase).recordNanos(nanos);
+    }
+
+    /**
+     * Records a request served by the given action class.
+     *
+     * @param totalNanos the time taken to serve the request
+     * @param dbNanos the time spent in executing database statements
+     * @param taskEnqueueCount the number of tasks added to the task queue
+     */
+    public void recordRequest(String actionClass, int statusCode, long totalNanos, long dbNanos,
+            int taskEnqueueCount) {
+        ActionMetrics metrics = getActionMetrics(actionClass);
+        metrics.latency.recordNanos(totalNanos);
+        metrics.dbTime.recordNanos(dbNanos);
+        metrics.taskEnqueueCount.add(taskEnqueueCount);
+        if (statusCode >= 500) {
+            metrics.serverErrorCount.increment();
+        } else if (statusCode >= 400) {
+            metrics.clientErrorCount.increment();
+        }
+    }
+
+    private ActionMetrics getActionMetrics(String actionClass) {
+        return metricsByActionClass.computeIfAbsent(actionClass, key -> new ActionMetrics());
+    }
+
+    public Instant getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    /**
+     * Returns the metrics of the action classes which have served requests, sorted by action class.
+     */
+    public Map<String, ActionMetrics> getMetricsByActionClass() {
+        return new TreeMap<>(metricsByActionClass);
+    }
+
+    /**
+     * Phases of serving a request by an action.
+     */
+    public enum Phase {
+        /**
+         * Parsing of the request and the user information.
+         */
+        INIT,
+
+        /**
+         * Checking of the access control.
+         */
+        ACCESS_CONTROL,
+
+        /**
+         * Execution of the action, including the commit of its transaction, if any.
+         */
+        EXECUTE,
+
+        /**
+         * Serialization of the result into the response.
+         */
+        SERIALIZE,
+
+        /**
+         * Sending of the remaining response to the client.
+         */
+        SEND,
+    }
+
+    /**
+     * Latency histograms and counters of the requests served by an action class.
+     */
+    public static final class ActionMetrics {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final Map<Phase, LatencyHistogram> phaseLatencies = new EnumMap<>(Phase.class);
+        private final LatencyHistogram dbTime = new LatencyHistogram();
+        private final LongAdder clientErrorCount = new LongAdder();
+        private final LongAdder serverErrorCount = new LongAdder();
+        private final LongAdder taskEnqueueCount = new LongAdder();
+
+        private ActionMetrics() {
+            for (Phase phase : Phase.values()) {
+                phaseLatencies.put(phase, new LatencyHistogram());
+            }
+        }
+
+        /**
+         * Returns the latencies of the requests; its count is the number of requests.
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public LatencyHistogram getPhaseLatency(Phase phase) {
+            return phaseLatencies.get(phase);
+        }
+
+        /**
+         * Returns the time spent in executing database statements per request.
+         */
+        public LatencyHistogram getDbTime() {
+            return dbTime;
+        }
+
+        public long getRequestCount() {
+            return latency.getCount();
+        }
+
+        public long getClientErrorCount() {
+            return clientErrorCount.sum();
+        }
+
+        public long getServerErrorCount() {
+            return serverErrorCount.sum();
+        }
+
+        public long getTaskEnqueueCount() {
+            return taskEnqueueCount.sum();
+        }
+
+    }
+
+}
@@ -2,14 +2,27 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 
 import teammates.common.exception.DeadlineExceededException;
 
 /**
  * Stores the information of the current HTTP request.
+ *
+ * <p>The spans of the request are only recorded if a root span is started with {@link #startRootSpan(String)};
+ * otherwise, {@link #startSpan(String)} returns a span which records nothing.
  */
 public final class RequestTracer {
 
+    /**
+     * Maximum number of spans recorded for a request, so that long-running requests do not use too much memory.
+     */
+    static final int MAX_SPANS_PER_TRACE = 1000;
+
     private static final ThreadLocal<RequestTrace> THREAD_LOCAL = new ThreadLocal<>();
 
     private RequestTracer() {
@@ -71,6 +84,113 @@ public final class RequestTracer {
         return Instant.now().toEpochMilli() - trace.initTimestamp;
     }
 
+    /**
+     * Adds to the time (in nanos) spent by the current request in executing database statements.
+     */
+    public static void addDbTimeNanos(long nanos) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace != null) {
+            trace.dbTimeNanos += nanos;
+        }
+    }
+
+    /**
+     * Returns the time (in nanos) spent by the current request in executing database statements.
+     */
+    public static long getDbTimeNanos() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return 0L;
+        }
+        return trace.dbTimeNanos;
+    }
+
+    /**
+     * Adds to the number of tasks added to the task queue by the current request.
+     */
+    public static void addTaskEnqueueCount(int count) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace != null) {
+            trace.taskEnqueueCount += count;
+        }
+    }
+
+    /**
+     * Returns the number of tasks added to the task queue by the current request.
+     */
+    public static int getTaskEnqueueCount() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return 0;
+        }
+        return trace.taskEnqueueCount;
+    }
+
+    /**
+     * Starts recording the spans of the current request, beginning with the given root span.
+     * The span is a child of the remote span of the request, if any.
+     *
+     * <p>Returns a span which records nothing if there is no current request.
+     */
+    public static TraceSpan startRootSpan(String name) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return TraceSpan.NOOP;
+        }
+        trace.spanRecorder = new SpanRecorder();
+        return trace.spanRecorder.start(name, TraceSpan.Kind.SERVER, toHexSpanId(trace.spanId));
+    }
+
+    /**
+     * Starts an internal span as a child of the innermost span of the current request which has not ended.
+     *
+     * @see #startSpan(String, TraceSpan.Kind)
+     */
+    public static TraceSpan startSpan(String name) {
+        return startSpan(name, TraceSpan.Kind.INTERNAL);
+    }
+
+    /**
+     * Starts a span as a child of the innermost span of the current request which has not ended.
+     *
+     * <p>Returns a span which records nothing if the spans of the current request are not being recorded,
+     * or if the request already has {@value #MAX_SPANS_PER_TRACE} spans.
+     */
+    public static TraceSpan startSpan(String name, TraceSpan.Kind kind) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null || trace.spanRecorder == null) {
+            return TraceSpan.NOOP;
+        }
+        return trace.spanRecorder.startChild(name, kind);
+    }
+
+    /**
+     * Returns the spans of the current request which have ended, in the order they started.
+     */
+    public static List<TraceSpan> getFinishedSpans() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null || trace.spanRecorder == null) {
+            return Collections.emptyList();
+        }
+        return trace.spanRecorder.getFinishedSpans();
+    }
+
+    /**
+     * Converts the span ID given in the X-Cloud-Trace-Context header, which is a decimal number,
+     * to the hexadecimal form used by OpenTelemetry. Returns null if the span ID is absent or invalid.
+     */
+    static String toHexSpanId(String decimalSpanId) {
+        if (decimalSpanId == null || decimalSpanId.isEmpty()) {
+            return null;
+        }
+        try {
+            long spanId = Long.parseUnsignedLong(decimalSpanId);
+            return spanId == 0 ? null : String.format("%016x", spanId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Initializes the request with an ID and the timeout value (in seconds).
      */
@@ -78,11 +198,21 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Clears the information of the current request.
+     */
+    static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
     private static final class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private long dbTimeNanos;
+        private int taskEnqueueCount;
+        private SpanRecorder spanRecorder;
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
@@ -92,4 +222,71 @@ public final class RequestTracer {
         }
     }
 
+    /**
+     * Records the spans of a request. Span times are measured with {@link System#nanoTime()}
+     * relative to the time the recording started, so that they are precise to the nanosecond.
+     */
+    static final class SpanRecorder {
+        private final long startEpochNanos;
+        private final long startNanoTime;
+        private final List<TraceSpan> spans = new ArrayList<>();
+        private final Deque<TraceSpan> openSpans = new ArrayDeque<>();
+        private int droppedSpanCount;
+
+        private SpanRecorder() {
+            Instant now = Instant.now();
+            this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+            this.startNanoTime = System.nanoTime();
+        }
+
+        private long nowEpochNanos() {
+            return startEpochNanos + System.nanoTime() - startNanoTime;
+        }
+
+        private TraceSpan start(String name, TraceSpan.Kind kind, String parentSpanId) {
+            TraceSpan span = new TraceSpan(this, name, kind, parentSpanId, nowEpochNanos());
+            spans.add(span);
+            openSpans.push(span);
+            return span;
+        }
+
+        private TraceSpan startChild(String name, TraceSpan.Kind kind) {
+            TraceSpan parent = openSpans.peek();
+            if (parent == null) {
+                // the root span has ended
+                return TraceSpan.NOOP;
+            }
+            if (spans.size() >= MAX_SPANS_PER_TRACE) {
+                droppedSpanCount++;
+                return TraceSpan.NOOP;
+            }
+            return start(name, kind, parent.getSpanId());
+        }
+
+        void end(TraceSpan span) {
+            if (!openSpans.contains(span)) {
+                return;
+            }
+            long now = nowEpochNanos();
+            TraceSpan openSpan;
+            do {
+                openSpan = openSpans.pop();
+                openSpan.end(now);
+            } while (openSpan != span);
+            if (openSpans.isEmpty() && droppedSpanCount > 0) {
+                span.setAttribute("teammates.dropped_span_count", droppedSpanCount);
+            }
+        }
+
+        private List<TraceSpan> getFinishedSpans() {
+            List<TraceSpan> finishedSpans = new ArrayList<>();
+            for (TraceSpan span : spans) {
+                if (span.getEndEpochNanos() != 0) {
+                    finishedSpans.add(span);
+                }
+            }
+            return finishedSpans;
+        }
+    }
+
 }
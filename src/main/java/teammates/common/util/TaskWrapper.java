@@ -11,12 +11,26 @@ public class TaskWrapper {
     private final String workerUrl;
     private final Map<String, String> paramMap;
     private final Object requestBody;
+    private final long countdownTime;
+    private final String name;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody) {
+        this(queueName, workerUrl, paramMap, requestBody, 0);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
+                       long countdownTime) {
+        this(queueName, workerUrl, paramMap, requestBody, countdownTime, null);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
+                       long countdownTime, String name) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
         this.requestBody = requestBody;
+        this.countdownTime = countdownTime;
+        this.name = name;
     }
 
     public String getQueueName() {
@@ -35,4 +49,21 @@ public class TaskWrapper {
         return requestBody;
     }
 
+    /**
+     * Gets the time delay (in milliseconds) for the task to be executed.
+     */
+    public long getCountdownTime() {
+        return countdownTime;
+    }
+
+    /**
+     * Gets the name of the task, or null if the task is unnamed.
+     *
+     * <p>A task is added to its queue only once for each name, so that adding it again, e.g. when the request
+     * adding it is retried, has no effect. The name consists of letters, digits, hyphens and underscores only.
+     */
+    public String getName() {
+        return name;
+    }
+
 }
@@ -0,0 +1,244 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents emails of the same type generated from the same template for many recipients,
+ * which are rendered only when they are about to be sent.
+ *
+ * <p>Instead of the content of every email, only the name of the template is kept, together with the value of each
+ * template key which most recipients share, and for each recipient the values which differ from the shared ones.
+ * This keeps e.g. the tasks for sending the emails of a feedback session small, as most of the content of such emails
+ * (course and session details, contact information) is the same for every recipient.
+ */
+public final class TemplatedEmails {
+
+    private final String templateName;
+    private final EmailType type;
+    private final String senderName;
+    private final String senderEmail;
+    private final String replyTo;
+    private final String subject;
+
+    /**
+     * The template keys in the order in which they are populated.
+     */
+    private final List<String> keys;
+    private final Map<String, String> sharedValues;
+    private final List<Recipient> recipients;
+
+    private TemplatedEmails(String templateName, EmailWrapper sharedHeader, List<String> keys,
+            Map<String, String> sharedValues, List<Recipient> recipients) {
+        this.templateName = templateName;
+        this.type = sharedHeader.getType();
+        this.senderName = sharedHeader.getSenderName();
+        this.senderEmail = sharedHeader.getSenderEmail();
+        this.replyTo = sharedHeader.getReplyTo();
+        this.subject = sharedHeader.getSubject();
+        this.keys = keys;
+        this.sharedValues = sharedValues;
+        this.recipients = recipients;
+    }
+
+    /**
+     * Creates the emails populating the given template, which must be one of the {@link Templates.EmailTemplates}.
+     *
+     * @param template the template of the emails
+     * @param headers for each email, the email without content, i.e. the type, sender, recipient and subject
+     * @param keyValuePairs for each email, the key-value pairs to populate the template with,
+     *                      with the same keys in the same order for every email
+     * @see Templates#populateTemplate(String, String...)
+     */
+    public static TemplatedEmails of(String template, List<EmailWrapper> headers, List<String[]> keyValuePairs) {
+        String templateName = Templates.getEmailTemplateName(template);
+        assert templateName != null : "Template must be one of the email templates";
+        assert headers.size() == keyValuePairs.size();
+
+        EmailWrapper firstHeader = headers.isEmpty() ? new EmailWrapper() : headers.get(0);
+        List<String> keys = new ArrayList<>();
+        String[] firstPairs = keyValuePairs.isEmpty() ? new String[0] : keyValuePairs.get(0);
+        for (int i = 0; i < firstPairs.length; i += 2) {
+            keys.add(firstPairs[i]);
+        }
+
+        Map<String, String> sharedValues = new HashMap<>();
+        for (int k = 0; k < keys.size(); k++) {
+            sharedValues.put(keys.get(k), getMostCommonValue(keyValuePairs, 2 * k + 1));
+        }
+        String sharedSubject = getMostCommonSubject(headers);
+
+        List<Recipient> recipients = new ArrayList<>();
+        for (int i = 0; i < headers.size(); i++) {
+            EmailWrapper header = headers.get(i);
+            assert header.getType() == firstHeader.getType();
+            assert Objects.equals(header.getSenderEmail(), firstHeader.getSenderEmail());
+            assert Objects.equals(header.getSenderName(), firstHeader.getSenderName());
+            assert Objects.equals(header.getReplyTo(), firstHeader.getReplyTo());
+            assert keyValuePairs.get(i).length == firstPairs.length;
+
+            Map<String, String> values = new HashMap<>();
+            for (int k = 0; k < keys.size(); k++) {
+                assert keys.get(k).equals(keyValuePairs.get(i)[2 * k]);
+                String value = keyValuePairs.get(i)[2 * k + 1];
+                if (!value.equals(sharedValues.get(keys.get(k)))) {
+                    values.put(keys.get(k), value);
+                }
+            }
+            String recipientSubject = Objects.equals(header.getSubject(), sharedSubject) ? null : header.getSubject();
+            recipients.add(new Recipient(header.getRecipient(), header.getIsCopy(), recipientSubject, values));
+        }
+
+        EmailWrapper sharedHeader = new EmailWrapper();
+        sharedHeader.setType(firstHeader.getType());
+        sharedHeader.setSenderName(firstHeader.getSenderName());
+        sharedHeader.setSenderEmail(firstHeader.getSenderEmail());
+        sharedHeader.setReplyTo(firstHeader.getReplyTo());
+        sharedHeader.setSubject(sharedSubject);
+        return new TemplatedEmails(templateName, sharedHeader, keys, sharedValues, recipients);
+    }
+
+    private static String getMostCommonValue(List<String[]> keyValuePairs, int valueIndex) {
+        List<String> values = new ArrayList<>();
+        for (String[] pairs : keyValuePairs) {
+            values.add(pairs[valueIndex]);
+        }
+        return getMostCommon(values);
+    }
+
+    private static String getMostCommonSubject(List<EmailWrapper> headers) {
+        List<String> subjects = new ArrayList<>();
+        for (EmailWrapper header : headers) {
+            subjects.add(header.getSubject());
+        }
+        return getMostCommon(subjects);
+    }
+
+    private static String getMostCommon(List<String> values) {
+        Map<String, Integer> counts = new HashMap<>();
+        String mostCommon = null;
+        int maxCount = 0;
+        for (String value : values) {
+            int count = counts.merge(String.valueOf(value), 1, Integer::sum);
+            if (count > maxCount) {
+                maxCount = count;
+                mostCommon = value;
+            }
+        }
+        return mostCommon;
+    }
+
+    /**
+     * Gets the emails for the recipients from position {@code fromIndex} (inclusive) to {@code toIndex} (exclusive),
+     * sharing the same template and shared values.
+     */
+    public TemplatedEmails subList(int fromIndex, int toIndex) {
+        return new TemplatedEmails(templateName, getEmailHeader(null), keys, sharedValues,
+                new ArrayList<>(recipients.subList(fromIndex, toIndex)));
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public EmailType getType() {
+        return type;
+    }
+
+    public int size() {
+        return recipients.size();
+    }
+
+    public boolean isEmpty() {
+        return recipients.isEmpty();
+    }
+
+    /**
+     * Gets the emails without content, i.e. with only the type, sender, recipient and subject.
+     */
+    public List<EmailWrapper> getEmailHeaders() {
+        List<EmailWrapper> headers = new ArrayList<>();
+        for (Recipient recipient : recipients) {
+            headers.add(getEmailHeader(recipient));
+        }
+        return headers;
+    }
+
+    /**
+     * Renders the emails by populating the template for each recipient.
+     */
+    public List<EmailWrapper> render() {
+        String template = Templates.getEmailTemplate(templateName);
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (Recipient recipient : recipients) {
+            String[] keyValuePairs = new String[2 * keys.size()];
+            for (int k = 0; k < keys.size(); k++) {
+                String key = keys.get(k);
+                keyValuePairs[2 * k] = key;
+                keyValuePairs[2 * k + 1] = recipient.values.getOrDefault(key, sharedValues.get(key));
+            }
+            EmailWrapper email = getEmailHeader(recipient);
+            email.setContent(Templates.populateTemplate(template, keyValuePairs));
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    /**
+     * Gets the email without content for the given recipient, or with only the shared fields if the recipient is null.
+     */
+    private EmailWrapper getEmailHeader(Recipient recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setType(type);
+        email.setSenderName(senderName);
+        email.setSenderEmail(senderEmail);
+        email.setReplyTo(replyTo);
+        email.setSubject(subject);
+        if (recipient != null) {
+            email.setRecipient(recipient.email);
+            email.setIsCopy(recipient.isCopy);
+            if (recipient.subject != null) {
+                email.setSubject(recipient.subject);
+            }
+        }
+        return email;
+    }
+
+    /**
+     * Returns true if the template is one of the email templates, and the emails have a sender, reply-to address
+     * and subject, and every recipient has an email address.
+     */
+    public boolean isValid() {
+        return templateName != null && Templates.getEmailTemplate(templateName) != null
+                && senderEmail != null && replyTo != null && subject != null
+                && keys != null && sharedValues != null && recipients != null
+                && recipients.stream().allMatch(recipient -> recipient != null && recipient.email != null);
+    }
+
+    /**
+     * A recipient of the emails, with the template values specific to the recipient.
+     */
+    private static final class Recipient {
+
+        private final String email;
+        private final boolean isCopy;
+
+        /**
+         * The subject of the email if different from the shared subject, otherwise null.
+         */
+        private final String subject;
+        private final Map<String, String> values;
+
+        Recipient(String email, boolean isCopy, String subject, Map<String, String> values) {
+            this.email = email;
+            this.isCopy = isCopy;
+            this.subject = subject;
+            this.values = values;
+        }
+
+    }
+
+}
@@ -1,5 +1,13 @@
 package teammates.common.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Contains utility methods for creating strings from given templates.
  */
@@ -7,13 +15,67 @@ public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    /**
+     * Maximum number of templates other than {@link EmailTemplates} to keep compiled,
+     * e.g. email templates with the session status already filled in.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 64;
+
+    private static final Map<String, String> EMAIL_TEMPLATES_BY_NAME = getEmailTemplatesByName();
+    private static final Map<String, String> EMAIL_TEMPLATE_NAMES = new HashMap<>();
+    private static final Map<String, CompiledTemplate> PRECOMPILED_TEMPLATES = new HashMap<>();
+    private static final Map<String, CompiledTemplate> CACHED_TEMPLATES = new ConcurrentHashMap<>();
+
+    static {
+        EMAIL_TEMPLATES_BY_NAME.forEach((name, template) -> {
+            EMAIL_TEMPLATE_NAMES.put(template, name);
+            PRECOMPILED_TEMPLATES.put(template, compile(template));
+        });
+    }
+
     private Templates() {
         // utility class
     }
 
+    private static Map<String, String> getEmailTemplatesByName() {
+        Map<String, String> templatesByName = new HashMap<>();
+        for (Field field : EmailTemplates.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            try {
+                templatesByName.put(field.getName(), (String) field.get(null));
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            }
+        }
+        return templatesByName;
+    }
+
+    /**
+     * Gets the name of the given template in {@link EmailTemplates}, e.g. {@code USER_FEEDBACK_SESSION},
+     * or null if it is not one of the email templates.
+     */
+    public static String getEmailTemplateName(String template) {
+        return EMAIL_TEMPLATE_NAMES.get(template);
+    }
+
+    /**
+     * Gets the template in {@link EmailTemplates} with the given name, or null if there is no such template.
+     */
+    public static String getEmailTemplate(String templateName) {
+        return EMAIL_TEMPLATES_BY_NAME.get(templateName);
+    }
+
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>The result is the same as replacing the keys one after another in the given order, i.e. a value
+     * containing the keys of later pairs has those keys replaced as well.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -21,11 +83,146 @@ public final class Templates {
      */
     public static String populateTemplate(String template, String... keyValuePairs) {
         assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
-        String populatedTemplate = template;
+        if (!areAllPlaceholders(keyValuePairs)) {
+            // keys which are not placeholders can appear anywhere in the template, e.g. in sample data
+            String populatedTemplate = template;
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
+            return populatedTemplate;
+        }
+        return getCompiledTemplate(template).populate(keyValuePairs, 0);
+    }
+
+    /**
+     * Parses the template into literal text and {@code ${...}} placeholders,
+     * so that it can be populated many times without being parsed again.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart >= 0) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd < 0) {
+                break;
+            }
+            int nestedStart = template.indexOf(PLACEHOLDER_START, placeholderStart + PLACEHOLDER_START.length());
+            if (nestedStart >= 0 && nestedStart < placeholderEnd) {
+                // e.g. "${a${b}", where only "${b}" is a placeholder
+                placeholderStart = nestedStart;
+                continue;
+            }
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart, placeholderEnd + PLACEHOLDER_END.length()));
+            literalStart = placeholderEnd + PLACEHOLDER_END.length();
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    private static CompiledTemplate getCompiledTemplate(String template) {
+        CompiledTemplate compiledTemplate = PRECOMPILED_TEMPLATES.get(template);
+        if (compiledTemplate != null) {
+            return compiledTemplate;
+        }
+        compiledTemplate = CACHED_TEMPLATES.get(template);
+        if (compiledTemplate != null) {
+            return compiledTemplate;
+        }
+        compiledTemplate = compile(template);
+        if (CACHED_TEMPLATES.size() >= MAX_CACHED_TEMPLATES) {
+            CACHED_TEMPLATES.clear();
+        }
+        CACHED_TEMPLATES.put(template, compiledTemplate);
+        return compiledTemplate;
+    }
+
+    private static boolean isPlaceholder(String key) {
+        return key.length() > PLACEHOLDER_START.length() + PLACEHOLDER_END.length()
+                && key.startsWith(PLACEHOLDER_START)
+                && key.indexOf(PLACEHOLDER_END) == key.length() - PLACEHOLDER_END.length()
+                && key.lastIndexOf(PLACEHOLDER_START) == 0;
+    }
+
+    private static boolean areAllPlaceholders(String... keyValuePairs) {
         for (int i = 0; i < keyValuePairs.length; i += 2) {
-            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+            if (!isPlaceholder(keyValuePairs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A template which has been parsed into literal text and placeholders.
+     */
+    public static final class CompiledTemplate {
+
+        /**
+         * The literal text before, between and after the placeholders, i.e. one more than the placeholders.
+         */
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int literalsLength;
+
+        private CompiledTemplate(String[] literals, String[] placeholders) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalsLength = length;
+        }
+
+        /**
+         * Populates the template with the given key-value pairs, where every key is a {@code ${...}} placeholder.
+         *
+         * @see Templates#populateTemplate(String, String...)
+         */
+        public String populate(String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            assert areAllPlaceholders(keyValuePairs) : "All keys must be placeholders";
+            return populate(keyValuePairs, 0);
         }
-        return populatedTemplate;
+
+        /**
+         * Populates the template with the key-value pairs starting from {@code firstPairIndex}.
+         */
+        private String populate(String[] keyValuePairs, int firstPairIndex) {
+            String[] values = new String[placeholders.length];
+            int length = literalsLength;
+            for (int i = 0; i < placeholders.length; i++) {
+                values[i] = getValue(placeholders[i], keyValuePairs, firstPairIndex);
+                length += values[i].length();
+            }
+
+            StringBuilder populatedTemplate = new StringBuilder(length);
+            populatedTemplate.append(literals[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                populatedTemplate.append(values[i]).append(literals[i + 1]);
+            }
+            return populatedTemplate.toString();
+        }
+
+        private static String getValue(String placeholder, String[] keyValuePairs, int firstPairIndex) {
+            for (int i = firstPairIndex; i < keyValuePairs.length; i += 2) {
+                if (!placeholder.equals(keyValuePairs[i])) {
+                    continue;
+                }
+                String value = keyValuePairs[i + 1];
+                if (i + 2 < keyValuePairs.length && value.contains(PLACEHOLDER_START)) {
+                    // the value, e.g. an email fragment, is populated with the pairs after it
+                    return getCompiledTemplate(value).populate(keyValuePairs, i + 2);
+                }
+                return value;
+            }
+            return placeholder;
+        }
+
     }
 
     /**
@@ -0,0 +1,183 @@
+package teammates.common.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A timed operation within the current request, see {@link RequestTracer#startSpan(String)}.
+ *
+ * <p>Spans are meant to be used with try-with-resources, so that they end when the operation ends:
+ * <pre>
+ * try (TraceSpan span = RequestTracer.startSpan("solr.query")) {
+ *     span.setAttribute("solr.collection", collectionName);
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Spans are not thread-safe; they are expected to be used by the thread serving the request only.
+ */
+public class TraceSpan implements AutoCloseable {
+
+    /**
+     * Span which records nothing, used when spans are not being recorded.
+     */
+    static final TraceSpan NOOP = new TraceSpan();
+
+    private final RequestTracer.SpanRecorder recorder;
+    private final String name;
+    private final Kind kind;
+    private final String spanId;
+    private final String parentSpanId;
+    private final long startEpochNanos;
+    private final Map<String, Object> attributes;
+    private long endEpochNanos;
+    private String errorMessage;
+
+    TraceSpan(RequestTracer.SpanRecorder recorder, String name, Kind kind, String parentSpanId,
+            long startEpochNanos) {
+        this.recorder = recorder;
+        this.name = name;
+        this.kind = kind;
+        this.spanId = generateSpanId();
+        this.parentSpanId = parentSpanId;
+        this.startEpochNanos = startEpochNanos;
+        this.attributes = new LinkedHashMap<>();
+    }
+
+    private TraceSpan() {
+        this.recorder = null;
+        this.name = "";
+        this.kind = Kind.INTERNAL;
+        this.spanId = "";
+        this.parentSpanId = null;
+        this.startEpochNanos = 0;
+        this.attributes = Collections.emptyMap();
+    }
+
+    private static String generateSpanId() {
+        long id = 0;
+        while (id == 0) {
+            // an all-zero span ID is invalid
+            id = ThreadLocalRandom.current().nextLong();
+        }
+        return String.format("%016x", id);
+    }
+
+    /**
+     * Sets an attribute of the span. The value is expected to be a string, a number or a boolean.
+     */
+    public TraceSpan setAttribute(String key, Object value) {
+        if (recorder != null && value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed with the given message.
+     */
+    public TraceSpan setError(String message) {
+        if (recorder != null) {
+            errorMessage = message == null ? "" : message;
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether the span is being recorded, so that expensive attributes can be skipped otherwise.
+     */
+    public boolean isRecording() {
+        return recorder != null && endEpochNanos == 0;
+    }
+
+    /**
+     * Ends the span. Spans started within this span which have not ended are ended as well.
+     */
+    @Override
+    public void close() {
+        if (recorder != null && endEpochNanos == 0) {
+            recorder.end(this);
+        }
+    }
+
+    void end(long epochNanos) {
+        endEpochNanos = epochNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Returns the ID of the parent span, or null if the span has no parent.
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * Returns the end time of the span, or 0 if the span has not ended.
+     */
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Returns the error message of the span, or null if the span has not failed.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Kinds of spans, as defined by OpenTelemetry.
+     */
+    public enum Kind {
+        /**
+         * Operation within the application.
+         */
+        INTERNAL(1),
+
+        /**
+         * Handling of a request from a remote client.
+         */
+        SERVER(2),
+
+        /**
+         * Request to a remote service, e.g. the database or the email provider.
+         */
+        CLIENT(3);
+
+        private final int otlpValue;
+
+        Kind(int otlpValue) {
+            this.otlpValue = otlpValue;
+        }
+
+        /**
+         * Returns the value of the kind in the OTLP protocol.
+         */
+        public int getOtlpValue() {
+            return otlpValue;
+        }
+    }
+
+}
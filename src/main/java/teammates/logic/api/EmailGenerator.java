@@ -1034,11 +1034,22 @@ public final class EmailGenerator {
      * Generates the logs compilation email for the given {@code logs}.
      */
     public EmailWrapper generateCompiledLogsEmail(List<ErrorLogEntry> logs) {
+        return generateCompiledLogsEmail(logs, 0);
+    }
+
+    /**
+     * Generates the logs compilation email for the given {@code logs},
+     * noting the number of other logs which are left out of the email.
+     */
+    public EmailWrapper generateCompiledLogsEmail(List<ErrorLogEntry> logs, int omittedLogCount) {
         StringBuilder emailBody = new StringBuilder();
         for (int i = 0; i < logs.size(); i++) {
             emailBody.append(generateSevereErrorLogLine(i, logs.get(i).getMessage(),
                     logs.get(i).getSeverity(), logs.get(i).getTraceId()));
         }
+        if (omittedLogCount > 0) {
+            emailBody.append("<p>").append(omittedLogCount).append(" more severe logs are not shown.</p>");
+        }
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(Config.SUPPORT_EMAIL);
         email.setType(EmailType.SEVERE_LOGS_COMPILATION);
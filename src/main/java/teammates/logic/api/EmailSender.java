@@ -1,5 +1,10 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.logs.EmailSentLogDetails;
@@ -9,6 +14,8 @@ import teammates.common.util.Const;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TraceSpan;
 import teammates.logic.external.EmailSenderService;
 import teammates.logic.external.EmptyEmailService;
 import teammates.logic.external.MailgunService;
@@ -45,6 +52,20 @@ public class EmailSender {
         return instance;
     }
 
+    /**
+     * Creates the shared client of the underlying email sender service.
+     */
+    public void init() {
+        service.init();
+    }
+
+    /**
+     * Releases the shared client of the underlying email sender service.
+     */
+    public void close() {
+        service.close();
+    }
+
     /**
      * Sends the given {@code message} and generates a log report.
      *
@@ -57,8 +78,9 @@ public class EmailSender {
 
         EmailSendingStatus status;
         EmailSendingException caughtE = null;
-        try {
+        try (TraceSpan span = startSpan("email.send", 1)) {
             status = service.sendEmail(message);
+            span.setAttribute("email.status_code", status.getStatusCode());
         } catch (EmailSendingException e) {
             caughtE = e;
             status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
@@ -71,6 +93,62 @@ public class EmailSender {
             }
         }
 
+        logEmailSent(message, status);
+
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} in as few requests to the email provider as possible
+     * and generates a log report for each of them.
+     *
+     * @return The HTTP status of each email, in the same order as {@code messages}.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        EmailSendingStatus[] statuses = new EmailSendingStatus[messages.size()];
+        List<EmailWrapper> messagesToSend = new ArrayList<>();
+        List<Integer> indicesToSend = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (isTestingAccount(messages.get(i).getRecipient())) {
+                statuses[i] = new EmailSendingStatus(HttpStatus.SC_OK, "Not sending email to test account");
+            } else {
+                messagesToSend.add(messages.get(i));
+                indicesToSend.add(i);
+            }
+        }
+        if (messagesToSend.isEmpty()) {
+            return Arrays.asList(statuses);
+        }
+
+        List<EmailSendingStatus> sentStatuses;
+        try (TraceSpan ignored = startSpan("email.send_batch", messagesToSend.size())) {
+            sentStatuses = service.sendEmails(messagesToSend);
+        } catch (EmailSendingException e) {
+            log.severe("Emails failed to send: " + e.getMessage(), e);
+            EmailSendingStatus failedStatus = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+            sentStatuses = Collections.nCopies(messagesToSend.size(), failedStatus);
+        }
+
+        for (int i = 0; i < messagesToSend.size(); i++) {
+            EmailWrapper message = messagesToSend.get(i);
+            EmailSendingStatus status = sentStatuses.get(i);
+            if (!status.isSuccess()) {
+                log.severe("Email failed to send: " + status.getMessage());
+            }
+            logEmailSent(message, status);
+            statuses[indicesToSend.get(i)] = status;
+        }
+
+        return Arrays.asList(statuses);
+    }
+
+    private TraceSpan startSpan(String name, int emailCount) {
+        return RequestTracer.startSpan(name, TraceSpan.Kind.CLIENT)
+                .setAttribute("email.service", service.getClass().getSimpleName())
+                .setAttribute("email.count", emailCount);
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status) {
         EmailSentLogDetails details = new EmailSentLogDetails();
         details.setEmailRecipient(message.getRecipient());
         details.setEmailSubject(message.getSubject());
@@ -82,8 +160,6 @@ public class EmailSender {
             details.setEmailStatusMessage(status.getMessage());
         }
         log.event("Email sent: " + message.getType(), details);
-
-        return status;
     }
 
     private boolean isTestingAccount(String email) {
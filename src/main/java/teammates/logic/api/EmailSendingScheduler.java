@@ -0,0 +1,197 @@
+package teammates.logic.api;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import teammates.common.util.Config;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+
+/**
+ * Assigns sending times to outbound emails so that the sending rate stays within the limit of the email provider.
+ *
+ * <p>Time is divided into one-second slots, each holding as many tokens as the number of emails
+ * the provider accepts per second. Scheduling an email reserves a token in the earliest slot which has one available,
+ * and the email is sent at the start of that slot.
+ *
+ * <p>Emails which the recipient is waiting for, e.g. join links and login links, have high priority:
+ * part of every slot is kept away from bulk emails, e.g. feedback session reminders, so that high priority emails
+ * are not delayed behind large reminder blasts.
+ *
+ * <p>Emails scheduled together (typically all emails for one feedback session of one course) form a flow.
+ * A single flow may only take part of the bulk capacity of each slot, so that the emails of another course
+ * scheduled afterwards are not queued behind the whole of an earlier blast.
+ *
+ * <p>The reservations are kept in memory, so the limit is enforced per application instance.
+ * The rate of the task queue remains the upper bound across instances.
+ */
+final class EmailSendingScheduler {
+
+    private static final long SLOT_MILLIS = 1000L;
+
+    /**
+     * Fraction of each slot which can be taken by bulk emails.
+     */
+    private static final double BULK_SHARE = 0.8;
+
+    /**
+     * Fraction of the bulk capacity of each slot which can be taken by a single flow.
+     */
+    private static final double FLOW_SHARE = 0.5;
+
+    private static final Set<EmailType> HIGH_PRIORITY_TYPES = EnumSet.of(
+            EmailType.LOGIN,
+            EmailType.STUDENT_COURSE_JOIN,
+            EmailType.STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET,
+            EmailType.INSTRUCTOR_COURSE_JOIN,
+            EmailType.INSTRUCTOR_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET,
+            EmailType.NEW_INSTRUCTOR_ACCOUNT,
+            EmailType.STUDENT_COURSE_LINKS_REGENERATED,
+            EmailType.INSTRUCTOR_COURSE_LINKS_REGENERATED,
+            EmailType.SESSION_LINKS_RECOVERY,
+            EmailType.USER_COURSE_REGISTER,
+            EmailType.NEW_ACCOUNT_REQUEST_ACKNOWLEDGEMENT,
+            EmailType.NEW_ACCOUNT_REQUEST_ADMIN_ALERT,
+            EmailType.SEVERE_LOGS_COMPILATION);
+
+    private static final int SENDGRID_EMAILS_PER_SECOND = 50;
+    private static final int MAILJET_EMAILS_PER_SECOND = 10;
+    private static final int MAILGUN_EMAILS_PER_SECOND = 10;
+    private static final int NO_PROVIDER_EMAILS_PER_SECOND = 100;
+
+    private static final EmailSendingScheduler instance = new EmailSendingScheduler(getProviderRateLimit());
+
+    private final int slotCapacity;
+    private final int bulkSlotCapacity;
+    private final int flowSlotCapacity;
+
+    private final Object lock = new Object();
+
+    /**
+     * Maps each slot to the number of tokens taken by all emails, and by bulk emails only.
+     */
+    private final TreeMap<Long, int[]> reservedSlots = new TreeMap<>();
+
+    EmailSendingScheduler(int emailsPerSecond) {
+        this.slotCapacity = Math.max(1, emailsPerSecond);
+        this.bulkSlotCapacity = Math.max(1, (int) (slotCapacity * BULK_SHARE));
+        this.flowSlotCapacity = Math.max(1, (int) (bulkSlotCapacity * FLOW_SHARE));
+    }
+
+    static EmailSendingScheduler inst() {
+        return instance;
+    }
+
+    private static int getProviderRateLimit() {
+        if (Config.EMAIL_RATE_LIMIT > 0) {
+            return Config.EMAIL_RATE_LIMIT;
+        }
+        if (Config.isUsingSendgrid()) {
+            return SENDGRID_EMAILS_PER_SECOND;
+        }
+        if (Config.isUsingMailjet()) {
+            return MAILJET_EMAILS_PER_SECOND;
+        }
+        if (Config.isUsingMailgun()) {
+            return MAILGUN_EMAILS_PER_SECOND;
+        }
+        return NO_PROVIDER_EMAILS_PER_SECOND;
+    }
+
+    /**
+     * Returns true if the email is one which the recipient is waiting for.
+     */
+    static boolean isHighPriority(EmailWrapper email) {
+        return email.getType() != null && HIGH_PRIORITY_TYPES.contains(email.getType());
+    }
+
+    /**
+     * Reserves sending times for the given groups of emails, where each group is sent by a single task.
+     *
+     * <p>All groups of high priority are scheduled before the groups of bulk emails. Within each priority,
+     * the groups are scheduled in the given order.
+     *
+     * @param emailGroups the groups of emails, which together form a single flow
+     * @return the delay in milliseconds after which each group can be sent, in the same order as the groups
+     */
+    List<Long> schedule(List<List<EmailWrapper>> emailGroups) {
+        return schedule(emailGroups, System.currentTimeMillis());
+    }
+
+    List<Long> schedule(List<List<EmailWrapper>> emailGroups, long now) {
+        List<Integer> highPriorityGroups = new ArrayList<>();
+        List<Integer> bulkGroups = new ArrayList<>();
+        for (int i = 0; i < emailGroups.size(); i++) {
+            if (emailGroups.get(i).stream().anyMatch(EmailSendingScheduler::isHighPriority)) {
+                highPriorityGroups.add(i);
+            } else {
+                bulkGroups.add(i);
+            }
+        }
+
+        long[] delays = new long[emailGroups.size()];
+        synchronized (lock) {
+            long currentSlot = now / SLOT_MILLIS;
+            reservedSlots.headMap(currentSlot).clear();
+
+            long slot = currentSlot;
+            for (int i : highPriorityGroups) {
+                slot = reserve(slot, emailGroups.get(i).size(), null);
+                delays[i] = Math.max(0L, slot * SLOT_MILLIS - now);
+            }
+
+            Map<Long, Integer> flowReservations = new HashMap<>();
+            slot = currentSlot;
+            for (int i : bulkGroups) {
+                slot = reserve(slot, emailGroups.get(i).size(), flowReservations);
+                delays[i] = Math.max(0L, slot * SLOT_MILLIS - now);
+            }
+        }
+
+        List<Long> result = new ArrayList<>();
+        for (long delay : delays) {
+            result.add(delay);
+        }
+        return result;
+    }
+
+    /**
+     * Reserves the given number of tokens from the earliest slots available, starting from {@code firstSlot}.
+     *
+     * @param flowReservations the tokens taken so far by the current flow in each slot,
+     *                         or null if the tokens are for high priority emails
+     * @return the last slot from which tokens are reserved
+     */
+    private long reserve(long firstSlot, int tokens, Map<Long, Integer> flowReservations) {
+        boolean isBulk = flowReservations != null;
+        long slot = firstSlot;
+        int remaining = tokens;
+        while (remaining > 0) {
+            int[] reserved = reservedSlots.computeIfAbsent(slot, s -> new int[2]);
+            int available = slotCapacity - reserved[0];
+            if (isBulk) {
+                available = Math.min(available, bulkSlotCapacity - reserved[1]);
+                available = Math.min(available, flowSlotCapacity - flowReservations.getOrDefault(slot, 0));
+            }
+
+            int taken = Math.max(0, Math.min(available, remaining));
+            reserved[0] += taken;
+            if (isBulk) {
+                reserved[1] += taken;
+                flowReservations.merge(slot, taken, Integer::sum);
+            }
+            remaining -= taken;
+
+            if (remaining > 0) {
+                slot++;
+            }
+        }
+        return slot;
+    }
+
+}
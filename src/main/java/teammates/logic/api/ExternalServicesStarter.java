@@ -0,0 +1,32 @@
+package teammates.logic.api;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+
+import teammates.common.util.Logger;
+
+/**
+ * Setup in web.xml to create the shared clients of external services at application startup
+ * and release them at application shutdown.
+ */
+public class ExternalServicesStarter implements ServletContextListener {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        TaskQueuer.inst().init();
+        EmailSender.inst().init();
+
+        log.info("Initialized clients of external services");
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        // Invoked by Jetty at application shutdown.
+        TaskQueuer.inst().close();
+        EmailSender.inst().close();
+    }
+
+}
@@ -452,6 +452,16 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the courses with the given IDs, in one batch lookup; courses not found are omitted.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+        assert courseIds != null;
+        return coursesLogic.getCourses(courseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -836,6 +846,32 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByStudent(fsa, userEmail, userTeam);
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted a feedback session.
+     *
+     * <p>Unlike calling {@link #isFeedbackSessionAttemptedByStudent} for each student,
+     * the responses of the session are only queried once.</p>
+     */
+    public List<StudentAttributes> getStudentsYetToAttemptFeedbackSession(
+            FeedbackSessionAttributes fsa, List<StudentAttributes> students) {
+        assert fsa != null;
+        assert students != null;
+        return feedbackSessionsLogic.getStudentsYetToAttemptFeedbackSession(fsa, students);
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted a feedback session.
+     *
+     * <p>Unlike calling {@link #isFeedbackSessionAttemptedByInstructor} for each instructor,
+     * the responses of the session are only queried once.</p>
+     */
+    public List<InstructorAttributes> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSessionAttributes fsa, List<InstructorAttributes> instructors) {
+        assert fsa != null;
+        assert instructors != null;
+        return feedbackSessionsLogic.getInstructorsYetToAttemptFeedbackSession(fsa, instructors);
+    }
+
     /**
      * Deletes a student cascade its associated feedback responses, deadline extensions and comments.
      *
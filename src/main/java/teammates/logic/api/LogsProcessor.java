@@ -3,6 +3,7 @@ package teammates.logic.api;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.QueryLogsResults;
@@ -44,6 +45,13 @@ public class LogsProcessor {
         return service.queryLogs(queryLogsParams);
     }
 
+    /**
+     * Retrieves all logs with given parameters, passing them to {@code pageConsumer} one page at a time.
+     */
+    public void streamLogs(QueryLogsParams queryLogsParams, Consumer<List<GeneralLogEntry>> pageConsumer) {
+        service.streamLogs(queryLogsParams, pageConsumer);
+    }
+
     /**
      * Creates a feedback session log.
      */
@@ -67,6 +75,16 @@ public class LogsProcessor {
         return service.getOrderedFeedbackSessionLogs(courseId, email, startTime, endTime, fsName);
     }
 
+    /**
+     * Retrieves the feedback session logs as filtered by the given parameters ordered by ascending timestamp,
+     * passing them to {@code pageConsumer} one page at a time.
+     * @param email Can be null
+     */
+    public void streamFeedbackSessionLogs(String courseId, String email, long startTime, long endTime,
+            String fsName, Consumer<List<FeedbackSessionLogEntry>> pageConsumer) {
+        service.streamFeedbackSessionLogs(courseId, email, startTime, endTime, fsName, pageConsumer);
+    }
+
     /**
      * Gets the number of logs for the event type and extra filters.
      */
@@ -1,5 +1,6 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -7,13 +8,19 @@ import java.util.Map;
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.common.util.TaskWrapper;
+import teammates.common.util.TemplatedEmails;
+import teammates.common.util.TraceSpan;
 import teammates.logic.external.GoogleCloudTasksService;
+import teammates.logic.external.InProcessTaskQueueService;
 import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
+import teammates.ui.request.SendEmailBatchRequest;
 import teammates.ui.request.SendEmailRequest;
 
 /**
@@ -23,11 +30,18 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of emails sent by a single batched email task.
+     */
+    private static final int EMAIL_BATCH_SIZE = 50;
+
     private static final TaskQueuer instance = new TaskQueuer();
     private final TaskQueueService service;
 
     TaskQueuer() {
-        if (Config.IS_DEV_SERVER) {
+        if (Config.isUsingInProcessTaskQueue()) {
+            service = new InProcessTaskQueueService();
+        } else if (Config.IS_DEV_SERVER) {
             service = new LocalTaskQueueService();
         } else {
             service = new GoogleCloudTasksService();
@@ -38,6 +52,20 @@ public class TaskQueuer {
         return instance;
     }
 
+    /**
+     * Creates the shared client of the underlying task queue service.
+     */
+    public void init() {
+        service.init();
+    }
+
+    /**
+     * Releases the shared client of the underlying task queue service.
+     */
+    public void close() {
+        service.close();
+    }
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -48,8 +76,24 @@ public class TaskQueuer {
 
     void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
                          long countdownTime) {
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody);
-        service.addDeferredTask(task, countdownTime);
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody, countdownTime);
+        try (TraceSpan ignored = RequestTracer.startSpan("taskqueue.add", TraceSpan.Kind.CLIENT)
+                .setAttribute("taskqueue.queue", queueName)
+                .setAttribute("taskqueue.worker_url", workerUrl)) {
+            service.addDeferredTask(task);
+        }
+        RequestTracer.addTaskEnqueueCount(1);
+    }
+
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks) {
+        List<TaskWrapper> failedTasks;
+        try (TraceSpan span = RequestTracer.startSpan("taskqueue.add_batch", TraceSpan.Kind.CLIENT)
+                .setAttribute("taskqueue.task_count", tasks.size())) {
+            failedTasks = service.addDeferredTasks(tasks);
+            span.setAttribute("taskqueue.failed_task_count", failedTasks.size());
+        }
+        RequestTracer.addTaskEnqueueCount(tasks.size() - failedTasks.size());
+        return failedTasks;
     }
 
     // The following methods are the actual API methods to be used by the client classes
@@ -109,6 +153,34 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, paramMap, null);
     }
 
+    /**
+     * Schedules for the emails of the specified feedback session to be generated and sent,
+     * continuing after the recipient identified by {@code cursor}.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType the type of the emails to be generated
+     * @param cursor the cursor identifying the last recipient whose email has been generated
+     * @param taskName the name of the task, so that the task is added only once for the same batch
+     * @throws IllegalStateException if the task cannot be added
+     */
+    public void scheduleFeedbackSessionEmailGeneration(String courseId, String feedbackSessionName,
+            EmailType emailType, String cursor, String taskName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+        paramMap.put(ParamsNames.CURSOR, cursor);
+
+        TaskWrapper task = new TaskWrapper(TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_WORKER_URL, paramMap, null, 0, taskName);
+        if (!addDeferredTasks(List.of(task)).isEmpty()) {
+            // the request is failed so that it is retried, without adding again the named tasks it has added
+            throw new IllegalStateException("Could not schedule the generation of the next batch of emails of "
+                    + feedbackSessionName + " in course " + courseId);
+        }
+    }
+
     /**
      * Schedules for feedback session publication reminders
      * for the specified feedback session for the specified group of users.
@@ -189,16 +261,126 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
-
-        long numberOfEmailsSent = 0L;
+        // Each email is sent in its own task, at the time reserved for it within the limit of the email provider
+        List<List<EmailWrapper>> emailGroups = new ArrayList<>();
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            emailGroups.add(List.of(email));
+        }
+        List<Long> emailDelays = EmailSendingScheduler.inst().schedule(emailGroups);
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    new HashMap<>(), new SendEmailRequest(emails.get(i)), emailDelays.get(i)));
+        }
+
+        List<TaskWrapper> failedTasks = addDeferredTasks(tasks);
+        for (TaskWrapper failedTask : failedTasks) {
+            logEmailSchedulingFailure(((SendEmailRequest) failedTask.getRequestBody()).getEmail());
+        }
+    }
+
+    /**
+     * Schedules for the given list of emails to be sent in batches, each batch sharing a single task
+     * and as few requests to the email provider as possible.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailBatchesForSending(List<EmailWrapper> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        for (int start = 0; start < emails.size(); start += EMAIL_BATCH_SIZE) {
+            batches.add(new ArrayList<>(emails.subList(start, Math.min(emails.size(), start + EMAIL_BATCH_SIZE))));
+        }
+        // Each batch is sent at the time by which enough of the limit of the email provider is reserved for it
+        List<Long> batchDelays = EmailSendingScheduler.inst().schedule(batches);
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                    new HashMap<>(), new SendEmailBatchRequest(batches.get(i), 1), batchDelays.get(i)));
+        }
+
+        List<TaskWrapper> failedTasks = addDeferredTasks(tasks);
+        for (TaskWrapper failedTask : failedTasks) {
+            for (EmailWrapper email : ((SendEmailBatchRequest) failedTask.getRequestBody()).getEmails()) {
+                logEmailSchedulingFailure(email);
+            }
+        }
+    }
+
+    /**
+     * Schedules for the given templated emails to be sent in batches, each batch sharing a single task.
+     *
+     * <p>The tasks carry only the template name and the values to populate it with,
+     * and the emails are rendered by the worker right before they are sent.
+     *
+     * @param emails the templated emails to be sent
+     */
+    public void scheduleEmailBatchesForSending(TemplatedEmails emails) {
+        scheduleEmailBatchesForSending(emails, null);
+    }
+
+    /**
+     * Schedules for the given templated emails to be sent in batches, each batch sharing a single task
+     * named after {@code taskNamePrefix} and the position of the batch.
+     *
+     * <p>Scheduling the same emails again with the same prefix, e.g. when the request scheduling them is retried,
+     * does not add the tasks again, so that the emails are sent once.
+     *
+     * @param emails the templated emails to be sent
+     * @param taskNamePrefix the prefix of the names of the tasks, or null for unnamed tasks
+     */
+    public void scheduleEmailBatchesForSending(TemplatedEmails emails, String taskNamePrefix) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        List<TemplatedEmails> batches = new ArrayList<>();
+        List<List<EmailWrapper>> batchHeaders = new ArrayList<>();
+        for (int start = 0; start < emails.size(); start += EMAIL_BATCH_SIZE) {
+            TemplatedEmails batch = emails.subList(start, Math.min(emails.size(), start + EMAIL_BATCH_SIZE));
+            batches.add(batch);
+            batchHeaders.add(batch.getEmailHeaders());
+        }
+        List<Long> batchDelays = EmailSendingScheduler.inst().schedule(batchHeaders);
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            String taskName = taskNamePrefix == null ? null : taskNamePrefix + "-" + i;
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                    new HashMap<>(), new SendEmailBatchRequest(batches.get(i), 1), batchDelays.get(i), taskName));
+        }
+
+        List<TaskWrapper> failedTasks = addDeferredTasks(tasks);
+        for (TaskWrapper failedTask : failedTasks) {
+            for (EmailWrapper email : ((SendEmailBatchRequest) failedTask.getRequestBody()).getEmails()) {
+                logEmailSchedulingFailure(email);
+            }
+        }
+    }
+
+    /**
+     * Schedules for the given emails, which failed to be sent as part of a batch, to be sent again.
+     *
+     * <p>The retry is delayed linearly by the number of attempts so far, capped at 5 minutes.
+     *
+     * @param emails the emails which failed to be sent
+     * @param attemptNumber the number of the upcoming attempt, starting from 1 for the first attempt
+     */
+    public void scheduleEmailBatchForRetry(List<EmailWrapper> emails, int attemptNumber) {
+        long retryDelayMillis = Math.min(5L * 60 * 1000, (attemptNumber - 1) * 30L * 1000);
+        try {
+            addDeferredTask(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                    new HashMap<>(), new SendEmailBatchRequest(emails, attemptNumber), retryDelayMillis);
+        } catch (Exception e) {
+            log.severe("Error when adding email batch retry to task queue: " + e.getMessage());
+            for (EmailWrapper email : emails) {
+                logEmailSchedulingFailure(email);
+            }
         }
     }
 
@@ -230,6 +412,30 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the search indexing of the students identified by {@code courseId} and {@code emails}.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String email : emails) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, courseId);
+            paramMap.put(ParamsNames.STUDENT_EMAIL, email);
+
+            tasks.add(new TaskWrapper(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL,
+                    paramMap, null));
+        }
+
+        List<TaskWrapper> failedTasks = addDeferredTasks(tasks);
+        if (!failedTasks.isEmpty()) {
+            log.severe("Error when adding " + failedTasks.size() + " of " + tasks.size()
+                    + " student search indexing tasks for course " + courseId + " to task queue");
+        }
+    }
+
     /**
      * Schedules for the search indexing of the student identified by {@code courseId} and {@code email}.
      *
@@ -245,26 +451,19 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        try {
-            SendEmailRequest request = new SendEmailRequest(email);
-
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            new HashMap<>(), request, emailDelayTimer);
-        } catch (Exception e) {
-            String emailSubject = email.getSubject();
-            String emailSenderName = email.getSenderName();
-            String emailSender = email.getSenderEmail();
-            String emailReceiver = email.getRecipient();
-            String emailReplyToAddress = email.getReplyTo();
-
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
-        }
+    private void logEmailSchedulingFailure(EmailWrapper email) {
+        String emailSubject = email.getSubject();
+        String emailSenderName = email.getSenderName();
+        String emailSender = email.getSenderEmail();
+        String emailReceiver = email.getRecipient();
+        String emailReplyToAddress = email.getReplyTo();
+
+        log.severe("Error when adding email to task queue\n"
+                   + "Email sender: " + emailSender + "\n"
+                   + "Email sender name: " + emailSenderName + "\n"
+                   + "Email receiver: " + emailReceiver + "\n"
+                   + "Email subject: " + emailSubject + "\n"
+                   + "Email reply-to address: " + emailReplyToAddress);
     }
 
 }
@@ -134,6 +134,13 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the courses with the specified IDs. Courses which cannot be found are omitted.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+        return coursesDb.getCourses(courseIds);
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -13,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -257,6 +259,59 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(fsa, fsa.isCreator(userEmail));
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted the feedback session.
+     *
+     * <p>The givers who have responded are fetched in a single query, and the same rules as
+     * {@link #isFeedbackSessionAttemptedByStudent(FeedbackSessionAttributes, String, String)}
+     * are applied to each student.
+     */
+    public List<StudentAttributes> getStudentsYetToAttemptFeedbackSession(
+            FeedbackSessionAttributes fsa, List<StudentAttributes> students) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+
+        if (students.isEmpty() || !fqLogic.sessionHasQuestions(feedbackSessionName, courseId)) {
+            // if there are no questions for student, session is attempted
+            return new ArrayList<>();
+        }
+
+        Set<String> giverSet = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+        if (fqLogic.sessionHasQuestionsForGiverType(feedbackSessionName, courseId, FeedbackParticipantType.STUDENTS)) {
+            // case where there are some individual questions
+            return students.stream()
+                    .filter(student -> !giverSet.contains(student.getEmail()))
+                    .collect(Collectors.toList());
+        }
+        // case where all are team questions
+        return students.stream()
+                .filter(student -> !giverSet.contains(student.getTeam()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted the feedback session.
+     *
+     * <p>The givers who have responded are fetched in a single query, and the same rules as
+     * {@link #isFeedbackSessionAttemptedByInstructor(FeedbackSessionAttributes, String)}
+     * are applied to each instructor.
+     */
+    public List<InstructorAttributes> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSessionAttributes fsa, List<InstructorAttributes> instructors) {
+        if (instructors.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> giverSet =
+                frLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        Map<Boolean, Boolean> hasQuestionsForInstructors = new HashMap<>();
+        return instructors.stream()
+                .filter(instructor -> !giverSet.contains(instructor.getEmail()))
+                .filter(instructor -> hasQuestionsForInstructors.computeIfAbsent(fsa.isCreator(instructor.getEmail()),
+                        isCreator -> fqLogic.hasFeedbackQuestionsForInstructors(fsa, isCreator)))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates the details of a feedback session by {@link FeedbackSessionAttributes.UpdateOptions}.
      *
@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
@@ -9,6 +11,18 @@ import teammates.common.util.EmailWrapper;
  */
 public interface EmailSenderService {
 
+    /**
+     * Creates the shared client used by the service to communicate with the email provider.
+     *
+     * <p>The client is thread-safe and is reused across all emails sent by the service.
+     */
+    void init();
+
+    /**
+     * Releases the shared client and any pooled connections held by the service.
+     */
+    void close();
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -20,4 +34,11 @@ public interface EmailSenderService {
      */
     EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, using as few requests to the email provider as possible.
+     *
+     * @return the status of sending each email, in the same order as {@code wrappers}
+     */
+    List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) throws EmailSendingException;
+
 }
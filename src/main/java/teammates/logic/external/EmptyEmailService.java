@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.EmailSendingStatus;
@@ -10,6 +13,16 @@ import teammates.common.util.EmailWrapper;
  */
 public class EmptyEmailService implements EmailSenderService {
 
+    @Override
+    public void init() {
+        // no client to create
+    }
+
+    @Override
+    public void close() {
+        // no client to release
+    }
+
     @Override
     public EmailWrapper parseToEmail(EmailWrapper wrapper) {
         return wrapper;
@@ -20,4 +33,13 @@ public class EmptyEmailService implements EmailSenderService {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            statuses.add(sendEmail(wrapper));
+        }
+        return statuses;
+    }
+
 }
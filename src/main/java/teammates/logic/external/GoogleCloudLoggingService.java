@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.google.api.gax.paging.Page;
@@ -19,7 +20,6 @@ import com.google.cloud.logging.Severity;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.QueryLogsResults;
-import teammates.common.datatransfer.logs.FeedbackSessionAuditLogDetails;
 import teammates.common.datatransfer.logs.GeneralLogEntry;
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -41,54 +41,81 @@ public class GoogleCloudLoggingService implements LogService {
 
     private static final String ASCENDING_ORDER = "asc";
 
+    /**
+     * Page size used when streaming logs, which is the largest page size supported by Cloud Logging.
+     */
+    private static final int STREAMING_PAGE_SIZE = 1000;
+
     private static final String TRACE_PREFIX = String.format("projects/%s/traces/", Config.APP_ID);
 
     @Override
     public QueryLogsResults queryLogs(QueryLogsParams queryLogsParams) {
-
-        LogSearchParams logSearchParams = LogSearchParams.from(queryLogsParams)
-                .addLogName(STDOUT_LOG_NAME)
-                .addLogName(STDERR_LOG_NAME)
-                .setResourceType(RESOURCE_TYPE_GAE_APP);
-
-        Page<LogEntry> logEntriesInPage = getPageLogEntries(logSearchParams, queryLogsParams.getPageSize());
+        Page<LogEntry> logEntriesInPage = getPageLogEntries(getLogSearchParams(queryLogsParams),
+                queryLogsParams.getPageSize());
         List<GeneralLogEntry> logEntries = new ArrayList<>();
         for (LogEntry entry : logEntriesInPage.getValues()) {
-            Severity severity = entry.getSeverity();
-            String trace = entry.getTrace();
-            if (trace != null) {
-                trace = trace.replace(TRACE_PREFIX, "");
-            }
-            String insertId = entry.getInsertId();
-            com.google.cloud.logging.SourceLocation sourceLocation = entry.getSourceLocation();
-            Map<String, String> resourceIdentifier = entry.getResource().getLabels();
-            Payload<?> payload = entry.getPayload();
-            long timestamp = entry.getInstantTimestamp().toEpochMilli();
-
-            String file = "";
-            Long line = 0L;
-            String function = "";
-            if (sourceLocation != null) {
-                file = sourceLocation.getFile();
-                line = sourceLocation.getLine();
-                function = sourceLocation.getFunction();
-            }
-
-            GeneralLogEntry logEntry = new GeneralLogEntry(convertSeverity(severity), trace, insertId,
-                    resourceIdentifier, new SourceLocation(file, line, function), timestamp);
-            if (payload.getType() == Payload.Type.JSON) {
-                Map<String, Object> jsonPayloadMap = ((Payload.JsonPayload) payload).getDataAsMap();
-                logEntry.setDetails(JsonUtils.fromJson(JsonUtils.toCompactJson(jsonPayloadMap), LogDetails.class));
-            } else {
-                String textPayloadMessage = ((Payload.StringPayload) payload).getData();
-                logEntry.setMessage(textPayloadMessage);
-            }
-            logEntries.add(logEntry);
+            logEntries.add(toGeneralLogEntry(entry));
         }
         boolean hasNextPage = logEntriesInPage.getNextPageToken() != null;
         return new QueryLogsResults(logEntries, hasNextPage);
     }
 
+    @Override
+    public void streamLogs(QueryLogsParams queryLogsParams, Consumer<List<GeneralLogEntry>> pageConsumer) {
+        Integer pageSize = queryLogsParams.getPageSize();
+        streamPageLogEntries(getLogSearchParams(queryLogsParams),
+                pageSize == null || pageSize <= 0 ? STREAMING_PAGE_SIZE : pageSize,
+                entries -> {
+                    List<GeneralLogEntry> logEntries = new ArrayList<>();
+                    for (LogEntry entry : entries) {
+                        logEntries.add(toGeneralLogEntry(entry));
+                    }
+                    if (!logEntries.isEmpty()) {
+                        pageConsumer.accept(logEntries);
+                    }
+                });
+    }
+
+    private LogSearchParams getLogSearchParams(QueryLogsParams queryLogsParams) {
+        return LogSearchParams.from(queryLogsParams)
+                .addLogName(STDOUT_LOG_NAME)
+                .addLogName(STDERR_LOG_NAME)
+                .setResourceType(RESOURCE_TYPE_GAE_APP);
+    }
+
+    private GeneralLogEntry toGeneralLogEntry(LogEntry entry) {
+        Severity severity = entry.getSeverity();
+        String trace = entry.getTrace();
+        if (trace != null) {
+            trace = trace.replace(TRACE_PREFIX, "");
+        }
+        String insertId = entry.getInsertId();
+        com.google.cloud.logging.SourceLocation sourceLocation = entry.getSourceLocation();
+        Map<String, String> resourceIdentifier = entry.getResource().getLabels();
+        Payload<?> payload = entry.getPayload();
+        long timestamp = entry.getInstantTimestamp().toEpochMilli();
+
+        String file = "";
+        Long line = 0L;
+        String function = "";
+        if (sourceLocation != null) {
+            file = sourceLocation.getFile();
+            line = sourceLocation.getLine();
+            function = sourceLocation.getFunction();
+        }
+
+        GeneralLogEntry logEntry = new GeneralLogEntry(convertSeverity(severity), trace, insertId,
+                resourceIdentifier, new SourceLocation(file, line, function), timestamp);
+        if (payload.getType() == Payload.Type.JSON) {
+            Map<String, Object> jsonPayloadMap = ((Payload.JsonPayload) payload).getDataAsMap();
+            logEntry.setDetails(JsonUtils.fromJsonTree(jsonPayloadMap, LogDetails.class));
+        } else {
+            String textPayloadMessage = ((Payload.StringPayload) payload).getData();
+            logEntry.setMessage(textPayloadMessage);
+        }
+        return logEntry;
+    }
+
     private LogSeverity convertSeverity(Severity severity) {
         if (severity == Severity.ERROR) {
             return LogSeverity.ERROR;
@@ -125,6 +152,14 @@ public class GoogleCloudLoggingService implements LogService {
     @Override
     public List<FeedbackSessionLogEntry> getOrderedFeedbackSessionLogs(String courseId, String email,
             long startTime, long endTime, String fsName) {
+        List<FeedbackSessionLogEntry> fsLogEntries = new ArrayList<>();
+        streamFeedbackSessionLogs(courseId, email, startTime, endTime, fsName, fsLogEntries::addAll);
+        return fsLogEntries;
+    }
+
+    @Override
+    public void streamFeedbackSessionLogs(String courseId, String email, long startTime, long endTime,
+            String fsName, Consumer<List<FeedbackSessionLogEntry>> pageConsumer) {
         List<String> filters = new ArrayList<>();
         if (courseId != null) {
             filters.add("jsonPayload.courseId=\"" + courseId + "\"");
@@ -144,56 +179,74 @@ public class GoogleCloudLoggingService implements LogService {
         LogSearchParams logSearchParams = LogSearchParams.from(queryLogsParams)
                 .addLogName(STDOUT_LOG_NAME)
                 .setResourceType(RESOURCE_TYPE_GAE_APP);
-        List<LogEntry> logEntries = getAllLogEntries(logSearchParams);
 
-        List<FeedbackSessionLogEntry> fsLogEntries = new ArrayList<>();
-        for (LogEntry entry : logEntries) {
-            long timestamp = entry.getInstantTimestamp().toEpochMilli();
-            Payload<?> payload = entry.getPayload();
-            FeedbackSessionAuditLogDetails details;
-            if (payload.getType() == Payload.Type.JSON) {
-                Map<String, Object> jsonPayloadMap = ((Payload.JsonPayload) payload).getDataAsMap();
-                LogDetails logDetails = JsonUtils.fromJson(JsonUtils.toCompactJson(jsonPayloadMap), LogDetails.class);
-                if (!(logDetails instanceof FeedbackSessionAuditLogDetails)) {
-                    continue;
+        streamPageLogEntries(logSearchParams, STREAMING_PAGE_SIZE, entries -> {
+            List<FeedbackSessionLogEntry> fsLogEntries = new ArrayList<>();
+            for (LogEntry entry : entries) {
+                FeedbackSessionLogEntry fsLogEntry = toFeedbackSessionLogEntry(entry);
+                if (fsLogEntry != null) {
+                    fsLogEntries.add(fsLogEntry);
                 }
-                details = (FeedbackSessionAuditLogDetails) logDetails;
-            } else {
-                continue;
             }
-
-            UUID studentId = details.getStudentId() != null ? UUID.fromString(details.getStudentId()) : null;
-            UUID fsId = details.getFeedbackSessionId() != null ? UUID.fromString(details.getFeedbackSessionId()) : null;
-            FeedbackSessionLogEntry fslEntry;
-            if (fsId != null && studentId != null) {
-                fslEntry = new FeedbackSessionLogEntry(details.getCourseId(), studentId, fsId, details.getAccessType(),
-                        timestamp);
-            } else {
-                fslEntry = new FeedbackSessionLogEntry(details.getCourseId(), details.getStudentEmail(),
-                        details.getFeedbackSessionName(), details.getAccessType(), timestamp);
+            if (!fsLogEntries.isEmpty()) {
+                pageConsumer.accept(fsLogEntries);
             }
-            fsLogEntries.add(fslEntry);
-        }
-
-        return fsLogEntries;
+        });
     }
 
-    private List<LogEntry> getAllLogEntries(LogSearchParams logSearchParams) {
-        Logging logging = LoggingOptions.getDefaultInstance().getService();
-        List<EntryListOption> entryListOptions = convertLogSearchParams(logSearchParams, 0);
-        Page<LogEntry> entries = logging.listLogEntries(entryListOptions.toArray(new EntryListOption[] {}));
+    /**
+     * Converts the given feedback session audit log entry, reading the fields directly from its payload,
+     * or returns null if it is not a feedback session audit log entry.
+     */
+    private FeedbackSessionLogEntry toFeedbackSessionLogEntry(LogEntry entry) {
+        Payload<?> payload = entry.getPayload();
+        if (payload.getType() != Payload.Type.JSON) {
+            return null;
+        }
+        Map<String, Object> jsonPayloadMap = ((Payload.JsonPayload) payload).getDataAsMap();
+        if (!LogEvent.FEEDBACK_SESSION_AUDIT.name().equals(jsonPayloadMap.get("event"))) {
+            return null;
+        }
+
+        long timestamp = entry.getInstantTimestamp().toEpochMilli();
+        String courseId = getStringField(jsonPayloadMap, "courseId");
+        String accessType = getStringField(jsonPayloadMap, "accessType");
+        String studentId = getStringField(jsonPayloadMap, "studentId");
+        String fsId = getStringField(jsonPayloadMap, "feedbackSessionId");
+        if (fsId != null && studentId != null) {
+            return new FeedbackSessionLogEntry(courseId, UUID.fromString(studentId), UUID.fromString(fsId),
+                    accessType, timestamp);
+        }
+        return new FeedbackSessionLogEntry(courseId, getStringField(jsonPayloadMap, "studentEmail"),
+                getStringField(jsonPayloadMap, "feedbackSessionName"), accessType, timestamp);
+    }
 
-        List<LogEntry> logEntries = new ArrayList<>();
-        for (LogEntry entry : entries.iterateAll()) {
-            logEntries.add(entry);
-        }
+    private String getStringField(Map<String, Object> jsonPayloadMap, String fieldName) {
+        Object value = jsonPayloadMap.get(fieldName);
+        return value == null ? null : value.toString();
+    }
 
+    /**
+     * Passes the log entries satisfying the given parameters to {@code pageConsumer}, one page at a time.
+     * Only one page is held in memory at a time; the next page is fetched after the consumer returns.
+     */
+    private void streamPageLogEntries(LogSearchParams logSearchParams, int pageSize,
+            Consumer<Iterable<LogEntry>> pageConsumer) {
+        Logging logging = LoggingOptions.getDefaultInstance().getService();
         try {
-            logging.close();
-        } catch (Exception e) {
-            // ignore exception when closing resource
+            List<EntryListOption> entryListOptions = convertLogSearchParams(logSearchParams, pageSize);
+            Page<LogEntry> page = logging.listLogEntries(entryListOptions.toArray(new EntryListOption[] {}));
+            while (page != null) {
+                pageConsumer.accept(page.getValues());
+                page = page.hasNextPage() ? page.getNextPage() : null;
+            }
+        } finally {
+            try {
+                logging.close();
+            } catch (Exception e) {
+                // ignore exception when closing resource
+            }
         }
-        return logEntries;
     }
 
     private Page<LogEntry> getPageLogEntries(LogSearchParams logSearchParams, int pageSize) {
@@ -2,13 +2,20 @@ package teammates.logic.external;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.rpc.AlreadyExistsException;
 import com.google.cloud.tasks.v2.AppEngineHttpRequest;
 import com.google.cloud.tasks.v2.AppEngineRouting;
 import com.google.cloud.tasks.v2.CloudTasksClient;
+import com.google.cloud.tasks.v2.CreateTaskRequest;
 import com.google.cloud.tasks.v2.HttpMethod;
 import com.google.cloud.tasks.v2.QueueName;
 import com.google.cloud.tasks.v2.Task;
+import com.google.cloud.tasks.v2.TaskName;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
 
@@ -21,47 +28,149 @@ import teammates.common.util.TaskWrapper;
 
 /**
  * Holds functions for operations related to Google Cloud Tasks.
+ *
+ * <p>A single {@link CloudTasksClient}, and hence a single gRPC channel, is shared by all tasks added.
  */
 public class GoogleCloudTasksService implements TaskQueueService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_PENDING_REQUESTS = 100;
+
+    private final Object clientLock = new Object();
+    private CloudTasksClient client;
+
     @Override
-    public void addDeferredTask(TaskWrapper task, long countdownTime) {
-        try (CloudTasksClient client = CloudTasksClient.create()) {
-            String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
-
-            AppEngineHttpRequest.Builder requestBuilder =
-                    AppEngineHttpRequest.newBuilder()
-                            .setAppEngineRouting(AppEngineRouting.newBuilder()
-                                    .setVersion(Config.APP_VERSION)
-                                    .build())
-                            .setHttpMethod(HttpMethod.POST);
-
-            if (task.getRequestBody() == null) {
-                String relativeUrl = "http://place.holder"; // the value is not important
-                AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
-                task.getParamMap().forEach((key, value) -> url.withParam(key, value));
-
-                requestBuilder.setRelativeUri(url.toString());
-            } else {
-                String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
-                requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
-                        .setRelativeUri(task.getWorkerUrl())
-                        .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
+    public void init() {
+        synchronized (clientLock) {
+            if (client != null) {
+                return;
+            }
+            try {
+                client = CloudTasksClient.create();
+            } catch (IOException e) {
+                log.severe("Cannot create Cloud Tasks client", e);
             }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            if (client == null) {
+                return;
+            }
+            client.close();
+            client = null;
+        }
+    }
 
-            Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
-            if (countdownTime > 0) {
-                taskBuilder.setScheduleTime(
-                        Timestamp.newBuilder()
-                                .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
+    private CloudTasksClient getClient() {
+        synchronized (clientLock) {
+            if (client == null) {
+                // the service can be used outside of the application lifecycle, e.g. in scripts
+                init();
             }
+            return client;
+        }
+    }
+
+    @Override
+    public void addDeferredTask(TaskWrapper task) {
+        CloudTasksClient tasksClient = getClient();
+        if (tasksClient == null) {
+            return;
+        }
+
+        try {
+            tasksClient.createTask(getQueuePath(task), buildTask(task));
+        } catch (AlreadyExistsException e) {
+            log.info("Task " + task.getName() + " already exists in queue " + task.getQueueName());
+        }
+    }
 
-            client.createTask(queuePath, taskBuilder.build());
-        } catch (IOException e) {
-            log.severe("Cannot create Cloud Tasks client", e);
+    @Override
+    public List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks) {
+        CloudTasksClient tasksClient = getClient();
+        if (tasksClient == null) {
+            return new ArrayList<>(tasks);
+        }
+
+        List<TaskWrapper> failedTasks = new ArrayList<>();
+        // The requests are pipelined over the shared channel in windows of bounded size,
+        // so that the number of pending requests stays small even for very large batches
+        for (int windowStart = 0; windowStart < tasks.size(); windowStart += MAX_PENDING_REQUESTS) {
+            List<TaskWrapper> window =
+                    tasks.subList(windowStart, Math.min(tasks.size(), windowStart + MAX_PENDING_REQUESTS));
+
+            List<ApiFuture<Task>> pendingRequests = new ArrayList<>();
+            for (TaskWrapper task : window) {
+                CreateTaskRequest request = CreateTaskRequest.newBuilder()
+                        .setParent(getQueuePath(task))
+                        .setTask(buildTask(task))
+                        .build();
+                pendingRequests.add(tasksClient.createTaskCallable().futureCall(request));
+            }
+
+            for (int i = 0; i < window.size(); i++) {
+                try {
+                    pendingRequests.get(i).get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof AlreadyExistsException) {
+                        // the named task has been added before, e.g. by an earlier attempt of the same request
+                        log.info("Task " + window.get(i).getName() + " already exists in queue "
+                                + window.get(i).getQueueName());
+                        continue;
+                    }
+                    log.severe("Cannot add task to queue " + window.get(i).getQueueName(), e.getCause());
+                    failedTasks.add(window.get(i));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failedTasks.add(window.get(i));
+                }
+            }
+        }
+        return failedTasks;
+    }
+
+    private String getQueuePath(TaskWrapper task) {
+        return QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
+    }
+
+    private Task buildTask(TaskWrapper task) {
+        AppEngineHttpRequest.Builder requestBuilder =
+                AppEngineHttpRequest.newBuilder()
+                        .setAppEngineRouting(AppEngineRouting.newBuilder()
+                                .setVersion(Config.APP_VERSION)
+                                .build())
+                        .setHttpMethod(HttpMethod.POST);
+
+        if (task.getRequestBody() == null) {
+            String relativeUrl = "http://place.holder"; // the value is not important
+            AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
+            task.getParamMap().forEach((key, value) -> url.withParam(key, value));
+
+            requestBuilder.setRelativeUri(url.toString());
+        } else {
+            String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
+            requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
+                    .setRelativeUri(task.getWorkerUrl())
+                    .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
+        }
+
+        Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
+        if (task.getName() != null) {
+            // Cloud Tasks rejects a task with the name of a task added recently, even if it has completed
+            taskBuilder.setName(
+                    TaskName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName(), task.getName()).toString());
+        }
+        long countdownTime = task.getCountdownTime();
+        if (countdownTime > 0) {
+            taskBuilder.setScheduleTime(
+                    Timestamp.newBuilder()
+                            .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
         }
+        return taskBuilder.build();
     }
 
 }
@@ -0,0 +1,568 @@
+package teammates.logic.external;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * Holds functions for operations related to an in-process task queue, for self-hosted deployments
+ * where Google Cloud Tasks is not available.
+ *
+ * <p>Tasks are stored in the {@code pending_tasks} table of the Postgres database, which is shared by all instances
+ * of the server. Each instance polls the table and claims the tasks which are due, up to the number of idle workers
+ * of each queue, which limits the rate at which the tasks of that queue are run. A task is run by sending it as
+ * an HTTP request back to the same server, authenticated with {@link Config#TASKQUEUE_SECRET}.
+ * Tasks which receive a non-2xx response are retried with exponential backoff.
+ *
+ * <p>Claiming a task pushes its due time to the end of a lease, atomically, so that no other instance claims it
+ * while it is run. The task is marked as completed once it completes, or is claimed again when the lease expires,
+ * e.g. if the instance running it stops. As a consequence, a task can be run more than once.
+ *
+ * <p>A named task is stored with its name as ID, and is not added again while it is stored. As in Cloud Tasks,
+ * completed tasks are kept for a while before being deleted, so that a named task is not run again when it is
+ * added again shortly after it has completed.
+ */
+public class InProcessTaskQueueService implements TaskQueueService {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final int DEFAULT_WORKERS_PER_QUEUE = 5;
+    private static final Map<String, Integer> WORKERS_PER_QUEUE = Map.of(
+            Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 10,
+            Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2,
+            Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 10,
+            Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME, 1,
+            Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME, 1,
+            Const.TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_QUEUE_NAME, 1);
+
+    static final int MAX_ATTEMPTS = 5;
+    static final long MIN_BACKOFF_MILLIS = 5_000;
+    static final long MAX_BACKOFF_MILLIS = 300_000;
+
+    /**
+     * The duration for which a claimed task is not claimed again. It is longer than the time limit of
+     * requests sent by task queues, see {@code RequestTraceFilter}.
+     */
+    static final long LEASE_MILLIS = 15 * 60 * 1000;
+
+    /**
+     * The duration for which a completed task is kept, during which a task with the same name is not added again.
+     */
+    static final long COMPLETED_TASK_RETENTION_MILLIS = 60 * 60 * 1000;
+
+    private static final long PURGE_INTERVAL_MILLIS = 10 * 60 * 1000;
+
+    private static final int MAX_CONNECTIONS = 50;
+    private static final int SOCKET_TIMEOUT_MILLIS = 11 * 60 * 1000;
+    private static final long POLL_INTERVAL_MILLIS = 1_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final PendingTaskStore store;
+    private final TaskRunner taskRunner;
+
+    private final Object lock = new Object();
+    private final Map<String, ExecutorService> workerPools = new HashMap<>();
+    private final Map<String, Integer> runningTaskCounts = new HashMap<>();
+    private CloseableHttpClient httpClient;
+    private ScheduledExecutorService dispatcher;
+
+    public InProcessTaskQueueService() {
+        this.store = new JdbcPendingTaskStore();
+        this.taskRunner = this::sendTask;
+    }
+
+    InProcessTaskQueueService(PendingTaskStore store, TaskRunner taskRunner) {
+        this.store = store;
+        this.taskRunner = taskRunner;
+    }
+
+    @Override
+    public void init() {
+        synchronized (lock) {
+            if (dispatcher != null) {
+                return;
+            }
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(MAX_CONNECTIONS);
+            connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                    .setDefaultRequestConfig(RequestConfig.custom().setSocketTimeout(SOCKET_TIMEOUT_MILLIS).build())
+                    .build();
+
+            // Tasks left by instances which have stopped are claimed by the first polls, once their lease expires
+            dispatcher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("taskqueue-dispatcher"));
+            dispatcher.scheduleWithFixedDelay(
+                    () -> dispatch(System.currentTimeMillis()), 0, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            dispatcher.scheduleWithFixedDelay(
+                    () -> purgeCompletedTasks(System.currentTimeMillis()),
+                    PURGE_INTERVAL_MILLIS, PURGE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService stoppedDispatcher;
+        List<ExecutorService> stoppedPools;
+        CloseableHttpClient stoppedClient;
+        synchronized (lock) {
+            if (dispatcher == null) {
+                return;
+            }
+            stoppedDispatcher = dispatcher;
+            stoppedPools = new ArrayList<>(workerPools.values());
+            stoppedClient = httpClient;
+            dispatcher = null;
+            workerPools.clear();
+            httpClient = null;
+        }
+
+        // Tasks which have not completed remain stored and are claimed again when their lease expires.
+        // The workers are awaited outside of the lock as they need it to complete their tasks.
+        stoppedDispatcher.shutdownNow();
+        stoppedPools.forEach(ExecutorService::shutdownNow);
+        try {
+            for (ExecutorService workerPool : stoppedPools) {
+                workerPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            stoppedClient.close();
+        } catch (IOException e) {
+            log.warning("Could not close HTTP client of in-process task queue", e);
+        }
+    }
+
+    @Override
+    public void addDeferredTask(TaskWrapper task) {
+        store.save(List.of(PendingTask.of(task, System.currentTimeMillis())));
+        wakeUpDispatcher();
+    }
+
+    @Override
+    public List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long now = System.currentTimeMillis();
+        List<PendingTask> pendingTasks = new ArrayList<>();
+        for (TaskWrapper task : tasks) {
+            pendingTasks.add(PendingTask.of(task, now));
+        }
+        try {
+            // The tasks are saved in one transaction, so either all or none of them are added
+            store.save(pendingTasks);
+        } catch (RuntimeException e) {
+            log.severe("Could not add " + tasks.size() + " tasks to the in-process task queue", e);
+            return new ArrayList<>(tasks);
+        }
+        wakeUpDispatcher();
+        return new ArrayList<>();
+    }
+
+    private void wakeUpDispatcher() {
+        synchronized (lock) {
+            if (dispatcher == null) {
+                return;
+            }
+            try {
+                dispatcher.execute(() -> dispatch(System.currentTimeMillis()));
+            } catch (RejectedExecutionException e) {
+                // the dispatcher is stopping; the tasks are claimed by the next instance to poll the table
+            }
+        }
+    }
+
+    /**
+     * Claims the tasks which are due at {@code now}, up to the number of idle workers of each queue,
+     * and hands them to the workers of their queue.
+     */
+    void dispatch(long now) {
+        try {
+            for (String queueName : store.getQueueNamesWithDueTasks(now)) {
+                int idleWorkerCount;
+                synchronized (lock) {
+                    idleWorkerCount = getWorkerCount(queueName) - runningTaskCounts.getOrDefault(queueName, 0);
+                }
+                if (idleWorkerCount <= 0) {
+                    continue;
+                }
+
+                for (PendingTask task : store.claim(queueName, idleWorkerCount, now, now + LEASE_MILLIS)) {
+                    synchronized (lock) {
+                        runningTaskCounts.merge(queueName, 1, Integer::sum);
+                    }
+                    try {
+                        getWorkerPool(queueName).execute(() -> run(task));
+                    } catch (RejectedExecutionException e) {
+                        // The queue is stopping; the task is claimed again when its lease expires
+                        finishTask(queueName);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warning("Could not claim due tasks of the in-process task queue", e);
+        }
+    }
+
+    /**
+     * Deletes the completed tasks which have been kept for long enough.
+     */
+    void purgeCompletedTasks(long now) {
+        try {
+            store.deleteCompleted(now);
+        } catch (RuntimeException e) {
+            log.warning("Could not delete completed tasks of the in-process task queue", e);
+        }
+    }
+
+    private static int getWorkerCount(String queueName) {
+        return WORKERS_PER_QUEUE.getOrDefault(queueName, DEFAULT_WORKERS_PER_QUEUE);
+    }
+
+    /**
+     * Returns the executor running the tasks of the given queue.
+     */
+    Executor getWorkerPool(String queueName) {
+        synchronized (lock) {
+            if (dispatcher == null) {
+                throw new RejectedExecutionException("The in-process task queue is stopped");
+            }
+            return workerPools.computeIfAbsent(queueName, name ->
+                    Executors.newFixedThreadPool(getWorkerCount(name), new NamedThreadFactory(name + "-worker")));
+        }
+    }
+
+    private void run(PendingTask task) {
+        try {
+            int attempt = task.attempt + 1;
+            if (taskRunner.run(task)) {
+                store.complete(task.id, System.currentTimeMillis() + COMPLETED_TASK_RETENTION_MILLIS);
+            } else if (attempt >= MAX_ATTEMPTS) {
+                log.severe("Task " + task.id + " to " + task.workerUri + " in queue " + task.queueName
+                        + " is dropped after " + attempt + " failed attempts");
+                store.complete(task.id, System.currentTimeMillis() + COMPLETED_TASK_RETENTION_MILLIS);
+            } else {
+                long backoff = Math.min(MAX_BACKOFF_MILLIS, MIN_BACKOFF_MILLIS << (attempt - 1));
+                store.reschedule(task.id, attempt, System.currentTimeMillis() + backoff);
+            }
+        } catch (RuntimeException e) {
+            // The task is claimed again when its lease expires
+            log.warning("Could not complete task " + task.id + " in queue " + task.queueName, e);
+        } finally {
+            finishTask(task.queueName);
+        }
+    }
+
+    private void finishTask(String queueName) {
+        synchronized (lock) {
+            runningTaskCounts.merge(queueName, -1, Integer::sum);
+        }
+        wakeUpDispatcher();
+    }
+
+    private boolean sendTask(PendingTask task) {
+        CloseableHttpClient client;
+        synchronized (lock) {
+            client = httpClient;
+        }
+        if (client == null) {
+            return false;
+        }
+
+        try (CloseableHttpResponse response = client.execute(createRequest(task))) {
+            // the response must be fully consumed for the connection to be returned to the pool
+            EntityUtils.consume(response.getEntity());
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode >= 200 && statusCode < 300) {
+                return true;
+            }
+            log.warning("Task " + task.id + " to " + task.workerUri + " failed with status code " + statusCode);
+            return false;
+        } catch (IOException e) {
+            log.warning("Error when executing task " + task.id + " to " + task.workerUri, e);
+            return false;
+        }
+    }
+
+    static HttpPost createRequest(PendingTask task) {
+        HttpPost post = new HttpPost("http://localhost:" + Config.getPort() + task.workerUri);
+        if (task.requestBody != null) {
+            post.setEntity(new StringEntity(task.requestBody, ContentType.APPLICATION_JSON));
+        }
+        post.addHeader(Const.HeaderNames.TASK_QUEUE_NAME, task.queueName);
+        post.addHeader(Const.HeaderNames.TASK_QUEUE_SECRET, Config.TASKQUEUE_SECRET);
+        return post;
+    }
+
+    /**
+     * Runs a claimed task.
+     */
+    interface TaskRunner {
+        /**
+         * Returns true if the task has completed successfully.
+         */
+        boolean run(PendingTask task);
+    }
+
+    /**
+     * Stores the pending tasks, shared by all instances of the server.
+     */
+    public interface PendingTaskStore {
+        /**
+         * Saves the given tasks, all or none of them, except the tasks whose ID is already stored.
+         */
+        void save(List<PendingTask> tasks);
+
+        /**
+         * Gets the names of the queues with tasks due at {@code now}. Completed tasks are never due.
+         */
+        List<String> getQueueNamesWithDueTasks(long now);
+
+        /**
+         * Claims up to {@code limit} tasks of the queue which are due at {@code now}, earliest first,
+         * making them due again only at {@code leaseExpiry}.
+         */
+        List<PendingTask> claim(String queueName, int limit, long now, long leaseExpiry);
+
+        /**
+         * Makes the claimed task due again at {@code eta}, for the given attempt.
+         */
+        void reschedule(String id, int attempt, long eta);
+
+        /**
+         * Marks the claimed task as completed, to be kept until {@code retainUntil}.
+         */
+        void complete(String id, long retainUntil);
+
+        /**
+         * Deletes the completed tasks which are kept until {@code now} or earlier.
+         */
+        void deleteCompleted(long now);
+    }
+
+    /**
+     * Stores the pending tasks in the {@code pending_tasks} table, using the pooled connections of the application.
+     */
+    public static final class JdbcPendingTaskStore implements PendingTaskStore {
+
+        // Completed tasks are kept with a negative attempt count, and their due time as the time until they are kept
+        private static final int COMPLETED_ATTEMPT = -1;
+
+        private static final String INSERT_QUERY =
+                "INSERT INTO pending_tasks (id, queue_name, worker_uri, request_body, attempt, eta) "
+                + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+        private static final String SELECT_DUE_QUEUE_NAMES_QUERY =
+                "SELECT DISTINCT queue_name FROM pending_tasks WHERE eta <= ? AND attempt >= 0";
+        // SKIP LOCKED lets concurrent claims of other instances skip the rows being claimed instead of waiting,
+        // so that each task is claimed by one instance only
+        private static final String CLAIM_QUERY =
+                "UPDATE pending_tasks SET eta = ? WHERE id IN ("
+                + "SELECT id FROM pending_tasks WHERE queue_name = ? AND eta <= ? AND attempt >= 0 ORDER BY eta LIMIT ? "
+                + "FOR UPDATE SKIP LOCKED) "
+                + "RETURNING id, queue_name, worker_uri, request_body, attempt, eta";
+        private static final String RESCHEDULE_QUERY = "UPDATE pending_tasks SET attempt = ?, eta = ? WHERE id = ?";
+        private static final String DELETE_COMPLETED_QUERY = "DELETE FROM pending_tasks WHERE attempt < 0 AND eta <= ?";
+
+        @Override
+        public void save(List<PendingTask> tasks) {
+            HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+                try (PreparedStatement statement = conn.prepareStatement(INSERT_QUERY)) {
+                    for (PendingTask task : tasks) {
+                        statement.setString(1, task.id);
+                        statement.setString(2, task.queueName);
+                        statement.setString(3, task.workerUri);
+                        statement.setString(4, task.requestBody);
+                        statement.setInt(5, task.attempt);
+                        statement.setTimestamp(6, toTimestamp(task.eta));
+                        statement.addBatch();
+                    }
+                    return statement.executeBatch();
+                }
+            });
+        }
+
+        @Override
+        public List<String> getQueueNamesWithDueTasks(long now) {
+            return HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+                try (PreparedStatement statement = conn.prepareStatement(SELECT_DUE_QUEUE_NAMES_QUERY)) {
+                    statement.setTimestamp(1, toTimestamp(now));
+                    List<String> queueNames = new ArrayList<>();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            queueNames.add(resultSet.getString("queue_name"));
+                        }
+                    }
+                    return queueNames;
+                }
+            });
+        }
+
+        @Override
+        public List<PendingTask> claim(String queueName, int limit, long now, long leaseExpiry) {
+            return HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+                try (PreparedStatement statement = conn.prepareStatement(CLAIM_QUERY)) {
+                    statement.setTimestamp(1, toTimestamp(leaseExpiry));
+                    statement.setString(2, queueName);
+                    statement.setTimestamp(3, toTimestamp(now));
+                    statement.setInt(4, limit);
+                    List<PendingTask> tasks = new ArrayList<>();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            tasks.add(new PendingTask(
+                                    resultSet.getString("id"),
+                                    resultSet.getString("queue_name"),
+                                    resultSet.getString("worker_uri"),
+                                    resultSet.getString("request_body"),
+                                    resultSet.getInt("attempt"),
+                                    resultSet.getTimestamp("eta").getTime()));
+                        }
+                    }
+                    return tasks;
+                }
+            });
+        }
+
+        @Override
+        public void reschedule(String id, int attempt, long eta) {
+            HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+                try (PreparedStatement statement = conn.prepareStatement(RESCHEDULE_QUERY)) {
+                    statement.setInt(1, attempt);
+                    statement.setTimestamp(2, toTimestamp(eta));
+                    statement.setString(3, id);
+                    return statement.executeUpdate();
+                }
+            });
+        }
+
+        @Override
+        public void complete(String id, long retainUntil) {
+            reschedule(id, COMPLETED_ATTEMPT, retainUntil);
+        }
+
+        @Override
+        public void deleteCompleted(long now) {
+            HibernateUtil.doReturningWorkInNewTransaction(conn -> {
+                try (PreparedStatement statement = conn.prepareStatement(DELETE_COMPLETED_QUERY)) {
+                    statement.setTimestamp(1, toTimestamp(now));
+                    return statement.executeUpdate();
+                }
+            });
+        }
+
+        private static Timestamp toTimestamp(long epochMilli) {
+            return Timestamp.from(Instant.ofEpochMilli(epochMilli));
+        }
+    }
+
+    /**
+     * Represents a task as it is stored, i.e. with its request already serialized.
+     */
+    public static final class PendingTask {
+        private final String id;
+        private final String queueName;
+        private final String workerUri;
+        private final String requestBody;
+        private final int attempt;
+        private final long eta;
+
+        public PendingTask(String id, String queueName, String workerUri, String requestBody, int attempt, long eta) {
+            this.id = id;
+            this.queueName = queueName;
+            this.workerUri = workerUri;
+            this.requestBody = requestBody;
+            this.attempt = attempt;
+            this.eta = eta;
+        }
+
+        /**
+         * Creates a new task to be run after its countdown time from {@code now}, identified by its name if named.
+         */
+        public static PendingTask of(TaskWrapper task, long now) {
+            String workerUri;
+            try {
+                URIBuilder uriBuilder = new URIBuilder(task.getWorkerUrl());
+                if (task.getParamMap() != null) {
+                    task.getParamMap().forEach(uriBuilder::addParameter);
+                }
+                workerUri = uriBuilder.build().toString();
+            } catch (URISyntaxException e) {
+                workerUri = task.getWorkerUrl();
+            }
+            String requestBody = task.getRequestBody() == null ? null : JsonUtils.toCompactJson(task.getRequestBody());
+            String id = task.getName() == null ? UUID.randomUUID().toString() : task.getName();
+            return new PendingTask(id, task.getQueueName(), workerUri, requestBody,
+                    0, now + Math.max(0, task.getCountdownTime()));
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getQueueName() {
+            return queueName;
+        }
+
+        public String getWorkerUri() {
+            return workerUri;
+        }
+
+        public String getRequestBody() {
+            return requestBody;
+        }
+
+        /**
+         * Gets the number of failed attempts to run the task, or a negative number if the task is completed.
+         */
+        public int getAttempt() {
+            return attempt;
+        }
+
+        /**
+         * Gets the time at which the task is due, or the end of its lease if it is claimed,
+         * or the time until which it is kept if it is completed.
+         */
+        public long getEta() {
+            return eta;
+        }
+    }
+
+}
@@ -0,0 +1,464 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Embedded, append-only store of log entries which supports indexed queries, used in place of
+ * a logging service for local development and self-hosted deployments.
+ *
+ * <p>Entries are appended to segments of a fixed capacity. Each segment keeps the range of timestamps of its entries,
+ * so that segments outside the time range of a query are skipped, and an inverted index of the values of the
+ * {@link IndexedField indexed fields} of its entries, so that only the entries matching the indexed filters of a query
+ * are visited. The oldest segments are dropped once there are too many of them.
+ *
+ * <p>Query results are ordered by timestamp, then by the order in which the entries were appended, and are paged
+ * with opaque cursors.
+ *
+ * @param <T> the type of the log entries, which are expected to be immutable once appended
+ */
+final class LocalLogStore<T> {
+
+    private final int segmentCapacity;
+    private final int maxSegmentCount;
+    private final ToLongFunction<T> timestampExtractor;
+    private final Function<T, Map<IndexedField, String>> indexedValuesExtractor;
+
+    private final List<Segment<T>> segments = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextSequenceNumber;
+
+    /**
+     * Creates a store.
+     *
+     * @param indexedValuesExtractor returns the values of the indexed fields of an entry; fields without a value
+     *                               are to be left out
+     */
+    LocalLogStore(int segmentCapacity, int maxSegmentCount, ToLongFunction<T> timestampExtractor,
+            Function<T, Map<IndexedField, String>> indexedValuesExtractor) {
+        assert segmentCapacity > 0 && maxSegmentCount > 0;
+        this.segmentCapacity = segmentCapacity;
+        this.maxSegmentCount = maxSegmentCount;
+        this.timestampExtractor = timestampExtractor;
+        this.indexedValuesExtractor = indexedValuesExtractor;
+    }
+
+    /**
+     * Appends the given entry to the store.
+     */
+    void append(T entry) {
+        long timestamp = timestampExtractor.applyAsLong(entry);
+        Map<IndexedField, String> indexedValues = indexedValuesExtractor.apply(entry);
+
+        lock.writeLock().lock();
+        try {
+            Segment<T> activeSegment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (activeSegment == null || activeSegment.size() == segmentCapacity) {
+                if (activeSegment != null) {
+                    activeSegment.seal();
+                }
+                if (segments.size() == maxSegmentCount) {
+                    segments.remove(0);
+                }
+                activeSegment = new Segment<>(nextSequenceNumber, segmentCapacity);
+                segments.add(activeSegment);
+            }
+            activeSegment.append(entry, timestamp, indexedValues);
+            nextSequenceNumber++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all entries from the store.
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            segments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a page of the entries matching the given query.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is not one returned by this store
+     */
+    Page<T> query(Query<T> query, int pageSize, String cursor) {
+        assert pageSize > 0;
+        Position after = cursor == null ? null : Position.fromCursor(cursor);
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<SegmentCursor<T>> segmentCursors = new PriorityQueue<>(
+                    (x, y) -> query.ascending ? x.current.compareTo(y.current) : y.current.compareTo(x.current));
+            for (Segment<T> segment : segments) {
+                SegmentCursor<T> segmentCursor = segment.find(query, after);
+                if (segmentCursor != null) {
+                    segmentCursors.add(segmentCursor);
+                }
+            }
+
+            List<T> entries = new ArrayList<>();
+            Position last = null;
+            while (!segmentCursors.isEmpty() && entries.size() < pageSize) {
+                SegmentCursor<T> segmentCursor = segmentCursors.poll();
+                last = segmentCursor.current;
+                entries.add(segmentCursor.currentEntry());
+                if (segmentCursor.advance()) {
+                    segmentCursors.add(segmentCursor);
+                }
+            }
+            String nextCursor = segmentCursors.isEmpty() ? null : last.toCursor();
+            return new Page<>(entries, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all the entries matching the given query.
+     */
+    List<T> queryAll(Query<T> query) {
+        List<T> entries = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<T> page = query(query, segmentCapacity, cursor);
+            entries.addAll(page.getEntries());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return entries;
+    }
+
+    /**
+     * Fields of log entries which are indexed.
+     */
+    enum IndexedField {
+        SEVERITY,
+        ACTION_CLASS,
+        EXCEPTION_CLASS,
+        COURSE_ID,
+        EVENT,
+    }
+
+    /**
+     * Criteria of the entries to be returned by a query.
+     *
+     * @param <T> the type of the log entries
+     */
+    static final class Query<T> {
+        private final long startTime;
+        private final long endTime;
+        private final boolean ascending;
+        private final Map<IndexedField, Set<String>> indexedFilters = new EnumMap<>(IndexedField.class);
+        private Predicate<T> filter = entry -> true;
+
+        /**
+         * Creates a query of the entries with timestamps from {@code startTime} to {@code endTime}, both inclusive.
+         */
+        Query(long startTime, long endTime, boolean ascending) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.ascending = ascending;
+        }
+
+        /**
+         * Restricts the query to the entries whose value of the given indexed field is one of the given values.
+         */
+        Query<T> withIndexedFilter(IndexedField field, Set<String> values) {
+            indexedFilters.put(field, values);
+            return this;
+        }
+
+        /**
+         * Restricts the query to the entries satisfying the given predicate, which is only tested against
+         * the entries matching the time range and the indexed filters.
+         */
+        Query<T> withFilter(Predicate<T> additionalFilter) {
+            this.filter = this.filter.and(additionalFilter);
+            return this;
+        }
+    }
+
+    /**
+     * A page of the entries returned by a query.
+     *
+     * @param <T> the type of the log entries
+     */
+    static final class Page<T> {
+        private final List<T> entries;
+        private final String nextCursor;
+
+        private Page(List<T> entries, String nextCursor) {
+            this.entries = entries;
+            this.nextCursor = nextCursor;
+        }
+
+        List<T> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns the cursor of the next page, or null if this is the last page.
+         */
+        String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    /**
+     * Position of an entry in the order of the query results.
+     */
+    private static final class Position implements Comparable<Position> {
+        private final long timestamp;
+        private final long sequenceNumber;
+
+        private Position(long timestamp, long sequenceNumber) {
+            this.timestamp = timestamp;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        private static Position fromCursor(String cursor) {
+            String[] parts = cursor.split(":", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            try {
+                return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+
+        private String toCursor() {
+            return timestamp + ":" + sequenceNumber;
+        }
+
+        @Override
+        public int compareTo(Position o) {
+            int result = Long.compare(timestamp, o.timestamp);
+            return result == 0 ? Long.compare(sequenceNumber, o.sequenceNumber) : result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Position && compareTo((Position) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(timestamp) * 31 + Long.hashCode(sequenceNumber);
+        }
+    }
+
+    /**
+     * Segment of entries with consecutive sequence numbers. Entries are kept in the order they were appended,
+     * and the positions of the entries in that order are what the inverted index refers to.
+     */
+    private static final class Segment<T> {
+        private final long firstSequenceNumber;
+        private final List<T> entries;
+        private final long[] timestamps;
+        private final Map<IndexedField, Map<String, BitSet>> invertedIndex = new EnumMap<>(IndexedField.class);
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+
+        /**
+         * Positions of the entries sorted by timestamp; only kept once the segment is full.
+         */
+        private int[] sortedPositions;
+
+        private Segment(long firstSequenceNumber, int capacity) {
+            this.firstSequenceNumber = firstSequenceNumber;
+            this.entries = new ArrayList<>(capacity);
+            this.timestamps = new long[capacity];
+        }
+
+        private int size() {
+            return entries.size();
+        }
+
+        private void append(T entry, long timestamp, Map<IndexedField, String> indexedValues) {
+            int position = entries.size();
+            entries.add(entry);
+            timestamps[position] = timestamp;
+            minTimestamp = Math.min(minTimestamp, timestamp);
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+            indexedValues.forEach((field, value) -> invertedIndex
+                    .computeIfAbsent(field, k -> new HashMap<>())
+                    .computeIfAbsent(value, k -> new BitSet())
+                    .set(position));
+        }
+
+        private void seal() {
+            sortedPositions = sortPositions();
+        }
+
+        private int[] sortPositions() {
+            // positions are appended in sequence order, so a stable sort by timestamp gives the query order
+            return IntStream.range(0, entries.size())
+                    .boxed()
+                    .sorted((x, y) -> Long.compare(timestamps[x], timestamps[y]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Returns the positions of the entries matching the indexed filters of the query, or null if all entries
+         * match as the query has no indexed filters.
+         */
+        private BitSet findIndexedMatches(Query<T> query) {
+            BitSet matches = null;
+            for (Map.Entry<IndexedField, Set<String>> indexedFilter : query.indexedFilters.entrySet()) {
+                Map<String, BitSet> index = invertedIndex.getOrDefault(indexedFilter.getKey(), Collections.emptyMap());
+                BitSet fieldMatches = new BitSet();
+                for (String value : indexedFilter.getValue()) {
+                    BitSet valueMatches = index.get(value);
+                    if (valueMatches != null) {
+                        fieldMatches.or(valueMatches);
+                    }
+                }
+                if (matches == null) {
+                    matches = fieldMatches;
+                } else {
+                    matches.and(fieldMatches);
+                }
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Returns a cursor over the entries matching the query which come after the given position in the order
+         * of the query, or null if there is no such entry.
+         */
+        private SegmentCursor<T> find(Query<T> query, Position after) {
+            if (entries.isEmpty() || maxTimestamp < query.startTime || minTimestamp > query.endTime) {
+                return null;
+            }
+            BitSet indexedMatches = findIndexedMatches(query);
+            if (indexedMatches != null && indexedMatches.isEmpty()) {
+                return null;
+            }
+            // the active segment is sorted on each query instead of on each append, as it is small
+            int[] positions = sortedPositions == null ? sortPositions() : sortedPositions;
+            SegmentCursor<T> cursor = new SegmentCursor<>(this, query, after, indexedMatches, positions);
+            return cursor.advance() ? cursor : null;
+        }
+    }
+
+    /**
+     * Iterates over the entries of a segment matching a query, in the order of the query.
+     */
+    private static final class SegmentCursor<T> {
+        private final Segment<T> segment;
+        private final Query<T> query;
+        private final Position after;
+        private final BitSet indexedMatches;
+        private final int[] positions;
+        private int index;
+        private int currentPosition;
+        private Position current;
+
+        private SegmentCursor(Segment<T> segment, Query<T> query, Position after, BitSet indexedMatches,
+                int[] positions) {
+            this.segment = segment;
+            this.query = query;
+            this.after = after;
+            this.indexedMatches = indexedMatches;
+            this.positions = positions;
+            this.index = findStartIndex();
+        }
+
+        /**
+         * Returns the index in the sorted positions from which the entries in the time range of the query,
+         * and after the position of the cursor if any, are found.
+         */
+        private int findStartIndex() {
+            if (query.ascending) {
+                long fromTime = after == null ? query.startTime : Math.max(query.startTime, after.timestamp);
+                return findFirstIndexAfter(fromTime - 1);
+            }
+            long toTime = after == null ? query.endTime : Math.min(query.endTime, after.timestamp);
+            return findFirstIndexAfter(toTime) - 1;
+        }
+
+        /**
+         * Returns the first index in the sorted positions whose entry has a timestamp later than the given time.
+         */
+        private int findFirstIndexAfter(long time) {
+            int low = 0;
+            int high = positions.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (segment.timestamps[positions[mid]] > time) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        private T currentEntry() {
+            return segment.entries.get(currentPosition);
+        }
+
+        /**
+         * Moves to the next matching entry, and returns whether there is one.
+         */
+        private boolean advance() {
+            int step = query.ascending ? 1 : -1;
+            for (; index >= 0 && index < positions.length; index += step) {
+                int position = positions[index];
+                long timestamp = segment.timestamps[position];
+                if (query.ascending ? timestamp > query.endTime : timestamp < query.startTime) {
+                    // the remaining entries are all outside the time range
+                    index = -1;
+                    return false;
+                }
+                if (indexedMatches != null && !indexedMatches.get(position)) {
+                    continue;
+                }
+                Position candidate = new Position(timestamp, segment.firstSequenceNumber + position);
+                if (after != null && isNotAfter(candidate)) {
+                    continue;
+                }
+                T entry = segment.entries.get(position);
+                if (!query.filter.test(entry)) {
+                    continue;
+                }
+                currentPosition = position;
+                current = candidate;
+                index += step;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isNotAfter(Position candidate) {
+            int comparison = candidate.compareTo(after);
+            return query.ascending ? comparison <= 0 : comparison >= 0;
+        }
+    }
+
+}
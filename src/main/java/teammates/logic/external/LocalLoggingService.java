@@ -4,10 +4,13 @@ import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -20,28 +23,69 @@ import com.google.gson.JsonParseException;
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.QueryLogsResults;
 import teammates.common.datatransfer.logs.ExceptionLogDetails;
+import teammates.common.datatransfer.logs.FeedbackSessionAuditLogDetails;
 import teammates.common.datatransfer.logs.GeneralLogEntry;
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
+import teammates.common.datatransfer.logs.LogSeverity;
 import teammates.common.datatransfer.logs.QueryLogsParams;
 import teammates.common.datatransfer.logs.RequestLogDetails;
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.util.FileHelper;
 import teammates.common.util.JsonUtils;
+import teammates.logic.external.LocalLogStore.IndexedField;
 
 /**
  * Holds functions for operations related to logs reading/writing in local dev environment.
  *
- * <p>The current implementation uses an in-memory storage of logs to simulate the logs
- * retention locally for feedback session logs only. It is not meant as a replacement but
+ * <p>The current implementation keeps the logs in memory, in a {@link LocalLogStore} indexed by severity,
+ * action class, exception class, course ID and event. It is not meant as a replacement but
  * merely for testing purposes.
  */
 public class LocalLoggingService implements LogService {
 
-    private static final Map<String, List<FeedbackSessionLogEntry>> FEEDBACK_SESSION_LOG_ENTRIES = new ConcurrentHashMap<>();
-    private static final List<GeneralLogEntry> LOCAL_LOG_ENTRIES = loadLocalLogEntries();
+    private static final int SEGMENT_CAPACITY = 1024;
+    private static final int MAX_SEGMENT_COUNT = 1024;
+
+    private static final LocalLogStore<FeedbackSessionLogEntry> FEEDBACK_SESSION_LOG_STORE = new LocalLogStore<>(
+            SEGMENT_CAPACITY, MAX_SEGMENT_COUNT, FeedbackSessionLogEntry::getTimestamp,
+            logEntry -> logEntry.getCourseId() == null
+                    ? Map.of()
+                    : Map.of(IndexedField.COURSE_ID, logEntry.getCourseId()));
+    private static final LocalLogStore<StoredLogEntry> LOCAL_LOG_STORE = createLocalLogStore();
     private static final String ASCENDING_ORDER = "asc";
 
+    private static LocalLogStore<StoredLogEntry> createLocalLogStore() {
+        LocalLogStore<StoredLogEntry> store = new LocalLogStore<>(SEGMENT_CAPACITY, MAX_SEGMENT_COUNT,
+                storedEntry -> storedEntry.logEntry.getTimestamp(), storedEntry -> getIndexedValues(storedEntry.logEntry));
+        for (GeneralLogEntry logEntry : loadLocalLogEntries()) {
+            store.append(new StoredLogEntry(logEntry));
+        }
+        return store;
+    }
+
+    private static Map<IndexedField, String> getIndexedValues(GeneralLogEntry logEntry) {
+        Map<IndexedField, String> indexedValues = new EnumMap<>(IndexedField.class);
+        if (logEntry.getSeverity() != null) {
+            indexedValues.put(IndexedField.SEVERITY, logEntry.getSeverity().name());
+        }
+        LogDetails details = logEntry.getDetails();
+        if (details == null) {
+            return indexedValues;
+        }
+        indexedValues.put(IndexedField.EVENT, details.getEvent().name());
+        if (details instanceof RequestLogDetails && ((RequestLogDetails) details).getActionClass() != null) {
+            indexedValues.put(IndexedField.ACTION_CLASS, ((RequestLogDetails) details).getActionClass());
+        } else if (details instanceof ExceptionLogDetails
+                && ((ExceptionLogDetails) details).getExceptionClass() != null) {
+            indexedValues.put(IndexedField.EXCEPTION_CLASS, ((ExceptionLogDetails) details).getExceptionClass());
+        } else if (details instanceof FeedbackSessionAuditLogDetails
+                && ((FeedbackSessionAuditLogDetails) details).getCourseId() != null) {
+            indexedValues.put(IndexedField.COURSE_ID, ((FeedbackSessionAuditLogDetails) details).getCourseId());
+        }
+        return indexedValues;
+    }
+
     private static List<GeneralLogEntry> loadLocalLogEntries() {
         // Timestamp of logs are randomly created to be within the last one hour
         long currentTimestamp = Instant.now().toEpochMilli();
@@ -71,38 +115,82 @@ public class LocalLoggingService implements LogService {
         // Page size is set as a small value to test loading of more logs
         int pageSize = 10;
 
-        List<GeneralLogEntry> result = LOCAL_LOG_ENTRIES.stream()
-                .sorted((x, y) -> {
-                    String order = queryLogsParams.getOrder();
-                    if (ASCENDING_ORDER.equals(order)) {
-                        return Long.compare(x.getTimestamp(), y.getTimestamp());
-                    } else {
-                        return Long.compare(y.getTimestamp(), x.getTimestamp());
-                    }
-                })
-                .filter(log -> queryLogsParams.getSeverity() == null
-                        || log.getSeverity() == queryLogsParams.getSeverity())
-                .filter(log -> queryLogsParams.getMinSeverity() == null
-                        || log.getSeverity().getSeverityLevel()
-                            >= queryLogsParams.getMinSeverity().getSeverityLevel())
-                .filter(log -> log.getTimestamp() > queryLogsParams.getStartTime())
-                .filter(log -> log.getTimestamp() <= queryLogsParams.getEndTime())
-                .filter(log -> queryLogsParams.getTraceId() == null
-                        || queryLogsParams.getTraceId().equals(log.getTrace()))
-                .filter(log -> queryLogsParams.getVersion() == null
-                        || queryLogsParams.getVersion().equals(log.getResourceIdentifier().get("version_id")))
-                .filter(log -> queryLogsParams.getSourceLocation().getFile() == null
-                        || log.getSourceLocation().getFile().equals(queryLogsParams.getSourceLocation().getFile()))
-                .filter(log -> queryLogsParams.getSourceLocation().getFunction() == null
-                        || log.getSourceLocation().getFunction().equals(queryLogsParams.getSourceLocation().getFunction()))
-                .filter(log -> isEventBasedFilterSatisfied(log, queryLogsParams))
-                .limit(pageSize)
+        LocalLogStore.Page<StoredLogEntry> page = LOCAL_LOG_STORE.query(createQuery(queryLogsParams), pageSize, null);
+
+        return new QueryLogsResults(copyLogEntries(page.getEntries()), page.getNextCursor() != null);
+    }
+
+    @Override
+    public void streamLogs(QueryLogsParams queryLogsParams, Consumer<List<GeneralLogEntry>> pageConsumer) {
+        Integer pageSize = queryLogsParams.getPageSize();
+        LocalLogStore.Query<StoredLogEntry> query = createQuery(queryLogsParams);
+        streamPages(LOCAL_LOG_STORE, query, pageSize == null || pageSize <= 0 ? SEGMENT_CAPACITY : pageSize,
+                entries -> pageConsumer.accept(copyLogEntries(entries)));
+    }
+
+    private LocalLogStore.Query<StoredLogEntry> createQuery(QueryLogsParams queryLogsParams) {
+        LocalLogStore.Query<StoredLogEntry> query = new LocalLogStore.Query<StoredLogEntry>(
+                queryLogsParams.getStartTime() + 1, queryLogsParams.getEndTime(),
+                ASCENDING_ORDER.equals(queryLogsParams.getOrder()))
+                .withFilter(storedEntry -> isFilterSatisfied(storedEntry.logEntry, queryLogsParams));
+        addIndexedFilters(query, queryLogsParams);
+        return query;
+    }
+
+    private List<GeneralLogEntry> copyLogEntries(List<StoredLogEntry> storedEntries) {
+        return storedEntries.stream()
+                .map(StoredLogEntry::copyLogEntry)
                 .collect(Collectors.toList());
+    }
 
-        List<GeneralLogEntry> copiedResults = deepCopyLogEntries(result);
-        boolean hasNextPage = copiedResults.size() == pageSize;
+    /**
+     * Passes the entries of the store satisfying the query to {@code pageConsumer}, one non-empty page at a time.
+     */
+    private static <T> void streamPages(LocalLogStore<T> store, LocalLogStore.Query<T> query, int pageSize,
+            Consumer<List<T>> pageConsumer) {
+        String cursor = null;
+        do {
+            LocalLogStore.Page<T> page = store.query(query, pageSize, cursor);
+            if (!page.getEntries().isEmpty()) {
+                pageConsumer.accept(page.getEntries());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
 
-        return new QueryLogsResults(copiedResults, hasNextPage);
+    private void addIndexedFilters(LocalLogStore.Query<StoredLogEntry> query, QueryLogsParams queryLogsParams) {
+        if (queryLogsParams.getSeverity() != null || queryLogsParams.getMinSeverity() != null) {
+            Set<String> severities = EnumSet.allOf(LogSeverity.class).stream()
+                    .filter(severity -> queryLogsParams.getSeverity() == null || severity == queryLogsParams.getSeverity())
+                    .filter(severity -> queryLogsParams.getMinSeverity() == null
+                            || severity.getSeverityLevel() >= queryLogsParams.getMinSeverity().getSeverityLevel())
+                    .map(LogSeverity::name)
+                    .collect(Collectors.toSet());
+            query.withIndexedFilter(IndexedField.SEVERITY, severities);
+        }
+        if (queryLogsParams.getLogEvent() != null) {
+            query.withIndexedFilter(IndexedField.EVENT, Set.of(queryLogsParams.getLogEvent()));
+        }
+        if (queryLogsParams.getActionClass() != null) {
+            query.withIndexedFilter(IndexedField.ACTION_CLASS, Set.of(queryLogsParams.getActionClass()));
+        }
+        if (queryLogsParams.getExceptionClass() != null) {
+            query.withIndexedFilter(IndexedField.EXCEPTION_CLASS, Set.of(queryLogsParams.getExceptionClass()));
+        }
+    }
+
+    /**
+     * Returns whether the log entry satisfies the filters of the given parameters which are not indexed.
+     */
+    private boolean isFilterSatisfied(GeneralLogEntry log, QueryLogsParams queryLogsParams) {
+        return (queryLogsParams.getTraceId() == null || queryLogsParams.getTraceId().equals(log.getTrace()))
+                && (queryLogsParams.getVersion() == null
+                        || queryLogsParams.getVersion().equals(log.getResourceIdentifier().get("version_id")))
+                && (queryLogsParams.getSourceLocation().getFile() == null
+                        || log.getSourceLocation().getFile().equals(queryLogsParams.getSourceLocation().getFile()))
+                && (queryLogsParams.getSourceLocation().getFunction() == null
+                        || log.getSourceLocation().getFunction().equals(queryLogsParams.getSourceLocation().getFunction()))
+                && isEventBasedFilterSatisfied(log, queryLogsParams);
     }
 
     private boolean isEventBasedFilterSatisfied(GeneralLogEntry log, QueryLogsParams queryLogsParams) {
@@ -206,41 +294,63 @@ public class LocalLoggingService implements LogService {
     public void createFeedbackSessionLog(String courseId, String email, String fsName, String fslType) {
         FeedbackSessionLogEntry logEntry = new FeedbackSessionLogEntry(courseId, email,
                 fsName, fslType, Instant.now().toEpochMilli());
-        FEEDBACK_SESSION_LOG_ENTRIES.computeIfAbsent(courseId, k -> new ArrayList<>()).add(logEntry);
+        FEEDBACK_SESSION_LOG_STORE.append(logEntry);
     }
 
     @Override
     public void createFeedbackSessionLog(String courseId, UUID studentId, UUID fsId, String fslType) {
         FeedbackSessionLogEntry logEntry = new FeedbackSessionLogEntry(courseId, studentId, fsId,
                 fslType, Instant.now().toEpochMilli());
-        FEEDBACK_SESSION_LOG_ENTRIES.computeIfAbsent(courseId, k -> new ArrayList<>()).add(logEntry);
+        FEEDBACK_SESSION_LOG_STORE.append(logEntry);
     }
 
     @Override
     public List<FeedbackSessionLogEntry> getOrderedFeedbackSessionLogs(String courseId, String email,
             long startTime, long endTime, String fsName) {
-        return FEEDBACK_SESSION_LOG_ENTRIES
-                .getOrDefault(courseId, new ArrayList<>())
-                .stream()
-                .filter(log -> email == null || log.getStudentEmail().equals(email))
-                .filter(log -> fsName == null || log.getFeedbackSessionName().equals(fsName))
-                .filter(log -> log.getTimestamp() >= startTime)
-                .filter(log -> log.getTimestamp() <= endTime)
-                .sorted()
-                .collect(Collectors.toList());
+        return FEEDBACK_SESSION_LOG_STORE.queryAll(
+                createFeedbackSessionLogQuery(courseId, email, startTime, endTime, fsName));
+    }
+
+    @Override
+    public void streamFeedbackSessionLogs(String courseId, String email, long startTime, long endTime,
+            String fsName, Consumer<List<FeedbackSessionLogEntry>> pageConsumer) {
+        streamPages(FEEDBACK_SESSION_LOG_STORE,
+                createFeedbackSessionLogQuery(courseId, email, startTime, endTime, fsName),
+                SEGMENT_CAPACITY, pageConsumer);
     }
 
-    private List<GeneralLogEntry> deepCopyLogEntries(List<GeneralLogEntry> logEntries) {
-        List<GeneralLogEntry> result = new ArrayList<>();
-        for (GeneralLogEntry logEntry : logEntries) {
+    private LocalLogStore.Query<FeedbackSessionLogEntry> createFeedbackSessionLogQuery(String courseId,
+            String email, long startTime, long endTime, String fsName) {
+        LocalLogStore.Query<FeedbackSessionLogEntry> query =
+                new LocalLogStore.Query<FeedbackSessionLogEntry>(startTime, endTime, true)
+                        .withFilter(log -> email == null || log.getStudentEmail().equals(email))
+                        .withFilter(log -> fsName == null || log.getFeedbackSessionName().equals(fsName));
+        if (courseId != null) {
+            query.withIndexedFilter(IndexedField.COURSE_ID, Set.of(courseId));
+        }
+        return query;
+    }
+
+    /**
+     * Log entry kept in the store, with its details serialized so that copies can be made by deserializing only.
+     * Copies are returned to callers as they may modify the details, e.g. to hide sensitive information.
+     */
+    private static final class StoredLogEntry {
+        private final GeneralLogEntry logEntry;
+        private final String detailsJson;
+
+        private StoredLogEntry(GeneralLogEntry logEntry) {
+            this.logEntry = logEntry;
+            this.detailsJson = JsonUtils.toCompactJson(logEntry.getDetails());
+        }
+
+        private GeneralLogEntry copyLogEntry() {
             GeneralLogEntry copiedEntry = new GeneralLogEntry(logEntry.getSeverity(),
                     logEntry.getTrace(), logEntry.getInsertId(), logEntry.getResourceIdentifier(),
                     logEntry.getSourceLocation(), logEntry.getTimestamp());
-            copiedEntry.setDetails(JsonUtils.fromJson(JsonUtils.toCompactJson(logEntry.getDetails()), LogDetails.class));
+            copiedEntry.setDetails(JsonUtils.fromJson(detailsJson, LogDetails.class));
             copiedEntry.setMessage(logEntry.getMessage());
-            result.add(copiedEntry);
+            return copiedEntry;
         }
-
-        return result;
     }
 }
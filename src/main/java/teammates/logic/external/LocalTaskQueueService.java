@@ -6,14 +6,25 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -28,16 +39,132 @@ public class LocalTaskQueueService implements TaskQueueService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_CONNECTIONS = 20;
+
+    private final String baseUrl;
+    private final boolean isActive;
+
+    private final Object clientLock = new Object();
+    private CloseableHttpClient httpClient;
+    private ExecutorService executor;
+
+    public LocalTaskQueueService() {
+        this("http://localhost:" + Config.getPort(), Config.TASKQUEUE_ACTIVE);
+    }
+
+    LocalTaskQueueService(String baseUrl, boolean isActive) {
+        this.baseUrl = baseUrl;
+        this.isActive = isActive;
+    }
+
+    @Override
+    public void init() {
+        synchronized (clientLock) {
+            if (httpClient != null) {
+                return;
+            }
+            // all tasks are sent to the same host, so the per-route limit is the effective limit
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(MAX_CONNECTIONS);
+            connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                    .build();
+            // The tasks added in bulk are executed concurrently, bounded by the size of the connection pool
+            executor = Executors.newFixedThreadPool(MAX_CONNECTIONS, new NamedThreadFactory("local-taskqueue"));
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            if (httpClient == null) {
+                return;
+            }
+            executor.shutdownNow();
+            executor = null;
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warning("Could not close HTTP client of local task queue", e);
+            }
+            httpClient = null;
+        }
+    }
+
+    private CloseableHttpClient getHttpClient() {
+        synchronized (clientLock) {
+            if (httpClient == null) {
+                // the service can be used outside of the application lifecycle, e.g. in tests
+                init();
+            }
+            return httpClient;
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        synchronized (clientLock) {
+            if (executor == null) {
+                init();
+            }
+            return executor;
+        }
+    }
+
     @Override
-    public void addDeferredTask(TaskWrapper task, long countdownTime) {
+    public void addDeferredTask(TaskWrapper task) {
         // In dev server, task queues are either not active (i.e. they will not be executed even if queued)
         // or they will be executed immediately without going through any kind of "queue"
 
-        if (!Config.TASKQUEUE_ACTIVE) {
+        if (!isActive) {
             return;
         }
-        HttpPost post = new HttpPost(createBasicUri(
-                "http://localhost:" + Config.getPort() + task.getWorkerUrl(), task.getParamMap()));
+        executeTask(task);
+    }
+
+    @Override
+    public List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks) {
+        List<TaskWrapper> failedTasks = new ArrayList<>();
+        if (!isActive || tasks.isEmpty()) {
+            return failedTasks;
+        }
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            ExecutorService taskExecutor = getExecutor();
+            for (TaskWrapper task : tasks) {
+                results.add(taskExecutor.submit(() -> executeTask(task)));
+            }
+        } catch (RejectedExecutionException e) {
+            // the service is closed while the tasks are being submitted
+            log.severe("Could not submit tasks to local task queue", e);
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i >= results.size()) {
+                failedTasks.add(tasks.get(i));
+                continue;
+            }
+            try {
+                if (!results.get(i).get()) {
+                    failedTasks.add(tasks.get(i));
+                }
+            } catch (ExecutionException e) {
+                log.severe("Error when executing HTTP request", e.getCause());
+                failedTasks.add(tasks.get(i));
+            } catch (CancellationException e) {
+                failedTasks.add(tasks.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedTasks.add(tasks.get(i));
+            }
+        }
+        return failedTasks;
+    }
+
+    private boolean executeTask(TaskWrapper task) {
+        HttpPost post = new HttpPost(createBasicUri(baseUrl + task.getWorkerUrl(), task.getParamMap()));
 
         if (task.getRequestBody() != null) {
             StringEntity entity = new StringEntity(
@@ -45,13 +172,23 @@ public class LocalTaskQueueService implements TaskQueueService {
             post.setEntity(entity);
         }
 
-        post.addHeader("X-AppEngine-QueueName", task.getQueueName());
+        post.addHeader(Const.HeaderNames.TASK_QUEUE_NAME, task.getQueueName());
+        post.addHeader(Const.HeaderNames.TASK_QUEUE_SECRET, Config.TASKQUEUE_SECRET);
         post.addHeader("X-Google-DevAppserver-SkipAdminCheck", "true");
 
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            httpClient.execute(post);
+        try (CloseableHttpResponse response = getHttpClient().execute(post)) {
+            // the response must be fully consumed for the connection to be returned to the pool
+            EntityUtils.consume(response.getEntity());
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+                log.severe("Task in queue " + task.getQueueName() + " failed with status " + statusCode
+                        + " at " + task.getWorkerUrl());
+                return false;
+            }
+            return true;
         } catch (IOException e) {
             log.severe("Error when executing HTTP request", e);
+            return false;
         }
     }
 
@@ -2,9 +2,11 @@ package teammates.logic.external;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.QueryLogsResults;
+import teammates.common.datatransfer.logs.GeneralLogEntry;
 import teammates.common.datatransfer.logs.QueryLogsParams;
 
 /**
@@ -17,6 +19,13 @@ public interface LogService {
      */
     QueryLogsResults queryLogs(QueryLogsParams queryLogsParams);
 
+    /**
+     * Passes all the logs satisfying the given criteria to {@code pageConsumer}, one page at a time,
+     * so that the logs do not need to be held in memory all at once.
+     * The page size of the criteria, if positive, is used as the maximum number of logs per page.
+     */
+    void streamLogs(QueryLogsParams queryLogsParams, Consumer<List<GeneralLogEntry>> pageConsumer);
+
     /**
      * Creates a feedback session log.
      */
@@ -32,4 +41,11 @@ public interface LogService {
      */
     List<FeedbackSessionLogEntry> getOrderedFeedbackSessionLogs(String courseId, String email,
             long startTime, long endTime, String fsName);
+
+    /**
+     * Passes the feedback session logs as filtered by the given parameters ordered by ascending timestamp
+     * to {@code pageConsumer}, one page at a time, so that the logs do not need to be held in memory all at once.
+     */
+    void streamFeedbackSessionLogs(String courseId, String email, long startTime, long endTime, String fsName,
+            Consumer<List<FeedbackSessionLogEntry>> pageConsumer);
 }
@@ -1,6 +1,8 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
@@ -27,6 +29,41 @@ public class MailgunService implements EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    private final Object clientLock = new Object();
+    private Client client;
+
+    @Override
+    public void init() {
+        synchronized (clientLock) {
+            if (client != null) {
+                return;
+            }
+            client = Client.create();
+            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            if (client == null) {
+                return;
+            }
+            client.destroy();
+            client = null;
+        }
+    }
+
+    private Client getClient() {
+        synchronized (clientLock) {
+            if (client == null) {
+                // the service can be used outside of the application lifecycle, e.g. in scripts
+                init();
+            }
+            return client;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,10 +92,8 @@ public class MailgunService implements EmailSenderService {
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
         try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
             WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+                    getClient().resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
 
             ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                     .post(ClientResponse.class, email);
@@ -70,4 +105,19 @@ public class MailgunService implements EmailSenderService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Mailgun can only send one message body per request, so the emails are sent one by one
+     * over the shared client's keep-alive connection.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            statuses.add(sendEmail(wrapper));
+        }
+        return statuses;
+    }
+
 }
@@ -1,5 +1,9 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -11,11 +15,13 @@ import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.MailjetResponse;
 import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 
 /**
  * Email sender service provided by Mailjet.
@@ -27,6 +33,48 @@ import teammates.common.util.EmailWrapper;
  */
 public class MailjetService implements EmailSenderService {
 
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Maximum number of messages allowed by Mailjet Send API v3.1 in a single request.
+     */
+    private static final int MAX_MESSAGES_PER_REQUEST = 50;
+
+    private final Object clientLock = new Object();
+    private MailjetClient mailjet;
+
+    @Override
+    public void init() {
+        synchronized (clientLock) {
+            if (mailjet != null) {
+                return;
+            }
+            // the client keeps its own pool of keep-alive connections
+            mailjet = new MailjetClient(ClientOptions.builder()
+                    .apiKey(Config.MAILJET_APIKEY)
+                    .apiSecretKey(Config.MAILJET_SECRETKEY)
+                    .build());
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            // idle pooled connections are evicted by the client itself
+            mailjet = null;
+        }
+    }
+
+    private MailjetClient getMailjet() {
+        synchronized (clientLock) {
+            if (mailjet == null) {
+                // the service can be used outside of the application lifecycle, e.g. in scripts
+                init();
+            }
+            return mailjet;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,14 +101,88 @@ public class MailjetService implements EmailSenderService {
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
         MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(
-                ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
         try {
-            MailjetResponse response = mailjet.post(email);
+            MailjetResponse response = getMailjet().post(email);
             return new EmailSendingStatus(response.getStatus(), response.getData().toString());
         } catch (MailjetException e) {
             throw new EmailSendingException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent through Send API v3.1, which accepts multiple messages per request
+     * and reports the status of each message separately. If a request fails, only the messages
+     * of that request are given a failed status.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (int start = 0; start < wrappers.size(); start += MAX_MESSAGES_PER_REQUEST) {
+            List<EmailWrapper> chunk = wrappers.subList(start, Math.min(wrappers.size(), start + MAX_MESSAGES_PER_REQUEST));
+
+            JSONArray messages = new JSONArray();
+            for (EmailWrapper wrapper : chunk) {
+                messages.put(parseToMessage(wrapper));
+            }
+            MailjetRequest request = new MailjetRequest(Emailv31.resource).property(Emailv31.MESSAGES, messages);
+
+            try {
+                MailjetResponse response = getMailjet().post(request);
+                statuses.addAll(parseMessageStatuses(response, chunk.size()));
+            } catch (MailjetException e) {
+                // only the messages of this request failed; those of the other requests are already sent
+                log.warning("Could not send batch of " + chunk.size() + " emails", e);
+                statuses.addAll(Collections.nCopies(chunk.size(),
+                        new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage())));
+            }
+        }
+        return statuses;
+    }
+
+    private JSONObject parseToMessage(EmailWrapper wrapper) {
+        JSONObject sender = new JSONObject().put("Email", wrapper.getSenderEmail());
+        if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
+            sender.put("Name", wrapper.getSenderName());
+        }
+
+        JSONObject message = new JSONObject()
+                .put("From", sender)
+                .put("To", new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient())))
+                .put("ReplyTo", new JSONObject().put("Email", wrapper.getReplyTo()))
+                .put("Subject", wrapper.getSubject())
+                .put("HTMLPart", wrapper.getContent())
+                .put("TextPart", Jsoup.parse(wrapper.getContent()).text());
+        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+            message.put("Bcc", new JSONArray().put(new JSONObject().put("Email", wrapper.getBcc())));
+        }
+        return message;
+    }
+
+    private List<EmailSendingStatus> parseMessageStatuses(MailjetResponse response, int numberOfMessages) {
+        JSONArray messageResults = null;
+        JSONArray data = response.getData();
+        for (int i = 0; i < data.length(); i++) {
+            JSONObject item = data.optJSONObject(i);
+            if (item != null && item.has("Messages")) {
+                messageResults = item.getJSONArray("Messages");
+            }
+        }
+
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < numberOfMessages; i++) {
+            JSONObject messageResult = messageResults == null ? null : messageResults.optJSONObject(i);
+            if (messageResult == null) {
+                // no per-message result; the status of the whole request applies to every message
+                statuses.add(new EmailSendingStatus(response.getStatus(), data.toString()));
+            } else if ("success".equals(messageResult.optString("Status"))) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, messageResult.toString()));
+            } else {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_REQUEST, messageResult.toString()));
+            }
+        }
+        return statuses;
+    }
+
 }
@@ -1,10 +1,20 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.jsoup.Jsoup;
 
+import com.sendgrid.Client;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -18,6 +28,7 @@ import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 
 /**
  * Email sender service provided by SendGrid.
@@ -27,6 +38,63 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService implements EmailSenderService {
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_CONNECTIONS = 20;
+
+    /**
+     * Maximum number of personalizations allowed by SendGrid in a single request.
+     */
+    private static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+    private final Object clientLock = new Object();
+    private CloseableHttpClient httpClient;
+    private SendGrid sendgrid;
+
+    @Override
+    public void init() {
+        synchronized (clientLock) {
+            if (sendgrid != null) {
+                return;
+            }
+            // all requests go to the same SendGrid host, so the per-route limit is the effective limit
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(MAX_CONNECTIONS);
+            connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                    .build();
+            sendgrid = new SendGrid(Config.SENDGRID_APIKEY, new Client(httpClient));
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            if (sendgrid == null) {
+                return;
+            }
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warning("Could not close HTTP client of SendGrid", e);
+            }
+            httpClient = null;
+            sendgrid = null;
+        }
+    }
+
+    private SendGrid getSendgrid() {
+        synchronized (clientLock) {
+            if (sendgrid == null) {
+                // the service can be used outside of the application lifecycle, e.g. in scripts
+                init();
+            }
+            return sendgrid;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -41,28 +109,76 @@ public class SendgridService implements EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
+        email.addPersonalization(parseToPersonalization(wrapper));
+        email.setSubject(wrapper.getSubject());
+        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
+        email.addContent(new Content("text/html", wrapper.getContent()));
+        return email;
+    }
+
+    private Personalization parseToPersonalization(EmailWrapper wrapper) {
         Personalization personalization = new Personalization();
         personalization.addTo(new Email(wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             personalization.addBcc(new Email(wrapper.getBcc()));
         }
-        email.addPersonalization(personalization);
-        email.setSubject(wrapper.getSubject());
-        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
-        email.addContent(new Content("text/html", wrapper.getContent()));
-        return email;
+        return personalization;
     }
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        Mail email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        return sendMail(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails which share the same sender, reply-to address, subject and content are sent in a single request,
+     * with one personalization per recipient. Other emails are sent one by one over the shared connection pool.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        Map<List<String>, List<Integer>> indicesBySharedContent = new LinkedHashMap<>();
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            List<String> sharedContent = Arrays.asList(wrapper.getSenderEmail(), wrapper.getSenderName(),
+                    wrapper.getReplyTo(), wrapper.getSubject(), wrapper.getContent());
+            indicesBySharedContent.computeIfAbsent(sharedContent, k -> new ArrayList<>()).add(i);
+        }
+
+        EmailSendingStatus[] statuses = new EmailSendingStatus[wrappers.size()];
+        for (List<Integer> indices : indicesBySharedContent.values()) {
+            for (int start = 0; start < indices.size(); start += MAX_PERSONALIZATIONS_PER_REQUEST) {
+                List<Integer> chunk =
+                        indices.subList(start, Math.min(indices.size(), start + MAX_PERSONALIZATIONS_PER_REQUEST));
+
+                Mail email = parseToEmail(wrappers.get(chunk.get(0)));
+                for (int index : chunk.subList(1, chunk.size())) {
+                    email.addPersonalization(parseToPersonalization(wrappers.get(index)));
+                }
+
+                EmailSendingStatus status;
+                try {
+                    status = sendMail(email);
+                } catch (EmailSendingException e) {
+                    log.warning("Could not send batch of " + chunk.size() + " emails", e);
+                    status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+                }
+                for (int index : chunk) {
+                    statuses[index] = status;
+                }
+            }
+        }
+        return Arrays.asList(statuses);
+    }
+
+    private EmailSendingStatus sendMail(Mail email) throws EmailSendingException {
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
         try {
             request.setBody(email.build());
-            Response response = sendgrid.api(request);
+            Response response = getSendgrid().api(request);
             return new EmailSendingStatus(response.getStatusCode(), response.getBody());
         } catch (IOException e) {
             throw new EmailSendingException(e, HttpStatus.SC_BAD_GATEWAY);
@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -8,11 +10,32 @@ import teammates.common.util.TaskWrapper;
 public interface TaskQueueService {
 
     /**
-     * Adds the given task, to be run after the specified time, to the specified queue.
+     * Creates the shared client used by the service to communicate with the task queue.
+     *
+     * <p>The client is thread-safe and is reused across all tasks added by the service.
+     */
+    void init();
+
+    /**
+     * Releases the shared client and any pooled connections held by the service.
+     */
+    void close();
+
+    /**
+     * Adds the given task, to be run after its countdown time, to the specified queue.
      *
      * @param task the task object containing the details of task to be added
-     * @param countdownTime the time delay for the task to be executed
      */
-    void addDeferredTask(TaskWrapper task, long countdownTime);
+    void addDeferredTask(TaskWrapper task);
+
+    /**
+     * Adds the given tasks, each to be run after its own countdown time, to their respective queues.
+     *
+     * <p>The tasks are submitted concurrently. Failing to add one task does not prevent the others from being added.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     * @return the tasks which could not be added
+     */
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks);
 
 }
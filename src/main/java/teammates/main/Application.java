@@ -69,7 +69,7 @@ public final class Application {
 
             @Override
             public void lifeCycleStopped(LifeCycle event) {
-                // do nothing
+                Logger.closeRequestLogs();
             }
         };
 
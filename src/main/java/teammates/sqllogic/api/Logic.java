@@ -15,6 +15,7 @@ import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -23,6 +24,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.sqllogic.core.AccountRequestsLogic;
 import teammates.sqllogic.core.AccountsLogic;
 import teammates.sqllogic.core.CoursesLogic;
@@ -31,6 +33,7 @@ import teammates.sqllogic.core.DeadlineExtensionsLogic;
 import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.sqllogic.core.FeedbackSessionLogsBuffer;
 import teammates.sqllogic.core.FeedbackSessionLogsLogic;
 import teammates.sqllogic.core.FeedbackSessionsLogic;
 import teammates.sqllogic.core.NotificationsLogic;
@@ -73,6 +76,7 @@ public class Logic {
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
     final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     final FeedbackSessionLogsLogic feedbackSessionLogsLogic = FeedbackSessionLogsLogic.inst();
+    final FeedbackSessionLogsBuffer feedbackSessionLogsBuffer = FeedbackSessionLogsBuffer.inst();
     final UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
     final UsersLogic usersLogic = UsersLogic.inst();
     final NotificationsLogic notificationsLogic = NotificationsLogic.inst();
@@ -518,13 +522,20 @@ public class Logic {
     }
 
     /**
-     * Gets a list of deadline extensions with endTime coming up soon
-     * and possibly need a closing soon email to be sent.
+     * Gets the deadline extensions with endTime coming up soon which possibly need a closing soon email to be sent,
+     * grouped by their feedback sessions.
      */
-    public List<DeadlineExtension> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
+    public Map<FeedbackSession, List<DeadlineExtension>> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
         return deadlineExtensionsLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
     }
 
+    /**
+     * Marks the closing soon emails of the given deadline extensions as sent.
+     */
+    public void updateDeadlineExtensionsClosingSoonEmailSent(List<DeadlineExtension> deadlineExtensions) {
+        deadlineExtensionsLogic.updateDeadlineExtensionsClosingSoonEmailSent(deadlineExtensions);
+    }
+
     /**
      * Gets a feedback session.
      *
@@ -617,10 +628,12 @@ public class Logic {
     }
 
     /**
-     * Returns a list of sessions that require automated emails to be sent as they are published.
+     * Returns the sessions that need an automated notification email to be sent, by the type of the email.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionsNeedingNotificationEmails()
      */
-    public List<FeedbackSession> getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent() {
-        return feedbackSessionsLogic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
+    public Map<EmailType, List<FeedbackSession>> getFeedbackSessionsNeedingNotificationEmails() {
+        return feedbackSessionsLogic.getFeedbackSessionsNeedingNotificationEmails();
     }
 
     /**
@@ -690,6 +703,27 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByInstructor(session, userEmail);
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted a feedback session.
+     *
+     * <p>Unlike calling {@link #isFeedbackSessionAttemptedByStudent} for each student,
+     * the responses of the session are only queried once.</p>
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        return feedbackSessionsLogic.getStudentsYetToAttemptFeedbackSession(session, students);
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted a feedback session.
+     *
+     * <p>Unlike calling {@link #isFeedbackSessionAttemptedByInstructor} for each instructor,
+     * the responses of the session are only queried once.</p>
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        return feedbackSessionsLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors);
+    }
+
     /**
      * Deletes a feedback session cascade to its associated questions, responses, deadline extensions and comments.
      *
@@ -749,6 +783,15 @@ public class Logic {
         feedbackSessionsLogic.adjustFeedbackSessionEmailStatusAfterUpdate(session);
     }
 
+    /**
+     * Updates the time at which the next automated notification email of the session is due,
+     * e.g. after some of its emails are marked as sent.
+     */
+    public void updateFeedbackSessionNextNotificationDueAt(FeedbackSession session) {
+        assert session != null;
+        feedbackSessionsLogic.updateNextNotificationDueAt(session);
+    }
+
     /**
      * Gets the expected number of submissions for a feedback session.
      *
@@ -778,6 +821,13 @@ public class Logic {
         return usageStatisticsLogic.getUsageStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Get the latest usage statistics, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        return usageStatisticsLogic.getLatestUsageStatistics();
+    }
+
     /**
      * Calculate usage statistics within a time range.
      */
@@ -1699,20 +1749,6 @@ public class Logic {
         return feedbackQuestionsLogic.updateFeedbackQuestionCascade(questionId, updateRequest);
     }
 
-    /**
-     * Returns a list of feedback sessions that need an "Open" email to be sent.
-     */
-    public List<FeedbackSession> getFeedbackSessionsWhichNeedOpenedEmailsToBeSent() {
-        return feedbackSessionsLogic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
-    }
-
-    /**
-     * Returns a list of sessions that were closed within past hour.
-     */
-    public List<FeedbackSession> getFeedbackSessionsClosedWithinThePastHour() {
-        return feedbackSessionsLogic.getFeedbackSessionsClosedWithinThePastHour();
-    }
-
     /**
      * Creates or updates search document for the given student.
      *
@@ -1735,31 +1771,48 @@ public class Logic {
     }
 
     /**
-     * Returns a list of sessions that are going to close soon.
+     * Create feedback session logs.
      */
-    public List<FeedbackSession> getFeedbackSessionsClosingWithinTimeLimit() {
-        return feedbackSessionsLogic.getFeedbackSessionsClosingWithinTimeLimit();
+    public void createFeedbackSessionLogs(List<FeedbackSessionLog> feedbackSessionLogs) {
+        feedbackSessionLogsLogic.createFeedbackSessionLogs(feedbackSessionLogs);
     }
 
     /**
-     * Returns a list of sessions that are going to open soon.
+     * Buffers a feedback session log to be created in the background.
+     *
+     * @return true if the log is buffered, false if it is discarded as a duplicate of a recent log
+     *         or because the buffer is full
      */
-    public List<FeedbackSession> getFeedbackSessionsOpeningWithinTimeLimit() {
-        return feedbackSessionsLogic.getFeedbackSessionsOpeningWithinTimeLimit();
+    public boolean bufferFeedbackSessionLog(UUID studentId, UUID feedbackSessionId,
+            FeedbackSessionLogType logType, Instant timestamp) {
+        return feedbackSessionLogsBuffer.add(studentId, feedbackSessionId, logType, timestamp);
     }
 
     /**
-     * Create feedback session logs.
+     * Creates the upcoming monthly partitions of the feedback session logs.
+     *
+     * @return the number of partitions created
      */
-    public void createFeedbackSessionLogs(List<FeedbackSessionLog> feedbackSessionLogs) {
-        feedbackSessionLogsLogic.createFeedbackSessionLogs(feedbackSessionLogs);
+    public int createUpcomingFeedbackSessionLogsPartitions(Instant now) {
+        return feedbackSessionLogsLogic.createUpcomingFeedbackSessionLogsPartitions(now);
     }
 
     /**
-     * Create feedback session log.
+     * Rolls up the feedback session logs of the recent complete days.
+     *
+     * @return the number of rollups created or replaced
+     */
+    public int rollUpRecentFeedbackSessionLogs(Instant now) {
+        return feedbackSessionLogsLogic.rollUpRecentFeedbackSessionLogs(now);
+    }
+
+    /**
+     * Drops the feedback session logs which are past their retention period.
+     *
+     * @return the number of partitions dropped
      */
-    public void createFeedbackSessionLog(FeedbackSessionLog feedbackSessionLog) {
-        feedbackSessionLogsLogic.createFeedbackSessionLog(feedbackSessionLog);
+    public int dropExpiredFeedbackSessionLogs(Instant now) {
+        return feedbackSessionLogsLogic.dropExpiredFeedbackSessionLogs(now);
     }
 
     /**
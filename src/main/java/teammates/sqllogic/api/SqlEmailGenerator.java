@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.EmailBatch;
 import teammates.common.datatransfer.ErrorLogEntry;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.util.Config;
@@ -18,6 +19,7 @@ import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.TemplatedEmails;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
@@ -32,6 +34,7 @@ import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.User;
 
 /**
  * Handles operations related to generating emails to be sent from provided templates.
@@ -83,8 +86,55 @@ public final class SqlEmailGenerator {
         return generateFeedbackSessionOpenedOrClosingSoonEmails(session, EmailType.FEEDBACK_OPENED);
     }
 
+    /**
+     * Generates the emails of the given type for at most {@code batchSize} recipients of {@code session},
+     * continuing after the last recipient of the previous batch, identified by {@code cursor}.
+     *
+     * <p>The students, instructors and instructors to notify are each ordered by email and ID, in that order,
+     * and the cursor holds the key of the last recipient in that order, so that the generation can be continued
+     * in a later request. Recipients added in between are included in a later batch if they come after the cursor,
+     * and recipients removed in between do not shift the recipients which remain. Generating the batch for the same
+     * cursor again, e.g. when the request is retried, gives the same recipients as long as they are unchanged.
+     *
+     * @param emailType one of {@link EmailType#FEEDBACK_OPENED}, {@link EmailType#FEEDBACK_CLOSING_SOON}
+     *                  and {@link EmailType#FEEDBACK_PUBLISHED}
+     * @param cursor the cursor returned with the previous batch, or null for the first batch
+     * @throws IllegalArgumentException if the cursor is not one returned with a batch
+     */
+    public EmailBatch generateFeedbackSessionEmailBatch(
+            FeedbackSession session, EmailType emailType, String cursor, int batchSize) {
+        assert emailType == EmailType.FEEDBACK_OPENED || emailType == EmailType.FEEDBACK_CLOSING_SOON
+                || emailType == EmailType.FEEDBACK_PUBLISHED;
+        assert batchSize > 0;
+
+        RecipientKey lastSentRecipient = cursor == null ? null : RecipientKey.fromCursor(cursor);
+        boolean isPublishedEmail = emailType == EmailType.FEEDBACK_PUBLISHED;
+        // one more recipient than the batch size is read to find out if there is a next batch
+        SessionEmailRecipients recipients = isPublishedEmail
+                ? getPublishedOrUnpublishedRecipientsAfter(session, lastSentRecipient, batchSize + 1)
+                : getOpenedOrClosingSoonRecipientsAfter(session, emailType, lastSentRecipient, batchSize + 1);
+        boolean hasNextBatch = recipients.size() > batchSize;
+        SessionEmailRecipients batchRecipients = recipients.getFirst(batchSize);
+
+        TemplatedEmails emails = isPublishedEmail
+                ? generateFeedbackSessionTemplatedEmails(session, batchRecipients,
+                        EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED, null, emailType, FEEDBACK_ACTION_VIEW)
+                : generateFeedbackSessionTemplatedEmails(session, batchRecipients,
+                        getOpenedOrClosingSoonBaseTemplate(emailType), getOpenedOrClosingSoonStatus(emailType),
+                        emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
+
+        return new EmailBatch(emails, hasNextBatch ? batchRecipients.getLastKey().toCursor() : null);
+    }
+
     private List<EmailWrapper> generateFeedbackSessionOpenedOrClosingSoonEmails(
             FeedbackSession session, EmailType emailType) {
+        SessionEmailRecipients recipients = getOpenedOrClosingSoonRecipients(session, emailType);
+        return generateFeedbackSessionEmailBases(session.getCourse(), session, recipients.students,
+                recipients.instructors, recipients.instructorsToNotify, getOpenedOrClosingSoonTemplate(emailType),
+                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
+    }
+
+    private SessionEmailRecipients getOpenedOrClosingSoonRecipients(FeedbackSession session, EmailType emailType) {
         Course course = session.getCourse();
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
@@ -115,16 +165,70 @@ public final class SqlEmailGenerator {
                     .collect(Collectors.toList());
         }
 
-        String status = emailType == EmailType.FEEDBACK_OPENED
-                ? FEEDBACK_STATUS_SESSION_OPENED
-                : FEEDBACK_STATUS_SESSION_CLOSING_SOON;
+        return new SessionEmailRecipients(students, instructors, instructorsToNotify);
+    }
 
-        String template = emailType == EmailType.FEEDBACK_OPENED
-                ? EmailTemplates.USER_FEEDBACK_SESSION_OPENED.replace("${status}", status)
-                : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
+    private SessionEmailRecipients getOpenedOrClosingSoonRecipientsAfter(FeedbackSession session,
+            EmailType emailType, RecipientKey after, int limit) {
+        Set<UUID> excludedUserIds = emailType == EmailType.FEEDBACK_CLOSING_SOON
+                ? session.getDeadlineExtensions().stream()
+                        .map(d -> d.getUser().getId())
+                        .collect(Collectors.toSet())
+                : Set.of();
+        return getRecipientsAfter(session.getCourse().getId(),
+                fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false),
+                fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true),
+                excludedUserIds, after, limit);
+    }
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
-                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
+    /**
+     * Gets at most {@code limit} recipients of the emails of a feedback session which come after {@code after},
+     * or from the first recipient if {@code after} is null, in the order of {@link RecipientKey}.
+     * The recipients are read from the database in that order, so that only the recipients returned are read.
+     *
+     * @param excludedUserIds the IDs of the students and instructors who are not recipients
+     */
+    private SessionEmailRecipients getRecipientsAfter(String courseId, boolean isEmailNeededForStudents,
+            boolean isEmailNeededForInstructors, Set<UUID> excludedUserIds, RecipientKey after, int limit) {
+        RecipientKey afterStudent = RecipientKey.inGroup(after, RecipientKey.STUDENTS);
+        List<Student> students = isEmailNeededForStudents && RecipientKey.isNotPast(after, RecipientKey.STUDENTS)
+                ? usersLogic.getStudentsForCourseAfter(courseId, RecipientKey.getEmail(afterStudent),
+                        RecipientKey.getId(afterStudent), excludedUserIds, limit)
+                : new ArrayList<>();
+
+        int remaining = limit - students.size();
+        RecipientKey afterInstructor = RecipientKey.inGroup(after, RecipientKey.INSTRUCTORS);
+        List<Instructor> instructors = isEmailNeededForInstructors && remaining > 0
+                && RecipientKey.isNotPast(after, RecipientKey.INSTRUCTORS)
+                ? usersLogic.getInstructorsForCourseAfter(courseId, RecipientKey.getEmail(afterInstructor),
+                        RecipientKey.getId(afterInstructor), excludedUserIds, remaining)
+                : new ArrayList<>();
+
+        remaining -= instructors.size();
+        RecipientKey afterInstructorToNotify = RecipientKey.inGroup(after, RecipientKey.INSTRUCTORS_TO_NOTIFY);
+        List<Instructor> instructorsToNotify = isEmailNeededForStudents && remaining > 0
+                ? usersLogic.getCoOwnersForCourseAfter(courseId, RecipientKey.getEmail(afterInstructorToNotify),
+                        RecipientKey.getId(afterInstructorToNotify), remaining)
+                : new ArrayList<>();
+
+        return new SessionEmailRecipients(students, instructors, instructorsToNotify);
+    }
+
+    private String getOpenedOrClosingSoonTemplate(EmailType emailType) {
+        return Templates.populateTemplate(getOpenedOrClosingSoonBaseTemplate(emailType),
+                "${status}", getOpenedOrClosingSoonStatus(emailType));
+    }
+
+    private String getOpenedOrClosingSoonBaseTemplate(EmailType emailType) {
+        return emailType == EmailType.FEEDBACK_OPENED
+                ? EmailTemplates.USER_FEEDBACK_SESSION_OPENED
+                : EmailTemplates.USER_FEEDBACK_SESSION;
+    }
+
+    private String getOpenedOrClosingSoonStatus(EmailType emailType) {
+        return emailType == EmailType.FEEDBACK_OPENED
+                ? FEEDBACK_STATUS_SESSION_OPENED
+                : FEEDBACK_STATUS_SESSION_CLOSING_SOON;
     }
 
     /**
@@ -232,7 +336,8 @@ public final class SqlEmailGenerator {
             List<Instructor> instructorsToRemind, Instructor instructorToNotify) {
 
         Course course = session.getCourse();
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        String template = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION,
+                "${status}", FEEDBACK_STATUS_SESSION_OPEN);
         List<Instructor> instructorToNotifyAsList = new ArrayList<>();
         if (instructorToNotify != null) {
             instructorToNotifyAsList.add(instructorToNotify);
@@ -457,10 +562,16 @@ public final class SqlEmailGenerator {
         Instant searchStartTime = TimeHelper.getInstantDaysOffsetBeforeNow(SESSION_LINK_RECOVERY_DURATION_IN_DAYS);
         Map<Course, StringBuilder> linkFragmentsMap = new HashMap<>();
 
+        // The recent sessions of all the courses of the student are fetched at once
+        Set<String> courseIds = studentsForEmail.stream()
+                .map(Student::getCourseId)
+                .collect(Collectors.toSet());
+        Map<String, List<FeedbackSession>> sessionsByCourseId = fsLogic
+                .getFeedbackSessionsForCoursesStartingAfter(courseIds, searchStartTime).stream()
+                .collect(Collectors.groupingBy(FeedbackSession::getCourseId));
+
         for (var student : studentsForEmail) {
             RequestTracer.checkRemainingTime();
-            // Query students' courses first
-            // as a student will likely be in only a small number of courses.
             Course course = student.getCourse();
             String courseId = course.getId();
 
@@ -471,7 +582,7 @@ public final class SqlEmailGenerator {
                 linksFragmentValue = new StringBuilder(5000);
             }
 
-            for (var session : fsLogic.getFeedbackSessionsForCourseStartingAfter(courseId, searchStartTime)) {
+            for (var session : sessionsByCourseId.getOrDefault(courseId, List.of())) {
                 RequestTracer.checkRemainingTime();
                 var submitUrlHtml = "";
                 var reportUrlHtml = "";
@@ -539,40 +650,23 @@ public final class SqlEmailGenerator {
         boolean isEmailNeededForInstructors =
                 !deadlineExtensions.isEmpty() && fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
 
+        // the users of the deadline extensions are the students and instructors of the course themselves
         List<Student> students = new ArrayList<>();
-        if (isEmailNeededForStudents) {
-            for (DeadlineExtension de : deadlineExtensions) {
-                Student student = usersLogic.getStudentForEmail(course.getId(), de.getUser().getEmail());
-                if (student != null) {
-                    students.add(student);
-                }
-            }
-        }
-
         List<Instructor> instructors = new ArrayList<>();
-        if (isEmailNeededForInstructors) {
-            for (DeadlineExtension de : deadlineExtensions) {
-                Instructor instructor =
-                        usersLogic.getInstructorForEmail(course.getId(), de.getUser().getEmail());
-                if (instructor != null) {
-                    instructors.add(instructor);
-                }
+        for (DeadlineExtension de : deadlineExtensions) {
+            if (isEmailNeededForStudents && de.getUser() instanceof Student) {
+                students.add((Student) de.getUser());
+            } else if (isEmailNeededForInstructors && de.getUser() instanceof Instructor) {
+                instructors.add((Instructor) de.getUser());
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING_SOON);
+        String template = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION,
+                "${status}", FEEDBACK_STATUS_SESSION_CLOSING_SOON);
         EmailType type = EmailType.FEEDBACK_CLOSING_SOON;
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (Student student : students) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.singletonList(student),
-                    Collections.emptyList(), Collections.emptyList(), template, type, feedbackAction));
-        }
-        for (Instructor instructor : instructors) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.emptyList(),
-                    Collections.singletonList(instructor), Collections.emptyList(), template, type, feedbackAction));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, Collections.emptyList(),
+                template, type, feedbackAction);
     }
 
     /**
@@ -602,6 +696,12 @@ public final class SqlEmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionPublishedOrUnpublishedEmails(
             FeedbackSession session, EmailType emailType) {
+        SessionEmailRecipients recipients = getPublishedOrUnpublishedRecipients(session);
+        return generateFeedbackSessionPublishedOrUnpublishedEmails(
+                session, recipients.students, recipients.instructors, recipients.instructorsToNotify, emailType);
+    }
+
+    private SessionEmailRecipients getPublishedOrUnpublishedRecipients(FeedbackSession session) {
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionViewableToUserType(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionViewableToUserType(session, true);
         List<Instructor> instructorsToNotify = isEmailNeededForStudents
@@ -614,8 +714,15 @@ public final class SqlEmailGenerator {
                 ? usersLogic.getInstructorsForCourse(session.getCourse().getId())
                 : new ArrayList<>();
 
-        return generateFeedbackSessionPublishedOrUnpublishedEmails(
-                session, students, instructors, instructorsToNotify, emailType);
+        return new SessionEmailRecipients(students, instructors, instructorsToNotify);
+    }
+
+    private SessionEmailRecipients getPublishedOrUnpublishedRecipientsAfter(FeedbackSession session,
+            RecipientKey after, int limit) {
+        return getRecipientsAfter(session.getCourse().getId(),
+                fsLogic.isFeedbackSessionViewableToUserType(session, false),
+                fsLogic.isFeedbackSessionViewableToUserType(session, true),
+                Set.of(), after, limit);
     }
 
     private List<EmailWrapper> generateFeedbackSessionPublishedOrUnpublishedEmails(
@@ -641,10 +748,11 @@ public final class SqlEmailGenerator {
      */
     public List<EmailWrapper> generateDeadlineGrantedEmails(Course course,
             FeedbackSession session, Map<String, Instant> createdDeadlines, boolean areInstructors) {
+        SessionDeadlines sessionDeadlines = getSessionDeadlines(session);
         return createdDeadlines.entrySet()
                 .stream()
                 .map(entry ->
-                        generateDeadlineExtensionEmail(course, session,
+                        generateDeadlineExtensionEmail(course, session, sessionDeadlines,
                                 session.getEndTime(), entry.getValue(), EmailType.DEADLINE_EXTENSION_GRANTED,
                                 entry.getKey(), areInstructors))
                 .collect(Collectors.toList());
@@ -655,10 +763,11 @@ public final class SqlEmailGenerator {
      */
     public List<EmailWrapper> generateDeadlineUpdatedEmails(Course course, FeedbackSession session,
             Map<String, Instant> updatedDeadlines, Map<String, Instant> oldDeadlines, boolean areInstructors) {
+        SessionDeadlines sessionDeadlines = getSessionDeadlines(session);
         return updatedDeadlines.entrySet()
                 .stream()
                 .map(entry ->
-                        generateDeadlineExtensionEmail(course, session,
+                        generateDeadlineExtensionEmail(course, session, sessionDeadlines,
                                 oldDeadlines.get(entry.getKey()), entry.getValue(), EmailType.DEADLINE_EXTENSION_UPDATED,
                                 entry.getKey(), areInstructors))
                 .collect(Collectors.toList());
@@ -669,17 +778,18 @@ public final class SqlEmailGenerator {
      */
     public List<EmailWrapper> generateDeadlineRevokedEmails(Course course,
             FeedbackSession session, Map<String, Instant> revokedDeadlines, boolean areInstructors) {
+        SessionDeadlines sessionDeadlines = getSessionDeadlines(session);
         return revokedDeadlines.entrySet()
                 .stream()
                 .map(entry ->
-                        generateDeadlineExtensionEmail(course, session,
+                        generateDeadlineExtensionEmail(course, session, sessionDeadlines,
                                 entry.getValue(), session.getEndTime(), EmailType.DEADLINE_EXTENSION_REVOKED,
                                 entry.getKey(), areInstructors))
                 .collect(Collectors.toList());
     }
 
     private EmailWrapper generateDeadlineExtensionEmail(
-            Course course, FeedbackSession session, Instant oldEndTime, Instant endTime,
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Instant oldEndTime, Instant endTime,
             EmailType emailType, String userEmail, boolean isInstructor) {
         String status;
 
@@ -702,12 +812,12 @@ public final class SqlEmailGenerator {
                 TimeHelper.getMidnightAdjustedInstantBasedOnZone(oldEndTime, session.getCourse().getTimeZone(), false);
         Instant newEndTimeFormatted =
                 TimeHelper.getMidnightAdjustedInstantBasedOnZone(endTime, session.getCourse().getTimeZone(), false);
-        String template = EmailTemplates.USER_DEADLINE_EXTENSION
-                .replace("${status}", status)
-                .replace("${oldEndTime}", SanitizationHelper.sanitizeForHtml(
+        String template = Templates.populateTemplate(EmailTemplates.USER_DEADLINE_EXTENSION,
+                "${status}", status,
+                "${oldEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(oldEndTimeFormatted,
-                                session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT)))
-                .replace("${newEndTime}", SanitizationHelper.sanitizeForHtml(
+                                session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT)),
+                "${newEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(newEndTimeFormatted,
                                 session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT)));
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
@@ -717,15 +827,15 @@ public final class SqlEmailGenerator {
             if (instructor == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForInstructors(
-                    course, session, instructor, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForInstructors(course, session, sessionDeadlines, instructor,
+                    template, emailType, feedbackAction, additionalContactInformation);
         } else {
             Student student = usersLogic.getStudentForEmail(course.getId(), userEmail);
             if (student == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForStudents(
-                    course, session, student, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForStudents(course, session, sessionDeadlines, student,
+                    template, emailType, feedbackAction, additionalContactInformation);
         }
     }
 
@@ -737,26 +847,92 @@ public final class SqlEmailGenerator {
         StringBuilder instructorAdditionalContactBuilder = new StringBuilder();
         studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
         instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
+        SessionDeadlines sessionDeadlines = getSessionDeadlines(session);
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (Student student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
+            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, sessionDeadlines, student,
                     template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, sessionDeadlines, instructor,
                     template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructorsToNotify) {
-            emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
+            emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, sessionDeadlines, instructor,
                     template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         return emails;
     }
 
+    private SessionDeadlines getSessionDeadlines(FeedbackSession session) {
+        return new SessionDeadlines(session, deLogic.getExtendedDeadlinesForSession(session));
+    }
+
+    /**
+     * Generates the emails of a feedback session for the given recipients, to be rendered only when they are sent.
+     *
+     * @param status the status of the session to populate the template with, or null if the template has none
+     */
+    private TemplatedEmails generateFeedbackSessionTemplatedEmails(FeedbackSession session,
+            SessionEmailRecipients recipients, String template, String status, EmailType type, String feedbackAction) {
+        Course course = session.getCourse();
+        String studentAdditionalContactInformation = getAdditionalContactInformationFragment(course, false);
+        String instructorAdditionalContactInformation = getAdditionalContactInformationFragment(course, true);
+        SessionDeadlines sessionDeadlines = getSessionDeadlines(session);
+
+        List<EmailWrapper> headers = new ArrayList<>();
+        List<String[]> keyValuePairs = new ArrayList<>();
+        for (Student student : recipients.students) {
+            headers.add(getFeedbackSessionEmailHeader(course, session, student.getEmail(), type, false));
+            keyValuePairs.add(withStatus(status, getFeedbackSessionEmailValuesForStudents(course, session,
+                    sessionDeadlines, student, feedbackAction, studentAdditionalContactInformation)));
+        }
+        for (Instructor instructor : recipients.instructors) {
+            headers.add(getFeedbackSessionEmailHeader(course, session, instructor.getEmail(), type, false));
+            keyValuePairs.add(withStatus(status, getFeedbackSessionEmailValuesForInstructors(course, session,
+                    sessionDeadlines, instructor, feedbackAction, instructorAdditionalContactInformation)));
+        }
+        for (Instructor instructor : recipients.instructorsToNotify) {
+            headers.add(getFeedbackSessionEmailHeader(course, session, instructor.getEmail(), type, true));
+            keyValuePairs.add(withStatus(status, getFeedbackSessionEmailValuesForNotifiedInstructors(course, session,
+                    sessionDeadlines, instructor, feedbackAction, studentAdditionalContactInformation)));
+        }
+        return TemplatedEmails.of(template, headers, keyValuePairs);
+    }
+
+    private static String[] withStatus(String status, String[] keyValuePairs) {
+        if (status == null) {
+            return keyValuePairs;
+        }
+        String[] keyValuePairsWithStatus = new String[keyValuePairs.length + 2];
+        keyValuePairsWithStatus[0] = "${status}";
+        keyValuePairsWithStatus[1] = status;
+        System.arraycopy(keyValuePairs, 0, keyValuePairsWithStatus, 2, keyValuePairs.length);
+        return keyValuePairsWithStatus;
+    }
+
+    private EmailWrapper getFeedbackSessionEmailHeader(
+            Course course, FeedbackSession session, String recipient, EmailType type, boolean isCopy) {
+        EmailWrapper email = getEmptyEmailAddressedToEmail(recipient);
+        email.setType(type);
+        email.setIsCopy(isCopy);
+        email.setSubjectFromType(course.getName(), session.getName());
+        return email;
+    }
+
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            Course course, FeedbackSession session, Student student, String template,
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Student student, String template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
+        EmailWrapper email = getFeedbackSessionEmailHeader(course, session, student.getEmail(), type, false);
+        email.setContent(Templates.populateTemplate(template, getFeedbackSessionEmailValuesForStudents(
+                course, session, sessionDeadlines, student, feedbackAction, additionalContactInformation)));
+        return email;
+    }
+
+    private String[] getFeedbackSessionEmailValuesForStudents(
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Student student,
+            String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getName())
@@ -769,35 +945,33 @@ public final class SqlEmailGenerator {
                 .withRegistrationKey(student.getRegKey())
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, student);
-
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        return new String[] {
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT))
-                        + (session.getEndTime().equals(deadline) ? "" : " (after extension)"),
+                "${deadline}", sessionDeadlines.getFormattedDeadline(student),
                 "${instructorPreamble}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
                 "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(student.getEmail());
-        email.setType(type);
-        email.setSubjectFromType(course.getName(), session.getName());
-        email.setContent(emailBody);
-        return email;
+                "${additionalContactInformation}", additionalContactInformation,
+        };
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Instructor instructor,
             String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+        EmailWrapper email = getFeedbackSessionEmailHeader(course, session, instructor.getEmail(), type, false);
+        email.setContent(Templates.populateTemplate(template, getFeedbackSessionEmailValuesForInstructors(
+                course, session, sessionDeadlines, instructor, feedbackAction, additionalContactInformation)));
+        return email;
+    }
+
+    private String[] getFeedbackSessionEmailValuesForInstructors(
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Instructor instructor,
+            String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getName())
@@ -812,58 +986,46 @@ public final class SqlEmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, instructor);
-
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        return new String[] {
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT))
-                        + (session.getEndTime().equals(deadline) ? "" : " (after extension)"),
+                "${deadline}", sessionDeadlines.getFormattedDeadline(instructor),
                 "${instructorPreamble}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
                 "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
-        email.setType(type);
-        email.setSubjectFromType(course.getName(), session.getName());
-        email.setContent(emailBody);
-        return email;
+                "${additionalContactInformation}", additionalContactInformation,
+        };
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Instructor instructor,
             String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+        EmailWrapper email = getFeedbackSessionEmailHeader(course, session, instructor.getEmail(), type, true);
+        email.setContent(Templates.populateTemplate(template, getFeedbackSessionEmailValuesForNotifiedInstructors(
+                course, session, sessionDeadlines, instructor, feedbackAction, additionalContactInformation)));
+        return email;
+    }
 
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getEndTime(), session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+    private String[] getFeedbackSessionEmailValuesForNotifiedInstructors(
+            Course course, FeedbackSession session, SessionDeadlines sessionDeadlines, Instructor instructor,
+            String feedbackAction, String additionalContactInformation) {
+        return new String[] {
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT)),
+                "${deadline}", sessionDeadlines.formatDeadline(session.getEndTime()),
                 "${instructorPreamble}", fillUpInstructorPreamble(course, session),
                 "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
                 "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
                 "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
-        email.setType(type);
-        email.setIsCopy(true);
-        email.setSubjectFromType(course.getName(), session.getName());
-        email.setContent(emailBody);
-        return email;
+                "${additionalContactInformation}", additionalContactInformation,
+        };
     }
 
     private boolean isYetToJoinCourse(Student student) {
@@ -1171,4 +1333,161 @@ public final class SqlEmailGenerator {
                 "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
     }
+
+    /**
+     * The recipients of the emails of a feedback session.
+     */
+    private static final class SessionEmailRecipients {
+
+        private final List<Student> students;
+        private final List<Instructor> instructors;
+        private final List<Instructor> instructorsToNotify;
+
+        SessionEmailRecipients(List<Student> students, List<Instructor> instructors,
+                List<Instructor> instructorsToNotify) {
+            this.students = students;
+            this.instructors = instructors;
+            this.instructorsToNotify = instructorsToNotify;
+        }
+
+        int size() {
+            return students.size() + instructors.size() + instructorsToNotify.size();
+        }
+
+        /**
+         * Gets the first {@code count} recipients, in the order of {@link RecipientKey}.
+         */
+        SessionEmailRecipients getFirst(int count) {
+            List<Student> firstStudents = students.subList(0, Math.min(count, students.size()));
+            int remaining = count - firstStudents.size();
+            List<Instructor> firstInstructors = instructors.subList(0, Math.min(remaining, instructors.size()));
+            remaining -= firstInstructors.size();
+            List<Instructor> firstInstructorsToNotify =
+                    instructorsToNotify.subList(0, Math.min(remaining, instructorsToNotify.size()));
+            return new SessionEmailRecipients(firstStudents, firstInstructors, firstInstructorsToNotify);
+        }
+
+        /**
+         * Gets the key of the last recipient, or null if there are no recipients.
+         */
+        RecipientKey getLastKey() {
+            if (!instructorsToNotify.isEmpty()) {
+                return RecipientKey.of(RecipientKey.INSTRUCTORS_TO_NOTIFY, getLast(instructorsToNotify));
+            }
+            if (!instructors.isEmpty()) {
+                return RecipientKey.of(RecipientKey.INSTRUCTORS, getLast(instructors));
+            }
+            if (!students.isEmpty()) {
+                return RecipientKey.of(RecipientKey.STUDENTS, getLast(students));
+            }
+            return null;
+        }
+
+        private static <T extends User> T getLast(List<T> users) {
+            return users.get(users.size() - 1);
+        }
+
+    }
+
+    /**
+     * Identifies a recipient of the emails of a feedback session, in the order in which the emails are generated:
+     * by group of recipients, then by email, then by ID.
+     */
+    private static final class RecipientKey {
+
+        static final int STUDENTS = 0;
+        static final int INSTRUCTORS = 1;
+        static final int INSTRUCTORS_TO_NOTIFY = 2;
+
+        private final int group;
+        private final String email;
+        private final UUID id;
+
+        private RecipientKey(int group, String email, UUID id) {
+            this.group = group;
+            this.email = email;
+            this.id = id;
+        }
+
+        static RecipientKey of(int group, User user) {
+            return new RecipientKey(group, user.getEmail(), user.getId());
+        }
+
+        /**
+         * Returns whether the recipients of {@code group} may come after {@code after}.
+         */
+        static boolean isNotPast(RecipientKey after, int group) {
+            return after == null || after.group <= group;
+        }
+
+        /**
+         * Returns {@code after} if it is the key of a recipient of {@code group}, or null otherwise,
+         * in which case the recipients of the group are read from the first recipient.
+         */
+        static RecipientKey inGroup(RecipientKey after, int group) {
+            return after != null && after.group == group ? after : null;
+        }
+
+        static String getEmail(RecipientKey key) {
+            return key == null ? null : key.email;
+        }
+
+        static UUID getId(RecipientKey key) {
+            return key == null ? null : key.id;
+        }
+
+        /**
+         * Parses the key from a cursor created by {@link #toCursor()}.
+         */
+        static RecipientKey fromCursor(String cursor) {
+            // the email comes last as it may contain the separator
+            String[] parts = cursor.split(":", 3);
+            if (parts.length != 3 || !parts[0].matches("[0-2]")) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new RecipientKey(Integer.parseInt(parts[0]), parts[2], UUID.fromString(parts[1]));
+        }
+
+        String toCursor() {
+            return group + ":" + id + ":" + email;
+        }
+
+    }
+
+    /**
+     * Resolves the deadlines of the users of a feedback session from the deadline extensions loaded once for the session.
+     * Each distinct deadline is formatted only once.
+     */
+    private static final class SessionDeadlines {
+
+        private final FeedbackSession session;
+        private final Map<UUID, Instant> extendedDeadlines;
+        private final Map<Instant, String> formattedDeadlines = new HashMap<>();
+
+        SessionDeadlines(FeedbackSession session, Map<UUID, Instant> extendedDeadlines) {
+            this.session = session;
+            this.extendedDeadlines = extendedDeadlines;
+        }
+
+        /**
+         * Gets the formatted deadline of the user, taking into account the deadline extension of the user if any.
+         */
+        String getFormattedDeadline(User user) {
+            return formatDeadline(extendedDeadlines.getOrDefault(user.getId(), session.getEndTime()));
+        }
+
+        /**
+         * Formats the deadline for display, indicating whether it is an extended deadline.
+         */
+        String formatDeadline(Instant deadline) {
+            return formattedDeadlines.computeIfAbsent(deadline, d -> {
+                String timeZone = session.getCourse().getTimeZone();
+                Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(d, timeZone, false);
+                String formattedDeadline = TimeHelper.formatInstant(endTime, timeZone, DATETIME_DISPLAY_FORMAT);
+                return SanitizationHelper.sanitizeForHtml(formattedDeadline)
+                        + (session.getEndTime().equals(d) ? "" : " (after extension)");
+            });
+        }
+
+    }
 }
@@ -1,7 +1,11 @@
 package teammates.sqllogic.core;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -66,6 +70,15 @@ public final class DeadlineExtensionsLogic {
         return deadlineExtension.getEndTime();
     }
 
+    /**
+     * Gets the extended deadline end times for this session, keyed by the id of the user with the extension.
+     *
+     * <p>This is useful for resolving the deadlines of many users of the session with a single query.
+     */
+    public Map<UUID, Instant> getExtendedDeadlinesForSession(FeedbackSession feedbackSession) {
+        return deadlineExtensionsDb.getExtendedDeadlinesForFeedbackSession(feedbackSession.getId());
+    }
+
     /**
      * Get deadline entity for this session and user if it exists, otherwise return null.
      */
@@ -76,6 +89,9 @@ public final class DeadlineExtensionsLogic {
     /**
      * Creates a deadline extension.
      *
+     * <p>The time at which the next notification email of the feedback session is due is updated,
+     * as the closing soon email of the deadline extension is one of these emails.
+     *
      * @return created deadline extension
      * @throws InvalidParametersException if the deadline extension is not valid
      * @throws EntityAlreadyExistsException if the deadline extension already exist
@@ -83,35 +99,83 @@ public final class DeadlineExtensionsLogic {
     public DeadlineExtension createDeadlineExtension(DeadlineExtension deadlineExtension)
             throws InvalidParametersException, EntityAlreadyExistsException {
         assert deadlineExtension != null;
-        return deadlineExtensionsDb.createDeadlineExtension(deadlineExtension);
+        DeadlineExtension createdDeadlineExtension = deadlineExtensionsDb.createDeadlineExtension(deadlineExtension);
+
+        FeedbackSession feedbackSession = createdDeadlineExtension.getFeedbackSession();
+        if (!feedbackSession.getDeadlineExtensions().contains(createdDeadlineExtension)) {
+            feedbackSession.getDeadlineExtensions().add(createdDeadlineExtension);
+        }
+        feedbackSessionsLogic.updateNextNotificationDueAt(feedbackSession);
+        return createdDeadlineExtension;
     }
 
     /**
      * Deletes a deadline extension.
+     *
+     * <p>The time at which the next notification email of the feedback session is due is updated.
      */
     public void deleteDeadlineExtension(DeadlineExtension de) {
         deadlineExtensionsDb.deleteDeadlineExtension(de);
+        if (de == null) {
+            return;
+        }
+
+        FeedbackSession feedbackSession = de.getFeedbackSession();
+        feedbackSession.getDeadlineExtensions().remove(de);
+        feedbackSessionsLogic.updateNextNotificationDueAt(feedbackSession);
     }
 
     /**
      * Updates a deadline extension.
      *
+     * <p>The time at which the next notification email of the feedback session is due is updated.
+     *
      * @throws EntityDoesNotExistException if the deadline extension does not exist
      * @throws InvalidParametersException if the deadline extension is not valid
      */
     public DeadlineExtension updateDeadlineExtension(DeadlineExtension de)
             throws InvalidParametersException, EntityDoesNotExistException {
-        return deadlineExtensionsDb.updateDeadlineExtension(de);
+        DeadlineExtension updatedDeadlineExtension = deadlineExtensionsDb.updateDeadlineExtension(de);
+
+        FeedbackSession feedbackSession = updatedDeadlineExtension.getFeedbackSession();
+        List<DeadlineExtension> deadlineExtensions = feedbackSession.getDeadlineExtensions();
+        // the deadline extensions of the session may hold another copy of the updated deadline extension
+        deadlineExtensions.remove(updatedDeadlineExtension);
+        deadlineExtensions.add(updatedDeadlineExtension);
+        feedbackSessionsLogic.updateNextNotificationDueAt(feedbackSession);
+        return updatedDeadlineExtension;
     }
 
     /**
-     * Gets a list of deadline extensions with endTime coming up soon
-     * and possibly need a closing soon email to be sent.
+     * Gets the deadline extensions with endTime coming up soon which possibly need a closing soon email to be sent,
+     * grouped by their feedback sessions.
+     *
+     * @see DeadlineExtensionsDb#getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()
      */
-    public List<DeadlineExtension> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
+    public Map<FeedbackSession, List<DeadlineExtension>> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
         return deadlineExtensionsDb.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
     }
 
+    /**
+     * Marks the closing soon emails of the given deadline extensions as sent,
+     * and updates the time at which the next notification email of their feedback sessions is due.
+     *
+     * @see DeadlineExtensionsDb#updateDeadlineExtensionsClosingSoonEmailSent(List)
+     */
+    public void updateDeadlineExtensionsClosingSoonEmailSent(List<DeadlineExtension> deadlineExtensions) {
+        deadlineExtensionsDb.updateDeadlineExtensionsClosingSoonEmailSent(deadlineExtensions);
+
+        // the deadline extensions are not refreshed by the update, so those marked as sent are left out instead
+        Set<DeadlineExtension> sentDeadlineExtensions = new HashSet<>(deadlineExtensions);
+        deadlineExtensions.stream()
+                .map(DeadlineExtension::getFeedbackSession)
+                .distinct()
+                .forEach(feedbackSession -> feedbackSessionsLogic.updateNextNotificationDueAt(feedbackSession,
+                        feedbackSession.getDeadlineExtensions().stream()
+                                .filter(deadlineExtension -> !sentDeadlineExtensions.contains(deadlineExtension))
+                                .collect(Collectors.toList())));
+    }
+
     /**
      * Deletes a user's deadline extensions.
      */
@@ -137,6 +137,15 @@ public final class FeedbackResponsesLogic {
         return frDb.hasResponsesFromGiverInSession(giver, feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the set of identifiers of givers who have at least one response in the feedback session.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return frDb.getGiverSetThatAnsweredFeedbackSession(feedbackSession);
+    }
+
     /**
      * Creates a feedback response.
      * @return the created response
@@ -0,0 +1,287 @@
+package teammates.sqllogic.core;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.Logger;
+import teammates.storage.sqlapi.FeedbackSessionLogsDb;
+import teammates.storage.sqlentity.FeedbackSessionLog;
+
+/**
+ * Buffers the feedback session logs of students' page views and submissions, and writes them to the database
+ * in batches from a background thread, so that these requests do not hold a database connection for the insert.
+ *
+ * <p>Logs of the same type for the same student and session within {@link Const#STUDENT_ACTIVITY_LOGS_FILTER_WINDOW}
+ * of the last buffered one are discarded when added. The buffer is bounded: when it is full, logs are dropped,
+ * and the number of dropped logs is reported when the buffer is next flushed.
+ *
+ * <p>The background flushes are started with {@link #start()} when the application starts,
+ * and the remaining logs are written by {@link #close()} when it stops.
+ */
+public final class FeedbackSessionLogsBuffer {
+
+    /**
+     * Maximum number of logs waiting to be written.
+     */
+    static final int CAPACITY = 10_000;
+
+    /**
+     * Maximum number of logs written in one transaction, which is also the JDBC batch size of the inserts.
+     */
+    static final int BATCH_SIZE = 200;
+
+    private static final long FLUSH_INTERVAL_MILLIS = 1_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long DEDUPLICATION_WINDOW_MILLIS = Const.STUDENT_ACTIVITY_LOGS_FILTER_WINDOW.toMillis();
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final FeedbackSessionLogsBuffer instance = new FeedbackSessionLogsBuffer();
+
+    private final BlockingQueue<PendingLog> pendingLogs = new ArrayBlockingQueue<>(CAPACITY);
+    private final Map<PendingLog, Long> lastBufferedTimestamps = new ConcurrentHashMap<>();
+
+    private final AtomicLong bufferedCount = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong reportedDroppedCount = new AtomicLong();
+
+    private final Object lock = new Object();
+    private ScheduledExecutorService flusher;
+
+    private FeedbackSessionLogsDb fslDb;
+    private FeedbackSessionsLogic fsLogic;
+    private UsersLogic usersLogic;
+
+    FeedbackSessionLogsBuffer() {
+        // only for the shared instance, and for tests which need a buffer of their own
+    }
+
+    public static FeedbackSessionLogsBuffer inst() {
+        return instance;
+    }
+
+    void initLogicDependencies(FeedbackSessionLogsDb fslDb, FeedbackSessionsLogic fsLogic, UsersLogic usersLogic) {
+        this.fslDb = fslDb;
+        this.fsLogic = fsLogic;
+        this.usersLogic = usersLogic;
+    }
+
+    /**
+     * Adds a log to be written in the background.
+     *
+     * @return true if the log is buffered, false if it is a duplicate of a recent log or the buffer is full
+     */
+    public boolean add(UUID studentId, UUID feedbackSessionId, FeedbackSessionLogType type, Instant timestamp) {
+        PendingLog pendingLog = new PendingLog(studentId, feedbackSessionId, type, timestamp.toEpochMilli());
+
+        AtomicBoolean isDuplicate = new AtomicBoolean();
+        lastBufferedTimestamps.compute(pendingLog, (key, lastBuffered) -> {
+            if (lastBuffered != null && Math.abs(pendingLog.timestamp - lastBuffered) <= DEDUPLICATION_WINDOW_MILLIS) {
+                isDuplicate.set(true);
+                return lastBuffered;
+            }
+            return pendingLog.timestamp;
+        });
+        if (isDuplicate.get()) {
+            deduplicatedCount.incrementAndGet();
+            return false;
+        }
+
+        if (!pendingLogs.offer(pendingLog)) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        bufferedCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Starts writing the buffered logs in the background, if not already started.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (flusher != null) {
+                return;
+            }
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "feedback-session-logs-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // a failure must not stop the scheduled flushes
+            log.severe("Failed to flush feedback session logs", e);
+        }
+    }
+
+    /**
+     * Writes all the buffered logs to the database, in batches of {@link #BATCH_SIZE}.
+     */
+    public void flush() {
+        List<PendingLog> batch = new ArrayList<>(BATCH_SIZE);
+        while (pendingLogs.drainTo(batch, BATCH_SIZE) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        long now = System.currentTimeMillis();
+        lastBufferedTimestamps.values().removeIf(timestamp -> now - timestamp > DEDUPLICATION_WINDOW_MILLIS);
+
+        long dropped = droppedCount.get();
+        long newlyDropped = dropped - reportedDroppedCount.getAndSet(dropped);
+        if (newlyDropped > 0) {
+            log.warning("Dropped " + newlyDropped + " feedback session logs as the buffer of "
+                    + CAPACITY + " logs was full");
+        }
+    }
+
+    private void writeBatch(List<PendingLog> batch) {
+        try {
+            HibernateUtil.beginTransaction();
+            HibernateUtil.setJdbcBatchSize(BATCH_SIZE);
+            for (PendingLog pendingLog : batch) {
+                fslDb.createFeedbackSessionLog(toFeedbackSessionLog(pendingLog));
+            }
+            HibernateUtil.commitTransaction();
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            HibernateUtil.rollbackTransaction();
+            // e.g. a transient database error; as the logs do not reference the student and session with
+            // foreign keys, write the logs one by one so that only the logs which cannot be written are lost
+            batch.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingLog pendingLog) {
+        try {
+            HibernateUtil.beginTransaction();
+            fslDb.createFeedbackSessionLog(toFeedbackSessionLog(pendingLog));
+            HibernateUtil.commitTransaction();
+            writtenCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            HibernateUtil.rollbackTransaction();
+            failedCount.incrementAndGet();
+            log.warning("Failed to create session activity log of student " + pendingLog.studentId
+                    + " in session " + pendingLog.feedbackSessionId, e);
+        }
+    }
+
+    private FeedbackSessionLog toFeedbackSessionLog(PendingLog pendingLog) {
+        // references are used so that the student and session are not loaded
+        return new FeedbackSessionLog(usersLogic.getStudentReference(pendingLog.studentId),
+                fsLogic.getFeedbackSessionReference(pendingLog.feedbackSessionId),
+                pendingLog.type, Instant.ofEpochMilli(pendingLog.timestamp));
+    }
+
+    /**
+     * Stops the background flushes and writes the remaining logs.
+     */
+    public void close() {
+        ScheduledExecutorService stoppedFlusher;
+        synchronized (lock) {
+            stoppedFlusher = flusher;
+            flusher = null;
+        }
+        if (stoppedFlusher != null) {
+            stoppedFlusher.shutdown();
+            try {
+                stoppedFlusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info("Feedback session logs buffer closed: " + bufferedCount.get() + " buffered, "
+                + deduplicatedCount.get() + " deduplicated, " + droppedCount.get() + " dropped, "
+                + writtenCount.get() + " written, " + failedCount.get() + " failed");
+    }
+
+    public long getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicatedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getPendingCount() {
+        return pendingLogs.size();
+    }
+
+    /**
+     * A log waiting to be written. Logs are equal if they are of the same type for the same student and session,
+     * regardless of their timestamps, for the de-duplication.
+     */
+    private static final class PendingLog {
+
+        private final UUID studentId;
+        private final UUID feedbackSessionId;
+        private final FeedbackSessionLogType type;
+        private final long timestamp;
+
+        PendingLog(UUID studentId, UUID feedbackSessionId, FeedbackSessionLogType type, long timestamp) {
+            this.studentId = studentId;
+            this.feedbackSessionId = feedbackSessionId;
+            this.type = type;
+            this.timestamp = timestamp;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof PendingLog)) {
+                return false;
+            }
+            PendingLog otherLog = (PendingLog) other;
+            return studentId.equals(otherLog.studentId) && feedbackSessionId.equals(otherLog.feedbackSessionId)
+                    && type == otherLog.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, feedbackSessionId, type);
+        }
+
+    }
+
+}
@@ -1,14 +1,21 @@
 package teammates.sqllogic.core;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.ObjectNotFoundException;
 
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.Logger;
 import teammates.storage.sqlapi.FeedbackSessionLogsDb;
 import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.FeedbackSessionLogDailyRollup;
 
 /**
  * Handles operations related to feedback sessions.
@@ -24,6 +31,16 @@ public final class FeedbackSessionLogsLogic {
 
     private static final String ERROR_FAILED_TO_CREATE_LOG = "Failed to create session activity log";
 
+    /**
+     * Number of months ahead of the current month for which partitions of the logs are created.
+     */
+    private static final int PARTITION_MONTHS_AHEAD = 2;
+
+    /**
+     * Number of complete days before today which are rolled up again, for logs created with past timestamps.
+     */
+    private static final int ROLLUP_DAYS = 2;
+
     private FeedbackSessionLogsDb fslDb;
 
     private FeedbackSessionLogsLogic() {
@@ -39,9 +56,13 @@ public final class FeedbackSessionLogsLogic {
     }
 
     /**
-     * Creates feedback session logs.
+     * Creates feedback session logs. The inserts are sent to the database in JDBC batches.
      */
     public void createFeedbackSessionLogs(List<FeedbackSessionLog> fsLogs) {
+        if (fsLogs.isEmpty()) {
+            return;
+        }
+        HibernateUtil.setJdbcBatchSize(FeedbackSessionLogsBuffer.BATCH_SIZE);
         for (FeedbackSessionLog fsLog : fsLogs) {
             try {
                 fslDb.createFeedbackSessionLog(fsLog);
@@ -67,12 +88,155 @@ public final class FeedbackSessionLogsLogic {
      * ascending timestamp. Logs with the same timestamp will be ordered by the
      * student's email.
      *
+     * <p>For time ranges longer than {@link Const#STUDENT_ACTIVITY_LOGS_ROLLUP_MIN_TIME_RANGE}, the logs
+     * of the whole days which have been rolled up are read from the daily rollups instead.
+     * The logs of days older than {@link Const#STUDENT_ACTIVITY_LOGS_RETENTION_PERIOD} are also read from
+     * the daily rollups if they have been dropped. Each rollup is returned as the last log of its type
+     * of the student in the session on the day, marked with the number of logs and the timestamp
+     * of the first log it summarizes (see {@link FeedbackSessionLog#isRolledUp()}).
+     *
      * @param studentId        Can be null
      * @param feedbackSessionId Can be null
      */
     public List<FeedbackSessionLog> getOrderedFeedbackSessionLogs(String courseId, UUID studentId,
             UUID feedbackSessionId, Instant startTime, Instant endTime) {
-        return fslDb.getOrderedFeedbackSessionLogs(courseId, studentId, feedbackSessionId, startTime,
-                endTime);
+        Instant now = Instant.now();
+        if (!startTime.plus(Const.STUDENT_ACTIVITY_LOGS_ROLLUP_MIN_TIME_RANGE).isBefore(endTime)) {
+            return getFeedbackSessionLogsNotRolledUp(courseId, studentId, feedbackSessionId, startTime, endTime,
+                    now);
+        }
+
+        LocalDate rollupStartDate = toUtcDate(startTime.minusNanos(1)).plusDays(1);
+        LocalDate rollupEndDate = toUtcDate(endTime);
+        LocalDate firstDateNotRolledUp = getFirstDateNotRolledUp(now);
+        if (rollupEndDate.isAfter(firstDateNotRolledUp)) {
+            rollupEndDate = firstDateNotRolledUp;
+        }
+        if (!rollupStartDate.isBefore(rollupEndDate)) {
+            return getFeedbackSessionLogsNotRolledUp(courseId, studentId, feedbackSessionId, startTime, endTime,
+                    now);
+        }
+
+        Instant rollupStartTime = toStartOfUtcDay(rollupStartDate);
+        Instant rollupEndTime = toStartOfUtcDay(rollupEndDate);
+        List<FeedbackSessionLog> fsLogs = new ArrayList<>(getFeedbackSessionLogsNotRolledUp(courseId, studentId,
+                feedbackSessionId, startTime, rollupStartTime, now));
+        fsLogs.addAll(getRolledUpFeedbackSessionLogs(courseId, studentId, feedbackSessionId, rollupStartTime,
+                rollupEndTime));
+        fsLogs.addAll(getFeedbackSessionLogsNotRolledUp(courseId, studentId, feedbackSessionId, rollupEndTime,
+                endTime, now));
+        return fsLogs;
+    }
+
+    /**
+     * Gets the feedback session logs from {@code startTime} to {@code endTime} one by one, falling back to
+     * the daily rollups for the part of the time range whose logs may have been dropped if no logs are found there.
+     */
+    private List<FeedbackSessionLog> getFeedbackSessionLogsNotRolledUp(String courseId, UUID studentId,
+            UUID feedbackSessionId, Instant startTime, Instant endTime, Instant now) {
+        Instant retainedLogsStartTime = toStartOfUtcDay(getFirstDateWithRetainedLogs(now));
+        if (!startTime.isBefore(retainedLogsStartTime)) {
+            return fslDb.getOrderedFeedbackSessionLogs(courseId, studentId, feedbackSessionId, startTime, endTime);
+        }
+
+        Instant droppedLogsEndTime = endTime.isBefore(retainedLogsStartTime) ? endTime : retainedLogsStartTime;
+        List<FeedbackSessionLog> fsLogs = new ArrayList<>(fslDb.getOrderedFeedbackSessionLogs(courseId, studentId,
+                feedbackSessionId, startTime, droppedLogsEndTime));
+        if (fsLogs.isEmpty()) {
+            fsLogs.addAll(getRolledUpFeedbackSessionLogs(courseId, studentId, feedbackSessionId, startTime,
+                    droppedLogsEndTime));
+        }
+        if (endTime.isAfter(retainedLogsStartTime)) {
+            fsLogs.addAll(fslDb.getOrderedFeedbackSessionLogs(courseId, studentId, feedbackSessionId,
+                    retainedLogsStartTime, endTime));
+        }
+        return fsLogs;
+    }
+
+    /**
+     * Gets the feedback session logs from {@code startTime} to {@code endTime} from the daily rollups.
+     * As the logs of a day cannot be split, the rollups of the days partially in the time range are included
+     * if some of the logs they summarize may be in the time range.
+     */
+    private List<FeedbackSessionLog> getRolledUpFeedbackSessionLogs(String courseId, UUID studentId,
+            UUID feedbackSessionId, Instant startTime, Instant endTime) {
+        List<FeedbackSessionLog> fsLogs = new ArrayList<>();
+        if (!startTime.isBefore(endTime)) {
+            return fsLogs;
+        }
+        LocalDate startDate = toUtcDate(startTime);
+        LocalDate endDate = toUtcDate(endTime.minusNanos(1)).plusDays(1);
+        for (FeedbackSessionLogDailyRollup rollup : fslDb.getOrderedFeedbackSessionLogDailyRollups(courseId,
+                studentId, feedbackSessionId, startDate, endDate)) {
+            if (rollup.getFirstTimestamp().isBefore(endTime) && !rollup.getLastTimestamp().isBefore(startTime)) {
+                fsLogs.add(rollup.toFeedbackSessionLog());
+            }
+        }
+        return fsLogs;
+    }
+
+    /**
+     * Creates the partitions of the feedback session logs for the current month
+     * and the next few months, if they do not exist.
+     *
+     * @return the number of partitions created
+     */
+    public int createUpcomingFeedbackSessionLogsPartitions(Instant now) {
+        YearMonth currentMonth = YearMonth.from(now.atZone(ZoneOffset.UTC));
+        int createdCount = 0;
+        for (int i = 0; i <= PARTITION_MONTHS_AHEAD; i++) {
+            if (fslDb.createFeedbackSessionLogsPartition(currentMonth.plusMonths(i))) {
+                createdCount++;
+            }
+        }
+        return createdCount;
+    }
+
+    /**
+     * Rolls up the feedback session logs of the last few complete days (in UTC).
+     *
+     * @return the number of rollups created or replaced
+     */
+    public int rollUpRecentFeedbackSessionLogs(Instant now) {
+        LocalDate today = toUtcDate(now);
+        int rollupCount = 0;
+        for (int i = ROLLUP_DAYS; i >= 1; i--) {
+            rollupCount += fslDb.rollUpFeedbackSessionLogs(today.minusDays(i));
+        }
+        return rollupCount;
+    }
+
+    /**
+     * Drops the feedback session logs older than {@link Const#STUDENT_ACTIVITY_LOGS_RETENTION_PERIOD}.
+     * Their daily rollups are kept.
+     *
+     * @return the number of partitions dropped
+     */
+    public int dropExpiredFeedbackSessionLogs(Instant now) {
+        return fslDb.dropFeedbackSessionLogsPartitionsBefore(getFirstDateWithRetainedLogs(now));
+    }
+
+    /**
+     * Returns the first date whose logs are not dropped yet,
+     * as the logs of the days before may be dropped by {@link #dropExpiredFeedbackSessionLogs(Instant)}.
+     */
+    private static LocalDate getFirstDateWithRetainedLogs(Instant now) {
+        return toUtcDate(now.minus(Const.STUDENT_ACTIVITY_LOGS_RETENTION_PERIOD));
+    }
+
+    /**
+     * Returns the first date whose logs may not have been rolled up yet,
+     * as the logs of each day are only rolled up after the day ends.
+     */
+    private static LocalDate getFirstDateNotRolledUp(Instant now) {
+        return toUtcDate(now).minusDays(1);
+    }
+
+    private static LocalDate toUtcDate(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toStartOfUtcDay(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
     }
 }
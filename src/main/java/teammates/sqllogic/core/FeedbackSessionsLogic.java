@@ -1,9 +1,12 @@
 package teammates.sqllogic.core;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -13,12 +16,15 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
+import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
 
 /**
  * Handles operations related to feedback sessions.
@@ -37,8 +43,11 @@ public final class FeedbackSessionsLogic {
     private static final String ERROR_FS_ALREADY_UNPUBLISH = "Error unpublishing feedback session: "
             + "Session has already been unpublished.";
 
-    private static final int NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT = 24;
-    private static final int NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT = 24;
+    /**
+     * Number of days after the start time or the results visible time within which
+     * a missed opened or published email is still sent.
+     */
+    private static final int NUMBER_OF_DAYS_TO_SEND_MISSED_EMAIL = 2;
 
     private static final FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
@@ -114,12 +123,10 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Gets all feedback sessions of a course started after time, except those that are soft-deleted.
+     * Gets all feedback sessions of any of the given courses started after time, except those that are soft-deleted.
      */
-    public List<FeedbackSession> getFeedbackSessionsForCourseStartingAfter(String courseId, Instant after) {
-        return fsDb.getFeedbackSessionEntitiesForCourseStartingAfter(courseId, after).stream()
-                .filter(session -> session.getDeletedAt() == null)
-                .collect(Collectors.toList());
+    public List<FeedbackSession> getFeedbackSessionsForCoursesStartingAfter(Collection<String> courseIds, Instant after) {
+        return fsDb.getFeedbackSessionsForCoursesStartingAfter(courseIds, after);
     }
 
     /**
@@ -187,15 +194,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(feedbackSession);
     }
 
     /**
@@ -204,15 +203,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(fs);
     }
 
     /**
@@ -225,6 +216,7 @@ public final class FeedbackSessionsLogic {
     public FeedbackSession createFeedbackSession(FeedbackSession session)
             throws InvalidParametersException, EntityAlreadyExistsException {
         assert session != null;
+        updateNextNotificationDueAt(session);
         return fsDb.createFeedbackSession(session);
     }
 
@@ -237,7 +229,9 @@ public final class FeedbackSessionsLogic {
      */
     public FeedbackSession updateFeedbackSession(FeedbackSession session)
             throws InvalidParametersException, EntityDoesNotExistException {
-        return fsDb.updateFeedbackSession(session);
+        FeedbackSession updatedSession = fsDb.updateFeedbackSession(session);
+        updateNextNotificationDueAt(updatedSession);
+        return updatedSession;
     }
 
     /**
@@ -260,6 +254,7 @@ public final class FeedbackSessionsLogic {
         }
 
         sessionToUnpublish.setResultsVisibleFromTime(Const.TIME_REPRESENTS_LATER);
+        updateNextNotificationDueAt(sessionToUnpublish);
 
         return sessionToUnpublish;
     }
@@ -284,6 +279,7 @@ public final class FeedbackSessionsLogic {
         }
 
         sessionToPublish.setResultsVisibleFromTime(Instant.now());
+        updateNextNotificationDueAt(sessionToPublish);
 
         return sessionToPublish;
     }
@@ -394,6 +390,63 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), session.isCreator(userEmail));
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted the feedback session.
+     *
+     * <p>The givers who have responded are fetched in a single query, and the same rules as
+     * {@link #isFeedbackSessionAttemptedByStudent(FeedbackSession, String, String)} are applied to each student.
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        assert session != null;
+        assert students != null;
+
+        List<FeedbackQuestion> questions = session.getFeedbackQuestions();
+        if (students.isEmpty() || !fqLogic.hasFeedbackQuestionsForStudents(questions)) {
+            // if there are no questions for student, session is attempted
+            return new ArrayList<>();
+        }
+
+        Set<String> giverSet = frLogic.getGiverSetThatAnsweredFeedbackSession(session);
+        if (fqLogic.hasFeedbackQuestionsForGiverType(questions, FeedbackParticipantType.STUDENTS)) {
+            // case where there are some individual questions
+            return students.stream()
+                    .filter(student -> !giverSet.contains(student.getEmail()))
+                    .collect(Collectors.toList());
+        }
+        // case where all are team questions
+        return students.stream()
+                .filter(student -> !giverSet.contains(student.getTeamName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted the feedback session.
+     *
+     * <p>The givers who have responded are fetched in a single query, and the same rules as
+     * {@link #isFeedbackSessionAttemptedByInstructor(FeedbackSession, String)} are applied to each instructor.
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        assert session != null;
+        assert instructors != null;
+
+        List<FeedbackQuestion> questions = session.getFeedbackQuestions();
+        boolean hasQuestionsForCreator = fqLogic.hasFeedbackQuestionsForInstructors(questions, true);
+        boolean hasQuestionsForNonCreator = fqLogic.hasFeedbackQuestionsForInstructors(questions, false);
+        if (instructors.isEmpty() || !hasQuestionsForCreator && !hasQuestionsForNonCreator) {
+            // if there is no question for instructor, session is attempted
+            return new ArrayList<>();
+        }
+
+        Set<String> giverSet = frLogic.getGiverSetThatAnsweredFeedbackSession(session);
+        return instructors.stream()
+                .filter(instructor -> !giverSet.contains(instructor.getEmail()))
+                .filter(instructor -> session.isCreator(instructor.getEmail())
+                        ? hasQuestionsForCreator
+                        : hasQuestionsForNonCreator)
+                .collect(Collectors.toList());
+    }
+
     /**
      * After an update to feedback session's fields, may need to adjust the email status of the session.
      * @param session recently updated session.
@@ -405,8 +458,8 @@ public final class FeedbackSessionsLogic {
             session.setOpenedEmailSent(session.isOpened());
 
             // also reset isOpeningSoonEmailSent
-            session.setOpeningSoonEmailSent(
-                    session.isOpened() || session.isOpeningInHours(NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT));
+            session.setOpeningSoonEmailSent(session.isOpened()
+                    || session.isOpeningInHours(FeedbackSession.NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT));
         }
 
         // reset isClosedEmailSent if the session has closed but is being un-closed
@@ -416,7 +469,7 @@ public final class FeedbackSessionsLogic {
 
             // also reset isClosingSoonEmailSent
             session.setClosingSoonEmailSent(
-                    session.isClosed() || session.isClosedAfter(NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT));
+                    session.isClosed() || session.isClosedAfter(FeedbackSession.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT));
         }
 
         // reset isPublishedEmailSent if the session has been published but is
@@ -424,111 +477,159 @@ public final class FeedbackSessionsLogic {
         if (session.isPublishedEmailSent()) {
             session.setPublishedEmailSent(session.isPublished());
         }
+
+        updateNextNotificationDueAt(session);
     }
 
     /**
-     * Criteria: must be published, publishEmail must be enabled and
-     * resultsVisibleTime must be custom.
+     * Updates the time at which the next automated notification email of the session is due.
      *
-     * @return returns a list of sessions that require automated emails to be
-     *         sent as they are published
+     * <p>This is to be done whenever a field which the emails depend on changes, including the deadline extensions
+     * of the session, and after the emails due are sent, so that emails which can no longer be sent
+     * (e.g. an opening soon email of a session which has opened) do not keep the session due.
      */
-    public List<FeedbackSession> getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent() {
-        List<FeedbackSession> sessionsToSendEmailsFor = new ArrayList<>();
-        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsPossiblyNeedingPublishedEmail();
-        log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
-
-        for (FeedbackSession session : sessions) {
-            // automated emails are required only for custom publish times
-            if (session.isPublished()
-                    && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())
-                    && session.getCourse().getDeletedAt() == null) {
-                sessionsToSendEmailsFor.add(session);
-            }
-        }
-        log.info(String.format("Number of sessions under consideration after filtering: %d",
-                sessionsToSendEmailsFor.size()));
-        return sessionsToSendEmailsFor;
+    public void updateNextNotificationDueAt(FeedbackSession session) {
+        updateNextNotificationDueAt(session, session.getDeadlineExtensions());
     }
 
     /**
-     * Returns a list of sessions that are going to close within the next 24 hours.
+     * Updates the time at which the next automated notification email of the session is due,
+     * given the deadline extensions of the session.
+     *
+     * <p>This is for when the deadline extensions of the session entity are not up to date,
+     * e.g. after they are updated in bulk.
      */
-    public List<FeedbackSession> getFeedbackSessionsClosingWithinTimeLimit() {
-        List<FeedbackSession> requiredSessions = new ArrayList<>();
-        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsPossiblyNeedingClosingSoonEmail();
-        log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
-
-        for (FeedbackSession session : sessions) {
-            if (session.isClosingWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT)
-                    && session.getCourse().getDeletedAt() == null) {
-                requiredSessions.add(session);
-            }
-        }
-
-        log.info(String.format("Number of sessions under consideration after filtering: %d",
-                requiredSessions.size()));
-        return requiredSessions;
+    void updateNextNotificationDueAt(FeedbackSession session, Collection<DeadlineExtension> deadlineExtensions) {
+        session.setNextNotificationDueAt(getNextNotificationDueAt(session, deadlineExtensions, Instant.now()));
     }
 
     /**
-     * Returns a list of sessions that are going to open in 24 hours.
+     * Gets the earliest time at which an automated notification email of the session which is enabled
+     * and not sent yet is due, or null if there are no such emails which can still be sent after {@code now}.
+     *
+     * <p>The closing soon emails of the deadline extensions are included, as they are sent with the emails
+     * of the session.
      */
-    public List<FeedbackSession> getFeedbackSessionsOpeningWithinTimeLimit() {
-        List<FeedbackSession> requiredSessions = new ArrayList<>();
-        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsPossiblyNeedingOpeningSoonEmail();
-        log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
+    static Instant getNextNotificationDueAt(
+            FeedbackSession session, Collection<DeadlineExtension> deadlineExtensions, Instant now) {
+        Instant startTime = session.getStartTime();
+        Instant endTime = session.getEndTime();
+        Instant resultsVisibleFromTime = session.getResultsVisibleFromTime();
+        if (startTime == null || endTime == null || resultsVisibleFromTime == null) {
+            // invalid session, which is rejected when it is saved
+            return null;
+        }
+        Duration closingSoonAlert = Duration.ofHours(FeedbackSession.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT);
 
-        for (FeedbackSession session : sessions) {
-            if (session.isOpeningWithinTimeLimit(NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT)
-                    && session.getCourse().getDeletedAt() == null) {
-                requiredSessions.add(session);
+        Instant nextDueAt = null;
+        if (!session.isOpeningSoonEmailSent()) {
+            nextDueAt = getEarlierDueTime(nextDueAt, now,
+                    startTime.minus(Duration.ofHours(FeedbackSession.NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT)),
+                    startTime.minus(Duration.ofHours(FeedbackSession.NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT - 1)));
+        }
+        if (!session.isOpenedEmailSent()) {
+            Instant lastOpenedEmailTime = startTime.plus(Duration.ofDays(NUMBER_OF_DAYS_TO_SEND_MISSED_EMAIL));
+            nextDueAt = getEarlierDueTime(nextDueAt, now, startTime,
+                    endTime.isBefore(lastOpenedEmailTime) ? endTime : lastOpenedEmailTime);
+        }
+        if (!session.isClosingSoonEmailSent() && session.isClosingSoonEmailEnabled() && !session.isClosedEmailSent()) {
+            Instant closingSoonTime = endTime.minus(closingSoonAlert);
+            nextDueAt = getEarlierDueTime(nextDueAt, now,
+                    closingSoonTime.isBefore(startTime) ? startTime : closingSoonTime,
+                    endTime.minus(closingSoonAlert.minusHours(1)));
+        }
+        if (!session.isClosedEmailSent() && session.isClosingSoonEmailEnabled()) {
+            Instant closedTime = endTime.plus(session.getGracePeriod());
+            nextDueAt = getEarlierDueTime(nextDueAt, now, closedTime, closedTime.plus(Duration.ofHours(1)));
+        }
+        if (!session.isPublishedEmailSent() && session.isPublishedEmailEnabled()
+                && !TimeHelper.isSpecialTime(resultsVisibleFromTime)) {
+            nextDueAt = getEarlierDueTime(nextDueAt, now, resultsVisibleFromTime,
+                    resultsVisibleFromTime.plus(Duration.ofDays(NUMBER_OF_DAYS_TO_SEND_MISSED_EMAIL)));
+        }
+        if (session.isClosingSoonEmailEnabled()) {
+            // the closing soon email of a deadline extension can be sent until the extended deadline
+            for (DeadlineExtension deadlineExtension : deadlineExtensions) {
+                if (!deadlineExtension.isClosingSoonEmailSent()) {
+                    Instant extendedEndTime = deadlineExtension.getEndTime();
+                    nextDueAt = getEarlierDueTime(nextDueAt, now, extendedEndTime.minus(closingSoonAlert),
+                            extendedEndTime);
+                }
             }
         }
-
-        log.info(String.format("Number of sessions under consideration after filtering: %d",
-                requiredSessions.size()));
-        return requiredSessions;
+        return nextDueAt;
     }
 
     /**
-     * Returns a list of sessions that were closed within past hour.
+     * Returns the earlier of {@code currentDueAt} and {@code dueAt}, ignoring {@code dueAt}
+     * if the email can no longer be sent after {@code lastDueAt}.
      */
-    public List<FeedbackSession> getFeedbackSessionsClosedWithinThePastHour() {
-        List<FeedbackSession> requiredSessions = new ArrayList<>();
-        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsPossiblyNeedingClosedEmail();
-        log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
-
-        for (FeedbackSession session : sessions) {
-            // is session closed in the past 1 hour
-            if (session.isClosedWithinPastHour()
-                    && session.getCourse().getDeletedAt() == null) {
-                requiredSessions.add(session);
-            }
+    private static Instant getEarlierDueTime(Instant currentDueAt, Instant now, Instant dueAt, Instant lastDueAt) {
+        if (!lastDueAt.isAfter(now) || !lastDueAt.isAfter(dueAt)) {
+            return currentDueAt;
         }
-        log.info(String.format("Number of sessions under consideration after filtering: %d",
-                requiredSessions.size()));
-        return requiredSessions;
+        return currentDueAt == null || dueAt.isBefore(currentDueAt) ? dueAt : currentDueAt;
     }
 
     /**
-     * Gets a list of undeleted feedback sessions which start within the last 2 hours
-     * and need an open email to be sent.
+     * Gets the undeleted feedback sessions in undeleted courses which need an automated notification email to be sent,
+     * by the type of the email.
+     *
+     * <p>The sessions for all the types are fetched with a single query on the time their next notification email
+     * is due, and are then classified as:
+     * <ul>
+     * <li>{@link EmailType#FEEDBACK_OPENED}: sessions which are open.</li>
+     * <li>{@link EmailType#FEEDBACK_OPENING_SOON}: sessions which are going to open in 24 hours.</li>
+     * <li>{@link EmailType#FEEDBACK_CLOSING_SOON}: sessions which are going to close within the next 24 hours.</li>
+     * <li>{@link EmailType#FEEDBACK_CLOSED}: sessions which were closed within the past hour.</li>
+     * <li>{@link EmailType#FEEDBACK_PUBLISHED}: sessions which are published at a custom publish time.</li>
+     * </ul>
+     * A session can need more than one type of email, e.g. when it opens and is going to close within 24 hours.
      */
-    public List<FeedbackSession> getFeedbackSessionsWhichNeedOpenedEmailsToBeSent() {
-        List<FeedbackSession> sessionsToSendEmailsFor = new ArrayList<>();
-        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsPossiblyNeedingOpenedEmail();
+    public Map<EmailType, List<FeedbackSession>> getFeedbackSessionsNeedingNotificationEmails() {
+        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsWithNotificationDue(Instant.now());
         log.info(String.format("Number of sessions under consideration: %d", sessions.size()));
 
+        Map<EmailType, List<FeedbackSession>> sessionsByEmailType = new EnumMap<>(EmailType.class);
+        for (EmailType emailType : new EmailType[] {
+                EmailType.FEEDBACK_OPENED,
+                EmailType.FEEDBACK_OPENING_SOON,
+                EmailType.FEEDBACK_CLOSING_SOON,
+                EmailType.FEEDBACK_CLOSED,
+                EmailType.FEEDBACK_PUBLISHED,
+        }) {
+            sessionsByEmailType.put(emailType, new ArrayList<>());
+        }
+
         for (FeedbackSession session : sessions) {
-            if (session.isOpened() && session.getCourse().getDeletedAt() == null) {
-                sessionsToSendEmailsFor.add(session);
+            if (!session.isOpenedEmailSent() && session.isOpened()) {
+                sessionsByEmailType.get(EmailType.FEEDBACK_OPENED).add(session);
+            }
+            if (!session.isOpeningSoonEmailSent()
+                    && session.isOpeningWithinTimeLimit(FeedbackSession.NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT)) {
+                sessionsByEmailType.get(EmailType.FEEDBACK_OPENING_SOON).add(session);
+            }
+            if (!session.isClosingSoonEmailSent() && session.isClosingSoonEmailEnabled() && !session.isClosedEmailSent()
+                    && session.isClosingWithinTimeLimit(FeedbackSession.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT)) {
+                sessionsByEmailType.get(EmailType.FEEDBACK_CLOSING_SOON).add(session);
             }
+            if (!session.isClosedEmailSent() && session.isClosingSoonEmailEnabled()
+                    && session.isClosedWithinPastHour()) {
+                sessionsByEmailType.get(EmailType.FEEDBACK_CLOSED).add(session);
+            }
+            // automated emails are required only for custom publish times
+            if (!session.isPublishedEmailSent() && session.isPublishedEmailEnabled()
+                    && session.isPublished() && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())) {
+                sessionsByEmailType.get(EmailType.FEEDBACK_PUBLISHED).add(session);
+            }
+
+            // skips the emails which can no longer be sent; those being sent are skipped once marked as sent
+            updateNextNotificationDueAt(session);
         }
 
-        log.info(String.format("Number of sessions under consideration after filtering: %d",
-                sessionsToSendEmailsFor.size()));
-        return sessionsToSendEmailsFor;
+        sessionsByEmailType.forEach((emailType, sessionsForType) ->
+                log.info(String.format("Number of sessions needing %s emails: %d", emailType, sessionsForType.size())));
+        return sessionsByEmailType;
     }
 
     /**
@@ -51,6 +51,7 @@ public class LogicStarter implements ServletContextListener {
         deadlineExtensionsLogic.initLogicDependencies(DeadlineExtensionsDb.inst(), fsLogic);
         fsLogic.initLogicDependencies(FeedbackSessionsDb.inst(), coursesLogic, frLogic, fqLogic, usersLogic);
         fslLogic.initLogicDependencies(FeedbackSessionLogsDb.inst());
+        FeedbackSessionLogsBuffer.inst().initLogicDependencies(FeedbackSessionLogsDb.inst(), fsLogic, usersLogic);
         frLogic.initLogicDependencies(FeedbackResponsesDb.inst(), usersLogic, fqLogic, frcLogic);
         frcLogic.initLogicDependencies(FeedbackResponseCommentsDb.inst());
         fqLogic.initLogicDependencies(FeedbackQuestionsDb.inst(), coursesLogic, frLogic, usersLogic, fsLogic);
@@ -64,11 +65,13 @@ public class LogicStarter implements ServletContextListener {
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
         initializeDependencies();
+        FeedbackSessionLogsBuffer.inst().start();
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        // Invoked by Jetty at application shutdown, before the database connections are closed.
+        FeedbackSessionLogsBuffer.inst().close();
     }
 
 }
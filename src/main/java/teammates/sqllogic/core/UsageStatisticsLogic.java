@@ -41,23 +41,25 @@ public final class UsageStatisticsLogic {
         return usageStatisticsDb.getUsageStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Gets the statistics object with the latest start time, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        return usageStatisticsDb.getLatestUsageStatistics();
+    }
+
     /**
      * Calculates the usage statistics of created entities for the given time range.
+     *
+     * <p>Only the numbers of created entities are calculated; the start time and time period
+     * of the returned statistics object do not matter.
      */
     public UsageStatistics calculateEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
         assert startTime != null;
         assert endTime != null;
         assert startTime.isBefore(endTime);
 
-        int numResponses = 0; //feedbackResponsesLogic.getNumFeedbackResponsesByTimeRange(startTime, endTime);
-        int numCourses = 0; //coursesLogic.getNumCoursesByTimeRange(startTime, endTime);
-        int numStudents = 0; //studentsLogic.getNumStudentsByTimeRange(startTime, endTime);
-        int numInstructors = 0; //instructorsLogic.getNumInstructorsByTimeRange(startTime, endTime);
-        int numAccountRequests = 0; //accountRequestsLogic.getNumAccountRequestsByTimeRange(startTime, endTime);
-
-        return new UsageStatistics(
-                startTime, 1, numResponses, numCourses,
-                numStudents, numInstructors, numAccountRequests, 0, 0);
+        return usageStatisticsDb.countEntitiesCreatedInTimeRange(startTime, endTime);
     }
 
     /**
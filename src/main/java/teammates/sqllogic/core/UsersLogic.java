@@ -4,6 +4,7 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -325,6 +326,34 @@ public final class UsersLogic {
         return instructorsWithCoOwnerPrivileges;
     }
 
+    /**
+     * Gets at most {@code limit} instructors with co-owner privileges in a course ordered by email, then by ID,
+     * which come after the instructor with {@code afterEmail} and {@code afterId} in that order.
+     *
+     * @param afterEmail the email of the instructor to continue after, or null to start from the first instructor
+     */
+    public List<Instructor> getCoOwnersForCourseAfter(String courseId, String afterEmail, UUID afterId, int limit) {
+        List<Instructor> coOwners = new ArrayList<>();
+        String lastEmail = afterEmail;
+        UUID lastId = afterId;
+        List<Instructor> instructors;
+        do {
+            // the privileges are not queryable, so the instructors are read in pages and filtered here
+            instructors = usersDb.getInstructorsForCourseAfter(courseId, lastEmail, lastId, List.of(), limit);
+            for (Instructor instructor : instructors) {
+                if (instructor.hasCoownerPrivileges() && coOwners.size() < limit) {
+                    coOwners.add(instructor);
+                }
+            }
+            if (!instructors.isEmpty()) {
+                Instructor lastInstructor = instructors.get(instructors.size() - 1);
+                lastEmail = lastInstructor.getEmail();
+                lastId = lastInstructor.getId();
+            }
+        } while (coOwners.size() < limit && instructors.size() == limit);
+        return coOwners;
+    }
+
     /**
      * Gets a list of instructors for the specified course.
      */
@@ -540,6 +569,30 @@ public final class UsersLogic {
         return studentReturnList;
     }
 
+    /**
+     * Gets at most {@code limit} students of a course ordered by email, then by ID,
+     * which come after the student with {@code afterEmail} and {@code afterId} in that order,
+     * leaving out the students with the given IDs.
+     *
+     * @param afterEmail the email of the student to continue after, or null to start from the first student
+     */
+    public List<Student> getStudentsForCourseAfter(String courseId, String afterEmail, UUID afterId,
+            Collection<UUID> excludedIds, int limit) {
+        return usersDb.getStudentsForCourseAfter(courseId, afterEmail, afterId, excludedIds, limit);
+    }
+
+    /**
+     * Gets at most {@code limit} instructors of a course ordered by email, then by ID,
+     * which come after the instructor with {@code afterEmail} and {@code afterId} in that order,
+     * leaving out the instructors with the given IDs.
+     *
+     * @param afterEmail the email of the instructor to continue after, or null to start from the first instructor
+     */
+    public List<Instructor> getInstructorsForCourseAfter(String courseId, String afterEmail, UUID afterId,
+            Collection<UUID> excludedIds, int limit) {
+        return usersDb.getInstructorsForCourseAfter(courseId, afterEmail, afterId, excludedIds, limit);
+    }
+
     /**
      * Gets a list of unregistered students for the specified course.
      */
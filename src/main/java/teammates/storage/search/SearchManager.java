@@ -21,7 +21,9 @@ import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.common.util.StringHelper;
+import teammates.common.util.TraceSpan;
 
 /**
  * Acts as a proxy to search service.
@@ -74,7 +76,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             throw new SearchServiceException("Full-text search is not available.", HttpStatus.SC_NOT_IMPLEMENTED);
         }
 
-        try {
+        try (TraceSpan ignored = startSpan("solr.query")) {
             return client.query(getCollectionName(), query);
         } catch (SolrServerException e) {
             Throwable rootCause = e.getRootCause();
@@ -93,6 +95,10 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
+    private TraceSpan startSpan(String name) {
+        return RequestTracer.startSpan(name, TraceSpan.Kind.CLIENT).setAttribute("solr.collection", getCollectionName());
+    }
+
     abstract String getCollectionName();
 
     abstract SearchDocument<T> createDocument(T attribute);
@@ -114,7 +120,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         SolrInputDocument document = new SolrInputDocument();
         searchableFields.forEach((key, value) -> document.addField(key, value));
 
-        try {
+        try (TraceSpan ignored = startSpan("solr.add")) {
             client.add(getCollectionName(), Collections.singleton(document));
             client.commit(getCollectionName());
         } catch (SolrServerException e) {
@@ -139,7 +145,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return;
         }
 
-        try {
+        try (TraceSpan ignored = startSpan("solr.delete").setAttribute("solr.document_count", keys.size())) {
             client.deleteById(getCollectionName(), keys);
             client.commit(getCollectionName());
         } catch (SolrServerException e) {
@@ -158,7 +164,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return;
         }
 
-        try {
+        try (TraceSpan ignored = startSpan("solr.delete_all")) {
             client.deleteByQuery(getCollectionName(), "*:*");
             client.commit(getCollectionName());
         } catch (SolrServerException e) {
@@ -4,12 +4,21 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 
@@ -89,6 +98,29 @@ public final class DeadlineExtensionsDb extends EntitiesDb {
         return query.getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets the extended end times of all users with a deadline extension for the feedback session,
+     * keyed by the id of the user.
+     */
+    public Map<UUID, Instant> getExtendedDeadlinesForFeedbackSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cr = cb.createTupleQuery();
+        Root<DeadlineExtension> root = cr.from(DeadlineExtension.class);
+        Join<DeadlineExtension, FeedbackSession> deFsJoin = root.join("feedbackSession");
+        Join<DeadlineExtension, User> deUserJoin = root.join("user");
+
+        cr.multiselect(deUserJoin.get("id"), root.get("endTime"))
+                .where(cb.equal(deFsJoin.get("id"), feedbackSessionId));
+
+        Map<UUID, Instant> extendedDeadlines = new HashMap<>();
+        for (Tuple tuple : HibernateUtil.createQuery(cr).getResultList()) {
+            extendedDeadlines.put(tuple.get(0, UUID.class), tuple.get(1, Instant.class));
+        }
+        return extendedDeadlines;
+    }
+
     /**
      * Saves an updated {@code DeadlineExtension} to the db.
      *
@@ -121,21 +153,63 @@ public final class DeadlineExtensionsDb extends EntitiesDb {
     }
 
     /**
-     * Gets a list of deadline extensions with endTime coming up soon
-     * and possibly need a closing soon email to be sent.
+     * Gets the deadline extensions with endTime coming up soon which possibly need a closing soon email to be sent,
+     * grouped by their undeleted feedback sessions with closing soon emails enabled.
+     *
+     * <p>The feedback sessions, their courses and the users are fetched together with the deadline extensions,
+     * which are read in the order of their feedback sessions.
      */
-    public List<DeadlineExtension> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
+    public Map<FeedbackSession, List<DeadlineExtension>> getDeadlineExtensionsPossiblyNeedingClosingSoonEmail() {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<DeadlineExtension> cr = cb.createQuery(DeadlineExtension.class);
         Root<DeadlineExtension> root = cr.from(DeadlineExtension.class);
+        Fetch<DeadlineExtension, FeedbackSession> sessionFetch = root.fetch("feedbackSession");
+        sessionFetch.fetch("course");
+        root.fetch("user");
+        // a fetch is also a join in Hibernate, which allows filtering on the fetched session
+        @SuppressWarnings("unchecked")
+        Join<DeadlineExtension, FeedbackSession> sessionJoin = (Join<DeadlineExtension, FeedbackSession>) sessionFetch;
+
+        cr.select(root)
+                .where(cb.and(
+                        cb.greaterThanOrEqualTo(root.get("endTime"), Instant.now()),
+                        cb.lessThanOrEqualTo(root.get("endTime"), TimeHelper.getInstantDaysOffsetFromNow(1)),
+                        cb.isFalse(root.get("isClosingSoonEmailSent")),
+                        cb.isTrue(sessionJoin.get("isClosingSoonEmailEnabled")),
+                        cb.isNull(sessionJoin.get("deletedAt"))))
+                .orderBy(cb.asc(sessionJoin.get("id")));
+
+        Map<FeedbackSession, List<DeadlineExtension>> deadlineExtensionsBySession = new LinkedHashMap<>();
+        try (Stream<DeadlineExtension> deadlineExtensions = HibernateUtil.createQuery(cr).getResultStream()) {
+            deadlineExtensions.forEach(de -> deadlineExtensionsBySession
+                    .computeIfAbsent(de.getFeedbackSession(), session -> new ArrayList<>())
+                    .add(de));
+        }
+        return deadlineExtensionsBySession;
+    }
 
-        cr.select(root).where(cb.and(
-                cb.greaterThanOrEqualTo(root.get("endTime"), Instant.now()),
-                cb.lessThanOrEqualTo(root.get("endTime"), TimeHelper.getInstantDaysOffsetFromNow(1)),
-                cb.equal(root.get("isClosingSoonEmailSent"), false)
-                ));
+    /**
+     * Marks the closing soon emails of the given deadline extensions as sent with a single update,
+     * without loading or dirty checking the deadline extensions.
+     *
+     * <p>Note that the given deadline extensions, if managed, are not refreshed.
+     */
+    public void updateDeadlineExtensionsClosingSoonEmailSent(List<DeadlineExtension> deadlineExtensions) {
+        if (deadlineExtensions.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = deadlineExtensions.stream().map(DeadlineExtension::getId).collect(Collectors.toList());
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<DeadlineExtension> cu = cb.createCriteriaUpdate(DeadlineExtension.class);
+        Root<DeadlineExtension> root = cu.from(DeadlineExtension.class);
+
+        cu.set(root.<Boolean>get("isClosingSoonEmailSent"), true)
+                .set(root.<Instant>get("updatedAt"), Instant.now())
+                .where(root.get("id").in(ids));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        HibernateUtil.createMutationQuery(cu).executeUpdate();
     }
 
     /**
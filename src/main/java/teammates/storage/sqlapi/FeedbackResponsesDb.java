@@ -3,7 +3,9 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -223,6 +225,25 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
     }
 
+    /**
+     * Gets the set of identifiers of givers who have at least one response in the feedback session.
+     *
+     * <p>The givers are aggregated by the database, so only the distinct identifiers are loaded.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver"))
+                .distinct(true)
+                .where(cb.equal(fsJoin.get("id"), feedbackSession.getId()));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
+    }
+
     /**
      * Checks whether there are responses for a course.
      */
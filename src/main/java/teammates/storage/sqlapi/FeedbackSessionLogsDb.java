@@ -1,6 +1,9 @@
 package teammates.storage.sqlapi;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -14,6 +17,7 @@ import jakarta.persistence.criteria.Root;
 import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.FeedbackSessionLogDailyRollup;
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -25,6 +29,18 @@ public final class FeedbackSessionLogsDb extends EntitiesDb {
 
     private static final FeedbackSessionLogsDb instance = new FeedbackSessionLogsDb();
 
+    private static final String ROLL_UP_QUERY = "INSERT INTO feedback_session_log_daily_rollups "
+            + "(id, created_at, session_id, student_id, feedback_session_log_type, log_date, log_count, "
+            + "first_timestamp, last_timestamp) "
+            + "SELECT gen_random_uuid(), NOW(), session_id, student_id, feedback_session_log_type, :logDate, "
+            + "COUNT(*), MIN(\"timestamp\"), MAX(\"timestamp\") FROM feedback_session_logs "
+            + "WHERE \"timestamp\" >= :startTime AND \"timestamp\" < :endTime "
+            + "AND session_id IS NOT NULL AND student_id IS NOT NULL "
+            + "GROUP BY session_id, student_id, feedback_session_log_type "
+            + "ON CONFLICT (session_id, student_id, feedback_session_log_type, log_date) DO UPDATE SET "
+            + "log_count = EXCLUDED.log_count, first_timestamp = EXCLUDED.first_timestamp, "
+            + "last_timestamp = EXCLUDED.last_timestamp";
+
     private FeedbackSessionLogsDb() {
         // prevent initialization
     }
@@ -73,6 +89,91 @@ public final class FeedbackSessionLogsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the daily rollups of feedback session logs as filtered by the given parameters
+     * for the dates from {@code startDate} (inclusive) to {@code endDate} (exclusive), ordered by
+     * ascending timestamp of the last log. Rollups with the same timestamp will be ordered by the student's email.
+     *
+     * @param studentId        Can be null
+     * @param feedbackSessionId Can be null
+     */
+    public List<FeedbackSessionLogDailyRollup> getOrderedFeedbackSessionLogDailyRollups(String courseId,
+            UUID studentId, UUID feedbackSessionId, LocalDate startDate, LocalDate endDate) {
+
+        assert courseId != null;
+        assert startDate != null;
+        assert endDate != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSessionLogDailyRollup> cr = cb.createQuery(FeedbackSessionLogDailyRollup.class);
+        Root<FeedbackSessionLogDailyRollup> root = cr.from(FeedbackSessionLogDailyRollup.class);
+        Join<FeedbackSessionLogDailyRollup, FeedbackSession> feedbackSessionJoin = root.join("feedbackSession");
+        Join<FeedbackSessionLogDailyRollup, Student> studentJoin = root.join("student");
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (studentId != null) {
+            predicates.add(cb.equal(studentJoin.get("id"), studentId));
+        }
+
+        if (feedbackSessionId != null) {
+            predicates.add(cb.equal(feedbackSessionJoin.get("id"), feedbackSessionId));
+        }
+
+        predicates.add(cb.equal(feedbackSessionJoin.get("course").get("id"), courseId));
+        predicates.add(cb.greaterThanOrEqualTo(root.get("logDate"), startDate));
+        predicates.add(cb.lessThan(root.get("logDate"), endDate));
+
+        cr.select(root).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(root.get("lastTimestamp")),
+                cb.asc(studentJoin.get("email")));
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Rolls up the feedback session logs of {@code logDate} (in UTC) into daily rollups,
+     * replacing the existing rollups of that date.
+     *
+     * @return the number of rollups created or replaced
+     */
+    public int rollUpFeedbackSessionLogs(LocalDate logDate) {
+        assert logDate != null;
+
+        return HibernateUtil.createNativeMutationQuery(ROLL_UP_QUERY)
+                .setParameter("logDate", logDate)
+                .setParameter("startTime", logDate.atStartOfDay(ZoneOffset.UTC).toInstant())
+                .setParameter("endTime", logDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant())
+                .executeUpdate();
+    }
+
+    /**
+     * Creates the partition of the feedback session logs table for {@code month} (in UTC), if it does not exist.
+     *
+     * @return true if the partition is created
+     */
+    public boolean createFeedbackSessionLogsPartition(YearMonth month) {
+        assert month != null;
+
+        return HibernateUtil.createNativeQuery("SELECT create_feedback_session_logs_partition(:monthStart)",
+                Boolean.class)
+                .setParameter("monthStart", month.atDay(1))
+                .getSingleResult();
+    }
+
+    /**
+     * Drops the partitions of the feedback session logs table which only have logs before {@code cutoff} (in UTC),
+     * and deletes the other logs before {@code cutoff}.
+     *
+     * @return the number of partitions dropped
+     */
+    public int dropFeedbackSessionLogsPartitionsBefore(LocalDate cutoff) {
+        assert cutoff != null;
+
+        return HibernateUtil.createNativeQuery("SELECT drop_feedback_session_logs_partitions_before(:cutoff)",
+                Integer.class)
+                .setParameter("cutoff", cutoff)
+                .getSingleResult();
+    }
+
     /**
      * Creates feedback session logs.
      */
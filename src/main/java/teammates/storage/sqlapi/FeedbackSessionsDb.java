@@ -4,20 +4,21 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
-import teammates.common.util.TimeHelper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 
@@ -232,137 +233,52 @@ public final class FeedbackSessionsDb extends EntitiesDb {
     }
 
     /**
-     * Gets feedback sessions for a given {@code courseId} that start after {@code after}.
+     * Gets the feedback sessions, except those that are soft-deleted, of any of the courses with the given
+     * {@code courseIds} that start after {@code after}, together with their courses.
      */
-    public List<FeedbackSession> getFeedbackSessionEntitiesForCourseStartingAfter(String courseId, Instant after) {
-        assert courseId != null;
+    public List<FeedbackSession> getFeedbackSessionsForCoursesStartingAfter(Collection<String> courseIds, Instant after) {
+        assert courseIds != null;
         assert after != null;
 
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
-        Root<FeedbackSession> root = cr.from(FeedbackSession.class);
-        Join<FeedbackSession, Course> courseJoin = root.join("course");
-        cr.select(root)
-                .where(cb.and(
-                    cb.greaterThanOrEqualTo(root.get("startTime"), after),
-                    cb.equal(courseJoin.get("id"), courseId)));
-
-        return HibernateUtil.createQuery(cr).getResultList();
-    }
-
-    /**
-     * Gets a list of undeleted feedback sessions which open in the future
-     * and possibly need a opening soon email to be sent.
-     */
-    public List<FeedbackSession> getFeedbackSessionsPossiblyNeedingOpeningSoonEmail() {
-        return getFeedbackSessionEntitiesPossiblyNeedingOpeningSoonEmail().stream()
-                .filter(session -> session.getDeletedAt() == null)
-                .collect(Collectors.toList());
-    }
-
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingOpeningSoonEmail() {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
-        Root<FeedbackSession> root = cr.from(FeedbackSession.class);
-
-        cr.select(root)
-                .where(cb.and(
-                    cb.greaterThan(root.get("startTime"), TimeHelper.getInstantDaysOffsetFromNow(-2)),
-                    cb.equal(root.get("isOpeningSoonEmailSent"), false)));
-
-        return HibernateUtil.createQuery(cr).getResultList();
-    }
-
-    /**
-     * Gets a list of undeleted feedback sessions which end in the future (2 hour ago onward)
-     * and possibly need a closing soon email to be sent.
-     */
-    public List<FeedbackSession> getFeedbackSessionsPossiblyNeedingClosingSoonEmail() {
-        return getFeedbackSessionEntitiesPossiblyNeedingClosingSoonEmail().stream()
-                .filter(session -> session.getDeletedAt() == null)
-                .collect(Collectors.toList());
-    }
-
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosingSoonEmail() {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
-        Root<FeedbackSession> root = cr.from(FeedbackSession.class);
-
-        cr.select(root)
-                .where(cb.and(
-                        // Retrieve sessions with endTime from 2 days ago onwards
-                        // to prevent issues caused by time zone differences
-                        cb.greaterThan(root.get("endTime"), TimeHelper.getInstantDaysOffsetFromNow(-2)),
-                        cb.and(
-                                cb.equal(root.get("isClosingSoonEmailSent"), false),
-                                cb.equal(root.get("isClosingSoonEmailEnabled"), true),
-                                cb.equal(root.get("isClosedEmailSent"), false))
-               ));
-
-        return HibernateUtil.createQuery(cr).getResultList();
-    }
-
-    /**
-     * Gets a list of undeleted feedback sessions which end in the future (2 hour ago onward)
-     * and possibly need a closed email to be sent.
-     */
-    public List<FeedbackSession> getFeedbackSessionsPossiblyNeedingClosedEmail() {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
-        Root<FeedbackSession> root = cr.from(FeedbackSession.class);
-
-        cr.select(root)
-                .where(cb.and(
-                        cb.greaterThan(root.get("endTime"), TimeHelper.getInstantDaysOffsetFromNow(-2)),
-                        cb.isFalse(root.get("isClosedEmailSent")),
-                        cb.isTrue(root.get("isClosingSoonEmailEnabled")),
-                        cb.isNull(root.get("deletedAt"))
-               ));
-
-        return HibernateUtil.createQuery(cr).getResultList();
-    }
-
-    /**
-     * Gets a list of undeleted published feedback sessions which possibly need a published email
-     * to be sent.
-     */
-    public List<FeedbackSession> getFeedbackSessionsPossiblyNeedingPublishedEmail() {
-        return getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail().stream()
-                .filter(session -> session.getDeletedAt() == null)
-                .collect(Collectors.toList());
-    }
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail() {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
         Root<FeedbackSession> root = cr.from(FeedbackSession.class);
-
+        root.fetch("course");
         cr.select(root)
                 .where(cb.and(
-                        cb.greaterThan(root.get("resultsVisibleFromTime"), TimeHelper.getInstantDaysOffsetFromNow(-2)),
-                        cb.and(
-                                cb.equal(root.get("isPublishedEmailSent"), false),
-                                cb.equal(root.get("isPublishedEmailEnabled"), true))
-               ));
+                    cb.greaterThanOrEqualTo(root.get("startTime"), after),
+                    root.get("course").get("id").in(courseIds),
+                    cb.isNull(root.get("deletedAt"))))
+                .orderBy(cb.asc(root.get("startTime")));
 
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
     /**
-     * Gets a list of undeleted feedback sessions which start within the last 2 days
-     * and possibly need an open email to be sent.
+     * Gets the undeleted feedback sessions in undeleted courses whose next automated notification email
+     * is due at or before {@code now}.
+     *
+     * <p>The deadline extensions of the sessions are fetched with the sessions, as they are needed
+     * to update the time at which the next notification email is due.
+     *
+     * @see FeedbackSession#getNextNotificationDueAt()
      */
-    public List<FeedbackSession> getFeedbackSessionsPossiblyNeedingOpenedEmail() {
+    public List<FeedbackSession> getFeedbackSessionsWithNotificationDue(Instant now) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
         Root<FeedbackSession> root = cr.from(FeedbackSession.class);
+        Join<FeedbackSession, Course> courseJoin = root.join("course");
+        root.fetch("deadlineExtensions", JoinType.LEFT);
 
         cr.select(root)
                 .where(cb.and(
-                    cb.greaterThan(root.get("startTime"), TimeHelper.getInstantDaysOffsetFromNow(-2)),
-                    cb.isFalse(root.get("isOpenedEmailSent")),
-                    cb.isNull(root.get("deletedAt"))
-                ));
+                        cb.lessThanOrEqualTo(root.get("nextNotificationDueAt"), now),
+                        cb.isNull(root.get("deletedAt")),
+                        cb.isNull(courseJoin.get("deletedAt"))));
 
         return HibernateUtil.createQuery(cr).getResultList();
     }
@@ -19,6 +19,15 @@ public final class UsageStatisticsDb extends EntitiesDb {
 
     private static final UsageStatisticsDb instance = new UsageStatisticsDb();
 
+    private static final String COUNT_ENTITIES_CREATED_QUERY = "SELECT "
+            + "(SELECT COUNT(*) FROM feedback_responses WHERE " + createdInRange("created_at") + "), "
+            + "(SELECT COUNT(*) FROM courses WHERE " + createdInRange("created_at") + "), "
+            + "(SELECT COUNT(*) FROM students s JOIN users u ON u.id = s.id WHERE "
+            + createdInRange("u.created_at") + "), "
+            + "(SELECT COUNT(*) FROM instructors i JOIN users u ON u.id = i.id WHERE "
+            + createdInRange("u.created_at") + "), "
+            + "(SELECT COUNT(*) FROM account_requests WHERE " + createdInRange("created_at") + ")";
+
     private UsageStatisticsDb() {
         // prevent initialization
     }
@@ -42,6 +51,45 @@ public final class UsageStatisticsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the statistics object with the latest start time, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<UsageStatistics> cr = cb.createQuery(UsageStatistics.class);
+        Root<UsageStatistics> root = cr.from(UsageStatistics.class);
+
+        cr.select(root).orderBy(cb.desc(root.get("startTime")));
+
+        List<UsageStatistics> latest = HibernateUtil.createQuery(cr).setMaxResults(1).getResultList();
+        return latest.isEmpty() ? null : latest.get(0);
+    }
+
+    /**
+     * Counts the responses, courses, students, instructors and account requests created between start time
+     * (inclusive) and end time (exclusive), with one query using the indexes on their creation timestamps.
+     *
+     * <p>The counts are returned as a statistics object of one minute starting at the start time;
+     * the numbers of emails and submissions, which are not stored in the database, are 0.
+     */
+    public UsageStatistics countEntitiesCreatedInTimeRange(Instant startTime, Instant endTime) {
+        Object[] counts = HibernateUtil.createNativeQuery(COUNT_ENTITIES_CREATED_QUERY, Object[].class)
+                .setParameter("startTime", startTime)
+                .setParameter("endTime", endTime)
+                .getSingleResult();
+
+        return new UsageStatistics(startTime, 1, toInt(counts[0]), toInt(counts[1]),
+                toInt(counts[2]), toInt(counts[3]), toInt(counts[4]), 0, 0);
+    }
+
+    private static String createdInRange(String createdAtColumn) {
+        return createdAtColumn + " >= :startTime AND " + createdAtColumn + " < :endTime";
+    }
+
+    private static int toInt(Object count) {
+        return ((Number) count).intValue();
+    }
+
     /**
      * Creates a usage statistics object.
      */
@@ -4,6 +4,7 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -398,6 +399,59 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).setMaxResults(batchSize).getResultList();
     }
 
+    /**
+     * Gets at most {@code limit} students of the course ordered by email, then by ID,
+     * which come after the student with {@code afterEmail} and {@code afterId} in that order,
+     * leaving out the students with the given IDs.
+     *
+     * @param afterEmail the email of the student to continue after, or null to start from the first student
+     */
+    public List<Student> getStudentsForCourseAfter(String courseId, String afterEmail, UUID afterId,
+            Collection<UUID> excludedIds, int limit) {
+        return getUsersForCourseAfter(Student.class, courseId, afterEmail, afterId, excludedIds, limit);
+    }
+
+    /**
+     * Gets at most {@code limit} instructors of the course ordered by email, then by ID,
+     * which come after the instructor with {@code afterEmail} and {@code afterId} in that order,
+     * leaving out the instructors with the given IDs.
+     *
+     * @param afterEmail the email of the instructor to continue after, or null to start from the first instructor
+     */
+    public List<Instructor> getInstructorsForCourseAfter(String courseId, String afterEmail, UUID afterId,
+            Collection<UUID> excludedIds, int limit) {
+        return getUsersForCourseAfter(Instructor.class, courseId, afterEmail, afterId, excludedIds, limit);
+    }
+
+    private <T extends User> List<T> getUsersForCourseAfter(Class<T> userType, String courseId,
+            String afterEmail, UUID afterId, Collection<UUID> excludedIds, int limit) {
+        assert courseId != null;
+        assert afterEmail == null || afterId != null;
+        assert excludedIds != null;
+        assert limit > 0;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<T> cr = cb.createQuery(userType);
+        Root<T> root = cr.from(userType);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseId"), courseId));
+        if (afterEmail != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(root.<String>get("email"), afterEmail),
+                    cb.and(cb.equal(root.get("email"), afterEmail), cb.greaterThan(root.<UUID>get("id"), afterId))));
+        }
+        if (!excludedIds.isEmpty()) {
+            predicates.add(cb.not(root.get("id").in(excludedIds)));
+        }
+
+        cr.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("email")), cb.asc(root.get("id")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(limit).getResultList();
+    }
+
     /**
      * Gets the instructor with the specified {@code userEmail}.
      */
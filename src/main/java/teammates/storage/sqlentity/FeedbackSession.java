@@ -33,6 +33,16 @@ import teammates.common.util.SanitizationHelper;
 @Entity
 @Table(name = "FeedbackSessions", uniqueConstraints = @UniqueConstraint(columnNames = {"courseId", "name"}))
 public class FeedbackSession extends BaseEntity {
+    /**
+     * Number of hours before the end time at which a closing soon email is sent.
+     */
+    public static final int NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT = 24;
+
+    /**
+     * Number of hours before the start time at which an opening soon email is sent.
+     */
+    public static final int NUMBER_OF_HOURS_BEFORE_OPENING_SOON_ALERT = 24;
+
     @Id
     private UUID id;
 
@@ -89,6 +99,15 @@ public class FeedbackSession extends BaseEntity {
     @Column(nullable = false)
     private boolean isPublishedEmailSent;
 
+    /**
+     * The time at which the next automated notification email of the session is due,
+     * or null if there are no more such emails to be sent.
+     *
+     * <p>This is kept up to date by the logic layer whenever the emails of the session or of its deadline extensions
+     * change, instead of being derived when the session is loaded.
+     */
+    private Instant nextNotificationDueAt;
+
     @OneToMany(mappedBy = "feedbackSession", cascade = CascadeType.REMOVE)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private List<DeadlineExtension> deadlineExtensions = new ArrayList<>();
@@ -383,6 +402,14 @@ public class FeedbackSession extends BaseEntity {
         this.isPublishedEmailSent = isPublishedEmailSent;
     }
 
+    public Instant getNextNotificationDueAt() {
+        return nextNotificationDueAt;
+    }
+
+    public void setNextNotificationDueAt(Instant nextNotificationDueAt) {
+        this.nextNotificationDueAt = nextNotificationDueAt;
+    }
+
     public Instant getUpdatedAt() {
         return updatedAt;
     }
@@ -410,7 +437,8 @@ public class FeedbackSession extends BaseEntity {
                 + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled
                 + ", isOpeningSoonEmailSent=" + isOpeningSoonEmailSent + ", isOpenedEmailSent=" + isOpenedEmailSent
                 + ", isClosingSoonEmailSent=" + isClosingSoonEmailSent + ", isClosedEmailSent=" + isClosedEmailSent
-                + ", isPublishedEmailSent=" + isPublishedEmailSent + ", deadlineExtensions=" + deadlineExtensions
+                + ", isPublishedEmailSent=" + isPublishedEmailSent + ", nextNotificationDueAt=" + nextNotificationDueAt
+                + ", deadlineExtensions=" + deadlineExtensions
                 + ", feedbackQuestions=" + feedbackQuestions + ", createdAt=" + getCreatedAt()
                 + ", updatedAt=" + updatedAt + ", deletedAt=" + deletedAt + "]";
     }
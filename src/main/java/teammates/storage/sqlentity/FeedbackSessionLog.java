@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import org.hibernate.annotations.NotFound;
 import org.hibernate.annotations.NotFoundAction;
@@ -50,6 +51,19 @@ public class FeedbackSessionLog extends BaseEntity {
     @Column(nullable = false)
     private Instant timestamp;
 
+    /**
+     * The number of logs summarized by this log if it is read from a daily rollup, or null if it is a single log.
+     */
+    @Transient
+    private Integer rolledUpLogCount;
+
+    /**
+     * The timestamp of the first log summarized by this log if it is read from a daily rollup,
+     * in which case {@link #timestamp} is that of the last log.
+     */
+    @Transient
+    private Instant rolledUpFirstTimestamp;
+
     protected FeedbackSessionLog() {
         // required by Hibernate
     }
@@ -103,6 +117,29 @@ public class FeedbackSessionLog extends BaseEntity {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Returns true if this log summarizes the logs of a day read from a daily rollup.
+     */
+    public boolean isRolledUp() {
+        return rolledUpLogCount != null;
+    }
+
+    public Integer getRolledUpLogCount() {
+        return rolledUpLogCount;
+    }
+
+    public Instant getRolledUpFirstTimestamp() {
+        return rolledUpFirstTimestamp;
+    }
+
+    /**
+     * Marks this log as summarizing {@code logCount} logs from {@code firstTimestamp} to its timestamp.
+     */
+    public void setRolledUp(int logCount, Instant firstTimestamp) {
+        this.rolledUpLogCount = logCount;
+        this.rolledUpFirstTimestamp = firstTimestamp;
+    }
+
     @Override
     public String toString() {
         return "FeedbackSessionLog [id=" + id + ", student=" + student + ", feedbackSession=" + feedbackSession
@@ -0,0 +1,165 @@
+package teammates.storage.sqlentity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+
+/**
+ * Represents the feedback session logs of one type of a student in a feedback session on one day (in UTC).
+ *
+ * <p>Rollups are computed from the feedback session logs, and are kept after the logs are dropped.
+ */
+@Entity
+@Table(name = "FeedbackSessionLogDailyRollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "Unique session, student, log type and date",
+                        columnNames = {"sessionId", "studentId", "feedbackSessionLogType", "logDate"}),
+        })
+public class FeedbackSessionLogDailyRollup extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "studentId")
+    @NotFound(action = NotFoundAction.IGNORE)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+
+    @ManyToOne
+    @JoinColumn(name = "sessionId")
+    @NotFound(action = NotFoundAction.IGNORE)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private FeedbackSession feedbackSession;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private FeedbackSessionLogType feedbackSessionLogType;
+
+    @Column(nullable = false)
+    private LocalDate logDate;
+
+    @Column(nullable = false)
+    private int logCount;
+
+    @Column(nullable = false)
+    private Instant firstTimestamp;
+
+    @Column(nullable = false)
+    private Instant lastTimestamp;
+
+    protected FeedbackSessionLogDailyRollup() {
+        // required by Hibernate
+    }
+
+    public FeedbackSessionLogDailyRollup(Student student, FeedbackSession feedbackSession,
+            FeedbackSessionLogType feedbackSessionLogType, LocalDate logDate, int logCount,
+            Instant firstTimestamp, Instant lastTimestamp) {
+        this.setId(UUID.randomUUID());
+        this.student = student;
+        this.feedbackSession = feedbackSession;
+        this.feedbackSessionLogType = feedbackSessionLogType;
+        this.logDate = logDate;
+        this.logCount = logCount;
+        this.firstTimestamp = firstTimestamp;
+        this.lastTimestamp = lastTimestamp;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public FeedbackSession getFeedbackSession() {
+        return feedbackSession;
+    }
+
+    public FeedbackSessionLogType getFeedbackSessionLogType() {
+        return feedbackSessionLogType;
+    }
+
+    public LocalDate getLogDate() {
+        return logDate;
+    }
+
+    public int getLogCount() {
+        return logCount;
+    }
+
+    public Instant getFirstTimestamp() {
+        return firstTimestamp;
+    }
+
+    public Instant getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * Returns the last log of the day summarized by this rollup,
+     * together with the number of logs and the timestamp of the first log summarized.
+     */
+    public FeedbackSessionLog toFeedbackSessionLog() {
+        FeedbackSessionLog fsLog = new FeedbackSessionLog(student, feedbackSession, feedbackSessionLogType,
+                lastTimestamp);
+        fsLog.setRolledUp(logCount, firstTimestamp);
+        return fsLog;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionLogDailyRollup [id=" + id + ", student=" + student + ", feedbackSession="
+                + feedbackSession + ", feedbackSessionLogType=" + feedbackSessionLogType.getLabel()
+                + ", logDate=" + logDate + ", logCount=" + logCount + ", firstTimestamp=" + firstTimestamp
+                + ", lastTimestamp=" + lastTimestamp + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getId().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            FeedbackSessionLogDailyRollup otherRollup = (FeedbackSessionLogDailyRollup) other;
+            return Objects.equals(this.getId(), otherRollup.getId());
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+}
@@ -0,0 +1,68 @@
+package teammates.ui.output;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.ActionMetrics;
+
+/**
+ * The API output format of the {@link RequestMetrics} of an action class.
+ */
+public class ActionRequestMetricsData extends ApiOutput {
+
+    private final String actionClass;
+    private final long requestCount;
+    private final long clientErrorCount;
+    private final long serverErrorCount;
+    private final long taskEnqueueCount;
+    private final LatencySummaryData latency;
+    private final LatencySummaryData dbTime;
+    private final Map<String, LatencySummaryData> phaseLatencies = new LinkedHashMap<>();
+
+    public ActionRequestMetricsData(String actionClass, ActionMetrics metrics) {
+        this.actionClass = actionClass;
+        this.requestCount = metrics.getRequestCount();
+        this.clientErrorCount = metrics.getClientErrorCount();
+        this.serverErrorCount = metrics.getServerErrorCount();
+        this.taskEnqueueCount = metrics.getTaskEnqueueCount();
+        this.latency = new LatencySummaryData(metrics.getLatency());
+        this.dbTime = new LatencySummaryData(metrics.getDbTime());
+        for (RequestMetrics.Phase phase : RequestMetrics.Phase.values()) {
+            this.phaseLatencies.put(phase.name(), new LatencySummaryData(metrics.getPhaseLatency(phase)));
+        }
+    }
+
+    public String getActionClass() {
+        return actionClass;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getClientErrorCount() {
+        return clientErrorCount;
+    }
+
+    public long getServerErrorCount() {
+        return serverErrorCount;
+    }
+
+    public long getTaskEnqueueCount() {
+        return taskEnqueueCount;
+    }
+
+    public LatencySummaryData getLatency() {
+        return latency;
+    }
+
+    public LatencySummaryData getDbTime() {
+        return dbTime;
+    }
+
+    public Map<String, LatencySummaryData> getPhaseLatencies() {
+        return phaseLatencies;
+    }
+
+}
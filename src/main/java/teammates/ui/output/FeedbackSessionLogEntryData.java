@@ -1,5 +1,7 @@
 package teammates.ui.output;
 
+import jakarta.annotation.Nullable;
+
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.logs.FeedbackSessionLogType;
@@ -13,6 +15,16 @@ public class FeedbackSessionLogEntryData {
     private final StudentData studentData;
     private final FeedbackSessionLogType feedbackSessionLogType;
     private final long timestamp;
+    /**
+     * The number of logs summarized by this entry, if it summarizes the logs of a day of the same type.
+     */
+    @Nullable
+    private final Integer logCount;
+    /**
+     * The timestamp of the first log summarized by this entry, whose timestamp is that of the last log.
+     */
+    @Nullable
+    private final Long firstTimestamp;
 
     public FeedbackSessionLogEntryData(FeedbackSessionLogEntry logEntry, StudentAttributes student) {
         StudentData studentData = new StudentData(student);
@@ -21,6 +33,8 @@ public class FeedbackSessionLogEntryData {
         this.studentData = studentData;
         this.feedbackSessionLogType = logType;
         this.timestamp = timestamp;
+        this.logCount = null;
+        this.firstTimestamp = null;
     }
 
     public FeedbackSessionLogEntryData(FeedbackSessionLog logEntry, Student student) {
@@ -30,6 +44,13 @@ public class FeedbackSessionLogEntryData {
         this.studentData = studentData;
         this.feedbackSessionLogType = logType;
         this.timestamp = timestamp;
+        if (logEntry.isRolledUp()) {
+            this.logCount = logEntry.getRolledUpLogCount();
+            this.firstTimestamp = logEntry.getRolledUpFirstTimestamp().toEpochMilli();
+        } else {
+            this.logCount = null;
+            this.firstTimestamp = null;
+        }
     }
 
     public StudentData getStudentData() {
@@ -43,4 +64,12 @@ public class FeedbackSessionLogEntryData {
     public long getTimestamp() {
         return timestamp;
     }
+
+    public Integer getLogCount() {
+        return logCount;
+    }
+
+    public Long getFirstTimestamp() {
+        return firstTimestamp;
+    }
 }
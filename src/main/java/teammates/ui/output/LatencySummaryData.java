@@ -0,0 +1,54 @@
+package teammates.ui.output;
+
+import teammates.common.util.LatencyHistogram;
+
+/**
+ * The API output format of a summary of a {@link LatencyHistogram}, in milliseconds.
+ */
+public class LatencySummaryData extends ApiOutput {
+
+    private final long count;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double max;
+
+    public LatencySummaryData(LatencyHistogram histogram) {
+        this.count = histogram.getCount();
+        this.mean = count == 0 ? 0 : toMillis(histogram.getSumMicros()) / count;
+        this.p50 = toMillis(histogram.getValueAtPercentile(50));
+        this.p90 = toMillis(histogram.getValueAtPercentile(90));
+        this.p99 = toMillis(histogram.getValueAtPercentile(99));
+        this.max = toMillis(histogram.getMaxMicros());
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+}
@@ -0,0 +1,37 @@
+package teammates.ui.output;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.util.RequestMetrics;
+
+/**
+ * The API output format of the {@link RequestMetrics} of an instance.
+ */
+public class RequestMetricsData extends ApiOutput {
+
+    private final String instanceId;
+    private final long startTimestamp;
+    private final List<ActionRequestMetricsData> actions;
+
+    public RequestMetricsData(String instanceId, RequestMetrics requestMetrics) {
+        this.instanceId = instanceId;
+        this.startTimestamp = requestMetrics.getStartTimestamp().toEpochMilli();
+        this.actions = requestMetrics.getMetricsByActionClass().entrySet().stream()
+                .map(entry -> new ActionRequestMetricsData(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public List<ActionRequestMetricsData> getActions() {
+        return actions;
+    }
+
+}
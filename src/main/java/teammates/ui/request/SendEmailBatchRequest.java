@@ -0,0 +1,63 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TemplatedEmails;
+
+/**
+ * The request of sending a batch of emails.
+ *
+ * <p>The emails are either already rendered, or templated to be rendered only when they are sent.
+ */
+public class SendEmailBatchRequest extends BasicRequest {
+    private final List<EmailWrapper> emails;
+    private final TemplatedEmails templatedEmails;
+    private final int attemptNumber;
+
+    public SendEmailBatchRequest(List<EmailWrapper> emails, int attemptNumber) {
+        this.emails = emails;
+        this.templatedEmails = null;
+        this.attemptNumber = attemptNumber;
+    }
+
+    public SendEmailBatchRequest(TemplatedEmails templatedEmails, int attemptNumber) {
+        this.emails = null;
+        this.templatedEmails = templatedEmails;
+        this.attemptNumber = attemptNumber;
+    }
+
+    /**
+     * Gets the emails of the batch, rendering them first if they are templated.
+     */
+    public List<EmailWrapper> getEmails() {
+        return templatedEmails == null ? emails : templatedEmails.render();
+    }
+
+    public int getAttemptNumber() {
+        return attemptNumber;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(attemptNumber > 0, "Attempt number must be positive");
+        if (templatedEmails != null) {
+            assertTrue(emails == null, "Emails cannot be both rendered and templated");
+            assertTrue(!templatedEmails.isEmpty(), "Emails cannot be empty");
+            assertTrue(templatedEmails.isValid(), "Templated emails must have a known template, "
+                    + "sender's address, reply-to address, subject and recipients' addresses");
+            return;
+        }
+        assertTrue(emails != null, "Emails cannot be null");
+        assertTrue(!emails.isEmpty(), "Emails cannot be empty");
+        for (EmailWrapper email : emails) {
+            assertTrue(email != null, "Email cannot be null");
+            assertTrue(email.getContent() != null, "Email content cannot be null");
+            assertTrue(email.getRecipient() != null, "Email recipient's address cannot be null");
+            assertTrue(email.getSenderEmail() != null, "Email sender's address cannot be null");
+            assertTrue(email.getReplyTo() != null, "Email reply-to address cannot be null");
+            assertTrue(email.getSubject() != null, "Email subject cannot be null");
+        }
+    }
+
+}
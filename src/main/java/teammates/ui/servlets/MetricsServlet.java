@@ -0,0 +1,139 @@
+package teammates.ui.servlets;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.Config;
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.ActionMetrics;
+import teammates.common.util.RequestMetrics.Phase;
+
+/**
+ * Servlet that exposes the {@link RequestMetrics} of the instance in the Prometheus text format.
+ *
+ * <p>The metrics are only served to requests bearing the token configured in "app.metrics.token";
+ * the servlet responds with 404 if no token is configured.
+ */
+public class MetricsServlet extends HttpServlet {
+
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private final String token;
+    private final transient RequestMetrics requestMetrics;
+
+    public MetricsServlet() {
+        this(Config.METRICS_TOKEN, RequestMetrics.inst());
+    }
+
+    MetricsServlet(String token, RequestMetrics requestMetrics) {
+        this.token = token;
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (token == null || token.isEmpty()) {
+            resp.setStatus(HttpStatus.SC_NOT_FOUND);
+            return;
+        }
+        if (!isAuthorized(req.getHeader("Authorization"))) {
+            resp.setStatus(HttpStatus.SC_UNAUTHORIZED);
+            return;
+        }
+
+        resp.setStatus(HttpStatus.SC_OK);
+        resp.setContentType("text/plain; version=0.0.4; charset=utf-8");
+        resp.getWriter().write(toPrometheusText(requestMetrics));
+    }
+
+    private boolean isAuthorized(String authorizationHeader) {
+        if (authorizationHeader == null) {
+            return false;
+        }
+        byte[] expected = ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, authorizationHeader.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Formats the metrics in the Prometheus text exposition format, with the latencies as summaries in seconds.
+     */
+    static String toPrometheusText(RequestMetrics requestMetrics) {
+        Map<String, ActionMetrics> metricsByActionClass = requestMetrics.getMetricsByActionClass();
+        StringBuilder sb = new StringBuilder();
+
+        appendHeader(sb, "teammates_request_duration_seconds", "summary", "Time taken to serve requests.");
+        metricsByActionClass.forEach((actionClass, metrics) ->
+                appendSummary(sb, "teammates_request_duration_seconds", label("action", actionClass),
+                        metrics.getLatency()));
+
+        appendHeader(sb, "teammates_request_phase_duration_seconds", "summary",
+                "Time taken by each phase of serving requests.");
+        metricsByActionClass.forEach((actionClass, metrics) -> {
+            for (Phase phase : Phase.values()) {
+                appendSummary(sb, "teammates_request_phase_duration_seconds",
+                        label("action", actionClass) + "," + label("phase", phase.name().toLowerCase(Locale.ROOT)),
+                        metrics.getPhaseLatency(phase));
+            }
+        });
+
+        appendHeader(sb, "teammates_request_db_duration_seconds", "summary",
+                "Time spent in executing database statements per request.");
+        metricsByActionClass.forEach((actionClass, metrics) ->
+                appendSummary(sb, "teammates_request_db_duration_seconds", label("action", actionClass),
+                        metrics.getDbTime()));
+
+        appendHeader(sb, "teammates_request_errors_total", "counter", "Number of requests which failed.");
+        metricsByActionClass.forEach((actionClass, metrics) -> {
+            appendSample(sb, "teammates_request_errors_total",
+                    label("action", actionClass) + "," + label("type", "client"), metrics.getClientErrorCount());
+            appendSample(sb, "teammates_request_errors_total",
+                    label("action", actionClass) + "," + label("type", "server"), metrics.getServerErrorCount());
+        });
+
+        appendHeader(sb, "teammates_task_enqueued_total", "counter", "Number of tasks added to the task queue.");
+        metricsByActionClass.forEach((actionClass, metrics) ->
+                appendSample(sb, "teammates_task_enqueued_total", label("action", actionClass),
+                        metrics.getTaskEnqueueCount()));
+
+        return sb.toString();
+    }
+
+    private static void appendHeader(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSummary(StringBuilder sb, String name, String labels, LatencyHistogram histogram) {
+        for (double quantile : QUANTILES) {
+            sb.append(name).append('{').append(labels).append(',').append(label("quantile", String.valueOf(quantile)))
+                    .append("} ").append(toSeconds(histogram.getValueAtPercentile(quantile * 100))).append('\n');
+        }
+        sb.append(name).append("_sum{").append(labels).append("} ")
+                .append(toSeconds(histogram.getSumMicros())).append('\n');
+        appendSample(sb, name + "_count", labels, histogram.getCount());
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String label(String name, String value) {
+        String escapedValue = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escapedValue + "\"";
+    }
+
+    private static double toSeconds(long micros) {
+        return micros / 1_000_000.0;
+    }
+
+}
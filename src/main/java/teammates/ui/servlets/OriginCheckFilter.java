@@ -21,6 +21,7 @@ import org.apache.http.client.methods.HttpPut;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Url;
@@ -66,12 +67,10 @@ public class OriginCheckFilter implements Filter {
             return;
         }
 
-        // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
-        // Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_task_request_headers
-        boolean isRequestFromAppEngineQueue = request.getHeader("X-AppEngine-QueueName") != null;
+        boolean isRequestFromTaskQueue = HttpRequestHelper.isRequestFromTaskQueue(request);
 
-        if (isRequestFromAppEngineQueue) {
-            // Requests from App Engine are allowed to bypass CSRF check
+        if (isRequestFromTaskQueue) {
+            // Requests from task queues are allowed to bypass CSRF check
             chain.doFilter(req, res);
             return;
         }
@@ -1,6 +1,7 @@
 package teammates.ui.servlets;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Random;
 
 import jakarta.servlet.Filter;
@@ -15,17 +16,24 @@ import org.apache.commons.codec.binary.Hex;
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.Config;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.OtlpJsonFileSpanExporter;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.TraceSpan;
 import teammates.ui.webapi.JsonResult;
 
 /**
- * Extracts trace ID of HTTP requests.
+ * Extracts trace ID of HTTP requests, and records their spans if span exporting is configured.
  */
 public class RequestTraceFilter implements Filter {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final OtlpJsonFileSpanExporter SPAN_EXPORTER = Config.TRACING_EXPORT_FILE.isEmpty()
+            ? null
+            : new OtlpJsonFileSpanExporter(Path.of(Config.TRACING_EXPORT_FILE));
+
     @Override
     public void doFilter(ServletRequest req, ServletResponse resp, FilterChain chain) throws IOException, ServletException {
         HttpServletResponse response = (HttpServletResponse) resp;
@@ -53,9 +61,7 @@ public class RequestTraceFilter implements Filter {
             }
         }
 
-        // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
-        // Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_task_request_headers
-        boolean isRequestFromAppEngineQueue = request.getHeader("X-AppEngine-QueueName") != null;
+        boolean isRequestFromTaskQueue = HttpRequestHelper.isRequestFromTaskQueue(request);
 
         // GAE will terminate an instance if any request exceeds 10 minutes.
         // For GAE-invoked requests, we set the limit here minus a small grace period of 5 seconds
@@ -63,7 +69,7 @@ public class RequestTraceFilter implements Filter {
         // For user-invoked requests, we keep the time limit at 1 minute (as how it was
         // in the previous GAE runtime environment) in order to not let user wait for excessively long,
         // as well as a reminder for us to keep optimizing our API response time.
-        int timeoutInSeconds = isRequestFromAppEngineQueue ? 10 * 60 - 5 : 60;
+        int timeoutInSeconds = isRequestFromTaskQueue ? 10 * 60 - 5 : 60;
 
         RequestTracer.init(traceId, spanId, timeoutInSeconds);
 
@@ -84,7 +90,24 @@ public class RequestTraceFilter implements Filter {
             throw e;
         }
 
-        chain.doFilter(req, resp);
+        if (SPAN_EXPORTER == null) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        TraceSpan rootSpan = RequestTracer.startRootSpan(request.getMethod() + " " + request.getRequestURI());
+        rootSpan.setAttribute("http.method", request.getMethod())
+                .setAttribute("http.target", request.getRequestURI());
+        try {
+            chain.doFilter(req, resp);
+        } finally {
+            rootSpan.setAttribute("http.status_code", response.getStatus());
+            if (response.getStatus() >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                rootSpan.setError("HTTP " + response.getStatus());
+            }
+            rootSpan.close();
+            SPAN_EXPORTER.export(traceId, RequestTracer.getFinishedSpans());
+        }
     }
 
     private void throwError(HttpServletRequest req, HttpServletResponse resp, int statusCode, String message)
@@ -1,6 +1,7 @@
 package teammates.ui.servlets;
 
 import java.io.IOException;
+import java.util.Locale;
 
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +15,12 @@ import com.google.cloud.datastore.DatastoreException;
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.Phase;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TraceSpan;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -33,6 +39,8 @@ public class WebApiServlet extends HttpServlet {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final RequestMetrics requestMetrics = RequestMetrics.inst();
+
     @Override
     public void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         invokeServlet(req, resp);
@@ -54,8 +62,10 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        long startNanos = System.nanoTime();
         int statusCode = 0;
         Action action = null;
+        TraceSpan actionSpan = RequestTracer.startSpan("action");
 
         try {
             action = ActionFactory.getAction(req, req.getMethod());
@@ -68,7 +78,13 @@ public class WebApiServlet extends HttpServlet {
             }
 
             statusCode = result.getStatusCode();
+            long phaseStartNanos = System.nanoTime();
+            TraceSpan phaseSpan = startPhaseSpan(Phase.SERIALIZE);
             result.send(resp);
+            phaseStartNanos = recordPhase(action, Phase.SERIALIZE, phaseStartNanos, phaseSpan);
+            phaseSpan = startPhaseSpan(Phase.SEND);
+            resp.flushBuffer();
+            recordPhase(action, Phase.SEND, phaseStartNanos, phaseSpan);
         } catch (ActionMappingException e) {
             statusCode = e.getStatusCode();
             throwErrorBasedOnRequester(req, resp, e, statusCode);
@@ -113,7 +129,18 @@ public class WebApiServlet extends HttpServlet {
                 userInfo = action.getUserInfoForLogging();
             }
 
+            actionSpan.setAttribute("teammates.action", actionClass)
+                    .setAttribute("http.status_code", statusCode);
+            if (statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                actionSpan.setError("HTTP " + statusCode);
+            }
+            actionSpan.close();
+
             log.request(req, statusCode, actionClass, userInfo, requestBody, actionClass);
+            if (actionClass != null) {
+                requestMetrics.recordRequest(actionClass, statusCode, System.nanoTime() - startNanos,
+                        RequestTracer.getDbTimeNanos(), RequestTracer.getTaskEnqueueCount());
+            }
         }
     }
 
@@ -121,11 +148,18 @@ public class WebApiServlet extends HttpServlet {
             throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
         try {
             HibernateUtil.beginTransaction();
+            long phaseStartNanos = System.nanoTime();
+            TraceSpan phaseSpan = startPhaseSpan(Phase.INIT);
             action.init(req);
+            phaseStartNanos = recordPhase(action, Phase.INIT, phaseStartNanos, phaseSpan);
+            phaseSpan = startPhaseSpan(Phase.ACCESS_CONTROL);
             action.checkAccessControl();
+            phaseStartNanos = recordPhase(action, Phase.ACCESS_CONTROL, phaseStartNanos, phaseSpan);
 
+            phaseSpan = startPhaseSpan(Phase.EXECUTE);
             ActionResult result = action.execute();
             HibernateUtil.commitTransaction();
+            recordPhase(action, Phase.EXECUTE, phaseStartNanos, phaseSpan);
             return result;
         } catch (Exception e) {
             HibernateUtil.rollbackTransaction();
@@ -135,19 +169,42 @@ public class WebApiServlet extends HttpServlet {
 
     private ActionResult executeWithoutTransaction(Action action, HttpServletRequest req)
             throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
+        long phaseStartNanos = System.nanoTime();
+        TraceSpan phaseSpan = startPhaseSpan(Phase.INIT);
         action.init(req);
+        phaseStartNanos = recordPhase(action, Phase.INIT, phaseStartNanos, phaseSpan);
+        phaseSpan = startPhaseSpan(Phase.ACCESS_CONTROL);
         action.checkAccessControl();
+        phaseStartNanos = recordPhase(action, Phase.ACCESS_CONTROL, phaseStartNanos, phaseSpan);
+
+        phaseSpan = startPhaseSpan(Phase.EXECUTE);
+        ActionResult result = action.execute();
+        recordPhase(action, Phase.EXECUTE, phaseStartNanos, phaseSpan);
+        return result;
+    }
+
+    /**
+     * Starts the span of a phase. If the phase fails, its span is ended together with the span of the action.
+     */
+    private TraceSpan startPhaseSpan(Phase phase) {
+        return RequestTracer.startSpan("action." + phase.name().toLowerCase(Locale.ROOT));
+    }
 
-        return action.execute();
+    /**
+     * Records the latency of a phase started at the given time and ends its span, and returns the time it ended.
+     */
+    private long recordPhase(Action action, Phase phase, long phaseStartNanos, TraceSpan phaseSpan) {
+        long phaseEndNanos = System.nanoTime();
+        phaseSpan.close();
+        requestMetrics.recordPhase(action.getClass().getSimpleName(), phase, phaseEndNanos - phaseStartNanos);
+        return phaseEndNanos;
     }
 
     private void throwErrorBasedOnRequester(HttpServletRequest req, HttpServletResponse resp, Exception e, int statusCode)
             throws IOException {
-        // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
-        // Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_app_engine_task_request_headers
-        boolean isRequestFromAppEngineQueue = req.getHeader("X-AppEngine-QueueName") != null;
+        boolean isRequestFromTaskQueue = HttpRequestHelper.isRequestFromTaskQueue(req);
 
-        if (isRequestFromAppEngineQueue) {
+        if (isRequestFromTaskQueue) {
             log.severe(e.getClass().getSimpleName() + " caught by WebApiServlet: " + e.getMessage(), e);
 
             // Response status is not set to 4XX to 5XX to prevent Cloud Tasks retry mechanism because
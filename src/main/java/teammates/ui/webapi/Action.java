@@ -211,12 +211,9 @@ public abstract class Action {
             return;
         }
 
-        // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
-        // Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_app_engine_task_request_headers
-        String queueNameHeader = req.getHeader("X-AppEngine-QueueName");
-        boolean isRequestFromAppEngineQueue = queueNameHeader != null;
-        if (isRequestFromAppEngineQueue) {
-            userInfo = userProvision.getAdminOnlyUser("AppEngine-" + queueNameHeader);
+        String queueName = HttpRequestHelper.getTaskQueueName(req);
+        if (queueName != null) {
+            userInfo = userProvision.getAdminOnlyUser("AppEngine-" + queueName);
         } else {
             String cookie = HttpRequestHelper.getCookieValueFromRequest(req, Const.SecurityConfig.AUTH_COOKIE_NAME);
             UserInfoCookie uic = UserInfoCookie.fromCookie(cookie);
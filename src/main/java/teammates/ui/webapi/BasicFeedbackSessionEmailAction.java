@@ -0,0 +1,65 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+
+import teammates.common.datatransfer.EmailBatch;
+import teammates.common.util.EmailType;
+import teammates.common.util.StringHelper;
+import teammates.storage.sqlentity.FeedbackSession;
+
+/**
+ * The basic action for generating the emails of a feedback session in bounded batches.
+ *
+ * <p>Only one batch of emails is generated and scheduled in each request, so that the emails of a large course
+ * are not all kept in memory at once. The generation of the remaining emails continues in a separate task.
+ *
+ * <p>The tasks scheduled for a batch are named after the session, the email type, the time which triggers the emails
+ * and the cursor of the batch. When a batch is generated again, e.g. because its task is retried after a failure,
+ * the task queue does not add the tasks again, so that the emails of the batch are sent once.
+ */
+public abstract class BasicFeedbackSessionEmailAction extends AdminOnlyAction {
+
+    /**
+     * Maximum number of emails generated in a single request.
+     */
+    static final int EMAIL_GENERATION_BATCH_SIZE = 500;
+
+    /**
+     * Generates and schedules for sending the emails of the given type for the batch of recipients
+     * after {@code cursor}, and schedules the generation of the next batch if there are remaining recipients.
+     *
+     * @param cursor the cursor returned with the previous batch, or null for the first batch
+     */
+    void generateAndScheduleEmailBatch(FeedbackSession session, EmailType emailType, String cursor) {
+        EmailBatch emailBatch = sqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                session, emailType, cursor, EMAIL_GENERATION_BATCH_SIZE);
+        taskQueuer.scheduleEmailBatchesForSending(emailBatch.getEmails(), getBatchTaskName(session, emailType, cursor));
+
+        if (emailBatch.hasNextBatch()) {
+            String nextCursor = emailBatch.getNextCursor();
+            taskQueuer.scheduleFeedbackSessionEmailGeneration(session.getCourseId(), session.getName(), emailType,
+                    nextCursor, getBatchTaskName(session, emailType, nextCursor));
+        }
+    }
+
+    /**
+     * Gets the name identifying the tasks of the batch after {@code cursor}.
+     *
+     * <p>The name changes with the time which triggers the emails, so that the emails are sent again
+     * when e.g. the session is published again after being unpublished.
+     */
+    public static String getBatchTaskName(FeedbackSession session, EmailType emailType, String cursor) {
+        Instant triggerTime;
+        if (emailType == EmailType.FEEDBACK_OPENED) {
+            triggerTime = session.getStartTime();
+        } else if (emailType == EmailType.FEEDBACK_CLOSING_SOON) {
+            triggerTime = session.getEndTime();
+        } else {
+            triggerTime = session.getResultsVisibleFromTime();
+        }
+        String batchKey = String.join("|", session.getId().toString(), emailType.name(),
+                String.valueOf(triggerTime.toEpochMilli()), cursor == null ? "" : cursor);
+        return "fs-email-" + StringHelper.generateSignature(batchKey);
+    }
+
+}
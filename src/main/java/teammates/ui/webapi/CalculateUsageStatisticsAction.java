@@ -13,17 +13,51 @@ import teammates.storage.sqlentity.UsageStatistics;
 
 /**
  * Gathers usage-related statistics (e.g. new created entities) in the past defined time period and store in the database.'
+ *
+ * <p>Windows missed since the latest stored statistics, e.g. because earlier runs failed, are backfilled,
+ * up to {@link #MAX_BACKFILLED_WINDOWS} windows per run.
  */
 public class CalculateUsageStatisticsAction extends AdminOnlyAction {
 
     static final int COLLECTION_TIME_PERIOD = 60; // represents one hour
+    static final int MAX_BACKFILLED_WINDOWS = 24;
     private static final Logger log = Logger.getLogger();
 
     @Override
     public JsonResult execute() {
         Instant endTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
-        Instant startTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
+        Instant latestWindowStartTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
 
+        for (Instant startTime = getFirstMissedWindowStartTime(latestWindowStartTime);
+                !startTime.isAfter(latestWindowStartTime);
+                startTime = startTime.plus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES)) {
+            calculateUsageStatistics(startTime, startTime.plus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES));
+        }
+
+        return new JsonResult("Successful");
+    }
+
+    /**
+     * Returns the start time of the first window after the latest stored statistics, which is after
+     * {@code latestWindowStartTime} if all windows have been calculated.
+     */
+    private Instant getFirstMissedWindowStartTime(Instant latestWindowStartTime) {
+        UsageStatistics latestUsageStats = sqlLogic.getLatestUsageStatistics();
+        if (latestUsageStats == null) {
+            return latestWindowStartTime;
+        }
+        Instant firstMissedWindowStartTime = latestUsageStats.getStartTime()
+                .plus(latestUsageStats.getTimePeriod(), ChronoUnit.MINUTES);
+        Instant earliestBackfilledStartTime = latestWindowStartTime
+                .minus((long) MAX_BACKFILLED_WINDOWS * COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
+        if (firstMissedWindowStartTime.isBefore(earliestBackfilledStartTime)) {
+            log.warning("Usage statistics before " + earliestBackfilledStartTime + " are missing and not backfilled");
+            return earliestBackfilledStartTime;
+        }
+        return firstMissedWindowStartTime;
+    }
+
+    private void calculateUsageStatistics(Instant startTime, Instant endTime) {
         UsageStatisticsAttributes entitiesStats = logic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
         UsageStatistics sqlEntitiesStats = sqlLogic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
 
@@ -45,8 +79,6 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         } catch (InvalidParametersException | EntityAlreadyExistsException e) {
             log.severe("Unexpected error", e);
         }
-
-        return new JsonResult("Successful");
     }
 
 }
@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import teammates.common.datatransfer.ErrorLogEntry;
 import teammates.common.datatransfer.logs.GeneralLogEntry;
@@ -15,6 +16,11 @@ import teammates.common.util.EmailWrapper;
  */
 public class CompileLogsAction extends AdminOnlyAction {
 
+    /**
+     * Maximum number of severe logs included in the email. The remaining logs are only counted.
+     */
+    public static final int MAX_LOGS_IN_EMAIL = 100;
+
     @Override
     public JsonResult execute() {
         Instant endTime = Instant.now();
@@ -28,13 +34,20 @@ public class CompileLogsAction extends AdminOnlyAction {
                 .build();
 
         List<ErrorLogEntry> errorLogs = new ArrayList<>();
-        for (GeneralLogEntry logEntry : logsProcessor.queryLogs(queryLogsParams).getLogEntries()) {
-            errorLogs.add(ErrorLogEntry.fromLogEntry(logEntry));
-        }
+        AtomicInteger omittedLogCount = new AtomicInteger();
+        logsProcessor.streamLogs(queryLogsParams, logEntries -> {
+            for (GeneralLogEntry logEntry : logEntries) {
+                if (errorLogs.size() < MAX_LOGS_IN_EMAIL) {
+                    errorLogs.add(ErrorLogEntry.fromLogEntry(logEntry));
+                } else {
+                    omittedLogCount.incrementAndGet();
+                }
+            }
+        });
 
         // Do not send any emails if there are no severe logs; prevents spamming
         if (!errorLogs.isEmpty()) {
-            EmailWrapper message = emailGenerator.generateCompiledLogsEmail(errorLogs);
+            EmailWrapper message = emailGenerator.generateCompiledLogsEmail(errorLogs, omittedLogCount.get());
             emailSender.sendEmail(message);
         }
         return new JsonResult("Successful");
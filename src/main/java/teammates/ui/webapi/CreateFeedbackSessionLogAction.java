@@ -8,7 +8,6 @@ import teammates.common.datatransfer.logs.FeedbackSessionLogType;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackSession;
-import teammates.storage.sqlentity.FeedbackSessionLog;
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -39,8 +38,6 @@ public class CreateFeedbackSessionLogAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String fsName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
         String studentEmail = getNonNullRequestParamValue(Const.ParamsNames.STUDENT_EMAIL);
-        // Skip rigorous validations to avoid incurring extra db reads and to keep the endpoint
-        // light
 
         FeedbackSessionAuditLogDetails details = new FeedbackSessionAuditLogDetails();
         details.setCourseId(courseId);
@@ -56,13 +53,22 @@ public class CreateFeedbackSessionLogAction extends Action {
             details.setStudentId(studentId.toString());
             details.setFeedbackSessionId(fsId.toString());
 
+            // As anyone can call this endpoint and the logs do not reference the student and session
+            // with foreign keys, only logs of existing students for sessions of their course are accepted
             Student student = sqlLogic.getStudent(studentId);
+            if (student == null) {
+                throw new EntityNotFoundException("Student does not exist.");
+            }
             FeedbackSession feedbackSession = sqlLogic.getFeedbackSession(fsId);
-
-            FeedbackSessionLog feedbackSessionLog = new FeedbackSessionLog(student, feedbackSession,
-                    convertedFslType, Instant.now());
-
-            sqlLogic.createFeedbackSessionLog(feedbackSessionLog);
+            if (feedbackSession == null) {
+                throw new EntityNotFoundException("Feedback session does not exist.");
+            }
+            if (!courseId.equals(feedbackSession.getCourseId()) || !courseId.equals(student.getCourseId())) {
+                throw new InvalidHttpParameterException("The student and feedback session are not in the course.");
+            }
+
+            // written in the background; the event below is logged even if the log is discarded
+            sqlLogic.bufferFeedbackSessionLog(studentId, fsId, convertedFslType, Instant.now());
         } else {
             // Necessary to assist local testing. For production usage, this will be a no-op.
             logsProcessor.createFeedbackSessionLog(courseId, studentEmail, fsName, fslType);
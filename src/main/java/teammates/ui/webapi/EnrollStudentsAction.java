@@ -104,8 +104,6 @@ public class EnrollStudentsAction extends Action {
                                 enrollRequest.getEmail(), enrollRequest.getComments(), team);
                         newStudent.setId(sqlLogic.getStudentForEmail(courseId, enrollRequest.getEmail()).getId());
                         Student updatedStudent = sqlLogic.updateStudentCascade(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourseId(), updatedStudent.getEmail());
                         enrolledStudents.add(updatedStudent);
                     } catch (InvalidParametersException | EntityDoesNotExistException
                             | EntityAlreadyExistsException exception) {
@@ -122,8 +120,6 @@ public class EnrollStudentsAction extends Action {
                                 course, enrollRequest.getName(),
                                 enrollRequest.getEmail(), enrollRequest.getComments(), team);
                         newStudent = sqlLogic.createStudent(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                newStudent.getCourseId(), newStudent.getEmail());
                         enrolledStudents.add(newStudent);
                     } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
                         // Unsuccessfully enrolled students will not be returned.
@@ -133,6 +129,11 @@ public class EnrollStudentsAction extends Action {
                 }
             }
 
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId, enrolledStudents
+                    .stream()
+                    .map(Student::getEmail)
+                    .collect(Collectors.toList()));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
@@ -181,8 +182,6 @@ public class EnrollStudentsAction extends Action {
                                 .withComment(student.getComments())
                                 .build();
                         StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourse(), updatedStudent.getEmail());
                         enrolledStudents.add(updatedStudent);
                     } catch (InvalidParametersException | EntityDoesNotExistException
                             | EntityAlreadyExistsException exception) {
@@ -200,7 +199,6 @@ public class EnrollStudentsAction extends Action {
                                 .withComment(student.getComments())
                                 .build();
                         StudentAttributes newStudent = logic.createStudent(studentAttributes);
-                        taskQueuer.scheduleStudentForSearchIndexing(newStudent.getCourse(), newStudent.getEmail());
                         enrolledStudents.add(newStudent);
                     } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
                         // Unsuccessfully enrolled students will not be returned.
@@ -210,6 +208,11 @@ public class EnrollStudentsAction extends Action {
                 }
             }
 
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId, enrolledStudents
+                    .stream()
+                    .map(StudentAttributes::getEmail)
+                    .collect(Collectors.toList()));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
@@ -6,10 +6,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
-import teammates.storage.sqlentity.FeedbackSession;
 
 /**
  * Cron job: schedules feedback session closed emails to be sent.
+ *
+ * <p>Handles courses which are not migrated yet; see {@link FeedbackSessionNotificationsAction} for migrated courses.
  */
 public class FeedbackSessionClosedRemindersAction extends AdminOnlyAction {
 
@@ -39,19 +40,6 @@ public class FeedbackSessionClosedRemindersAction extends AdminOnlyAction {
             }
         }
 
-        List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsClosedWithinThePastHour();
-
-        for (FeedbackSession session : sessions) {
-            RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosedEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setClosedEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
-        }
-
         return new JsonResult("Successful");
     }
 
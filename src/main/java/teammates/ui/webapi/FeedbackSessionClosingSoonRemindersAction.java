@@ -13,11 +13,12 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
-import teammates.storage.sqlentity.DeadlineExtension;
-import teammates.storage.sqlentity.FeedbackSession;
 
 /**
  * Cron job: schedules feedback session closing soon emails to be sent.
+ *
+ * <p>Handles the sessions and deadline extensions of courses which are not migrated yet.
+ * Those of migrated courses are handled by {@link FeedbackSessionNotificationsAction}.
  */
 public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
 
@@ -26,46 +27,8 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
     @Override
     public JsonResult execute() {
         executeForDatastoreFeedbackSessions();
-
-        List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsClosingWithinTimeLimit();
-
-        for (FeedbackSession session : sessions) {
-            RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setClosingSoonEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
-        }
-
         executeForDatastoreExtendedDeadlines();
 
-        // Group deadline extensions by feedback sessions
-        Collection<List<DeadlineExtension>> groupedDeadlineExtensions =
-                sqlLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()
-                    .stream()
-                    .collect(Collectors.groupingBy(de -> de.getFeedbackSession()))
-                    .values();
-
-        for (var deadlineExtensions : groupedDeadlineExtensions) {
-            RequestTracer.checkRemainingTime();
-
-            FeedbackSession session = deadlineExtensions.get(0).getFeedbackSession();
-            if (!session.isClosingSoonEmailEnabled()) {
-                continue;
-            }
-
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator
-                    .generateFeedbackSessionClosingWithExtensionEmails(session, deadlineExtensions);
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-
-            for (var de : deadlineExtensions) {
-                de.setClosingSoonEmailSent(true);
-            }
-        }
-
         return new JsonResult("Successful");
     }
 
@@ -80,7 +43,7 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
             RequestTracer.checkRemainingTime();
             List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionClosingSoonEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
                 logic.updateFeedbackSession(
                         FeedbackSessionAttributes
                                 .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
@@ -117,7 +80,7 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
                     filterValidDeadlineExtensions(deadlineExtensions, feedbackSession);
             List<EmailWrapper> emailsToBeSent = emailGenerator
                     .generateFeedbackSessionClosingWithExtensionEmails(feedbackSession, validDeadlineExtensions);
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
 
             try {
                 for (var deadlineExtension : validDeadlineExtensions) {
@@ -0,0 +1,54 @@
+package teammates.ui.webapi;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.Logger;
+import teammates.storage.sqlentity.FeedbackSession;
+
+/**
+ * Task queue worker action: continues generating the emails of a feedback session after a given recipient.
+ *
+ * <p>The task is retried if it fails. Since the tasks scheduled for the batch are named after its cursor,
+ * the emails of a batch which has been scheduled before the failure are not scheduled again.
+ */
+public class FeedbackSessionEmailGenerationWorkerAction extends BasicFeedbackSessionEmailAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        EmailType emailType = getEmailType();
+        String cursor = getNonNullRequestParamValue(ParamsNames.CURSOR);
+
+        FeedbackSession session = sqlLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                    + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+
+        try {
+            generateAndScheduleEmailBatch(session, emailType, cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidHttpParameterException(e.getMessage(), e);
+        }
+        return new JsonResult("Successful");
+    }
+
+    private EmailType getEmailType() {
+        String emailType = getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE);
+        if (EmailType.FEEDBACK_OPENED.name().equals(emailType)) {
+            return EmailType.FEEDBACK_OPENED;
+        }
+        if (EmailType.FEEDBACK_CLOSING_SOON.name().equals(emailType)) {
+            return EmailType.FEEDBACK_CLOSING_SOON;
+        }
+        if (EmailType.FEEDBACK_PUBLISHED.name().equals(emailType)) {
+            return EmailType.FEEDBACK_PUBLISHED;
+        }
+        throw new InvalidHttpParameterException("Email type " + emailType + " not accepted");
+    }
+
+}
@@ -0,0 +1,132 @@
+package teammates.ui.webapi;
+
+import java.util.UUID;
+
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+
+/**
+ * Filters out feedback session logs of the same type for the same student and session which are within
+ * a window of the last log kept, as these are repeated page loads rather than separate activities.
+ *
+ * <p>The timestamp of the last log kept for each student, session and log type is held in a flat open-addressing
+ * hash table of primitive arrays, so that the memory used stays small and linear in the number of distinct keys
+ * even for windows with many logs.
+ */
+final class FeedbackSessionLogSpamFilter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int LONGS_PER_ID_KEY = 4;
+
+    private final long window;
+
+    // student ID and session ID of each slot, as the most and least significant bits of the two UUIDs
+    private long[] idKeys;
+    // ordinal of the log type of each slot plus one, with 0 marking an empty slot
+    private byte[] typeKeys;
+    private long[] lastKeptTimestamps;
+    private int size;
+
+    FeedbackSessionLogSpamFilter(long window) {
+        this.window = window;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        idKeys = new long[capacity * LONGS_PER_ID_KEY];
+        typeKeys = new byte[capacity];
+        lastKeptTimestamps = new long[capacity];
+    }
+
+    /**
+     * Returns true if the log should be kept, i.e. it is not within the window of the last log kept with the
+     * same student, session and type; the log is then recorded as the last log kept for these.
+     *
+     * <p>A null student or session ID is treated as the nil UUID.
+     */
+    boolean shouldKeep(UUID studentId, UUID feedbackSessionId, FeedbackSessionLogType type, long timestamp) {
+        long studentMsb = studentId == null ? 0L : studentId.getMostSignificantBits();
+        long studentLsb = studentId == null ? 0L : studentId.getLeastSignificantBits();
+        long sessionMsb = feedbackSessionId == null ? 0L : feedbackSessionId.getMostSignificantBits();
+        long sessionLsb = feedbackSessionId == null ? 0L : feedbackSessionId.getLeastSignificantBits();
+        byte typeKey = (byte) (type.ordinal() + 1);
+
+        int slot = findSlot(studentMsb, studentLsb, sessionMsb, sessionLsb, typeKey);
+        if (typeKeys[slot] != 0) {
+            if (Math.abs(timestamp - lastKeptTimestamps[slot]) <= window) {
+                return false;
+            }
+            lastKeptTimestamps[slot] = timestamp;
+            return true;
+        }
+
+        if ((size + 1) * 2 > typeKeys.length) {
+            resize();
+            slot = findSlot(studentMsb, studentLsb, sessionMsb, sessionLsb, typeKey);
+        }
+        int idOffset = slot * LONGS_PER_ID_KEY;
+        idKeys[idOffset] = studentMsb;
+        idKeys[idOffset + 1] = studentLsb;
+        idKeys[idOffset + 2] = sessionMsb;
+        idKeys[idOffset + 3] = sessionLsb;
+        typeKeys[slot] = typeKey;
+        lastKeptTimestamps[slot] = timestamp;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the slot holding the given key, or the empty slot where the key should be inserted.
+     */
+    private int findSlot(long studentMsb, long studentLsb, long sessionMsb, long sessionLsb, byte typeKey) {
+        int mask = typeKeys.length - 1;
+        int slot = hash(studentMsb, studentLsb, sessionMsb, sessionLsb, typeKey) & mask;
+        while (typeKeys[slot] != 0) {
+            int idOffset = slot * LONGS_PER_ID_KEY;
+            if (typeKeys[slot] == typeKey
+                    && idKeys[idOffset] == studentMsb && idKeys[idOffset + 1] == studentLsb
+                    && idKeys[idOffset + 2] == sessionMsb && idKeys[idOffset + 3] == sessionLsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long studentMsb, long studentLsb, long sessionMsb, long sessionLsb, byte typeKey) {
+        long hash = studentMsb;
+        hash = hash * 31 + studentLsb;
+        hash = hash * 31 + sessionMsb;
+        hash = hash * 31 + sessionLsb;
+        hash = hash * 31 + typeKey;
+        // spreads the bits so that linear probing over the low bits does not cluster
+        hash *= 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void resize() {
+        long[] oldIdKeys = idKeys;
+        byte[] oldTypeKeys = typeKeys;
+        long[] oldLastKeptTimestamps = lastKeptTimestamps;
+        allocate(oldTypeKeys.length * 2);
+
+        for (int oldSlot = 0; oldSlot < oldTypeKeys.length; oldSlot++) {
+            if (oldTypeKeys[oldSlot] == 0) {
+                continue;
+            }
+            int oldIdOffset = oldSlot * LONGS_PER_ID_KEY;
+            int slot = findSlot(oldIdKeys[oldIdOffset], oldIdKeys[oldIdOffset + 1],
+                    oldIdKeys[oldIdOffset + 2], oldIdKeys[oldIdOffset + 3], oldTypeKeys[oldSlot]);
+            System.arraycopy(oldIdKeys, oldIdOffset, idKeys, slot * LONGS_PER_ID_KEY, LONGS_PER_ID_KEY);
+            typeKeys[slot] = oldTypeKeys[oldSlot];
+            lastKeptTimestamps[slot] = oldLastKeptTimestamps[oldSlot];
+        }
+    }
+
+    /**
+     * Returns the number of distinct student, session and type combinations seen.
+     */
+    int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,100 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.FeedbackSession;
+
+/**
+ * Cron job: schedules the opened, opening soon, closing soon, closed and published emails
+ * of feedback sessions to be sent.
+ *
+ * <p>The sessions needing any of these emails are fetched with a single query and dispatched in one pass.
+ */
+public class FeedbackSessionNotificationsAction extends BasicFeedbackSessionEmailAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        Map<EmailType, List<FeedbackSession>> sessionsByEmailType =
+                sqlLogic.getFeedbackSessionsNeedingNotificationEmails();
+
+        for (FeedbackSession session : sessionsByEmailType.get(EmailType.FEEDBACK_OPENED)) {
+            RequestTracer.checkRemainingTime();
+            try {
+                generateAndScheduleEmailBatch(session, EmailType.FEEDBACK_OPENED, null);
+                session.setOpenedEmailSent(true);
+                sqlLogic.updateFeedbackSessionNextNotificationDueAt(session);
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        }
+
+        for (FeedbackSession session : sessionsByEmailType.get(EmailType.FEEDBACK_OPENING_SOON)) {
+            RequestTracer.checkRemainingTime();
+            try {
+                List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session);
+                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                session.setOpeningSoonEmailSent(true);
+                sqlLogic.updateFeedbackSessionNextNotificationDueAt(session);
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        }
+
+        for (FeedbackSession session : sessionsByEmailType.get(EmailType.FEEDBACK_CLOSING_SOON)) {
+            RequestTracer.checkRemainingTime();
+            try {
+                generateAndScheduleEmailBatch(session, EmailType.FEEDBACK_CLOSING_SOON, null);
+                session.setClosingSoonEmailSent(true);
+                sqlLogic.updateFeedbackSessionNextNotificationDueAt(session);
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        }
+
+        for (FeedbackSession session : sessionsByEmailType.get(EmailType.FEEDBACK_CLOSED)) {
+            RequestTracer.checkRemainingTime();
+            try {
+                List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosedEmails(session);
+                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                session.setClosedEmailSent(true);
+                sqlLogic.updateFeedbackSessionNextNotificationDueAt(session);
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        }
+
+        for (FeedbackSession session : sessionsByEmailType.get(EmailType.FEEDBACK_PUBLISHED)) {
+            RequestTracer.checkRemainingTime();
+            taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourse().getId(), session.getName());
+        }
+
+        scheduleClosingWithExtensionEmails();
+
+        return new JsonResult("Successful");
+    }
+
+    private void scheduleClosingWithExtensionEmails() {
+        Map<FeedbackSession, List<DeadlineExtension>> deadlineExtensionsBySession =
+                sqlLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
+
+        for (Map.Entry<FeedbackSession, List<DeadlineExtension>> entry : deadlineExtensionsBySession.entrySet()) {
+            RequestTracer.checkRemainingTime();
+
+            FeedbackSession session = entry.getKey();
+            List<DeadlineExtension> deadlineExtensions = entry.getValue();
+            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator
+                    .generateFeedbackSessionClosingWithExtensionEmails(session, deadlineExtensions);
+            taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
+            sqlLogic.updateDeadlineExtensionsClosingSoonEmailSent(deadlineExtensions);
+        }
+    }
+
+}
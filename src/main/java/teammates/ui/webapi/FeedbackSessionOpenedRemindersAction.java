@@ -6,10 +6,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
-import teammates.storage.sqlentity.FeedbackSession;
 
 /**
  * Cron job: schedules feedback session opened emails to be sent.
+ *
+ * <p>Handles courses which are not migrated yet; see {@link FeedbackSessionNotificationsAction} for migrated courses.
  */
 public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
 
@@ -28,7 +29,7 @@ public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
             RequestTracer.checkRemainingTime();
             List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionOpenedEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
                 logic.updateFeedbackSession(
                         FeedbackSessionAttributes
                                 .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
@@ -39,19 +40,6 @@ public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
             }
         }
 
-        List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
-
-        for (FeedbackSession session : sessions) {
-            RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpenedEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setOpenedEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
-        }
-
         return new JsonResult("Successful");
     }
 
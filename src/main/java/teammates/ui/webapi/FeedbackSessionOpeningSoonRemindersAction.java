@@ -6,10 +6,11 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
-import teammates.storage.sqlentity.FeedbackSession;
 
 /**
  * Cron job: schedules feedback session opening soon emails to be sent.
+ *
+ * <p>Handles courses which are not migrated yet; see {@link FeedbackSessionNotificationsAction} for migrated courses.
  */
 public class FeedbackSessionOpeningSoonRemindersAction extends AdminOnlyAction {
     private static final Logger log = Logger.getLogger();
@@ -38,18 +39,6 @@ public class FeedbackSessionOpeningSoonRemindersAction extends AdminOnlyAction {
             }
         }
 
-        List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsOpeningWithinTimeLimit();
-        for (FeedbackSession session : sessions) {
-            RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setOpeningSoonEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
-        }
-
         return new JsonResult("Successful");
     }
 }
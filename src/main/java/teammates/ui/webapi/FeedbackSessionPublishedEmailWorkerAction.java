@@ -4,6 +4,7 @@ import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackSession;
@@ -11,7 +12,7 @@ import teammates.storage.sqlentity.FeedbackSession;
 /**
  * Task queue worker action: prepares session published reminder for a particular session to be sent.
  */
-public class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
+public class FeedbackSessionPublishedEmailWorkerAction extends BasicFeedbackSessionEmailAction {
 
     private static final Logger log = Logger.getLogger();
 
@@ -29,7 +30,7 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
             }
             List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionPublishedEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchesForSending(emailsToBeSent);
                 logic.updateFeedbackSession(
                         FeedbackSessionAttributes
                                 .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
@@ -47,9 +48,8 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
                     + " for course: " + courseId + " could not be fetched.");
             return new JsonResult("Failure");
         }
-        List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionPublishedEmails(session);
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            generateAndScheduleEmailBatch(session, EmailType.FEEDBACK_PUBLISHED, null);
             session.setPublishedEmailSent(true);
             sqlLogic.adjustFeedbackSessionEmailStatusAfterUpdate(session);
         } catch (Exception e) {
@@ -4,10 +4,11 @@ import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.RequestTracer;
-import teammates.storage.sqlentity.FeedbackSession;
 
 /**
  * Cron job: schedules feedback session published emails to be sent.
+ *
+ * <p>Handles courses which are not migrated yet; see {@link FeedbackSessionNotificationsAction} for migrated courses.
  */
 public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
 
@@ -25,12 +26,6 @@ public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
             taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourseId(), session.getFeedbackSessionName());
         }
 
-        List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
-        for (FeedbackSession session : sessions) {
-            RequestTracer.checkRemainingTime();
-            taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourse().getId(), session.getName());
-        }
-
         return new JsonResult("Successful");
     }
 
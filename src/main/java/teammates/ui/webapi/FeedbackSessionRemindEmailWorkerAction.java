@@ -1,7 +1,6 @@
 package teammates.ui.webapi;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -34,13 +33,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
                 InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
-                List<StudentAttributes> studentsToRemindList = studentList.stream().filter(student ->
-                        !logic.isFeedbackSessionAttemptedByStudent(session, student.getEmail(), student.getTeam())
-                ).collect(Collectors.toList());
+                List<StudentAttributes> studentsToRemindList =
+                        logic.getStudentsYetToAttemptFeedbackSession(session, studentList);
 
-                List<InstructorAttributes> instructorsToRemindList = instructorList.stream().filter(instructor ->
-                        !logic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail())
-                ).collect(Collectors.toList());
+                List<InstructorAttributes> instructorsToRemindList =
+                        logic.getInstructorsYetToAttemptFeedbackSession(session, instructorList);
 
                 List<EmailWrapper> emails = emailGenerator.generateFeedbackSessionReminderEmails(
                         session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
@@ -58,16 +55,10 @@ public class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
             Instructor instructorToNotify = sqlLogic.getInstructorByGoogleId(courseId, instructorId);
 
-            List<Student> studentsToRemindList = studentList
-                    .stream()
-                    .filter(student -> !sqlLogic.isFeedbackSessionAttemptedByStudent(
-                            session, student.getEmail(), student.getTeamName()))
-                    .collect(Collectors.toList());
+            List<Student> studentsToRemindList = sqlLogic.getStudentsYetToAttemptFeedbackSession(session, studentList);
 
-            List<Instructor> instructorsToRemindList = instructorList
-                    .stream()
-                    .filter(instructor -> !sqlLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail()))
-                    .collect(Collectors.toList());
+            List<Instructor> instructorsToRemindList =
+                    sqlLogic.getInstructorsYetToAttemptFeedbackSession(session, instructorList);
 
             List<EmailWrapper> emails = sqlEmailGenerator.generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
@@ -0,0 +1,17 @@
+package teammates.ui.webapi;
+
+import teammates.common.util.Config;
+import teammates.common.util.RequestMetrics;
+import teammates.ui.output.RequestMetricsData;
+
+/**
+ * Gets the latency histograms and counters of the requests served by the instance serving this request.
+ */
+public class GetRequestMetricsAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() {
+        return new JsonResult(new RequestMetricsData(Config.getInstanceId(), RequestMetrics.inst()));
+    }
+
+}
@@ -15,6 +15,8 @@ public class GetUsageStatisticsAction extends Action {
 
     private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(184L); // covering six whole months
 
+    private static final UsageStatisticsSeriesCache SERIES_CACHE = new UsageStatisticsSeriesCache();
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -57,8 +59,8 @@ public class GetUsageStatisticsAction extends Action {
                     + MAX_SEARCH_WINDOW.toDays() + " full days.");
         }
 
-        List<UsageStatistics> usageStatisticsInRange =
-                sqlLogic.getUsageStatisticsForTimeRange(Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime));
+        List<UsageStatistics> usageStatisticsInRange = SERIES_CACHE.get(Instant.ofEpochMilli(startTime),
+                Instant.ofEpochMilli(endTime), Instant.now(), sqlLogic::getUsageStatisticsForTimeRange);
 
         UsageStatisticsRangeData output = new UsageStatisticsRangeData(usageStatisticsInRange);
         return new JsonResult(output);
@@ -0,0 +1,30 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: creates the upcoming partitions of the feedback session logs, rolls up the logs of the past days
+ * and drops the logs past their retention period.
+ */
+public class MaintainFeedbackSessionLogsAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        Instant now = Instant.now();
+
+        int createdPartitionCount = sqlLogic.createUpcomingFeedbackSessionLogsPartitions(now);
+        // the logs are rolled up before they can be dropped
+        int rollupCount = sqlLogic.rollUpRecentFeedbackSessionLogs(now);
+        int droppedPartitionCount = sqlLogic.dropExpiredFeedbackSessionLogs(now);
+
+        log.info("Feedback session logs maintained: " + createdPartitionCount + " partitions created, "
+                + rollupCount + " daily rollups updated, " + droppedPartitionCount + " partitions dropped");
+
+        return new JsonResult("Successful");
+    }
+
+}
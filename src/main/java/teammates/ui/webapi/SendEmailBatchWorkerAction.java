@@ -0,0 +1,52 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * Task queue worker action: sends a queued batch of emails.
+ *
+ * <p>Templated emails are rendered right before they are sent.
+ *
+ * <p>Only the emails which failed to send are retried, as a new batch,
+ * so that recipients who already received the email are not sent a duplicate.
+ */
+public class SendEmailBatchWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        SendEmailBatchRequest batchRequest = getAndValidateRequestBody(SendEmailBatchRequest.class);
+        List<EmailWrapper> emails = batchRequest.getEmails();
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
+        }
+        if (failedEmails.isEmpty()) {
+            return new JsonResult("Successful");
+        }
+
+        // The task itself always succeeds so that Cloud Tasks does not resend the whole batch
+        if (batchRequest.getAttemptNumber() >= MAX_ATTEMPTS) {
+            log.severe(failedEmails.size() + " of " + emails.size() + " emails in batch failed to send after "
+                    + MAX_ATTEMPTS + " attempts");
+            return new JsonResult("Failure");
+        }
+        taskQueuer.scheduleEmailBatchForRetry(failedEmails, batchRequest.getAttemptNumber() + 1);
+        return new JsonResult("Partial failure: " + failedEmails.size() + " emails rescheduled");
+    }
+
+}
@@ -18,6 +18,12 @@ import teammates.ui.output.SessionLinksRecoveryResponseData;
  */
 public class SessionLinksRecoveryAction extends Action {
 
+    /**
+     * The recovery emails generated recently. As this endpoint does not require authentication, repeated requests
+     * for the same address reuse the generated email.
+     */
+    private static final SessionLinksRecoveryEmailCache RECOVERY_EMAIL_CACHE = new SessionLinksRecoveryEmailCache();
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -42,6 +48,22 @@ public class SessionLinksRecoveryAction extends Action {
                     + "the reCAPTCHA verification. Please try again."));
         }
 
+        EmailWrapper email = RECOVERY_EMAIL_CACHE.get(recoveryEmailAddress,
+                () -> generateSessionLinksRecoveryEmail(recoveryEmailAddress));
+
+        EmailSendingStatus status = emailSender.sendEmail(email);
+
+        if (status.isSuccess()) {
+            return new JsonResult(new SessionLinksRecoveryResponseData(true,
+                    "The recovery links for your feedback sessions have been sent to the "
+                            + "specified email address: " + recoveryEmailAddress));
+        } else {
+            return new JsonResult(new SessionLinksRecoveryResponseData(false, "An error occurred. "
+                    + "The email could not be sent."));
+        }
+    }
+
+    private EmailWrapper generateSessionLinksRecoveryEmail(String recoveryEmailAddress) {
         int firstStudentIdx = 0;
         String noStudentName = "";
         List<StudentAttributes> studentFromDataStore = logic.getAllStudentsForEmail(recoveryEmailAddress);
@@ -53,19 +75,7 @@ public class SessionLinksRecoveryAction extends Action {
                 ? noStudentName
                 : studentFromDataStore.get(firstStudentIdx).getName();
 
-        EmailWrapper email = sqlEmailGenerator
-                .generateSessionLinksRecoveryEmailForStudent(recoveryEmailAddress,
+        return sqlEmailGenerator.generateSessionLinksRecoveryEmailForStudent(recoveryEmailAddress,
                 studentNameFromDatastore, dataStoreLinkFragmentMap);
-
-        EmailSendingStatus status = emailSender.sendEmail(email);
-
-        if (status.isSuccess()) {
-            return new JsonResult(new SessionLinksRecoveryResponseData(true,
-                    "The recovery links for your feedback sessions have been sent to the "
-                            + "specified email address: " + recoveryEmailAddress));
-        } else {
-            return new JsonResult(new SessionLinksRecoveryResponseData(false, "An error occurred. "
-                    + "The email could not be sent."));
-        }
     }
 }
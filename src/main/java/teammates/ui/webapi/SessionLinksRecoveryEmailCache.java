@@ -0,0 +1,138 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import teammates.common.util.EmailWrapper;
+
+/**
+ * Keeps the session links recovery email generated for each email address for a short window, so that repeated
+ * recovery requests for the same address reuse the email instead of looking up the courses and sessions again.
+ *
+ * <p>Concurrent requests for the same address are coalesced: only the first one generates the email,
+ * while the others wait for it. A request which waits for too long generates the email itself instead.
+ */
+final class SessionLinksRecoveryEmailCache {
+
+    /**
+     * The duration for which a generated email is reused.
+     */
+    static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+
+    /**
+     * The maximum duration for which a request waits for the email being generated by another request.
+     */
+    static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+    private static final int DEFAULT_MAX_CACHED_EMAILS = 1000;
+
+    private final Duration window;
+    private final int maxCachedEmails;
+    private final Duration maxWait;
+    private final Map<String, CachedEmail> cachedEmails = new ConcurrentHashMap<>();
+
+    SessionLinksRecoveryEmailCache() {
+        this(DEFAULT_WINDOW, DEFAULT_MAX_CACHED_EMAILS);
+    }
+
+    SessionLinksRecoveryEmailCache(Duration window, int maxCachedEmails) {
+        this(window, maxCachedEmails, DEFAULT_MAX_WAIT);
+    }
+
+    SessionLinksRecoveryEmailCache(Duration window, int maxCachedEmails, Duration maxWait) {
+        this.window = window;
+        this.maxCachedEmails = maxCachedEmails;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Gets the email for {@code recoveryEmailAddress} generated within the window,
+     * or generates it with {@code emailGenerator} if there is none.
+     */
+    EmailWrapper get(String recoveryEmailAddress, Supplier<EmailWrapper> emailGenerator) {
+        Instant now = Instant.now();
+        if (cachedEmails.size() >= maxCachedEmails) {
+            cachedEmails.values().removeIf(cachedEmail -> cachedEmail.isExpiredAt(now));
+            if (cachedEmails.size() >= maxCachedEmails) {
+                // too many distinct addresses within the window; do not let the cache grow any further
+                return emailGenerator.get();
+            }
+        }
+
+        CachedEmail newCachedEmail = new CachedEmail(now.plus(window));
+        CachedEmail cachedEmail = cachedEmails.merge(recoveryEmailAddress, newCachedEmail,
+                (existing, created) -> existing.isExpiredAt(now) ? created : existing);
+        if (cachedEmail != newCachedEmail) {
+            EmailWrapper email = cachedEmail.await(maxWait);
+            // the email is generated again if it takes too long, so that the request is not held up indefinitely
+            return email == null ? emailGenerator.get() : email;
+        }
+
+        boolean isGenerated = false;
+        try {
+            EmailWrapper email = emailGenerator.get();
+            newCachedEmail.email.complete(email);
+            isGenerated = true;
+            return email;
+        } catch (Throwable e) {
+            // waiting requests must not wait for an email which is never going to be generated, even on errors
+            newCachedEmail.email.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!isGenerated) {
+                cachedEmails.remove(recoveryEmailAddress, newCachedEmail);
+            }
+        }
+    }
+
+    /**
+     * An email which is being or has been generated, and the time until which it can be reused.
+     */
+    private static final class CachedEmail {
+
+        private final CompletableFuture<EmailWrapper> email = new CompletableFuture<>();
+        private final Instant expiry;
+
+        CachedEmail(Instant expiry) {
+            this.expiry = expiry;
+        }
+
+        boolean isExpiredAt(Instant time) {
+            return !time.isBefore(expiry);
+        }
+
+        /**
+         * Waits for the email to be generated for at most {@code maxWait}.
+         *
+         * @return the email, or null if it is not generated within {@code maxWait}
+         */
+        EmailWrapper await(Duration maxWait) {
+            try {
+                return email.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                // rethrow the failure of the request which generated the email
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+    }
+
+}
@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -28,50 +27,62 @@ public class UpdateFeedbackSessionLogsAction extends AdminOnlyAction {
 
     @Override
     public JsonResult execute() {
-        List<FeedbackSessionLog> filteredLogs = new ArrayList<>();
-
         Instant endTime = TimeHelper.getInstantNearestQuarterHourBefore(Instant.now());
         Instant startTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
 
-        List<FeedbackSessionLogEntry> logEntries = logsProcessor.getOrderedFeedbackSessionLogs(null, null,
-                startTime.toEpochMilli(), endTime.toEpochMilli(), null);
-
-        Map<UUID, Map<String, Map<UUID, Map<String, Long>>>> lastSavedTimestamps = new HashMap<>();
+        FeedbackSessionLogSpamFilter spamFilter = new FeedbackSessionLogSpamFilter(SPAM_FILTER);
         Map<String, Boolean> isCourseMigratedMap = new HashMap<>();
-        for (FeedbackSessionLogEntry logEntry : logEntries) {
+        // the logs are saved page by page so that all of them need not be held in memory at once
+        logsProcessor.streamFeedbackSessionLogs(null, null, startTime.toEpochMilli(), endTime.toEpochMilli(), null,
+                logEntries -> sqlLogic.createFeedbackSessionLogs(
+                        filterLogs(logEntries, spamFilter, isCourseMigratedMap)));
+
+        return new JsonResult("Successful");
+    }
 
-            isCourseMigratedMap.computeIfAbsent(logEntry.getCourseId(), k -> {
-                CourseAttributes course = logic.getCourse(logEntry.getCourseId());
-                return course == null || course.isMigrated();
-            });
+    private List<FeedbackSessionLog> filterLogs(List<FeedbackSessionLogEntry> logEntries,
+            FeedbackSessionLogSpamFilter spamFilter, Map<String, Boolean> isCourseMigratedMap) {
+        resolveCourseMigrationStatuses(logEntries, isCourseMigratedMap);
 
+        List<FeedbackSessionLog> filteredLogs = new ArrayList<>();
+        for (FeedbackSessionLogEntry logEntry : logEntries) {
             if (!isCourseMigratedMap.get(logEntry.getCourseId())) {
                 continue;
             }
 
-            String courseId = logEntry.getCourseId();
-            UUID studentId = logEntry.getStudentId();
-            UUID fbSessionId = logEntry.getFeedbackSessionId();
-            String type = logEntry.getFeedbackSessionLogType();
-            Long timestamp = logEntry.getTimestamp();
-
-            lastSavedTimestamps.computeIfAbsent(studentId, k -> new HashMap<>());
-            lastSavedTimestamps.get(studentId).computeIfAbsent(courseId, k -> new HashMap<>());
-            lastSavedTimestamps.get(studentId).get(courseId).computeIfAbsent(fbSessionId, k -> new HashMap<>());
-            Long lastSaved = lastSavedTimestamps.get(studentId).get(courseId).get(fbSessionId).getOrDefault(type, 0L);
+            FeedbackSessionLogType type = FeedbackSessionLogType.valueOfLabel(logEntry.getFeedbackSessionLogType());
+            if (type == null) {
+                // not a log type which can be stored
+                continue;
+            }
+            long timestamp = logEntry.getTimestamp();
 
-            if (Math.abs(timestamp - lastSaved) > SPAM_FILTER) {
-                lastSavedTimestamps.get(studentId).get(courseId).get(fbSessionId).put(type, timestamp);
-                Student student = sqlLogic.getStudentReference(studentId);
-                FeedbackSession feedbackSession = sqlLogic.getFeedbackSessionReference(fbSessionId);
-                FeedbackSessionLog fslEntity = new FeedbackSessionLog(student, feedbackSession,
-                        FeedbackSessionLogType.valueOfLabel(type), Instant.ofEpochMilli(timestamp));
-                filteredLogs.add(fslEntity);
+            if (spamFilter.shouldKeep(logEntry.getStudentId(), logEntry.getFeedbackSessionId(), type, timestamp)) {
+                Student student = sqlLogic.getStudentReference(logEntry.getStudentId());
+                FeedbackSession feedbackSession = sqlLogic.getFeedbackSessionReference(logEntry.getFeedbackSessionId());
+                filteredLogs.add(new FeedbackSessionLog(student, feedbackSession, type, Instant.ofEpochMilli(timestamp)));
             }
         }
+        return filteredLogs;
+    }
 
-        sqlLogic.createFeedbackSessionLogs(filteredLogs);
-
-        return new JsonResult("Successful");
+    /**
+     * Looks up whether the courses of the logs not seen before have been migrated, in one batch.
+     * Courses which are not found in the datastore are treated as migrated.
+     */
+    private void resolveCourseMigrationStatuses(List<FeedbackSessionLogEntry> logEntries,
+            Map<String, Boolean> isCourseMigratedMap) {
+        List<String> newCourseIds = new ArrayList<>();
+        for (FeedbackSessionLogEntry logEntry : logEntries) {
+            if (isCourseMigratedMap.putIfAbsent(logEntry.getCourseId(), true) == null) {
+                newCourseIds.add(logEntry.getCourseId());
+            }
+        }
+        if (newCourseIds.isEmpty()) {
+            return;
+        }
+        for (CourseAttributes course : logic.getCourses(newCourseIds)) {
+            isCourseMigratedMap.put(course.getId(), course.isMigrated());
+        }
     }
 }
@@ -0,0 +1,142 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import teammates.storage.sqlentity.UsageStatistics;
+
+/**
+ * Keeps the usage statistics of past whole days (in UTC), so that repeated requests for long ranges, e.g. the
+ * last six months, are served mostly from memory. The database is queried only for the days which are not cached,
+ * in one query, and for the partial days at the ends of the range.
+ *
+ * <p>Only days which ended more than {@link #SETTLING_PERIOD} ago are cached, as the statistics of more recent
+ * days may still be backfilled by {@link CalculateUsageStatisticsAction}.
+ */
+final class UsageStatisticsSeriesCache {
+
+    /**
+     * The duration after the end of a day before its statistics are considered final.
+     */
+    static final Duration SETTLING_PERIOD =
+            Duration.ofMinutes((CalculateUsageStatisticsAction.MAX_BACKFILLED_WINDOWS + 1L)
+                    * CalculateUsageStatisticsAction.COLLECTION_TIME_PERIOD);
+
+    private static final int DEFAULT_MAX_CACHED_DAYS = 400;
+
+    private final int maxCachedDays;
+    private final Map<Long, List<UsageStatistics>> statisticsByEpochDay = new ConcurrentHashMap<>();
+
+    UsageStatisticsSeriesCache() {
+        this(DEFAULT_MAX_CACHED_DAYS);
+    }
+
+    UsageStatisticsSeriesCache(int maxCachedDays) {
+        this.maxCachedDays = maxCachedDays;
+    }
+
+    /**
+     * Gets the statistics with start time between {@code startTime} (inclusive) and {@code endTime} (exclusive).
+     *
+     * @param loader loads the statistics of a time range from the database
+     */
+    List<UsageStatistics> get(Instant startTime, Instant endTime, Instant now,
+            BiFunction<Instant, Instant, List<UsageStatistics>> loader) {
+        Instant cacheableEndTime = now.minus(SETTLING_PERIOD).truncatedTo(ChronoUnit.DAYS);
+        Instant firstDayStartTime = startTime.truncatedTo(ChronoUnit.DAYS);
+        if (firstDayStartTime.isBefore(startTime)) {
+            firstDayStartTime = firstDayStartTime.plus(1, ChronoUnit.DAYS);
+        }
+        Instant lastDayEndTime = endTime.truncatedTo(ChronoUnit.DAYS);
+        if (lastDayEndTime.isAfter(cacheableEndTime)) {
+            lastDayEndTime = cacheableEndTime;
+        }
+        if (!firstDayStartTime.isBefore(lastDayEndTime)) {
+            // no whole day in the range can be cached
+            return loader.apply(startTime, endTime);
+        }
+
+        List<UsageStatistics> statistics = new ArrayList<>();
+        if (startTime.isBefore(firstDayStartTime)) {
+            statistics.addAll(loader.apply(startTime, firstDayStartTime));
+        }
+        statistics.addAll(getWholeDays(toEpochDay(firstDayStartTime), toEpochDay(lastDayEndTime), loader));
+        if (lastDayEndTime.isBefore(endTime)) {
+            statistics.addAll(loader.apply(lastDayEndTime, endTime));
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the statistics of the days from {@code firstEpochDay} (inclusive) to {@code endEpochDay} (exclusive),
+     * loading all the days which are not cached with one query.
+     */
+    private List<UsageStatistics> getWholeDays(long firstEpochDay, long endEpochDay,
+            BiFunction<Instant, Instant, List<UsageStatistics>> loader) {
+        Map<Long, List<UsageStatistics>> statisticsOfDays = new HashMap<>();
+        long firstMissingEpochDay = Long.MIN_VALUE;
+        long lastMissingEpochDay = Long.MIN_VALUE;
+        for (long epochDay = firstEpochDay; epochDay < endEpochDay; epochDay++) {
+            List<UsageStatistics> cachedStatistics = statisticsByEpochDay.get(epochDay);
+            if (cachedStatistics != null) {
+                statisticsOfDays.put(epochDay, cachedStatistics);
+                continue;
+            }
+            if (firstMissingEpochDay == Long.MIN_VALUE) {
+                firstMissingEpochDay = epochDay;
+            }
+            lastMissingEpochDay = epochDay;
+        }
+
+        if (firstMissingEpochDay != Long.MIN_VALUE) {
+            Map<Long, List<UsageStatistics>> loadedStatistics = new HashMap<>();
+            for (long epochDay = firstMissingEpochDay; epochDay <= lastMissingEpochDay; epochDay++) {
+                loadedStatistics.put(epochDay, new ArrayList<>());
+            }
+            for (UsageStatistics usageStatistics : loader.apply(toInstant(firstMissingEpochDay),
+                    toInstant(lastMissingEpochDay + 1))) {
+                loadedStatistics.get(toEpochDay(usageStatistics.getStartTime())).add(usageStatistics);
+            }
+
+            if (statisticsByEpochDay.size() + loadedStatistics.size() > maxCachedDays) {
+                statisticsByEpochDay.clear();
+            }
+            loadedStatistics.forEach((epochDay, statisticsOfDay) -> {
+                List<UsageStatistics> unmodifiableStatistics = List.copyOf(statisticsOfDay);
+                statisticsOfDays.put(epochDay, unmodifiableStatistics);
+                if (loadedStatistics.size() <= maxCachedDays) {
+                    statisticsByEpochDay.put(epochDay, unmodifiableStatistics);
+                }
+            });
+        }
+
+        List<UsageStatistics> statistics = new ArrayList<>();
+        for (long epochDay = firstEpochDay; epochDay < endEpochDay; epochDay++) {
+            statistics.addAll(statisticsOfDays.get(epochDay));
+        }
+        return statistics;
+    }
+
+    private static long toEpochDay(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), Duration.ofDays(1).toSeconds());
+    }
+
+    private static Instant toInstant(long epochDay) {
+        return Instant.EPOCH.plus(epochDay, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Returns the number of days whose statistics are cached.
+     */
+    int getCachedDayCount() {
+        return statisticsByEpochDay.size();
+    }
+
+}
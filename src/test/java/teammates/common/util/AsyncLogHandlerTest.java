@@ -0,0 +1,125 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest extends BaseTestCase {
+
+    @Test
+    public void testPublish_recordsShouldBePublishedToDelegateInOrder() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 10, "test-log-publisher");
+
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(List.of("message 0", "message 1", "message 2", "message 3", "message 4"),
+                delegate.getMessages());
+        assertEquals(0L, handler.getDroppedCount());
+
+        ______TS("records published after closing are ignored");
+
+        handler.publish(new LogRecord(Level.INFO, "message 5"));
+
+        assertEquals(5, delegate.getMessages().size());
+        assertEquals(0, handler.getPendingCount());
+    }
+
+    @Test
+    public void testPublish_tooManyPendingRecords_shouldDropAndReportRecords() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 2, "test-log-publisher");
+
+        handler.publish(new LogRecord(Level.INFO, "message 0"));
+        assertTrue(delegate.awaitFirstPublish());
+
+        // the publisher thread is blocked on the first record, so only 2 of these records can wait
+        for (int i = 1; i <= 4; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(2L, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+
+        assertEquals(List.of("message 0",
+                "Dropped 2 log records as the logging thread could not keep up", "message 1", "message 2"),
+                delegate.getMessages());
+    }
+
+    @Test
+    public void testPublish_recordBelowLevel_shouldBeIgnored() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 10, "test-log-publisher");
+        handler.setLevel(Level.INFO);
+
+        handler.publish(new LogRecord(Level.FINE, "fine message"));
+        handler.publish(new LogRecord(Level.INFO, "info message"));
+        handler.close();
+
+        assertEquals(List.of("info message"), delegate.getMessages());
+    }
+
+    /**
+     * Records the messages published, optionally blocking on the first record until released.
+     */
+    private static final class RecordingHandler extends Handler {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstPublish = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord logRecord) {
+            messages.add(logRecord.getMessage());
+            firstPublish.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean awaitFirstPublish() throws InterruptedException {
+            return firstPublish.await(10, TimeUnit.SECONDS);
+        }
+
+        List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+    }
+
+}
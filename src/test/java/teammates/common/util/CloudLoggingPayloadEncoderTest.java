@@ -0,0 +1,119 @@
+package teammates.common.util;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CloudLoggingPayloadEncoder}.
+ */
+public class CloudLoggingPayloadEncoderTest extends BaseTestCase {
+
+    @Test
+    public void testEncode_withDetails_shouldMergeDetailsAndCloudLoggingFields() {
+        RequestLogDetails details = getTypicalRequestLogDetails();
+
+        String payload = CloudLoggingPayloadEncoder.encode("[200] [12ms] [GET /webapi/course] Test log",
+                LogSeverity.INFO, new SourceLocation("teammates.ui.webapi.WebApiServlet", 120L, "invokeServlet"),
+                "trace-id", "span-id", details);
+        JsonObject json = JsonUtils.parse(payload).getAsJsonObject();
+
+        assertEquals("[200] [12ms] [GET /webapi/course] Test log", json.get("message").getAsString());
+        assertEquals("INFO", json.get("severity").getAsString());
+        assertEquals("REQUEST_LOG", json.get("event").getAsString());
+        assertEquals(200, json.get("responseStatus").getAsInt());
+        assertEquals(12L, json.get("responseTime").getAsLong());
+        assertEquals("/webapi/course", json.get("requestUrl").getAsString());
+        assertEquals("user@teammates.tmt", json.getAsJsonObject("userInfo").get("email").getAsString());
+
+        JsonObject sourceLocation = json.getAsJsonObject(CloudLoggingPayloadEncoder.SOURCE_LOCATION_KEY);
+        assertEquals("teammates.ui.webapi.WebApiServlet", sourceLocation.get("file").getAsString());
+        assertEquals(120L, sourceLocation.get("line").getAsLong());
+        assertEquals("invokeServlet", sourceLocation.get("function").getAsString());
+        assertEquals("projects/" + Config.APP_ID + "/traces/trace-id",
+                json.get(CloudLoggingPayloadEncoder.TRACE_KEY).getAsString());
+        assertEquals("span-id", json.get(CloudLoggingPayloadEncoder.SPAN_ID_KEY).getAsString());
+
+        ______TS("same payload as serializing the details on their own and adding the fields");
+
+        JsonObject expected = JsonUtils.parse(JsonUtils.toCompactJson(details)).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            if (expected.has(entry.getKey())) {
+                assertEquals(expected.get(entry.getKey()), entry.getValue());
+            }
+        }
+        assertEquals(expected.size() + 5, json.size());
+    }
+
+    @Test
+    public void testEncode_detailsWithMessage_shouldUseMessageOfDetails() {
+        RequestLogDetails details = getTypicalRequestLogDetails();
+        details.setMessage("Message of details");
+
+        String payload = CloudLoggingPayloadEncoder.encode("Log message", LogSeverity.WARNING, null, null, null, details);
+        JsonObject json = JsonUtils.parse(payload).getAsJsonObject();
+
+        assertEquals("Message of details", json.get("message").getAsString());
+        assertEquals("WARNING", json.get("severity").getAsString());
+        assertFalse(json.has(CloudLoggingPayloadEncoder.SOURCE_LOCATION_KEY));
+        assertFalse(json.has(CloudLoggingPayloadEncoder.TRACE_KEY));
+        assertFalse(json.has(CloudLoggingPayloadEncoder.SPAN_ID_KEY));
+    }
+
+    @Test
+    public void testEncode_withoutDetails_shouldContainOnlyGivenFields() {
+        assertEquals("{\"message\":\"Log message\",\"severity\":\"ERROR\"}",
+                CloudLoggingPayloadEncoder.encode("Log message", LogSeverity.ERROR, null, null, null, null));
+        assertEquals("{\"severity\":\"DEBUG\"}",
+                CloudLoggingPayloadEncoder.encode(null, LogSeverity.DEBUG, null, null, null, null));
+    }
+
+    @Test
+    public void testEncode_specialCharacters_shouldBeEscapedAsGsonDoes() {
+        String message = "quote \" backslash \\ newline \n tab \t control \u0001 separators \u2028\u2029 html <a href='x'>";
+
+        String payload = CloudLoggingPayloadEncoder.encode(message, LogSeverity.INFO, null, null, null, null);
+
+        String expectedMessage = JsonUtils.toCompactJson(message);
+        assertEquals("{\"message\":" + expectedMessage + ",\"severity\":\"INFO\"}", payload);
+        assertEquals(message, JsonUtils.parse(payload).getAsJsonObject().get("message").getAsString());
+    }
+
+    @Test
+    public void testEncode_consecutiveCalls_shouldNotLeakContentOfPreviousPayload() {
+        CloudLoggingPayloadEncoder.encode("x".repeat(100_000), LogSeverity.INFO, null, null, null,
+                getTypicalRequestLogDetails());
+
+        assertEquals("{\"message\":\"Log message\",\"severity\":\"INFO\"}",
+                CloudLoggingPayloadEncoder.encode("Log message", LogSeverity.INFO, null, null, null, null));
+    }
+
+    private RequestLogDetails getTypicalRequestLogDetails() {
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setEmail("user@teammates.tmt");
+        userInfo.setGoogleId("user.googleid");
+
+        RequestLogDetails details = new RequestLogDetails();
+        details.setResponseStatus(200);
+        details.setResponseTime(12L);
+        details.setRequestMethod("GET");
+        details.setRequestUrl("/webapi/course");
+        details.setUserAgent("Mozilla/5.0");
+        details.setInstanceId("instance-id");
+        details.setRequestParams(Map.<String, Object>of("courseid", "course.id", "entitytype", "instructor"));
+        details.setRequestHeaders(Map.<String, Object>of("content-type", "application/json"));
+        details.setUserInfo(userInfo);
+        details.setActionClass("GetCourseAction");
+        return details;
+    }
+
+}
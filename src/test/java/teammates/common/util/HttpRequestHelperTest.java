@@ -0,0 +1,52 @@
+package teammates.common.util;
+
+import org.apache.http.client.methods.HttpPost;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletRequest;
+
+/**
+ * SUT: {@link HttpRequestHelper}.
+ */
+public class HttpRequestHelperTest extends BaseTestCase {
+
+    private static final String QUEUE_NAME = "queue-name";
+
+    @Test
+    public void testGetTaskQueueName() {
+        ______TS("request without the queue name header is not from a task queue");
+
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpPost.METHOD_NAME, "/worker/test");
+        request.addHeader(Const.HeaderNames.TASK_QUEUE_SECRET, Config.TASKQUEUE_SECRET);
+
+        assertNull(HttpRequestHelper.getTaskQueueName(request));
+        assertFalse(HttpRequestHelper.isRequestFromTaskQueue(request));
+
+        // Tests are not run on GAE, where nothing strips the queue name header from user requests
+
+        ______TS("queue name header without the task queue secret is not trusted");
+
+        request = new MockHttpServletRequest(HttpPost.METHOD_NAME, "/worker/test");
+        request.addHeader(Const.HeaderNames.TASK_QUEUE_NAME, QUEUE_NAME);
+
+        assertNull(HttpRequestHelper.getTaskQueueName(request));
+        assertFalse(HttpRequestHelper.isRequestFromTaskQueue(request));
+
+        ______TS("queue name header with a wrong task queue secret is not trusted");
+
+        request.addHeader(Const.HeaderNames.TASK_QUEUE_SECRET, Config.TASKQUEUE_SECRET + "x");
+
+        assertNull(HttpRequestHelper.getTaskQueueName(request));
+
+        ______TS("queue name header with the task queue secret is trusted");
+
+        request = new MockHttpServletRequest(HttpPost.METHOD_NAME, "/worker/test");
+        request.addHeader(Const.HeaderNames.TASK_QUEUE_NAME, QUEUE_NAME);
+        request.addHeader(Const.HeaderNames.TASK_QUEUE_SECRET, Config.TASKQUEUE_SECRET);
+
+        assertEquals(QUEUE_NAME, HttpRequestHelper.getTaskQueueName(request));
+        assertTrue(HttpRequestHelper.isRequestFromTaskQueue(request));
+    }
+
+}
@@ -0,0 +1,63 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest extends BaseTestCase {
+
+    @Test
+    public void testGetBucketIndex_bucketBoundsShouldContainValue() {
+        long[] values = {
+                0, 1, 15, 16, 17, 31, 32, 33, 1000, 1023, 1024, 123_456_789, LatencyHistogram.MAX_TRACKABLE_MICROS,
+        };
+        for (long value : values) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            long lowerBound = index == 0 ? 0 : LatencyHistogram.getBucketUpperBound(index - 1) + 1;
+
+            assertTrue(value + " is below its bucket", lowerBound <= value);
+            assertTrue(value + " is above its bucket", value <= LatencyHistogram.getBucketUpperBound(index));
+        }
+    }
+
+    @Test
+    public void testGetValueAtPercentile_shouldBeWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0L, histogram.getValueAtPercentile(50));
+
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        assertEquals(10_000L, histogram.getCount());
+        assertEquals(50_005_000L, histogram.getSumMicros());
+        assertEquals(10_000L, histogram.getMaxMicros());
+        assertWithinRelativeError(5_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(9_900, histogram.getValueAtPercentile(99));
+        assertEquals(10_000L, histogram.getValueAtPercentile(100));
+        assertEquals(1L, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testRecord_outOfRangeValues_shouldBeClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordMicros(-5);
+        histogram.recordNanos(Long.MAX_VALUE);
+
+        assertEquals(2L, histogram.getCount());
+        assertEquals(0L, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE / 1_000, histogram.getMaxMicros());
+        assertTrue(histogram.getValueAtPercentile(100) >= LatencyHistogram.MAX_TRACKABLE_MICROS);
+    }
+
+    private void assertWithinRelativeError(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+
+}
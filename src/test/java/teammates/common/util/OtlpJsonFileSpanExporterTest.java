@@ -0,0 +1,106 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link OtlpJsonFileSpanExporter}.
+ */
+public class OtlpJsonFileSpanExporterTest extends BaseTestCase {
+
+    private static final String TRACE_ID = "0123456789abcdef0123456789abcdef";
+
+    @AfterMethod
+    public void clearRequestTrace() {
+        RequestTracer.clear();
+    }
+
+    private List<TraceSpan> recordSpans() {
+        RequestTracer.init(TRACE_ID, null, 60);
+        TraceSpan root = RequestTracer.startRootSpan("GET /webapi/course");
+        try (TraceSpan span = RequestTracer.startSpan("db.execute", TraceSpan.Kind.CLIENT)) {
+            span.setAttribute("db.system", "postgresql")
+                    .setAttribute("db.deleted_count", 2)
+                    .setAttribute("db.cached", false)
+                    .setError("Connection \"reset\"");
+        }
+        root.close();
+        return RequestTracer.getFinishedSpans();
+    }
+
+    @Test
+    public void testToOtlpJson() {
+        List<TraceSpan> spans = recordSpans();
+
+        JsonObject request = JsonUtils.parse(OtlpJsonFileSpanExporter.toOtlpJson(TRACE_ID, spans)).getAsJsonObject();
+        JsonObject resourceSpans = request.getAsJsonArray("resourceSpans").get(0).getAsJsonObject();
+        JsonObject serviceName = resourceSpans.getAsJsonObject("resource").getAsJsonArray("attributes")
+                .get(0).getAsJsonObject();
+
+        assertEquals("service.name", serviceName.get("key").getAsString());
+        assertEquals("teammates", serviceName.getAsJsonObject("value").get("stringValue").getAsString());
+
+        JsonArray otlpSpans = resourceSpans.getAsJsonArray("scopeSpans").get(0).getAsJsonObject()
+                .getAsJsonArray("spans");
+
+        assertEquals(2, otlpSpans.size());
+
+        JsonObject rootSpan = otlpSpans.get(0).getAsJsonObject();
+
+        assertEquals(TRACE_ID, rootSpan.get("traceId").getAsString());
+        assertEquals(spans.get(0).getSpanId(), rootSpan.get("spanId").getAsString());
+        assertFalse(rootSpan.has("parentSpanId"));
+        assertEquals("GET /webapi/course", rootSpan.get("name").getAsString());
+        assertEquals(2, rootSpan.get("kind").getAsInt());
+        assertEquals(String.valueOf(spans.get(0).getStartEpochNanos()), rootSpan.get("startTimeUnixNano").getAsString());
+        assertEquals(String.valueOf(spans.get(0).getEndEpochNanos()), rootSpan.get("endTimeUnixNano").getAsString());
+        assertFalse(rootSpan.has("status"));
+
+        JsonObject dbSpan = otlpSpans.get(1).getAsJsonObject();
+
+        assertEquals(spans.get(0).getSpanId(), dbSpan.get("parentSpanId").getAsString());
+        assertEquals(3, dbSpan.get("kind").getAsInt());
+        assertEquals(2, dbSpan.getAsJsonObject("status").get("code").getAsInt());
+        assertEquals("Connection \"reset\"", dbSpan.getAsJsonObject("status").get("message").getAsString());
+
+        JsonArray attributes = dbSpan.getAsJsonArray("attributes");
+
+        assertEquals(3, attributes.size());
+        assertEquals("postgresql",
+                attributes.get(0).getAsJsonObject().getAsJsonObject("value").get("stringValue").getAsString());
+        assertEquals("2", attributes.get(1).getAsJsonObject().getAsJsonObject("value").get("intValue").getAsString());
+        assertFalse(attributes.get(2).getAsJsonObject().getAsJsonObject("value").get("boolValue").getAsBoolean());
+    }
+
+    @Test
+    public void testExport_shouldAppendOneLinePerTrace() throws IOException {
+        Path file = Files.createTempFile("spans", ".jsonl");
+        try {
+            OtlpJsonFileSpanExporter exporter = new OtlpJsonFileSpanExporter(file);
+            List<TraceSpan> spans = recordSpans();
+
+            exporter.export(TRACE_ID, spans);
+            exporter.export(TRACE_ID, List.of());
+            exporter.export(TRACE_ID, spans);
+
+            List<String> lines = Files.readAllLines(file);
+
+            assertEquals(2, lines.size());
+            assertEquals(OtlpJsonFileSpanExporter.toOtlpJson(TRACE_ID, spans), lines.get(0));
+            assertEquals(lines.get(0), lines.get(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package teammates.common.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestLogPolicy}.
+ */
+public class RequestLogPolicyTest extends BaseTestCase {
+
+    @Test
+    public void testShouldLog_failedOrNonGetRequests_shouldAlwaysBeLogged() {
+        RequestLogPolicy policy = new RequestLogPolicy(0, Map.of("GetCourseAction", 0.0), 0, 0, () -> 0.5);
+
+        assertTrue(policy.shouldLog("GET", 400, "GetCourseAction"));
+        assertTrue(policy.shouldLog("GET", 500, null));
+        assertTrue(policy.shouldLog("POST", 200, "CreateCourseAction"));
+        assertTrue(policy.shouldLog("PUT", 200, "GetCourseAction"));
+        assertFalse(policy.shouldLog("GET", 200, "GetCourseAction"));
+        assertFalse(policy.shouldLog("GET", 302, null));
+    }
+
+    @Test
+    public void testShouldLog_successfulGetRequests_shouldBeSampledByActionClass() {
+        RequestLogPolicy policy = new RequestLogPolicy(0.5, Map.of("GetCourseAction", 0.1), 0, 0, () -> 0.3);
+
+        assertTrue(policy.shouldLog("GET", 200, "GetFeedbackSessionAction"));
+        assertTrue(policy.shouldLog("GET", 200, null));
+        assertFalse(policy.shouldLog("GET", 200, "GetCourseAction"));
+
+        policy = new RequestLogPolicy(1, Map.of(), 0, 0, () -> 0.99);
+
+        assertTrue(policy.shouldLog("GET", 200, "GetCourseAction"));
+    }
+
+    @Test
+    public void testTruncateBody() {
+        RequestLogPolicy policy = new RequestLogPolicy(1, Map.of(), 5, 0, () -> 0);
+
+        assertNull(policy.truncateBody(null));
+        assertEquals("abcde", policy.truncateBody("abcde"));
+        assertEquals("abcde...[truncated 3 characters]", policy.truncateBody("abcdefgh"));
+
+        ______TS("surrogate pair at the cap is not split");
+
+        assertEquals("abcd...[truncated 3 characters]", policy.truncateBody("abcd\uD83D\uDE00f"));
+
+        ______TS("no cap");
+
+        policy = new RequestLogPolicy(1, Map.of(), 0, 0, () -> 0);
+
+        assertEquals("abcdefgh", policy.truncateBody("abcdefgh"));
+    }
+
+    @Test
+    public void testTruncateValues() {
+        RequestLogPolicy policy = new RequestLogPolicy(1, Map.of(), 0, 3, () -> 0);
+        Map<String, Object> values = Map.of("single", "abcdef", "multi", new String[] { "ab", "abcd" });
+
+        Map<String, Object> truncatedValues = policy.truncateValues(values);
+
+        assertEquals("abc...[truncated 3 characters]", truncatedValues.get("single"));
+        assertEquals(List.of("ab", "abc...[truncated 1 characters]"),
+                Arrays.asList((String[]) truncatedValues.get("multi")));
+        assertEquals(List.of("ab", "abcd"), Arrays.asList((String[]) values.get("multi")));
+    }
+
+}
@@ -0,0 +1,122 @@
+package teammates.common.util;
+
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestTracer}.
+ */
+public class RequestTracerTest extends BaseTestCase {
+
+    @AfterMethod
+    public void clearRequestTrace() {
+        RequestTracer.clear();
+    }
+
+    @Test
+    public void testStartSpan_spansNotRecorded_shouldReturnNoopSpan() {
+        ______TS("no current request");
+
+        TraceSpan span = RequestTracer.startSpan("span");
+
+        assertFalse(span.isRecording());
+        assertTrue(RequestTracer.getFinishedSpans().isEmpty());
+
+        ______TS("no root span");
+
+        RequestTracer.init("0123456789abcdef0123456789abcdef", null, 60);
+        span = RequestTracer.startSpan("span");
+        span.setAttribute("key", "value");
+        span.close();
+
+        assertFalse(span.isRecording());
+        assertTrue(span.getAttributes().isEmpty());
+        assertTrue(RequestTracer.getFinishedSpans().isEmpty());
+    }
+
+    @Test
+    public void testStartSpan_nestedSpans_shouldFormTree() {
+        RequestTracer.init("0123456789abcdef0123456789abcdef", "12345", 60);
+
+        TraceSpan root = RequestTracer.startRootSpan("GET /webapi/course");
+        try (TraceSpan child = RequestTracer.startSpan("action").setAttribute("teammates.action", "GetCourseAction")) {
+            try (TraceSpan grandchild = RequestTracer.startSpan("db.execute", TraceSpan.Kind.CLIENT)) {
+                assertTrue(grandchild.isRecording());
+            }
+            assertTrue(child.isRecording());
+        }
+        TraceSpan sibling = RequestTracer.startSpan("hibernate.commit");
+        sibling.close();
+        root.close();
+
+        List<TraceSpan> spans = RequestTracer.getFinishedSpans();
+
+        assertEquals(4, spans.size());
+        assertEquals("GET /webapi/course", spans.get(0).getName());
+        assertEquals(TraceSpan.Kind.SERVER, spans.get(0).getKind());
+        assertEquals("0000000000003039", spans.get(0).getParentSpanId());
+        assertEquals("action", spans.get(1).getName());
+        assertEquals(root.getSpanId(), spans.get(1).getParentSpanId());
+        assertEquals("GetCourseAction", spans.get(1).getAttributes().get("teammates.action"));
+        assertEquals("db.execute", spans.get(2).getName());
+        assertEquals(TraceSpan.Kind.CLIENT, spans.get(2).getKind());
+        assertEquals(spans.get(1).getSpanId(), spans.get(2).getParentSpanId());
+        assertEquals(root.getSpanId(), sibling.getParentSpanId());
+
+        for (TraceSpan span : spans) {
+            assertEquals(16, span.getSpanId().length());
+            assertTrue(span.getStartEpochNanos() <= span.getEndEpochNanos());
+            assertTrue(root.getStartEpochNanos() <= span.getStartEpochNanos());
+            assertTrue(span.getEndEpochNanos() <= root.getEndEpochNanos());
+        }
+    }
+
+    @Test
+    public void testClose_unclosedChildSpans_shouldBeEndedWithParent() {
+        RequestTracer.init("0123456789abcdef0123456789abcdef", null, 60);
+
+        TraceSpan root = RequestTracer.startRootSpan("POST /webapi/course");
+        TraceSpan child = RequestTracer.startSpan("action.execute");
+        TraceSpan grandchild = RequestTracer.startSpan("hibernate.persist");
+        root.close();
+
+        assertFalse(child.isRecording());
+        assertFalse(grandchild.isRecording());
+        assertEquals(root.getEndEpochNanos(), grandchild.getEndEpochNanos());
+        assertNull(root.getParentSpanId());
+        assertEquals(3, RequestTracer.getFinishedSpans().size());
+
+        ______TS("spans started after the root span has ended are not recorded");
+
+        assertFalse(RequestTracer.startSpan("span").isRecording());
+    }
+
+    @Test
+    public void testStartSpan_tooManySpans_shouldDropExcessSpans() {
+        RequestTracer.init("0123456789abcdef0123456789abcdef", null, 60);
+
+        TraceSpan root = RequestTracer.startRootSpan("GET /webapi/sessions");
+        for (int i = 0; i < RequestTracer.MAX_SPANS_PER_TRACE + 10; i++) {
+            RequestTracer.startSpan("db.execute").close();
+        }
+        root.close();
+
+        assertEquals(RequestTracer.MAX_SPANS_PER_TRACE, RequestTracer.getFinishedSpans().size());
+        assertEquals(11, root.getAttributes().get("teammates.dropped_span_count"));
+    }
+
+    @Test
+    public void testToHexSpanId() {
+        assertEquals("0000000000003039", RequestTracer.toHexSpanId("12345"));
+        assertEquals("ffffffffffffffff", RequestTracer.toHexSpanId("18446744073709551615"));
+        assertNull(RequestTracer.toHexSpanId("0"));
+        assertNull(RequestTracer.toHexSpanId("not-a-number"));
+        assertNull(RequestTracer.toHexSpanId(""));
+        assertNull(RequestTracer.toHexSpanId(null));
+    }
+
+}
@@ -0,0 +1,131 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TemplatedEmails}.
+ */
+public class TemplatedEmailsTest extends BaseTestCase {
+
+    private static final String COURSE_NAME = "Software Engineering";
+
+    private static EmailWrapper getEmailHeader(String recipient, boolean isCopy) {
+        EmailWrapper email = new EmailWrapper();
+        email.setType(EmailType.FEEDBACK_OPENED);
+        email.setSenderEmail("sender@email.com");
+        email.setSenderName("Sender");
+        email.setReplyTo("reply-to@email.com");
+        email.setRecipient(recipient);
+        email.setIsCopy(isCopy);
+        email.setSubjectFromType(COURSE_NAME, "First session");
+        return email;
+    }
+
+    private static String[] getKeyValuePairs(String userName, String submitUrl, String preamble) {
+        return new String[] {
+                "${status}", "A new feedback session has been opened.",
+                "${userName}", userName,
+                "${courseName}", COURSE_NAME,
+                "${courseId}", "CS1",
+                "${feedbackSessionName}", "First session",
+                "${instructorPreamble}", preamble,
+                "${submitUrl}", submitUrl,
+                "${additionalContactInformation}", EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+                "${coOwnersEmails}", "owner@example.com",
+                "${supportEmail}", "support@example.com",
+        };
+    }
+
+    @Test
+    public void testRender_sameAsPopulatingTemplateForEachRecipient() {
+        List<EmailWrapper> headers = new ArrayList<>();
+        List<String[]> keyValuePairs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            headers.add(getEmailHeader("student" + i + "@email.com", false));
+            keyValuePairs.add(getKeyValuePairs("Student " + i, "http://localhost/submit?key=" + i, ""));
+        }
+        headers.add(getEmailHeader("instructor@email.com", true));
+        keyValuePairs.add(getKeyValuePairs("Instructor", "{unique link}", "<p>Copy of the email</p>"));
+
+        TemplatedEmails templatedEmails =
+                TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, headers, keyValuePairs);
+
+        assertEquals("USER_FEEDBACK_SESSION_OPENED", templatedEmails.getTemplateName());
+        assertEquals(6, templatedEmails.size());
+
+        List<EmailWrapper> emails = templatedEmails.render();
+        assertEquals(6, emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            EmailWrapper email = emails.get(i);
+            EmailWrapper header = headers.get(i);
+            assertEquals(header.getRecipient(), email.getRecipient());
+            assertEquals(header.getSubject(), email.getSubject());
+            assertEquals(header.getIsCopy(), email.getIsCopy());
+            assertEquals(header.getSenderEmail(), email.getSenderEmail());
+            assertEquals(header.getReplyTo(), email.getReplyTo());
+            assertEquals(EmailType.FEEDBACK_OPENED, email.getType());
+            assertEquals(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, keyValuePairs.get(i)),
+                    email.getContent());
+        }
+    }
+
+    @Test
+    public void testOf_sharedValuesKeptOnce() {
+        List<EmailWrapper> headers = new ArrayList<>();
+        List<String[]> keyValuePairs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            headers.add(getEmailHeader("student" + i + "@email.com", false));
+            keyValuePairs.add(getKeyValuePairs("Student " + i, "http://localhost/submit?key=" + i, ""));
+        }
+
+        String json = JsonUtils.toCompactJson(
+                TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, headers, keyValuePairs));
+
+        // values shared by all recipients are kept once only, and the content is not rendered
+        assertEquals(1, json.split("owner@example.com", -1).length - 1);
+        assertEquals(1, json.split("A new feedback session has been opened.", -1).length - 1);
+        assertFalse(json.contains("<p>Hello"));
+        assertTrue(json.contains("Student 9"));
+    }
+
+    @Test
+    public void testSubList_recipientsInRange() {
+        List<EmailWrapper> headers = new ArrayList<>();
+        List<String[]> keyValuePairs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            headers.add(getEmailHeader("student" + i + "@email.com", false));
+            keyValuePairs.add(getKeyValuePairs("Student " + i, "http://localhost/submit?key=" + i, ""));
+        }
+        TemplatedEmails templatedEmails =
+                TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, headers, keyValuePairs);
+
+        TemplatedEmails subList = templatedEmails.subList(1, 3);
+
+        assertEquals(2, subList.size());
+        List<EmailWrapper> emailHeaders = subList.getEmailHeaders();
+        assertEquals("student1@email.com", emailHeaders.get(0).getRecipient());
+        assertEquals("student2@email.com", emailHeaders.get(1).getRecipient());
+        assertNull(emailHeaders.get(0).getContent());
+        assertEquals(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, keyValuePairs.get(2)),
+                subList.render().get(1).getContent());
+    }
+
+    @Test
+    public void testIsValid() {
+        List<EmailWrapper> headers = List.of(getEmailHeader("student@email.com", false));
+        List<String[]> keyValuePairs = new ArrayList<>();
+        keyValuePairs.add(getKeyValuePairs("Student", "http://localhost/submit", ""));
+
+        assertTrue(TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, headers, keyValuePairs).isValid());
+
+        headers.get(0).setRecipient(null);
+        assertFalse(TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION_OPENED, headers, keyValuePairs).isValid());
+    }
+
+}
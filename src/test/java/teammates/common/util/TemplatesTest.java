@@ -0,0 +1,114 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    private static String populateByChainedReplace(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("placeholders replaced, including repeated ones");
+
+        String template = "Dear ${userName}, ${courseName} (${courseId}) is ready. Bye ${userName}.";
+        assertEquals("Dear Alice, Software Engineering (CS1) is ready. Bye Alice.",
+                Templates.populateTemplate(template,
+                        "${userName}", "Alice",
+                        "${courseName}", "Software Engineering",
+                        "${courseId}", "CS1"));
+
+        ______TS("placeholders without value left untouched");
+
+        assertEquals("Hello ${userName} and ${missing}",
+                Templates.populateTemplate("Hello ${userName} and ${missing}"));
+        assertEquals("Hello Bob and ${missing}",
+                Templates.populateTemplate("Hello ${userName} and ${missing}", "${userName}", "Bob"));
+
+        ______TS("unterminated and nested placeholders");
+
+        assertEquals("${a${b} c ${d", Templates.populateTemplate("${a${b} c ${d", "${a}", "x"));
+        assertEquals("${aB c ${d", Templates.populateTemplate("${a${b} c ${d", "${b}", "B"));
+
+        ______TS("first pair wins for duplicate keys");
+
+        assertEquals("x", Templates.populateTemplate("${a}", "${a}", "x", "${a}", "y"));
+
+        ______TS("values populated with the pairs after them only");
+
+        String[] keyValuePairs = {
+                "${b}", "[${c}]",
+                "${fragment}", "<${a}|${b}|${c}>",
+                "${a}", "A",
+                "${c}", "C",
+        };
+        String fragmentTemplate = "${fragment} ${b} ${a}";
+        assertEquals("<A|${b}|C> [C] A", Templates.populateTemplate(fragmentTemplate, keyValuePairs));
+        assertEquals(populateByChainedReplace(fragmentTemplate, keyValuePairs),
+                Templates.populateTemplate(fragmentTemplate, keyValuePairs));
+
+        ______TS("keys which are not placeholders replaced anywhere");
+
+        assertEquals("Dear Alice of CS1.course",
+                Templates.populateTemplate("Dear Demo_Instructor of demo.course.course",
+                        "Demo_Instructor", "Alice",
+                        "demo.course", "CS1"));
+    }
+
+    @Test
+    public void testPopulateTemplate_emailTemplates_sameAsChainedReplace() {
+        String[] keyValuePairs = {
+                "${userName}", "Alice &amp; Bob",
+                "${userType}", "a student",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS1",
+                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
+                "${joinUrl}", "http://localhost:8080/web/join?key=abc",
+                "${feedbackSessionName}", "First session",
+                "${deadline}", "Sun, 01 Nov 2026, 11:59 PM SGT",
+                "${instructorPreamble}", "",
+                "${sessionInstructions}", "Please answer all questions.",
+                "${submitUrl}", "http://localhost:8080/web/sessions/submission?key=abc",
+                "${reportUrl}", "http://localhost:8080/web/sessions/result?key=abc",
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", EmailTemplates.FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION,
+                "${coOwnersEmails}", "owner@example.com",
+                "${supportEmail}", "support@example.com",
+                "${status}", "A new feedback session has been opened.",
+        };
+
+        for (String template : new String[] {
+                EmailTemplates.USER_COURSE_JOIN,
+                EmailTemplates.USER_FEEDBACK_SESSION,
+                EmailTemplates.USER_FEEDBACK_SESSION_OPENED,
+                EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED,
+                EmailTemplates.USER_DEADLINE_EXTENSION,
+        }) {
+            assertEquals(populateByChainedReplace(template, keyValuePairs),
+                    Templates.populateTemplate(template, keyValuePairs));
+        }
+    }
+
+    @Test
+    public void testCompile() {
+        Templates.CompiledTemplate compiledTemplate = Templates.compile("${greeting}, ${name}!");
+
+        assertEquals("Hello, Alice!", compiledTemplate.populate("${greeting}", "Hello", "${name}", "Alice"));
+        assertEquals("Hi, Bob!", compiledTemplate.populate("${greeting}", "Hi", "${name}", "Bob"));
+        assertEquals("${greeting}, ${name}!", compiledTemplate.populate());
+        assertEquals("no placeholders", Templates.compile("no placeholders").populate("${name}", "Alice"));
+    }
+
+}
@@ -725,6 +725,12 @@ public class EmailGeneratorTest extends BaseLogicTest {
         String subject = String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.APP_VERSION);
 
         verifyEmail(email, Config.SUPPORT_EMAIL, subject, "/severeLogsCompilationEmail.html");
+
+        ______TS("logs left out of the email are counted");
+
+        email = emailGenerator.generateCompiledLogsEmail(errorLogs, 5);
+
+        assertTrue(email.getContent().endsWith("<p>5 more severe logs are not shown.</p>"));
     }
 
     private void verifyEmail(EmailWrapper email, String recipient, String subject, String emailContentFilePath)
@@ -0,0 +1,96 @@
+package teammates.logic.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EmailSendingScheduler}.
+ */
+public class EmailSendingSchedulerTest extends BaseTestCase {
+
+    private static final long NOW = 1_000_000L;
+
+    private static List<List<EmailWrapper>> getEmailGroups(EmailType type, int numberOfGroups, int groupSize) {
+        List<List<EmailWrapper>> emailGroups = new ArrayList<>();
+        for (int i = 0; i < numberOfGroups; i++) {
+            List<EmailWrapper> group = new ArrayList<>();
+            for (int j = 0; j < groupSize; j++) {
+                EmailWrapper email = new EmailWrapper();
+                email.setType(type);
+                email.setRecipient("recipient" + i + "-" + j + "@email.com");
+                group.add(email);
+            }
+            emailGroups.add(group);
+        }
+        return emailGroups;
+    }
+
+    @Test
+    public void testSchedule_bulkEmails_limitedToShareOfFlowInEachSlot() {
+        // 10 emails per second: 8 for bulk emails, of which 4 for a single flow
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(10);
+
+        List<Long> delays = scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_OPENED, 10, 1), NOW);
+
+        assertEquals(List.of(0L, 0L, 0L, 0L, 1000L, 1000L, 1000L, 1000L, 2000L, 2000L), delays);
+    }
+
+    @Test
+    public void testSchedule_concurrentFlows_shareBulkCapacity() {
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(10);
+
+        scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_OPENED, 12, 1), NOW);
+        List<Long> delays = scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_CLOSING_SOON, 6, 1), NOW);
+
+        // the second flow is not queued behind the whole of the first flow
+        assertEquals(List.of(0L, 0L, 0L, 0L, 1000L, 1000L), delays);
+    }
+
+    @Test
+    public void testSchedule_highPriorityEmails_notDelayedByBulkEmails() {
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(10);
+
+        scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_OPENED, 12, 1), NOW);
+        scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_CLOSING_SOON, 12, 1), NOW);
+        List<Long> delays = scheduler.schedule(getEmailGroups(EmailType.STUDENT_COURSE_JOIN, 3, 1), NOW);
+
+        assertEquals(List.of(0L, 0L, 1000L), delays);
+    }
+
+    @Test
+    public void testSchedule_mixedPriorities_highPriorityScheduledFirst() {
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(2);
+
+        List<List<EmailWrapper>> emailGroups = getEmailGroups(EmailType.FEEDBACK_SESSION_REMINDER, 2, 1);
+        emailGroups.addAll(getEmailGroups(EmailType.LOGIN, 2, 1));
+        List<Long> delays = scheduler.schedule(emailGroups, NOW);
+
+        assertEquals(List.of(1000L, 2000L, 0L, 0L), delays);
+    }
+
+    @Test
+    public void testSchedule_groupLargerThanSlot_sentWhenAllTokensReserved() {
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(10);
+
+        List<Long> delays = scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_PUBLISHED, 2, 10), NOW + 300);
+
+        assertEquals(List.of(1700L, 3700L), delays);
+    }
+
+    @Test
+    public void testSchedule_laterCall_startsFromCurrentSlot() {
+        EmailSendingScheduler scheduler = new EmailSendingScheduler(10);
+
+        scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_OPENED, 4, 1), NOW);
+        List<Long> delays = scheduler.schedule(getEmailGroups(EmailType.FEEDBACK_OPENED, 4, 1), NOW + 1000);
+
+        assertEquals(List.of(0L, 0L, 0L, 0L), delays);
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
 import teammates.common.datatransfer.QueryLogsResults;
@@ -107,6 +108,11 @@ public class MockLogsProcessor extends LogsProcessor {
         return new QueryLogsResults(queryResults, false);
     }
 
+    @Override
+    public void streamLogs(QueryLogsParams queryLogsParams, Consumer<List<GeneralLogEntry>> pageConsumer) {
+        pageConsumer.accept(queryLogs(queryLogsParams).getLogEntries());
+    }
+
     @Override
     public void createFeedbackSessionLog(String courseId, UUID studentId, UUID fsId, String fslType) {
         // No-op
@@ -119,4 +125,10 @@ public class MockLogsProcessor extends LogsProcessor {
         return feedbackSessionLogs;
     }
 
+    @Override
+    public void streamFeedbackSessionLogs(String courseId, String email, long startTime, long endTime,
+            String fsName, Consumer<List<FeedbackSessionLogEntry>> pageConsumer) {
+        pageConsumer.accept(getOrderedFeedbackSessionLogs(courseId, email, startTime, endTime, fsName));
+    }
+
 }
@@ -25,6 +25,12 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks) {
+        tasksAdded.addAll(tasks);
+        return new ArrayList<>();
+    }
+
     /**
      * Gets the tasks added to the queue.
      */
@@ -162,6 +162,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         testIsFeedbackSessionAttemptedByStudent();
         testIsFeedbackSessionAttemptedByInstructor();
+        testGetUsersYetToAttemptFeedbackSession();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -1002,6 +1003,44 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(fsLogic.isFeedbackSessionAttemptedByStudent(fs, student.getEmail(), student.getTeam()));
     }
 
+    private void testGetUsersYetToAttemptFeedbackSession() {
+
+        ______TS("success: same users as checking each user individually");
+
+        for (String sessionKey : List.of("empty.session", "gracePeriodSession", "session1InCourse1",
+                "session2InCourse1")) {
+            FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get(sessionKey);
+
+            List<StudentAttributes> students = dataBundle.students.values().stream()
+                    .filter(student -> student.getCourse().equals(fs.getCourseId()))
+                    .collect(Collectors.toList());
+            List<StudentAttributes> expectedStudents = students.stream()
+                    .filter(student -> !fsLogic.isFeedbackSessionAttemptedByStudent(
+                            fs, student.getEmail(), student.getTeam()))
+                    .collect(Collectors.toList());
+            assertEquals(expectedStudents, fsLogic.getStudentsYetToAttemptFeedbackSession(fs, students));
+
+            List<InstructorAttributes> instructors = dataBundle.instructors.values().stream()
+                    .filter(instructor -> instructor.getCourseId().equals(fs.getCourseId()))
+                    .collect(Collectors.toList());
+            List<InstructorAttributes> expectedInstructors = instructors.stream()
+                    .filter(instructor -> !fsLogic.isFeedbackSessionAttemptedByInstructor(fs, instructor.getEmail()))
+                    .collect(Collectors.toList());
+            assertEquals(expectedInstructors, fsLogic.getInstructorsYetToAttemptFeedbackSession(fs, instructors));
+        }
+
+        ______TS("success: grace period session (all team questions)");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("gracePeriodSession");
+        List<StudentAttributes> students = List.of(
+                dataBundle.students.get("student4InCourse1"),
+                dataBundle.students.get("student1InCourse1"),
+                dataBundle.students.get("student5InCourse1"));
+
+        assertEquals(List.of(dataBundle.students.get("student5InCourse1")),
+                fsLogic.getStudentsYetToAttemptFeedbackSession(fs, students));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse")
                 .withCreatorEmail("valid@email.tmt")
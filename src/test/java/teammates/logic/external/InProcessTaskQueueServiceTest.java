@@ -0,0 +1,312 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.apache.http.client.methods.HttpPost;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.external.InProcessTaskQueueService.PendingTask;
+import teammates.logic.external.InProcessTaskQueueService.PendingTaskStore;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link InProcessTaskQueueService}.
+ */
+public class InProcessTaskQueueServiceTest extends BaseTestCase {
+
+    private static final String QUEUE_NAME = Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME;
+    private static final String OTHER_QUEUE_NAME = Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME;
+
+    private InMemoryPendingTaskStore store;
+    private List<PendingTask> runTasks;
+    private int failuresBeforeSuccess;
+    private InProcessTaskQueueService service;
+
+    @BeforeMethod
+    public void setUp() {
+        store = new InMemoryPendingTaskStore();
+        runTasks = new ArrayList<>();
+        failuresBeforeSuccess = 0;
+        service = new SynchronousInProcessTaskQueueService(store, task -> {
+            runTasks.add(task);
+            return runTasks.size() > failuresBeforeSuccess;
+        });
+    }
+
+    private static TaskWrapper createTask(String queueName, long countdownTime) {
+        return new TaskWrapper(queueName, "/worker/test", Map.of("key", "value"), null, countdownTime);
+    }
+
+    @Test
+    public void testAddDeferredTasks_tasksStoredAndRunWhenDue() {
+        long now = System.currentTimeMillis();
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(List.of(
+                createTask(QUEUE_NAME, 0), createTask(OTHER_QUEUE_NAME, 60_000)));
+
+        assertTrue(failedTasks.isEmpty());
+        assertEquals(2, store.tasks.size());
+
+        ______TS("only due tasks are run, and are deleted once completed");
+
+        service.dispatch(now + 1_000);
+
+        assertEquals(1, runTasks.size());
+        assertEquals("/worker/test?key=value", runTasks.get(0).getWorkerUri());
+        assertEquals(1, store.getPendingTasks().size());
+
+        service.dispatch(now + 61_000);
+
+        assertEquals(2, runTasks.size());
+        assertEquals(OTHER_QUEUE_NAME, runTasks.get(1).getQueueName());
+        assertTrue(store.getPendingTasks().isEmpty());
+    }
+
+    @Test
+    public void testAddDeferredTasks_tasksNotStored_allTasksReturnedAsFailed() {
+        store.isFailingSaves = true;
+        List<TaskWrapper> tasks = List.of(createTask(QUEUE_NAME, 0), createTask(QUEUE_NAME, 0));
+
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(tasks);
+
+        assertEquals(tasks, failedTasks);
+        assertTrue(store.getPendingTasks().isEmpty());
+    }
+
+    @Test
+    public void testDispatch_failedTask_retriedWithBackoffThenDropped() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+        service.addDeferredTasks(List.of(createTask(QUEUE_NAME, 0)));
+        String id = store.tasks.keySet().iterator().next();
+
+        long time = System.currentTimeMillis();
+        for (int attempt = 1; attempt < InProcessTaskQueueService.MAX_ATTEMPTS; attempt++) {
+            long dispatchTime = System.currentTimeMillis();
+            service.dispatch(time);
+
+            assertEquals(attempt, runTasks.size());
+            PendingTask retry = store.tasks.get(id);
+            assertEquals(attempt, retry.getAttempt());
+            long backoff = InProcessTaskQueueService.MIN_BACKOFF_MILLIS << (attempt - 1);
+            assertTrue(retry.getEta() >= dispatchTime + backoff);
+
+            ______TS("retry is not run before its backoff has elapsed");
+
+            service.dispatch(dispatchTime + backoff - 1);
+            assertEquals(attempt, runTasks.size());
+
+            time = retry.getEta();
+        }
+
+        service.dispatch(time);
+
+        assertEquals(InProcessTaskQueueService.MAX_ATTEMPTS, runTasks.size());
+        assertTrue(store.getPendingTasks().isEmpty());
+    }
+
+    @Test
+    public void testDispatch_taskSucceedsOnRetry_taskDeleted() {
+        failuresBeforeSuccess = 1;
+        service.addDeferredTasks(List.of(createTask(QUEUE_NAME, 0)));
+
+        service.dispatch(System.currentTimeMillis());
+        assertEquals(1, store.getPendingTasks().size());
+
+        service.dispatch(System.currentTimeMillis() + InProcessTaskQueueService.MIN_BACKOFF_MILLIS + 1_000);
+
+        assertEquals(2, runTasks.size());
+        assertTrue(store.getPendingTasks().isEmpty());
+    }
+
+    @Test
+    public void testDispatch_claimedTaskNotCompleted_claimedAgainAfterLease() {
+        // Tasks claimed by an instance which stops before completing them
+        service.addDeferredTasks(List.of(createTask(QUEUE_NAME, 0)));
+        long now = System.currentTimeMillis();
+        List<PendingTask> claimedTasks =
+                store.claim(QUEUE_NAME, 1, now, now + InProcessTaskQueueService.LEASE_MILLIS);
+        assertEquals(1, claimedTasks.size());
+
+        ______TS("task is not claimed by another instance while its lease lasts");
+
+        service.dispatch(now + InProcessTaskQueueService.LEASE_MILLIS - 1);
+
+        assertTrue(runTasks.isEmpty());
+        assertEquals(1, store.getPendingTasks().size());
+
+        ______TS("task is claimed again once its lease expires");
+
+        service.dispatch(now + InProcessTaskQueueService.LEASE_MILLIS);
+
+        assertEquals(1, runTasks.size());
+        assertEquals(claimedTasks.get(0).getId(), runTasks.get(0).getId());
+        assertTrue(store.getPendingTasks().isEmpty());
+    }
+
+    @Test
+    public void testDispatch_moreDueTasksThanWorkers_claimsUpToIdleWorkers() {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(createTask(QUEUE_NAME, 0));
+        }
+        service.addDeferredTasks(tasks);
+        List<String> submittedTaskQueueNames = new ArrayList<>();
+        InProcessTaskQueueService blockingService = new InProcessTaskQueueService(store, task -> true) {
+            @Override
+            Executor getWorkerPool(String queueName) {
+                // the workers never complete their tasks
+                return command -> submittedTaskQueueNames.add(queueName);
+            }
+        };
+
+        blockingService.dispatch(System.currentTimeMillis());
+
+        // the queue of published emails has a single worker
+        assertEquals(1, submittedTaskQueueNames.size());
+
+        blockingService.dispatch(System.currentTimeMillis());
+
+        assertEquals(1, submittedTaskQueueNames.size());
+    }
+
+    @Test
+    public void testAddDeferredTasks_namedTasks_addedOnlyOnce() {
+        TaskWrapper namedTask = new TaskWrapper(QUEUE_NAME, "/worker/test", Map.of(), null, 0, "task-name");
+        service.addDeferredTasks(List.of(namedTask, createTask(OTHER_QUEUE_NAME, 0)));
+
+        ______TS("named task added again while pending is not added");
+
+        service.addDeferredTasks(List.of(namedTask));
+
+        assertEquals(2, store.getPendingTasks().size());
+        assertTrue(store.tasks.containsKey("task-name"));
+
+        ______TS("named task added again after it has completed is not run again");
+
+        long now = System.currentTimeMillis();
+        service.dispatch(now);
+        assertEquals(2, runTasks.size());
+
+        service.addDeferredTasks(List.of(namedTask));
+        service.dispatch(now + 1_000);
+
+        assertEquals(2, runTasks.size());
+        assertTrue(store.getPendingTasks().isEmpty());
+
+        ______TS("completed tasks are deleted after they have been kept for long enough");
+
+        service.purgeCompletedTasks(now);
+        assertEquals(2, store.tasks.size());
+
+        long retentionEnd = System.currentTimeMillis() + InProcessTaskQueueService.COMPLETED_TASK_RETENTION_MILLIS;
+        service.purgeCompletedTasks(retentionEnd);
+        assertTrue(store.tasks.isEmpty());
+
+        ______TS("named task added again after it has been deleted is run again");
+
+        service.addDeferredTasks(List.of(namedTask));
+        service.dispatch(retentionEnd);
+
+        assertEquals(3, runTasks.size());
+        assertEquals("task-name", runTasks.get(2).getId());
+    }
+
+    @Test
+    public void testCreateRequest_authenticatedWithTaskQueueSecret() {
+        PendingTask task = new PendingTask("id", QUEUE_NAME, "/worker/test?key=value", "{}", 0, 0);
+
+        HttpPost request = InProcessTaskQueueService.createRequest(task);
+
+        assertEquals("http://localhost:" + Config.getPort() + "/worker/test?key=value", request.getURI().toString());
+        assertEquals(QUEUE_NAME, request.getFirstHeader(Const.HeaderNames.TASK_QUEUE_NAME).getValue());
+        assertEquals(Config.TASKQUEUE_SECRET, request.getFirstHeader(Const.HeaderNames.TASK_QUEUE_SECRET).getValue());
+    }
+
+    /**
+     * Runs the tasks in the dispatching thread.
+     */
+    private static final class SynchronousInProcessTaskQueueService extends InProcessTaskQueueService {
+        SynchronousInProcessTaskQueueService(PendingTaskStore store, TaskRunner taskRunner) {
+            super(store, taskRunner);
+        }
+
+        @Override
+        Executor getWorkerPool(String queueName) {
+            return Runnable::run;
+        }
+    }
+
+    /**
+     * Stores the pending tasks in memory, with the same semantics as the database table.
+     */
+    private static final class InMemoryPendingTaskStore implements PendingTaskStore {
+        private final Map<String, PendingTask> tasks = new LinkedHashMap<>();
+        private boolean isFailingSaves;
+
+        @Override
+        public synchronized void save(List<PendingTask> newTasks) {
+            if (isFailingSaves) {
+                throw new IllegalStateException("Could not connect to the database");
+            }
+            newTasks.forEach(task -> tasks.putIfAbsent(task.getId(), task));
+        }
+
+        @Override
+        public synchronized List<String> getQueueNamesWithDueTasks(long now) {
+            return tasks.values().stream()
+                    .filter(task -> task.getEta() <= now && task.getAttempt() >= 0)
+                    .map(PendingTask::getQueueName)
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public synchronized List<PendingTask> claim(String queueName, int limit, long now, long leaseExpiry) {
+            List<PendingTask> claimedTasks = tasks.values().stream()
+                    .filter(task -> task.getQueueName().equals(queueName)
+                            && task.getEta() <= now && task.getAttempt() >= 0)
+                    .sorted(Comparator.comparingLong(PendingTask::getEta))
+                    .limit(limit)
+                    .map(task -> withEta(task, task.getAttempt(), leaseExpiry))
+                    .collect(Collectors.toList());
+            claimedTasks.forEach(task -> tasks.put(task.getId(), task));
+            return claimedTasks;
+        }
+
+        @Override
+        public synchronized void reschedule(String id, int attempt, long eta) {
+            tasks.computeIfPresent(id, (key, task) -> withEta(task, attempt, eta));
+        }
+
+        @Override
+        public synchronized void complete(String id, long retainUntil) {
+            reschedule(id, -1, retainUntil);
+        }
+
+        @Override
+        public synchronized void deleteCompleted(long now) {
+            tasks.values().removeIf(task -> task.getAttempt() < 0 && task.getEta() <= now);
+        }
+
+        synchronized List<PendingTask> getPendingTasks() {
+            return tasks.values().stream()
+                    .filter(task -> task.getAttempt() >= 0)
+                    .collect(Collectors.toList());
+        }
+
+        private static PendingTask withEta(PendingTask task, int attempt, long eta) {
+            return new PendingTask(task.getId(), task.getQueueName(), task.getWorkerUri(), task.getRequestBody(),
+                    attempt, eta);
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.logic.external.LocalLogStore.IndexedField;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LocalLogStore}.
+ */
+public class LocalLogStoreTest extends BaseTestCase {
+
+    private static LocalLogStore<TestLogEntry> createStore(int segmentCapacity, int maxSegmentCount) {
+        return new LocalLogStore<>(segmentCapacity, maxSegmentCount, entry -> entry.timestamp, entry -> {
+            Map<IndexedField, String> indexedValues = new EnumMap<>(IndexedField.class);
+            indexedValues.put(IndexedField.SEVERITY, entry.severity);
+            if (entry.courseId != null) {
+                indexedValues.put(IndexedField.COURSE_ID, entry.courseId);
+            }
+            return indexedValues;
+        });
+    }
+
+    private static List<String> getIds(List<TestLogEntry> entries) {
+        return entries.stream().map(entry -> entry.id).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testQuery_timeRange_shouldReturnEntriesInRangeOrderedByTimestamp() {
+        LocalLogStore<TestLogEntry> store = createStore(3, 10);
+        // appended out of order, across segments
+        store.append(new TestLogEntry("e50", 50, "INFO", null));
+        store.append(new TestLogEntry("e10", 10, "INFO", null));
+        store.append(new TestLogEntry("e30", 30, "INFO", null));
+        store.append(new TestLogEntry("e20", 20, "INFO", null));
+        store.append(new TestLogEntry("e30b", 30, "INFO", null));
+        store.append(new TestLogEntry("e60", 60, "INFO", null));
+        store.append(new TestLogEntry("e40", 40, "INFO", null));
+
+        ______TS("ascending order, with ties in the order the entries were appended");
+
+        List<TestLogEntry> entries = store.queryAll(new LocalLogStore.Query<>(20, 50, true));
+
+        assertEquals(List.of("e20", "e30", "e30b", "e40", "e50"), getIds(entries));
+
+        ______TS("descending order");
+
+        entries = store.queryAll(new LocalLogStore.Query<>(20, 50, false));
+
+        assertEquals(List.of("e50", "e40", "e30b", "e30", "e20"), getIds(entries));
+
+        ______TS("no entry in range");
+
+        assertTrue(store.queryAll(new LocalLogStore.Query<>(61, 100, true)).isEmpty());
+    }
+
+    @Test
+    public void testQuery_indexedFiltersAndFilter_shouldReturnMatchingEntries() {
+        LocalLogStore<TestLogEntry> store = createStore(2, 10);
+        store.append(new TestLogEntry("info-course1", 1, "INFO", "course1"));
+        store.append(new TestLogEntry("error-course1", 2, "ERROR", "course1"));
+        store.append(new TestLogEntry("warning-course2", 3, "WARNING", "course2"));
+        store.append(new TestLogEntry("error-course2", 4, "ERROR", "course2"));
+        store.append(new TestLogEntry("error-none", 5, "ERROR", null));
+
+        ______TS("values of a field are matched with OR");
+
+        List<TestLogEntry> entries = store.queryAll(new LocalLogStore.Query<TestLogEntry>(0, 10, true)
+                .withIndexedFilter(IndexedField.SEVERITY, Set.of("WARNING", "ERROR")));
+
+        assertEquals(List.of("error-course1", "warning-course2", "error-course2", "error-none"), getIds(entries));
+
+        ______TS("fields are matched with AND");
+
+        entries = store.queryAll(new LocalLogStore.Query<TestLogEntry>(0, 10, true)
+                .withIndexedFilter(IndexedField.SEVERITY, Set.of("ERROR"))
+                .withIndexedFilter(IndexedField.COURSE_ID, Set.of("course2")));
+
+        assertEquals(List.of("error-course2"), getIds(entries));
+
+        ______TS("entries without a value for the field do not match");
+
+        entries = store.queryAll(new LocalLogStore.Query<TestLogEntry>(0, 10, true)
+                .withIndexedFilter(IndexedField.COURSE_ID, Set.of("course1", "course2")));
+
+        assertEquals(4, entries.size());
+
+        ______TS("field which no entry has a value for");
+
+        assertTrue(store.queryAll(new LocalLogStore.Query<TestLogEntry>(0, 10, true)
+                .withIndexedFilter(IndexedField.ACTION_CLASS, Set.of("GetCourseAction"))).isEmpty());
+
+        ______TS("additional filter");
+
+        entries = store.queryAll(new LocalLogStore.Query<TestLogEntry>(0, 10, false)
+                .withIndexedFilter(IndexedField.SEVERITY, Set.of("ERROR"))
+                .withFilter(entry -> entry.id.endsWith("course1") || entry.id.endsWith("none")));
+
+        assertEquals(List.of("error-none", "error-course1"), getIds(entries));
+    }
+
+    @Test
+    public void testQuery_paged_shouldReturnEachEntryOnce() {
+        LocalLogStore<TestLogEntry> store = createStore(4, 10);
+        for (int i = 0; i < 25; i++) {
+            // timestamps repeat and are not in the order the entries are appended
+            store.append(new TestLogEntry("e" + i, i * 7 % 10, i % 2 == 0 ? "INFO" : "ERROR", null));
+        }
+        LocalLogStore.Query<TestLogEntry> query = new LocalLogStore.Query<TestLogEntry>(0, 100, false)
+                .withIndexedFilter(IndexedField.SEVERITY, Set.of("INFO"));
+
+        List<TestLogEntry> pagedEntries = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            LocalLogStore.Page<TestLogEntry> page = store.query(query, 3, cursor);
+            assertTrue(page.getEntries().size() <= 3);
+            pagedEntries.addAll(page.getEntries());
+            cursor = page.getNextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        assertEquals(5, pageCount);
+        assertEquals(13, pagedEntries.size());
+        assertEquals(getIds(store.queryAll(query)), getIds(pagedEntries));
+        for (int i = 1; i < pagedEntries.size(); i++) {
+            assertTrue(pagedEntries.get(i - 1).timestamp >= pagedEntries.get(i).timestamp);
+        }
+
+        ______TS("last page has no cursor");
+
+        assertNull(store.query(query, 13, null).getNextCursor());
+    }
+
+    @Test
+    public void testQuery_invalidCursor_shouldThrowException() {
+        LocalLogStore<TestLogEntry> store = createStore(4, 10);
+        LocalLogStore.Query<TestLogEntry> query = new LocalLogStore.Query<>(0, 100, true);
+
+        assertThrows(IllegalArgumentException.class, () -> store.query(query, 10, "abc"));
+        assertThrows(IllegalArgumentException.class, () -> store.query(query, 10, "1:2:3"));
+    }
+
+    @Test
+    public void testAppend_tooManySegments_shouldDropOldestSegment() {
+        LocalLogStore<TestLogEntry> store = createStore(2, 2);
+        for (int i = 0; i < 5; i++) {
+            store.append(new TestLogEntry("e" + i, i, "INFO", null));
+        }
+
+        List<TestLogEntry> entries = store.queryAll(new LocalLogStore.Query<>(0, 100, true));
+
+        assertEquals(List.of("e2", "e3", "e4"), getIds(entries));
+
+        ______TS("clear");
+
+        store.clear();
+
+        assertTrue(store.queryAll(new LocalLogStore.Query<>(0, 100, true)).isEmpty());
+    }
+
+    private static final class TestLogEntry {
+        private final String id;
+        private final long timestamp;
+        private final String severity;
+        private final String courseId;
+
+        private TestLogEntry(String id, long timestamp, String severity, String courseId) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.severity = severity;
+            this.courseId = courseId;
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package teammates.logic.external;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackSessionLogEntry;
+import teammates.common.datatransfer.logs.GeneralLogEntry;
+import teammates.common.datatransfer.logs.QueryLogsParams;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LocalLoggingService}.
+ */
+public class LocalLoggingServiceTest extends BaseTestCase {
+
+    private static final int FEEDBACK_SESSION_LOGS_PAGE_SIZE = 1024;
+
+    private final LocalLoggingService service = new LocalLoggingService();
+
+    private static QueryLogsParams.Builder createQueryLogsParamsBuilder() {
+        // the local logs are given timestamps within the last hour
+        Instant now = Instant.now();
+        return QueryLogsParams.builder(now.minusSeconds(2 * 60 * 60).toEpochMilli(), now.plusSeconds(60).toEpochMilli())
+                .withOrder("asc");
+    }
+
+    private static List<String> getInsertIds(List<List<GeneralLogEntry>> pages) {
+        return pages.stream()
+                .flatMap(List::stream)
+                .map(GeneralLogEntry::getInsertId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testStreamLogs_severalPages_allLogsPassedPageByPage() {
+        List<List<GeneralLogEntry>> allLogs = new ArrayList<>();
+        service.streamLogs(createQueryLogsParamsBuilder().withPageSize(0).build(), allLogs::add);
+
+        assertEquals(1, allLogs.size());
+        int logCount = allLogs.get(0).size();
+        assertTrue(logCount > 3);
+
+        ______TS("pages of the given size, with the last page holding the remaining logs");
+
+        List<List<GeneralLogEntry>> pages = new ArrayList<>();
+        service.streamLogs(createQueryLogsParamsBuilder().withPageSize(3).build(), pages::add);
+
+        assertEquals((logCount + 2) / 3, pages.size());
+        for (int i = 0; i < pages.size() - 1; i++) {
+            assertEquals(3, pages.get(i).size());
+        }
+        assertEquals(getInsertIds(allLogs), getInsertIds(pages));
+
+        ______TS("page size dividing the number of logs, no empty page passed at the end");
+
+        pages.clear();
+        service.streamLogs(createQueryLogsParamsBuilder().withPageSize(logCount).build(), pages::add);
+
+        assertEquals(1, pages.size());
+        assertEquals(getInsertIds(allLogs), getInsertIds(pages));
+    }
+
+    @Test
+    public void testStreamLogs_noMatchingLogs_noPagePassed() {
+        List<List<GeneralLogEntry>> pages = new ArrayList<>();
+        service.streamLogs(createQueryLogsParamsBuilder().withTraceId("non-existent-trace").withPageSize(3).build(),
+                pages::add);
+
+        assertTrue(pages.isEmpty());
+    }
+
+    @Test
+    public void testStreamFeedbackSessionLogs_severalPages_allLogsPassedPageByPage() {
+        // the course is not used by other tests, as the logs are kept in a static store
+        String courseId = "local-logging-service-test-course";
+        long startTime = Instant.now().toEpochMilli();
+        int logCount = 2 * FEEDBACK_SESSION_LOGS_PAGE_SIZE + 5;
+        for (int i = 0; i < logCount; i++) {
+            service.createFeedbackSessionLog(courseId, "student" + i + "@test.tmt", "Session", "access");
+        }
+        long endTime = Instant.now().toEpochMilli();
+
+        List<List<FeedbackSessionLogEntry>> pages = new ArrayList<>();
+        service.streamFeedbackSessionLogs(courseId, null, startTime, endTime, null, pages::add);
+
+        assertEquals(3, pages.size());
+        assertEquals(FEEDBACK_SESSION_LOGS_PAGE_SIZE, pages.get(0).size());
+        assertEquals(FEEDBACK_SESSION_LOGS_PAGE_SIZE, pages.get(1).size());
+        assertEquals(5, pages.get(2).size());
+        List<String> emails = pages.stream()
+                .flatMap(List::stream)
+                .map(FeedbackSessionLogEntry::getStudentEmail)
+                .collect(Collectors.toList());
+        assertEquals(service.getOrderedFeedbackSessionLogs(courseId, null, startTime, endTime, null).stream()
+                .map(FeedbackSessionLogEntry::getStudentEmail)
+                .collect(Collectors.toList()), emails);
+        assertEquals(logCount, emails.stream().distinct().count());
+
+        ______TS("filter matching a single log, single page passed");
+
+        pages.clear();
+        service.streamFeedbackSessionLogs(courseId, "student7@test.tmt", startTime, endTime, null, pages::add);
+
+        assertEquals(1, pages.size());
+        assertEquals(1, pages.get(0).size());
+
+        ______TS("no matching logs, no page passed");
+
+        pages.clear();
+        service.streamFeedbackSessionLogs(courseId, null, startTime, endTime, "Other Session", pages::add);
+
+        assertTrue(pages.isEmpty());
+    }
+
+    @Test
+    public void testStreamFeedbackSessionLogs_logsFillingWholePages_noEmptyPagePassedAtTheEnd() {
+        String courseId = "local-logging-service-test-course-whole-pages";
+        long startTime = Instant.now().toEpochMilli();
+        for (int i = 0; i < 2 * FEEDBACK_SESSION_LOGS_PAGE_SIZE; i++) {
+            service.createFeedbackSessionLog(courseId, "student" + i + "@test.tmt", "Session", "access");
+        }
+        long endTime = Instant.now().toEpochMilli();
+
+        List<List<FeedbackSessionLogEntry>> pages = new ArrayList<>();
+        service.streamFeedbackSessionLogs(courseId, null, startTime, endTime, null, pages::add);
+
+        assertEquals(2, pages.size());
+        assertEquals(FEEDBACK_SESSION_LOGS_PAGE_SIZE, pages.get(0).size());
+        assertEquals(FEEDBACK_SESSION_LOGS_PAGE_SIZE, pages.get(1).size());
+    }
+
+}
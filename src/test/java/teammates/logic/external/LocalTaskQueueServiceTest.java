@@ -0,0 +1,201 @@
+package teammates.logic.external;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LocalTaskQueueService}.
+ */
+public class LocalTaskQueueServiceTest extends BaseTestCase {
+
+    private static final String QUEUE_NAME = Const.TaskQueue.SEND_EMAIL_QUEUE_NAME;
+    private static final String SUCCESSFUL_WORKER_URL = "/worker/success";
+    private static final String FAILING_WORKER_URL = "/worker/failure";
+    private static final String MISSING_WORKER_URL = "/worker/missing";
+
+    private final Queue<ReceivedRequest> receivedRequests = new ConcurrentLinkedQueue<>();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private LocalTaskQueueService service;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/worker", this::handleRequest);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+        service = new LocalTaskQueueService("http://localhost:" + server.getAddress().getPort(), true);
+    }
+
+    @AfterClass
+    public void stopServer() {
+        service.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void clearReceivedRequests() {
+        receivedRequests.clear();
+    }
+
+    private void handleRequest(HttpExchange exchange) throws IOException {
+        String body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            body = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        receivedRequests.add(new ReceivedRequest(exchange.getRequestURI().toString(), body,
+                exchange.getRequestHeaders().getFirst(Const.HeaderNames.TASK_QUEUE_NAME),
+                exchange.getRequestHeaders().getFirst(Const.HeaderNames.TASK_QUEUE_SECRET)));
+
+        String path = exchange.getRequestURI().getPath();
+        int statusCode;
+        if (SUCCESSFUL_WORKER_URL.equals(path)) {
+            statusCode = HttpStatus.SC_OK;
+        } else if (FAILING_WORKER_URL.equals(path)) {
+            statusCode = HttpStatus.SC_INTERNAL_SERVER_ERROR;
+        } else {
+            statusCode = HttpStatus.SC_NOT_FOUND;
+        }
+        exchange.sendResponseHeaders(statusCode, -1);
+        exchange.close();
+    }
+
+    private static TaskWrapper createTask(String workerUrl, int index) {
+        return new TaskWrapper(QUEUE_NAME, workerUrl, Map.of("index", String.valueOf(index)), null);
+    }
+
+    @Test
+    public void testAddDeferredTasks_allTasksSucceed_noFailedTasks() {
+        // more tasks than there are pooled connections
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(createTask(SUCCESSFUL_WORKER_URL, i));
+        }
+
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(tasks);
+
+        assertTrue(failedTasks.isEmpty());
+        assertEquals(50, receivedRequests.size());
+        for (int i = 0; i < 50; i++) {
+            String uri = SUCCESSFUL_WORKER_URL + "?index=" + i;
+            assertTrue(receivedRequests.stream().anyMatch(request -> request.uri.equals(uri)));
+        }
+        for (ReceivedRequest request : receivedRequests) {
+            assertEquals(QUEUE_NAME, request.queueName);
+            assertEquals(Config.TASKQUEUE_SECRET, request.taskQueueSecret);
+        }
+
+        ______TS("executor is reused by subsequent calls");
+
+        receivedRequests.clear();
+
+        failedTasks = service.addDeferredTasks(tasks);
+
+        assertTrue(failedTasks.isEmpty());
+        assertEquals(50, receivedRequests.size());
+    }
+
+    @Test
+    public void testAddDeferredTasks_non2xxResponses_tasksReportedAsFailed() {
+        TaskWrapper successfulTask = createTask(SUCCESSFUL_WORKER_URL, 0);
+        TaskWrapper failingTask = createTask(FAILING_WORKER_URL, 1);
+        TaskWrapper otherSuccessfulTask = createTask(SUCCESSFUL_WORKER_URL, 2);
+        TaskWrapper missingWorkerTask = createTask(MISSING_WORKER_URL, 3);
+
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(
+                List.of(successfulTask, failingTask, otherSuccessfulTask, missingWorkerTask));
+
+        assertEquals(List.of(failingTask, missingWorkerTask), failedTasks);
+        assertEquals(4, receivedRequests.size());
+    }
+
+    @Test
+    public void testAddDeferredTasks_requestBody_sentAsJson() {
+        TaskWrapper task = new TaskWrapper(QUEUE_NAME, SUCCESSFUL_WORKER_URL, Map.of(), Map.of("key", "value"));
+
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(List.of(task));
+
+        assertTrue(failedTasks.isEmpty());
+        assertEquals("{\"key\":\"value\"}", receivedRequests.peek().body);
+    }
+
+    @Test
+    public void testAddDeferredTasks_serverUnreachable_allTasksReportedAsFailed() throws IOException {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+        LocalTaskQueueService unreachableService = new LocalTaskQueueService("http://localhost:" + unusedPort, true);
+        List<TaskWrapper> tasks = List.of(createTask(SUCCESSFUL_WORKER_URL, 0), createTask(SUCCESSFUL_WORKER_URL, 1));
+
+        try {
+            List<TaskWrapper> failedTasks = unreachableService.addDeferredTasks(tasks);
+
+            assertEquals(tasks, failedTasks);
+        } finally {
+            unreachableService.close();
+        }
+    }
+
+    @Test
+    public void testAddDeferredTasks_taskQueueNotActive_tasksNotExecuted() {
+        LocalTaskQueueService inactiveService =
+                new LocalTaskQueueService("http://localhost:" + server.getAddress().getPort(), false);
+
+        List<TaskWrapper> failedTasks = inactiveService.addDeferredTasks(List.of(createTask(FAILING_WORKER_URL, 0)));
+
+        assertTrue(failedTasks.isEmpty());
+        assertTrue(receivedRequests.isEmpty());
+    }
+
+    @Test
+    public void testAddDeferredTasks_serviceClosed_executorCreatedAgain() {
+        service.close();
+
+        List<TaskWrapper> failedTasks = service.addDeferredTasks(List.of(createTask(SUCCESSFUL_WORKER_URL, 0)));
+
+        assertTrue(failedTasks.isEmpty());
+        assertEquals(1, receivedRequests.size());
+    }
+
+    private static final class ReceivedRequest {
+        private final String uri;
+        private final String body;
+        private final String queueName;
+        private final String taskQueueSecret;
+
+        ReceivedRequest(String uri, String body, String queueName, String taskQueueSecret) {
+            this.uri = uri;
+            this.body = body;
+            this.queueName = queueName;
+            this.taskQueueSecret = taskQueueSecret;
+        }
+    }
+
+}
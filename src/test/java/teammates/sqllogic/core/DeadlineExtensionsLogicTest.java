@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
@@ -151,6 +152,27 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
         verify(deDb, times(1)).getDeadlineExtension(studentId, sessionId);
     }
 
+    @Test
+    public void testGetExtendedDeadlinesForSession_hasExtensions_returnsDeadlinesByUserId() {
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        UUID sessionId = UUID.randomUUID();
+        session.setId(sessionId);
+        UUID studentId = UUID.randomUUID();
+        UUID instructorId = UUID.randomUUID();
+        Map<UUID, Instant> extendedDeadlines = Map.of(
+                studentId, session.getEndTime().plusSeconds(3600),
+                instructorId, session.getEndTime().plusSeconds(7200));
+
+        when(deDb.getExtendedDeadlinesForFeedbackSession(sessionId)).thenReturn(extendedDeadlines);
+
+        Map<UUID, Instant> result = deLogic.getExtendedDeadlinesForSession(session);
+
+        assertEquals(extendedDeadlines, result);
+        verify(deDb, times(1)).getExtendedDeadlinesForFeedbackSession(sessionId);
+        verify(deDb, never()).getDeadlineExtension(any(UUID.class), any(UUID.class));
+    }
+
     @Test
     public void testGetDeadlineExtensionEntityForUser_extensionExists_returnsExtension() {
         Course course = getTypicalCourse();
@@ -210,6 +232,8 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
         assertEquals(extendedDeadline, result.getEndTime());
         assertTrue(result.getUser() instanceof Student);
         verify(deDb, times(1)).createDeadlineExtension(de);
+        assertEquals(List.of(de), session.getDeadlineExtensions());
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session);
     }
 
     @Test
@@ -228,10 +252,21 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
 
         DeadlineExtension de = new DeadlineExtension(student, session, extendedDeadline);
         de.setId(UUID.randomUUID());
+        session.setDeadlineExtensions(new ArrayList<>(List.of(de)));
 
         deLogic.deleteDeadlineExtension(de);
 
         verify(deDb, times(1)).deleteDeadlineExtension(de);
+        assertTrue(session.getDeadlineExtensions().isEmpty());
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session);
+    }
+
+    @Test
+    public void testDeleteDeadlineExtension_nullExtension_sessionNotUpdated() {
+        deLogic.deleteDeadlineExtension(null);
+
+        verify(deDb, times(1)).deleteDeadlineExtension(null);
+        verify(fsLogic, never()).updateNextNotificationDueAt(any());
     }
 
     @Test
@@ -245,16 +280,22 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
 
         DeadlineExtension de = new DeadlineExtension(student, session, originalDeadline);
         de.setId(UUID.randomUUID());
-        de.setEndTime(updatedDeadline);
+        session.setDeadlineExtensions(new ArrayList<>(List.of(de)));
+        DeadlineExtension updatedDe = new DeadlineExtension(student, session, updatedDeadline);
+        updatedDe.setId(de.getId());
 
-        when(deDb.updateDeadlineExtension(de)).thenReturn(de);
+        when(deDb.updateDeadlineExtension(updatedDe)).thenReturn(updatedDe);
 
-        DeadlineExtension result = deLogic.updateDeadlineExtension(de);
+        DeadlineExtension result = deLogic.updateDeadlineExtension(updatedDe);
 
         assertNotNull(result);
         assertEquals(de, result);
         assertEquals(updatedDeadline, result.getEndTime());
-        verify(deDb, times(1)).updateDeadlineExtension(de);
+        verify(deDb, times(1)).updateDeadlineExtension(updatedDe);
+        // the copy held by the session is replaced, so that the next notification is due for the new deadline
+        assertEquals(1, session.getDeadlineExtensions().size());
+        assertSame(updatedDe, session.getDeadlineExtensions().get(0));
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session);
     }
 
     @Test
@@ -269,28 +310,50 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
 
         DeadlineExtension de1 = new DeadlineExtension(student1, session1, extendedDeadline1);
         DeadlineExtension de2 = new DeadlineExtension(student2, session2, extendedDeadline2);
-        List<DeadlineExtension> extensions = List.of(de1, de2);
+        Map<FeedbackSession, List<DeadlineExtension>> extensions = Map.of(session1, List.of(de1), session2, List.of(de2));
 
         when(deDb.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(extensions);
 
-        List<DeadlineExtension> result = deLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
+        Map<FeedbackSession, List<DeadlineExtension>> result =
+                deLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(de1, result.get(0));
-        assertEquals(de2, result.get(1));
+        assertEquals(List.of(de1), result.get(session1));
+        assertEquals(List.of(de2), result.get(session2));
         verify(deDb, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
     }
 
     @Test
-    public void testGetDeadlineExtensionsPossiblyNeedingClosingSoonEmail_noExtensions_returnsEmptyList() {
-        when(deDb.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(new ArrayList<>());
+    public void testGetDeadlineExtensionsPossiblyNeedingClosingSoonEmail_noExtensions_returnsEmptyMap() {
+        when(deDb.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(Map.of());
 
-        List<DeadlineExtension> result = deLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
+        Map<FeedbackSession, List<DeadlineExtension>> result =
+                deLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testUpdateDeadlineExtensionsClosingSoonEmailSent_extensionsGiven_updatedInBulk() {
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        List<DeadlineExtension> extensions = List.of(
+                new DeadlineExtension(getTypicalStudent(), session, Instant.now().plusSeconds(3600)),
+                new DeadlineExtension(getTypicalInstructor(), session, Instant.now().plusSeconds(3600)));
+        DeadlineExtension otherExtension =
+                new DeadlineExtension(getTypicalStudent(), session, Instant.now().plusSeconds(86400));
+        List<DeadlineExtension> sessionExtensions = new ArrayList<>(extensions);
+        sessionExtensions.add(otherExtension);
+        session.setDeadlineExtensions(sessionExtensions);
+
+        deLogic.updateDeadlineExtensionsClosingSoonEmailSent(extensions);
+
+        verify(deDb, times(1)).updateDeadlineExtensionsClosingSoonEmailSent(extensions);
+        // the extensions marked as sent are not refreshed by the bulk update, so they are left out
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session, List.of(otherExtension));
+    }
+
     @Test
     public void testDeleteDeadlineExtensionsForUser_userHasExtensions_deletesExtensions() {
         Course course = getTypicalCourse();
@@ -320,6 +383,10 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
         verify(deDb, times(1)).deleteDeadlineExtension(de2);
         verify(deDb, never()).deleteDeadlineExtension(de3);
         verify(deDb, times(2)).deleteDeadlineExtension(any(DeadlineExtension.class));
+        assertEquals(List.of(de3), session1.getDeadlineExtensions());
+        assertTrue(session2.getDeadlineExtensions().isEmpty());
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session1);
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session2);
     }
 
     @Test
@@ -358,6 +425,7 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
         assertTrue(result.getUser() instanceof Instructor);
         assertEquals(extendedDeadline, result.getEndTime());
         verify(deDb, times(1)).createDeadlineExtension(de);
+        verify(fsLogic, times(1)).updateNextNotificationDueAt(session);
     }
 
     @Test
@@ -0,0 +1,140 @@
+package teammates.sqllogic.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.PersistenceException;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlapi.FeedbackSessionLogsDb;
+import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.Student;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionLogsBuffer}.
+ */
+public class FeedbackSessionLogsBufferTest extends BaseTestCase {
+
+    private FeedbackSessionLogsBuffer buffer;
+
+    private FeedbackSessionLogsDb fslDb;
+    private UsersLogic usersLogic;
+
+    private MockedStatic<HibernateUtil> mockHibernateUtil;
+
+    @BeforeMethod
+    public void setUpMethod() {
+        fslDb = mock(FeedbackSessionLogsDb.class);
+        usersLogic = mock(UsersLogic.class);
+        buffer = new FeedbackSessionLogsBuffer();
+        buffer.initLogicDependencies(fslDb, mock(FeedbackSessionsLogic.class), usersLogic);
+        mockHibernateUtil = mockStatic(HibernateUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDownMethod() {
+        mockHibernateUtil.close();
+    }
+
+    @Test
+    public void testAdd_sameLogWithinWindow_deduplicated() {
+        UUID studentId = UUID.randomUUID();
+        UUID fsId = UUID.randomUUID();
+        Instant timestamp = Instant.now();
+
+        assertTrue(buffer.add(studentId, fsId, FeedbackSessionLogType.ACCESS, timestamp));
+        assertFalse(buffer.add(studentId, fsId, FeedbackSessionLogType.ACCESS,
+                timestamp.plus(Const.STUDENT_ACTIVITY_LOGS_FILTER_WINDOW)));
+        assertEquals(1, buffer.getDeduplicatedCount());
+
+        ______TS("other types, students or sessions are not duplicates");
+
+        assertTrue(buffer.add(studentId, fsId, FeedbackSessionLogType.SUBMISSION, timestamp));
+        assertTrue(buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.ACCESS, timestamp));
+        assertTrue(buffer.add(studentId, UUID.randomUUID(), FeedbackSessionLogType.ACCESS, timestamp));
+
+        ______TS("same log after the window is not a duplicate");
+
+        assertTrue(buffer.add(studentId, fsId, FeedbackSessionLogType.ACCESS,
+                timestamp.plus(Const.STUDENT_ACTIVITY_LOGS_FILTER_WINDOW).plusMillis(1)));
+        assertEquals(5, buffer.getPendingCount());
+        assertEquals(5, buffer.getBufferedCount());
+    }
+
+    @Test
+    public void testAdd_bufferFull_logDropped() {
+        UUID fsId = UUID.randomUUID();
+        Instant timestamp = Instant.now();
+        for (int i = 0; i < FeedbackSessionLogsBuffer.CAPACITY; i++) {
+            assertTrue(buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.ACCESS, timestamp));
+        }
+
+        assertFalse(buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.ACCESS, timestamp));
+        assertEquals(1, buffer.getDroppedCount());
+        assertEquals(FeedbackSessionLogsBuffer.CAPACITY, buffer.getPendingCount());
+    }
+
+    @Test
+    public void testFlush_manyLogs_writtenInBatches() {
+        UUID fsId = UUID.randomUUID();
+        Instant timestamp = Instant.now();
+        int numberOfLogs = FeedbackSessionLogsBuffer.BATCH_SIZE + 1;
+        for (int i = 0; i < numberOfLogs; i++) {
+            buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.SUBMISSION, timestamp);
+        }
+
+        buffer.flush();
+
+        verify(fslDb, times(numberOfLogs)).createFeedbackSessionLog(any(FeedbackSessionLog.class));
+        mockHibernateUtil.verify(HibernateUtil::beginTransaction, times(2));
+        mockHibernateUtil.verify(HibernateUtil::commitTransaction, times(2));
+        mockHibernateUtil.verify(() -> HibernateUtil.setJdbcBatchSize(FeedbackSessionLogsBuffer.BATCH_SIZE), times(2));
+        assertEquals(numberOfLogs, buffer.getWrittenCount());
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    public void testFlush_logCannotBeWritten_otherLogsInBatchWritten() {
+        UUID fsId = UUID.randomUUID();
+        UUID failingStudentId = UUID.randomUUID();
+        Student failingStudent = mock(Student.class);
+        when(usersLogic.getStudentReference(failingStudentId)).thenReturn(failingStudent);
+        when(fslDb.createFeedbackSessionLog(any(FeedbackSessionLog.class))).thenAnswer(invocation -> {
+            FeedbackSessionLog fsLog = invocation.getArgument(0);
+            if (fsLog.getStudent() == failingStudent) {
+                throw new PersistenceException("Log cannot be written");
+            }
+            return fsLog;
+        });
+
+        Instant timestamp = Instant.now();
+        buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.ACCESS, timestamp);
+        buffer.add(failingStudentId, fsId, FeedbackSessionLogType.ACCESS, timestamp);
+        buffer.add(UUID.randomUUID(), fsId, FeedbackSessionLogType.ACCESS, timestamp);
+
+        buffer.flush();
+
+        // the batch, then each log on its own
+        mockHibernateUtil.verify(HibernateUtil::beginTransaction, times(4));
+        mockHibernateUtil.verify(HibernateUtil::commitTransaction, times(2));
+        mockHibernateUtil.verify(HibernateUtil::rollbackTransaction, times(2));
+        assertEquals(2, buffer.getWrittenCount());
+        assertEquals(1, buffer.getFailedCount());
+    }
+
+}
@@ -1,28 +1,36 @@
 package teammates.sqllogic.core;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -161,6 +169,138 @@ public class FeedbackSessionsLogicTest extends BaseTestCase {
         assertEquals(session, result.get(0));
     }
 
+    @Test
+    public void testGetFeedbackSessionsNeedingNotificationEmails_sessionsFromSingleQuery_classifiedByEmailType() {
+        Instant now = Instant.now();
+        Course course = getTypicalCourse();
+
+        FeedbackSession openedSession = getTypicalFeedbackSessionForCourse(course);
+        openedSession.setStartTime(now.minus(Duration.ofHours(1)));
+
+        FeedbackSession openingSoonSession = getTypicalFeedbackSessionForCourse(course);
+        openingSoonSession.setStartTime(now.plus(Duration.ofMinutes(23 * 60 + 30)));
+
+        FeedbackSession closingSoonSession = getTypicalFeedbackSessionForCourse(course);
+        closingSoonSession.setStartTime(now.minus(Duration.ofDays(1)));
+        closingSoonSession.setEndTime(now.plus(Duration.ofMinutes(23 * 60 + 30)));
+        closingSoonSession.setClosingSoonEmailEnabled(true);
+        closingSoonSession.setOpenedEmailSent(true);
+
+        FeedbackSession closedSession = getTypicalFeedbackSessionForCourse(course);
+        closedSession.setStartTime(now.minus(Duration.ofDays(1)));
+        closedSession.setEndTime(now.minus(Duration.ofMinutes(30)));
+        closedSession.setClosingSoonEmailEnabled(true);
+
+        FeedbackSession publishedSession = getTypicalFeedbackSessionForCourse(course);
+        publishedSession.setStartTime(now.minus(Duration.ofDays(3)));
+        publishedSession.setEndTime(now.minus(Duration.ofDays(2)));
+        publishedSession.setResultsVisibleFromTime(now.minus(Duration.ofMinutes(30)));
+        publishedSession.setPublishedEmailEnabled(true);
+
+        FeedbackSession openedEmailSentSession = getTypicalFeedbackSessionForCourse(course);
+        openedEmailSentSession.setStartTime(now.minus(Duration.ofHours(1)));
+        openedEmailSentSession.setOpenedEmailSent(true);
+
+        when(fsDb.getFeedbackSessionsWithNotificationDue(any())).thenReturn(List.of(
+                openedSession, openingSoonSession, closingSoonSession, closedSession, publishedSession,
+                openedEmailSentSession));
+
+        Map<EmailType, List<FeedbackSession>> result = fsLogic.getFeedbackSessionsNeedingNotificationEmails();
+
+        verify(fsDb, times(1)).getFeedbackSessionsWithNotificationDue(any());
+        assertEquals(List.of(openedSession), result.get(EmailType.FEEDBACK_OPENED));
+        assertEquals(List.of(openingSoonSession), result.get(EmailType.FEEDBACK_OPENING_SOON));
+        assertEquals(List.of(closingSoonSession), result.get(EmailType.FEEDBACK_CLOSING_SOON));
+        assertEquals(List.of(closedSession), result.get(EmailType.FEEDBACK_CLOSED));
+        assertEquals(List.of(publishedSession), result.get(EmailType.FEEDBACK_PUBLISHED));
+    }
+
+    @Test
+    public void testUpdateNextNotificationDueAt_emailsSentOrSessionRescheduled_nextNotificationDueAtUpdated() {
+        Instant now = Instant.now();
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        Instant startTime = now.plus(Duration.ofHours(30));
+        session.setStartTime(startTime);
+
+        ______TS("next notification due is the earliest email not sent yet");
+
+        fsLogic.updateNextNotificationDueAt(session);
+        assertEquals(startTime.minus(Duration.ofHours(24)), session.getNextNotificationDueAt());
+
+        session.setOpeningSoonEmailSent(true);
+        fsLogic.updateNextNotificationDueAt(session);
+        assertEquals(startTime, session.getNextNotificationDueAt());
+
+        session.setOpenedEmailSent(true);
+        fsLogic.updateNextNotificationDueAt(session);
+        assertNull(session.getNextNotificationDueAt());
+
+        ______TS("fields are not derived by the entity itself");
+
+        session.setOpenedEmailSent(false);
+        assertNull(session.getNextNotificationDueAt());
+
+        ______TS("emails due again after the session is moved later");
+
+        Instant newStartTime = now.plus(Duration.ofHours(50));
+        session.setStartTime(newStartTime);
+        fsLogic.adjustFeedbackSessionEmailStatusAfterUpdate(session);
+
+        assertFalse(session.isOpenedEmailSent());
+        assertFalse(session.isOpeningSoonEmailSent());
+        assertEquals(newStartTime.minus(Duration.ofHours(24)), session.getNextNotificationDueAt());
+    }
+
+    @Test
+    public void testGetNextNotificationDueAt_deadlineExtensions_closingSoonEmailsNotSentYetIncluded() {
+        Instant now = Instant.parse("2026-01-10T00:00:00Z");
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        session.setStartTime(now.minus(Duration.ofDays(1)));
+        session.setEndTime(now.plus(Duration.ofDays(3)));
+        session.setResultsVisibleFromTime(Const.TIME_REPRESENTS_LATER);
+        session.setOpeningSoonEmailSent(true);
+        session.setOpenedEmailSent(true);
+        session.setClosingSoonEmailEnabled(true);
+        Instant sessionClosingSoonTime = now.plus(Duration.ofDays(2));
+
+        ______TS("no deadline extensions: closing soon email of the session is due");
+
+        assertEquals(sessionClosingSoonTime, FeedbackSessionsLogic.getNextNotificationDueAt(session, List.of(), now));
+
+        ______TS("deadline extension closing earlier: its closing soon email is due earlier");
+
+        Instant extendedEndTime = now.plus(Duration.ofHours(30));
+        DeadlineExtension deadlineExtension = new DeadlineExtension(getTypicalStudent(), session, extendedEndTime);
+
+        assertEquals(extendedEndTime.minus(Duration.ofHours(24)),
+                FeedbackSessionsLogic.getNextNotificationDueAt(session, List.of(deadlineExtension), now));
+
+        ______TS("deadline extension closing within 24 hours: its closing soon email is due until it closes");
+
+        DeadlineExtension closingDeadlineExtension =
+                new DeadlineExtension(getTypicalStudent(), session, now.plus(Duration.ofHours(1)));
+
+        assertEquals(now.minus(Duration.ofHours(23)),
+                FeedbackSessionsLogic.getNextNotificationDueAt(session, List.of(closingDeadlineExtension), now));
+
+        ______TS("deadline extensions with closing soon emails sent or closed are skipped");
+
+        deadlineExtension.setClosingSoonEmailSent(true);
+        DeadlineExtension closedDeadlineExtension =
+                new DeadlineExtension(getTypicalStudent(), session, now.minus(Duration.ofHours(1)));
+
+        assertEquals(sessionClosingSoonTime, FeedbackSessionsLogic.getNextNotificationDueAt(
+                session, List.of(deadlineExtension, closedDeadlineExtension), now));
+
+        ______TS("closing soon emails disabled: deadline extensions are skipped");
+
+        session.setClosingSoonEmailEnabled(false);
+
+        assertNull(FeedbackSessionsLogic.getNextNotificationDueAt(session, List.of(closingDeadlineExtension), now));
+    }
+
     @Test
     public void testPublishFeedbackSession_unpublishedSession_success()
             throws EntityDoesNotExistException, InvalidParametersException {
@@ -458,4 +598,81 @@ public class FeedbackSessionsLogicTest extends BaseTestCase {
         assertEquals(session, result.get(0));
         assertNotNull(result.get(0).getDeletedAt());
     }
+
+    @Test
+    public void testGetStudentsYetToAttemptFeedbackSession_individualQuestions_filtersByEmail() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        Student respondent = getStudentInTeam("respondent@teammates.tmt", "team-1");
+        Student teammate = getStudentInTeam("teammate@teammates.tmt", "team-1");
+        Student nonRespondent = getStudentInTeam("nonrespondent@teammates.tmt", "team-2");
+
+        when(fqLogic.hasFeedbackQuestionsForStudents(session.getFeedbackQuestions())).thenReturn(true);
+        when(fqLogic.hasFeedbackQuestionsForGiverType(session.getFeedbackQuestions(),
+                FeedbackParticipantType.STUDENTS)).thenReturn(true);
+        when(frLogic.getGiverSetThatAnsweredFeedbackSession(session)).thenReturn(Set.of(respondent.getEmail()));
+
+        List<Student> result = fsLogic.getStudentsYetToAttemptFeedbackSession(
+                session, List.of(respondent, teammate, nonRespondent));
+
+        assertEquals(List.of(teammate, nonRespondent), result);
+        verify(frLogic, times(1)).getGiverSetThatAnsweredFeedbackSession(session);
+    }
+
+    @Test
+    public void testGetStudentsYetToAttemptFeedbackSession_teamQuestionsOnly_filtersByTeam() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        Student respondent = getStudentInTeam("respondent@teammates.tmt", "team-1");
+        Student teammate = getStudentInTeam("teammate@teammates.tmt", "team-1");
+        Student nonRespondent = getStudentInTeam("nonrespondent@teammates.tmt", "team-2");
+
+        when(fqLogic.hasFeedbackQuestionsForStudents(session.getFeedbackQuestions())).thenReturn(true);
+        when(fqLogic.hasFeedbackQuestionsForGiverType(session.getFeedbackQuestions(),
+                FeedbackParticipantType.STUDENTS)).thenReturn(false);
+        when(frLogic.getGiverSetThatAnsweredFeedbackSession(session)).thenReturn(Set.of("team-1"));
+
+        List<Student> result = fsLogic.getStudentsYetToAttemptFeedbackSession(
+                session, List.of(respondent, teammate, nonRespondent));
+
+        assertEquals(List.of(nonRespondent), result);
+    }
+
+    @Test
+    public void testGetStudentsYetToAttemptFeedbackSession_noQuestionsForStudents_returnsEmpty() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        Student student = getStudentInTeam("student@teammates.tmt", "team-1");
+
+        when(fqLogic.hasFeedbackQuestionsForStudents(session.getFeedbackQuestions())).thenReturn(false);
+
+        List<Student> result = fsLogic.getStudentsYetToAttemptFeedbackSession(session, List.of(student));
+
+        assertTrue(result.isEmpty());
+        verify(frLogic, times(0)).getGiverSetThatAnsweredFeedbackSession(session);
+    }
+
+    @Test
+    public void testGetInstructorsYetToAttemptFeedbackSession_questionsForNonCreatorsOnly_creatorExcluded() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        Instructor creator = getTypicalInstructor();
+        creator.setEmail(session.getCreatorEmail());
+        Instructor respondent = getTypicalInstructor();
+        respondent.setEmail("respondent@teammates.tmt");
+        Instructor nonRespondent = getTypicalInstructor();
+        nonRespondent.setEmail("nonrespondent@teammates.tmt");
+
+        when(fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), true)).thenReturn(false);
+        when(fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), false)).thenReturn(true);
+        when(frLogic.getGiverSetThatAnsweredFeedbackSession(session)).thenReturn(Set.of(respondent.getEmail()));
+
+        List<Instructor> result = fsLogic.getInstructorsYetToAttemptFeedbackSession(
+                session, List.of(creator, respondent, nonRespondent));
+
+        assertEquals(List.of(nonRespondent), result);
+    }
+
+    private Student getStudentInTeam(String email, String teamName) {
+        Student student = getTypicalStudent();
+        student.setEmail(email);
+        student.setTeam(new Team(getTypicalSection(), teamName));
+        return student;
+    }
 }
@@ -10,10 +10,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.InstructorPermissionRole;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Const;
@@ -133,6 +135,42 @@ public class UsersLogicTest extends BaseTestCase {
                 + "Student [courseId=" + courseId + ", email=" + email + "]", exception.getMessage());
     }
 
+    @Test
+    public void testGetCoOwnersForCourseAfter_instructorsReadInPages_onlyCoOwnersReturned() {
+        Instructor tutorA = createInstructorWithRole("a@teammates.tmt",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        Instructor coOwnerB = createInstructorWithRole("b@teammates.tmt",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        Instructor tutorC = createInstructorWithRole("c@teammates.tmt",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        Instructor coOwnerD = createInstructorWithRole("d@teammates.tmt",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        when(usersDb.getInstructorsForCourseAfter(course.getId(), null, null, List.of(), 1))
+                .thenReturn(List.of(tutorA));
+        when(usersDb.getInstructorsForCourseAfter(course.getId(), tutorA.getEmail(), tutorA.getId(), List.of(), 1))
+                .thenReturn(List.of(coOwnerB));
+        when(usersDb.getInstructorsForCourseAfter(course.getId(), coOwnerB.getEmail(), coOwnerB.getId(), List.of(), 1))
+                .thenReturn(List.of(tutorC));
+        when(usersDb.getInstructorsForCourseAfter(course.getId(), tutorC.getEmail(), tutorC.getId(), List.of(), 1))
+                .thenReturn(List.of(coOwnerD));
+        when(usersDb.getInstructorsForCourseAfter(course.getId(), coOwnerD.getEmail(), coOwnerD.getId(), List.of(), 1))
+                .thenReturn(List.of());
+
+        assertEquals(List.of(coOwnerB), usersLogic.getCoOwnersForCourseAfter(course.getId(), null, null, 1));
+        assertEquals(List.of(coOwnerD),
+                usersLogic.getCoOwnersForCourseAfter(course.getId(), coOwnerB.getEmail(), coOwnerB.getId(), 1));
+        assertTrue(usersLogic.getCoOwnersForCourseAfter(
+                course.getId(), coOwnerD.getEmail(), coOwnerD.getId(), 1).isEmpty());
+    }
+
+    private Instructor createInstructorWithRole(String email, String roleName) {
+        Instructor instructor = new Instructor(course, "instructor-name", email, false,
+                Const.DEFAULT_DISPLAY_NAME_FOR_INSTRUCTOR, InstructorPermissionRole.getEnum(roleName),
+                new InstructorPrivileges(roleName));
+        instructor.setId(UUID.randomUUID());
+        return instructor;
+    }
+
     @Test
     public void testGetUnregisteredStudentsForCourse_success() {
         Account registeredAccount = new Account("valid-google-id", "student-name", "valid1-student@email.tmt");
@@ -23,6 +23,9 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.common.util.TemplatedEmails;
+import teammates.common.util.Templates.EmailTemplates;
 import teammates.logic.api.AuthProxy;
 import teammates.logic.api.MockEmailSender;
 import teammates.logic.api.MockLogsProcessor;
@@ -38,6 +41,7 @@ import teammates.test.BaseTestCase;
 import teammates.test.MockHttpServletRequest;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
 import teammates.ui.webapi.ActionMappingException;
@@ -387,6 +391,30 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the emails scheduled to be sent in batches as part of the executed action.
+     */
+    protected List<EmailWrapper> getEmailsScheduledInBatches() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            if (Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME.equals(task.getQueueName())) {
+                emails.addAll(((SendEmailBatchRequest) task.getRequestBody()).getEmails());
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Returns the given emails, without content, as emails generated from a feedback session email template.
+     */
+    protected TemplatedEmails getTemplatedEmails(List<EmailWrapper> emails) {
+        List<String[]> keyValuePairs = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            keyValuePairs.add(new String[] {"${userName}", String.valueOf(email.getRecipient())});
+        }
+        return TemplatedEmails.of(EmailTemplates.USER_FEEDBACK_SESSION, emails, keyValuePairs);
+    }
+
     /**
      * Verifies that the executed action does not result in any email being sent.
      */
@@ -1,6 +1,12 @@
 package teammates.sqlui.webapi;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -20,6 +26,8 @@ import teammates.ui.webapi.CalculateUsageStatisticsAction;
  * SUT: {@link CalculateUsageStatisticsAction}.
  */
 public class CalculateUsageStatisticsActionTest extends BaseActionTest<CalculateUsageStatisticsAction> {
+    static final int MAX_BACKFILLED_WINDOWS = 24;
+
     private final Instant startTime =
             TimeHelper.getInstantNearestHourBefore(Instant.now()).minus(1, ChronoUnit.HOURS);
     private final UsageStatistics testUsageStatistics =
@@ -46,15 +54,16 @@ public class CalculateUsageStatisticsActionTest extends BaseActionTest<Calculate
 
     @BeforeMethod
     void setUp() {
+        reset(mockLogic);
         loginAsAdmin();
-    }
-
-    @Test
-    public void testExecute_normalCase_shouldSucceed() {
         when(mockLogic.calculateEntitiesStatisticsForTimeRange(isA(Instant.class), isA(Instant.class)))
                 .thenReturn(testUsageStatistics);
         when(mockDatastoreLogic.calculateEntitiesStatisticsForTimeRange(isA(Instant.class), isA(Instant.class)))
                 .thenReturn(testUsageStatisticsAttributes);
+    }
+
+    @Test
+    public void testExecute_normalCase_shouldSucceed() {
         when(mockLogic.getUsageStatisticsForTimeRange(isA(Instant.class), isA(Instant.class)))
                 .thenReturn(List.of(testUsageStatistics));
 
@@ -75,4 +84,42 @@ public class CalculateUsageStatisticsActionTest extends BaseActionTest<Calculate
         assertEquals(startTime, statsObject.getStartTime());
 
     }
+
+    @Test
+    public void testExecute_missedWindows_shouldBackfillMissedWindows() throws Exception {
+        when(mockLogic.getLatestUsageStatistics())
+                .thenReturn(getTypicalUsageStatistics(startTime.minus(3, ChronoUnit.HOURS)));
+
+        CalculateUsageStatisticsAction action = getAction();
+        action.execute();
+
+        verify(mockLogic, times(3)).createUsageStatistics(any());
+        for (int hoursBefore = 0; hoursBefore < 3; hoursBefore++) {
+            Instant windowStartTime = startTime.minus(hoursBefore, ChronoUnit.HOURS);
+            verify(mockLogic).createUsageStatistics(
+                    argThat(stats -> stats.getStartTime().equals(windowStartTime)));
+        }
+    }
+
+    @Test
+    public void testExecute_tooManyMissedWindows_shouldBackfillLimitedWindows() throws Exception {
+        when(mockLogic.getLatestUsageStatistics())
+                .thenReturn(getTypicalUsageStatistics(startTime.minus(100, ChronoUnit.DAYS)));
+
+        CalculateUsageStatisticsAction action = getAction();
+        action.execute();
+
+        verify(mockLogic, times(MAX_BACKFILLED_WINDOWS + 1))
+                .createUsageStatistics(any());
+    }
+
+    @Test
+    public void testExecute_latestWindowCalculated_shouldNotCreateStatistics() throws Exception {
+        when(mockLogic.getLatestUsageStatistics()).thenReturn(testUsageStatistics);
+
+        CalculateUsageStatisticsAction action = getAction();
+        action.execute();
+
+        verify(mockLogic, never()).createUsageStatistics(any());
+    }
 }
@@ -1,6 +1,10 @@
 package teammates.sqlui.webapi;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -15,6 +19,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.logic.api.MockLogsProcessor;
 import teammates.ui.webapi.CompileLogsAction;
 
 /**
@@ -90,7 +95,7 @@ public class CompileLogsActionTest extends BaseActionTest<CompileLogsAction> {
         stubEmailWrapper.setSubject(String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.APP_VERSION));
 
         // use any() since the expected argument is a response from logs query
-        when(mockEmailGenerator.generateCompiledLogsEmail(any())).thenReturn(stubEmailWrapper);
+        when(mockEmailGenerator.generateCompiledLogsEmail(any(), anyInt())).thenReturn(stubEmailWrapper);
         CompileLogsAction action = getAction();
         action.execute();
 
@@ -101,4 +106,26 @@ public class CompileLogsActionTest extends BaseActionTest<CompileLogsAction> {
                 emailSent.getSubject());
         assertEquals(Config.SUPPORT_EMAIL, emailSent.getRecipient());
     }
+
+    @Test
+    void testExecute_tooManyRecentErrorLogs_extraLogsCountedOnly() {
+        mockLogsProcessor = new MockLogsProcessor();
+        int logCount = CompileLogsAction.MAX_LOGS_IN_EMAIL + 5;
+        for (int i = 0; i < logCount; i++) {
+            mockLogsProcessor.insertErrorLog("errorlogtrace" + i, "errorloginsertid" + i, sourceLocation,
+                    recentTimestamp(), "Error message " + i, null);
+        }
+
+        EmailWrapper stubEmailWrapper = new EmailWrapper();
+        stubEmailWrapper.setRecipient(Config.SUPPORT_EMAIL);
+        stubEmailWrapper.setSubject(String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.APP_VERSION));
+        when(mockEmailGenerator.generateCompiledLogsEmail(any(), anyInt())).thenReturn(stubEmailWrapper);
+
+        CompileLogsAction action = getAction();
+        action.execute();
+
+        verify(mockEmailGenerator).generateCompiledLogsEmail(
+                argThat(logs -> logs.size() == CompileLogsAction.MAX_LOGS_IN_EMAIL
+                        && "Error message 0".equals(logs.get(0).getMessage())), eq(5));
+    }
 }
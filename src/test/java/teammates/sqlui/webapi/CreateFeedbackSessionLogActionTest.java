@@ -1,5 +1,16 @@
 package teammates.sqlui.webapi;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
@@ -84,6 +95,16 @@ public class CreateFeedbackSessionLogActionTest extends BaseActionTest<CreateFee
         submissionLabel = FeedbackSessionLogType.SUBMISSION.getLabel();
     }
 
+    @BeforeMethod
+    void setUp() {
+        reset(mockLogic);
+        for (Student student : new Student[] { student1InCourse1, student2InCourse2, student3InCourse2 }) {
+            when(mockLogic.getStudent(student.getId())).thenReturn(student);
+        }
+        when(mockLogic.getFeedbackSession(fsaCourse1.getId())).thenReturn(fsaCourse1);
+        when(mockLogic.getFeedbackSession(fsaCourseNoStudent.getId())).thenReturn(fsaCourseNoStudent);
+    }
+
     @Test
     void testAccessControl() {
         verifyAnyUserCanAccess();
@@ -103,14 +124,18 @@ public class CreateFeedbackSessionLogActionTest extends BaseActionTest<CreateFee
         JsonResult response = getJsonResult(action);
         MessageOutput output = (MessageOutput) response.getOutput();
         assertEquals("Successful", output.getMessage());
+
+        verify(mockLogic).bufferFeedbackSessionLog(
+                eq(UUID.fromString(student1Id)), eq(UUID.fromString(fsaCourse1Id)),
+                eq(FeedbackSessionLogType.ACCESS), any(Instant.class));
     }
 
     @Test
     void testExecute_typicalSubmission_shouldSucceed() {
         String[] paramsSuccessfulSubmission = {
                 Const.ParamsNames.COURSE_ID, courseId1,
-                Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourseNoStudentName,
-                Const.ParamsNames.FEEDBACK_SESSION_ID, fsaCourseNoStudentId,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourse1Name,
+                Const.ParamsNames.FEEDBACK_SESSION_ID, fsaCourse1Id,
                 Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, submissionLabel,
                 Const.ParamsNames.STUDENT_EMAIL, student2Email,
                 Const.ParamsNames.STUDENT_SQL_ID, student2Id,
@@ -119,6 +144,10 @@ public class CreateFeedbackSessionLogActionTest extends BaseActionTest<CreateFee
         JsonResult response = getJsonResult(getAction(paramsSuccessfulSubmission));
         MessageOutput output = (MessageOutput) response.getOutput();
         assertEquals("Successful", output.getMessage());
+
+        verify(mockLogic).bufferFeedbackSessionLog(
+                eq(UUID.fromString(student2Id)), eq(UUID.fromString(fsaCourse1Id)),
+                eq(FeedbackSessionLogType.SUBMISSION), any(Instant.class));
     }
 
     @Test
@@ -154,7 +183,7 @@ public class CreateFeedbackSessionLogActionTest extends BaseActionTest<CreateFee
     }
 
     @Test
-    void testExecute_studentHasNoAccessToCourseFeedback_shouldStillSucceed() {
+    void testExecute_studentHasNoAccessToCourseFeedback_shouldFail() {
         String[] paramsWithoutAccess = {
                 Const.ParamsNames.COURSE_ID, courseId1,
                 Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourse1Name,
@@ -163,9 +192,48 @@ public class CreateFeedbackSessionLogActionTest extends BaseActionTest<CreateFee
                 Const.ParamsNames.STUDENT_EMAIL, student3Email,
                 Const.ParamsNames.STUDENT_SQL_ID, student3Id,
         };
-        JsonResult response = getJsonResult(getAction(paramsWithoutAccess));
-        MessageOutput output = (MessageOutput) response.getOutput();
-        assertEquals("Successful", output.getMessage());
+        verifyHttpParameterFailure(paramsWithoutAccess);
+
+        ______TS("session not in the given course");
+
+        String[] paramsSessionInOtherCourse = {
+                Const.ParamsNames.COURSE_ID, courseId1,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourseNoStudentName,
+                Const.ParamsNames.FEEDBACK_SESSION_ID, fsaCourseNoStudentId,
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, submissionLabel,
+                Const.ParamsNames.STUDENT_EMAIL, student2Email,
+                Const.ParamsNames.STUDENT_SQL_ID, student2Id,
+        };
+        verifyHttpParameterFailure(paramsSessionInOtherCourse);
+
+        verify(mockLogic, never()).bufferFeedbackSessionLog(any(), any(), any(), any());
+    }
+
+    @Test
+    void testExecute_nonExistentStudentOrSession_shouldFail() {
+        String[] paramsNonExistentStudent = {
+                Const.ParamsNames.COURSE_ID, courseId1,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourse1Name,
+                Const.ParamsNames.FEEDBACK_SESSION_ID, fsaCourse1Id,
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, accessLabel,
+                Const.ParamsNames.STUDENT_EMAIL, student1Email,
+                Const.ParamsNames.STUDENT_SQL_ID, UUID.randomUUID().toString(),
+        };
+        verifyEntityNotFound(paramsNonExistentStudent);
+
+        ______TS("non-existent session");
+
+        String[] paramsNonExistentSession = {
+                Const.ParamsNames.COURSE_ID, courseId1,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, fsaCourse1Name,
+                Const.ParamsNames.FEEDBACK_SESSION_ID, UUID.randomUUID().toString(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_TYPE, accessLabel,
+                Const.ParamsNames.STUDENT_EMAIL, student1Email,
+                Const.ParamsNames.STUDENT_SQL_ID, student1Id,
+        };
+        verifyEntityNotFound(paramsNonExistentSession);
+
+        verify(mockLogic, never()).bufferFeedbackSessionLog(any(), any(), any(), any());
     }
 
     @Test
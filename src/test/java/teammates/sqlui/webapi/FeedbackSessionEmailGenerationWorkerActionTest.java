@@ -0,0 +1,200 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EmailBatch;
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.webapi.FeedbackSessionEmailGenerationWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionEmailGenerationWorkerAction}.
+ */
+public class FeedbackSessionEmailGenerationWorkerActionTest
+        extends BaseActionTest<FeedbackSessionEmailGenerationWorkerAction> {
+    private static final String CURSOR = "0:" + UUID.randomUUID() + ":student1@tm.tmt";
+    private static final String NEXT_CURSOR = "0:" + UUID.randomUUID() + ":student2@tm.tmt";
+
+    private FeedbackSession session;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Course course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        session = new FeedbackSession(
+                "session-name",
+                course,
+                "creater_email@tm.tmt",
+                null,
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-10-01T00:00:00.000Z"),
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-11-01T00:00:00.000Z"),
+                null,
+                false,
+                false,
+                false);
+
+        loginAsAdmin();
+    }
+
+    private String[] getParams(String emailType, String cursor) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourse().getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.EMAIL_TYPE, emailType,
+                Const.ParamsNames.CURSOR, cursor,
+        };
+    }
+
+    private List<String> getNamesOfTasksAdded() {
+        return mockTaskQueuer.getTasksAdded().stream().map(TaskWrapper::getName).collect(Collectors.toList());
+    }
+
+    private EmailWrapper getEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        email.setType(EmailType.FEEDBACK_OPENED);
+        email.setSubjectFromType(session.getCourse().getName(), session.getName());
+        return email;
+    }
+
+    @Test
+    public void testExecute_sessionDoesNotExist_failure() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(null);
+
+        FeedbackSessionEmailGenerationWorkerAction action =
+                getAction(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Failure", actionOutput.getMessage());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    public void testExecute_lastBatch_emailsScheduledWithoutNextBatch() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_OPENED), eq(CURSOR), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(
+                        List.of(getEmail("student1@tm.tmt"), getEmail("student2@tm.tmt"))), null));
+
+        FeedbackSessionEmailGenerationWorkerAction action =
+                getAction(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        assertEquals(2, getEmailsScheduledInBatches().size());
+        assertNull(mockTaskQueuer.getNumberOfTasksAdded()
+                .get(Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME));
+    }
+
+    @Test
+    public void testExecute_moreRecipientsRemaining_nextBatchScheduledFromNextCursor() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_CLOSING_SOON), eq(CURSOR), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(List.of(getEmail("student1@tm.tmt"))), NEXT_CURSOR));
+
+        FeedbackSessionEmailGenerationWorkerAction action =
+                getAction(getParams(EmailType.FEEDBACK_CLOSING_SOON.name(), CURSOR));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        assertEquals(1, getEmailsScheduledInBatches().size());
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME, 1);
+
+        TaskWrapper nextBatchTask = mockTaskQueuer.getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME.equals(task.getQueueName()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(NEXT_CURSOR, nextBatchTask.getParamMap().get(Const.ParamsNames.CURSOR));
+        assertEquals(EmailType.FEEDBACK_CLOSING_SOON.name(),
+                nextBatchTask.getParamMap().get(Const.ParamsNames.EMAIL_TYPE));
+        assertNotNull(nextBatchTask.getName());
+    }
+
+    @Test
+    public void testExecute_batchGeneratedAgain_tasksAddedWithSameNames() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_OPENED), anyString(), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(List.of(getEmail("student1@tm.tmt"))), NEXT_CURSOR));
+
+        getJsonResult(getAction(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR)));
+        List<String> taskNames = getNamesOfTasksAdded();
+
+        assertEquals(2, taskNames.size());
+        assertFalse(taskNames.contains(null));
+        assertEquals(2, new HashSet<>(taskNames).size());
+
+        ______TS("retried batch is scheduled in tasks with the same names, so that the queue adds them once");
+
+        mockTaskQueuer.clearTasks();
+        getJsonResult(getAction(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR)));
+
+        assertEquals(taskNames, getNamesOfTasksAdded());
+
+        ______TS("batch after another cursor is scheduled in tasks with other names");
+
+        mockTaskQueuer.clearTasks();
+        getJsonResult(getAction(getParams(EmailType.FEEDBACK_OPENED.name(), NEXT_CURSOR)));
+
+        assertTrue(getNamesOfTasksAdded().stream().noneMatch(taskNames::contains));
+
+        ______TS("batch of the session opened again at another time is scheduled in tasks with other names");
+
+        mockTaskQueuer.clearTasks();
+        session.setStartTime(session.getStartTime().plusSeconds(60));
+        getJsonResult(getAction(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR)));
+
+        assertTrue(getNamesOfTasksAdded().stream().noneMatch(taskNames::contains));
+    }
+
+    @Test
+    public void testExecute_invalidParams_throwsInvalidHttpParameterException() {
+        verifyHttpParameterFailure(getParams(EmailType.FEEDBACK_SESSION_REMINDER.name(), CURSOR));
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, session.getCourse().getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_OPENED.name());
+
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_OPENED), eq("abc"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: abc"));
+
+        verifyHttpParameterFailure(getParams(EmailType.FEEDBACK_OPENED.name(), "abc"));
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess(getParams(EmailType.FEEDBACK_OPENED.name(), CURSOR));
+    }
+}
@@ -0,0 +1,518 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.ignoreStubs;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EmailBatch;
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailRequest;
+import teammates.ui.webapi.FeedbackSessionNotificationsAction;
+
+/**
+ * SUT: {@link FeedbackSessionNotificationsAction}.
+ */
+public class FeedbackSessionNotificationsActionTest extends BaseActionTest<FeedbackSessionNotificationsAction> {
+
+    private static final String STUDENT1_OF_SESSION1 = "student1@session1.tmt";
+    private static final String STUDENT2_OF_SESSION1 = "student2@session1.tmt";
+    private static final String INSTRUCTOR_OF_SESSION1 = "instructor@session1.tmt";
+    private static final String STUDENT_OF_SESSION2 = "student@session2.tmt";
+    private static final String INSTRUCTOR_OF_SESSION2 = "instructor@session2.tmt";
+
+    private FeedbackSession session1;
+    private FeedbackSession session2;
+    private FeedbackSession publishedSession1;
+    private FeedbackSession publishedSession2;
+    private DeadlineExtension deadlineExtension1;
+    private DeadlineExtension deadlineExtension2;
+    private DeadlineExtension deadlineExtension3;
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_FEEDBACK_SESSION_NOTIFICATIONS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Mockito.reset(mockLogic, mockSqlEmailGenerator);
+
+        session1 = mockFeedbackSession();
+        session2 = mockFeedbackSession();
+        Course course = getTypicalCourse();
+        publishedSession1 = getTypicalFeedbackSessionForCourse(course);
+        publishedSession1.setPublishedEmailEnabled(true);
+        publishedSession2 = getTypicalFeedbackSessionForCourse(course);
+        publishedSession2.setName("test-feedbacksession2");
+        publishedSession2.setPublishedEmailEnabled(true);
+        deadlineExtension1 = mock(DeadlineExtension.class);
+        deadlineExtension2 = mock(DeadlineExtension.class);
+        deadlineExtension3 = mock(DeadlineExtension.class);
+
+        mockEmailBatch(session1, EmailType.FEEDBACK_OPENED, STUDENT1_OF_SESSION1, INSTRUCTOR_OF_SESSION1);
+        mockEmailBatch(session2, EmailType.FEEDBACK_OPENED, STUDENT_OF_SESSION2);
+        mockEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON, STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1);
+        mockEmailBatch(session2, EmailType.FEEDBACK_CLOSING_SOON, STUDENT_OF_SESSION2);
+
+        when(mockSqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session1))
+                .thenReturn(getEmails(EmailType.FEEDBACK_OPENING_SOON, INSTRUCTOR_OF_SESSION1));
+        when(mockSqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session2))
+                .thenReturn(getEmails(EmailType.FEEDBACK_OPENING_SOON, INSTRUCTOR_OF_SESSION2));
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosedEmails(session1))
+                .thenReturn(getEmails(EmailType.FEEDBACK_CLOSED, STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1));
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosedEmails(session2))
+                .thenReturn(getEmails(EmailType.FEEDBACK_CLOSED, STUDENT_OF_SESSION2));
+
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosingWithExtensionEmails(
+                session1, List.of(deadlineExtension1, deadlineExtension2)))
+                .thenReturn(getEmails(EmailType.FEEDBACK_CLOSING_SOON, STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1));
+        // e.g. no questions for the user of the deadline extension to answer
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosingWithExtensionEmails(
+                session2, List.of(deadlineExtension3)))
+                .thenReturn(List.of());
+
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENED, List.of());
+        when(mockLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(Map.of());
+    }
+
+    private static FeedbackSession mockFeedbackSession() {
+        FeedbackSession session = mock(FeedbackSession.class);
+        // used to name the tasks of the batches of emails
+        when(session.getId()).thenReturn(UUID.randomUUID());
+        when(session.getStartTime()).thenReturn(Instant.parse("2020-01-01T00:00:00Z"));
+        when(session.getEndTime()).thenReturn(Instant.parse("2020-02-01T00:00:00Z"));
+        return session;
+    }
+
+    private static List<EmailWrapper> getEmails(EmailType emailType, String... recipients) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (String recipient : recipients) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient(recipient);
+            email.setType(emailType);
+            email.setSubject(emailType.getSubject());
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private void mockEmailBatch(FeedbackSession session, EmailType emailType, String... recipients) {
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(eq(session), eq(emailType), isNull(), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(getEmails(emailType, recipients)), null));
+    }
+
+    private void mockSessionsNeedingEmails(EmailType emailType, List<FeedbackSession> sessions) {
+        mockSessionsNeedingEmails(Map.of(emailType, sessions));
+    }
+
+    private void mockSessionsNeedingEmails(Map<EmailType, List<FeedbackSession>> sessionsOfEmailTypes) {
+        Map<EmailType, List<FeedbackSession>> sessionsByEmailType = new EnumMap<>(EmailType.class);
+        for (EmailType emailType : new EmailType[] { EmailType.FEEDBACK_OPENED, EmailType.FEEDBACK_OPENING_SOON,
+                EmailType.FEEDBACK_CLOSING_SOON, EmailType.FEEDBACK_CLOSED, EmailType.FEEDBACK_PUBLISHED }) {
+            sessionsByEmailType.put(emailType, sessionsOfEmailTypes.getOrDefault(emailType, List.of()));
+        }
+        when(mockLogic.getFeedbackSessionsNeedingNotificationEmails()).thenReturn(sessionsByEmailType);
+    }
+
+    private MessageOutput executeAction(int expectedChecksOfRemainingTime) {
+        try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
+            FeedbackSessionNotificationsAction action = getAction();
+            MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+            mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(expectedChecksOfRemainingTime));
+            return actionOutput;
+        }
+    }
+
+    private List<EmailWrapper> getEmailsScheduledSeparately() {
+        return mockTaskQueuer.getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName()))
+                .map(task -> ((SendEmailRequest) task.getRequestBody()).getEmail())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getRecipients(List<EmailWrapper> emails) {
+        return emails.stream().map(EmailWrapper::getRecipient).collect(Collectors.toList());
+    }
+
+    private static void verifyEmails(EmailType expectedEmailType, List<String> expectedRecipients,
+            List<EmailWrapper> emails) {
+        assertEquals(expectedRecipients, getRecipients(emails));
+        for (EmailWrapper email : emails) {
+            assertEquals(expectedEmailType, email.getType());
+        }
+    }
+
+    private List<String> getSessionsScheduledForPublishedEmails() {
+        return mockTaskQueuer.getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME.equals(task.getQueueName()))
+                .map(TaskWrapper::getParamMap)
+                .map(params -> params.get(Const.ParamsNames.COURSE_ID) + "/"
+                        + params.get(Const.ParamsNames.FEEDBACK_SESSION_NAME))
+                .collect(Collectors.toList());
+    }
+
+    private static String getSessionKey(FeedbackSession session) {
+        return session.getCourse().getId() + "/" + session.getName();
+    }
+
+    @Test
+    void testExecute_sessionsNeedingEachEmailType_allEmailsScheduledInOnePass() {
+        mockSessionsNeedingEmails(Map.of(
+                EmailType.FEEDBACK_OPENED, List.of(session1),
+                EmailType.FEEDBACK_OPENING_SOON, List.of(session2),
+                EmailType.FEEDBACK_CLOSING_SOON, List.of(session1),
+                EmailType.FEEDBACK_CLOSED, List.of(session2),
+                EmailType.FEEDBACK_PUBLISHED, List.of(publishedSession1)));
+
+        MessageOutput actionOutput = executeAction(5);
+
+        verify(mockLogic, times(1)).getFeedbackSessionsNeedingNotificationEmails();
+        verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_OPENED), isNull(), anyInt());
+        verify(session1, times(1)).setOpenedEmailSent(true);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session2);
+        verify(session2, times(1)).setOpeningSoonEmailSent(true);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_CLOSING_SOON), isNull(), anyInt());
+        verify(session1, times(1)).setClosingSoonEmailSent(true);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session2);
+        verify(session2, times(1)).setClosedEmailSent(true);
+        // the next notification of each session is due later once each of its emails is marked as sent
+        verify(mockLogic, times(2)).updateFeedbackSessionNextNotificationDueAt(session1);
+        verify(mockLogic, times(2)).updateFeedbackSessionNextNotificationDueAt(session2);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME, 1);
+        List<EmailWrapper> emailsScheduledInBatches = getEmailsScheduledInBatches();
+        verifyEmails(EmailType.FEEDBACK_OPENED, List.of(STUDENT1_OF_SESSION1, INSTRUCTOR_OF_SESSION1),
+                emailsScheduledInBatches.subList(0, 2));
+        verifyEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1),
+                emailsScheduledInBatches.subList(2, 4));
+        List<EmailWrapper> emailsScheduledSeparately = getEmailsScheduledSeparately();
+        verifyEmails(EmailType.FEEDBACK_OPENING_SOON, List.of(INSTRUCTOR_OF_SESSION2),
+                emailsScheduledSeparately.subList(0, 1));
+        verifyEmails(EmailType.FEEDBACK_CLOSED, List.of(STUDENT_OF_SESSION2), emailsScheduledSeparately.subList(1, 2));
+        assertEquals(List.of(getSessionKey(publishedSession1)), getSessionsScheduledForPublishedEmails());
+
+        verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_noSessionsNeedingEmails_noEmailsSent() {
+        MessageOutput actionOutput = executeAction(0);
+
+        verify(mockLogic, times(1)).getFeedbackSessionsNeedingNotificationEmails();
+        verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
+
+        verifyNoTasksAdded();
+        verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_allSessionsOpened_emailsSentToEachRecipient() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENED, List.of(session1, session2));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_OPENED), isNull(), anyInt());
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session2), eq(EmailType.FEEDBACK_OPENED), isNull(), anyInt());
+        verify(session1, times(1)).setOpenedEmailSent(true);
+        verify(session2, times(1)).setOpenedEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+        verifyEmails(EmailType.FEEDBACK_OPENED,
+                List.of(STUDENT1_OF_SESSION1, INSTRUCTOR_OF_SESSION1, STUDENT_OF_SESSION2),
+                getEmailsScheduledInBatches());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_oneSessionOpened_emailsSentOnlyForThatSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENED, List.of(session1));
+
+        MessageOutput actionOutput = executeAction(1);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_OPENED), isNull(), anyInt());
+        verify(session1, times(1)).setOpenedEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_OPENED, List.of(STUDENT1_OF_SESSION1, INSTRUCTOR_OF_SESSION1),
+                getEmailsScheduledInBatches());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_errorForOneSession_otherSessionsStillHandled() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENED, List.of(session1, session2));
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_OPENED), isNull(), anyInt()))
+                .thenThrow(new IllegalStateException("expected"));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        // the email of the failed session is retried in the next run
+        verify(session1, never()).setOpenedEmailSent(true);
+        verify(mockLogic, never()).updateFeedbackSessionNextNotificationDueAt(session1);
+        verify(session2, times(1)).setOpenedEmailSent(true);
+        verify(mockLogic, times(1)).updateFeedbackSessionNextNotificationDueAt(session2);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_OPENED, List.of(STUDENT_OF_SESSION2),
+                getEmailsScheduledInBatches());
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_allSessionsOpeningSoon_emailsSentToEachRecipient() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENING_SOON, List.of(session1, session2));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session1);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session2);
+        verify(session1, times(1)).setOpeningSoonEmailSent(true);
+        verify(session2, times(1)).setOpeningSoonEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifyEmails(EmailType.FEEDBACK_OPENING_SOON, List.of(INSTRUCTOR_OF_SESSION1, INSTRUCTOR_OF_SESSION2),
+                getEmailsScheduledSeparately());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_oneSessionOpeningSoon_emailsSentOnlyForThatSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_OPENING_SOON, List.of(session2));
+
+        MessageOutput actionOutput = executeAction(1);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session2);
+        verify(session2, times(1)).setOpeningSoonEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_OPENING_SOON, List.of(INSTRUCTOR_OF_SESSION2),
+                getEmailsScheduledSeparately());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_allSessionsClosingSoon_emailsSentToEachRecipient() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(session1, session2));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_CLOSING_SOON), isNull(), anyInt());
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session2), eq(EmailType.FEEDBACK_CLOSING_SOON), isNull(), anyInt());
+        verify(session1, times(1)).setClosingSoonEmailSent(true);
+        verify(session2, times(1)).setClosingSoonEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+        verifyEmails(EmailType.FEEDBACK_CLOSING_SOON,
+                List.of(STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1, STUDENT_OF_SESSION2),
+                getEmailsScheduledInBatches());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_oneSessionClosingSoon_emailsSentOnlyForThatSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(session1));
+
+        MessageOutput actionOutput = executeAction(1);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session1), eq(EmailType.FEEDBACK_CLOSING_SOON), isNull(), anyInt());
+        verify(session1, times(1)).setClosingSoonEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1),
+                getEmailsScheduledInBatches());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_deadlineExtensionsClosingSoon_emailsSentAndMarkedSentPerSession() {
+        Map<FeedbackSession, List<DeadlineExtension>> deadlineExtensionsBySession = new LinkedHashMap<>();
+        deadlineExtensionsBySession.put(session1, List.of(deadlineExtension1, deadlineExtension2));
+        deadlineExtensionsBySession.put(session2, List.of(deadlineExtension3));
+        when(mockLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(deadlineExtensionsBySession);
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingWithExtensionEmails(
+                session1, List.of(deadlineExtension1, deadlineExtension2));
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingWithExtensionEmails(
+                session2, List.of(deadlineExtension3));
+
+        // the email sent flags are set with one update per session instead of on each deadline extension,
+        // including the deadline extensions without emails to send
+        verify(mockLogic, times(1))
+                .updateDeadlineExtensionsClosingSoonEmailSent(List.of(deadlineExtension1, deadlineExtension2));
+        verify(mockLogic, times(1)).updateDeadlineExtensionsClosingSoonEmailSent(List.of(deadlineExtension3));
+        verify(deadlineExtension1, never()).setClosingSoonEmailSent(true);
+        verify(deadlineExtension2, never()).setClosingSoonEmailSent(true);
+        verify(deadlineExtension3, never()).setClosingSoonEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1),
+                getEmailsScheduledInBatches());
+        // the closing soon emails of the sessions themselves are not sent again
+        verify(session1, never()).setClosingSoonEmailSent(true);
+        verify(session2, never()).setClosingSoonEmailSent(true);
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_sessionAndDeadlineExtensionsClosingSoon_emailsSentForBoth() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_CLOSING_SOON, List.of(session2));
+        Map<FeedbackSession, List<DeadlineExtension>> deadlineExtensionsBySession = new LinkedHashMap<>();
+        deadlineExtensionsBySession.put(session1, List.of(deadlineExtension1, deadlineExtension2));
+        when(mockLogic.getDeadlineExtensionsPossiblyNeedingClosingSoonEmail()).thenReturn(deadlineExtensionsBySession);
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(
+                eq(session2), eq(EmailType.FEEDBACK_CLOSING_SOON), isNull(), anyInt());
+        verify(session2, times(1)).setClosingSoonEmailSent(true);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingWithExtensionEmails(
+                session1, List.of(deadlineExtension1, deadlineExtension2));
+        verify(mockLogic, times(1))
+                .updateDeadlineExtensionsClosingSoonEmailSent(List.of(deadlineExtension1, deadlineExtension2));
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+        verifyEmails(EmailType.FEEDBACK_CLOSING_SOON,
+                List.of(STUDENT_OF_SESSION2, STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1),
+                getEmailsScheduledInBatches());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_allSessionsClosed_emailsSentToEachRecipient() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_CLOSED, List.of(session1, session2));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session1);
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session2);
+        verify(session1, times(1)).setClosedEmailSent(true);
+        verify(session2, times(1)).setClosedEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyEmails(EmailType.FEEDBACK_CLOSED,
+                List.of(STUDENT1_OF_SESSION1, STUDENT2_OF_SESSION1, STUDENT_OF_SESSION2),
+                getEmailsScheduledSeparately());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_oneSessionClosed_emailsSentOnlyForThatSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_CLOSED, List.of(session2));
+
+        MessageOutput actionOutput = executeAction(1);
+
+        verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session2);
+        verify(session2, times(1)).setClosedEmailSent(true);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        verifyEmails(EmailType.FEEDBACK_CLOSED, List.of(STUDENT_OF_SESSION2),
+                getEmailsScheduledSeparately());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        verifyNoMoreInteractions(ignoreStubs(session1, session2));
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_allSessionsPublished_publishedEmailsScheduledForEachSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_PUBLISHED, List.of(publishedSession1, publishedSession2));
+
+        MessageOutput actionOutput = executeAction(2);
+
+        // the published emails are generated by their own worker, which marks them as sent
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME, 2);
+        assertEquals(List.of(getSessionKey(publishedSession1), getSessionKey(publishedSession2)),
+                getSessionsScheduledForPublishedEmails());
+        assertFalse(publishedSession1.isPublishedEmailSent());
+        assertFalse(publishedSession2.isPublishedEmailSent());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testExecute_oneSessionPublished_publishedEmailsScheduledOnlyForThatSession() {
+        mockSessionsNeedingEmails(EmailType.FEEDBACK_PUBLISHED, List.of(publishedSession2));
+
+        MessageOutput actionOutput = executeAction(1);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME, 1);
+        assertEquals(List.of(getSessionKey(publishedSession2)), getSessionsScheduledForPublishedEmails());
+        verifyNoMoreInteractions(mockSqlEmailGenerator);
+        assertEquals("Successful", actionOutput.getMessage());
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+    }
+}
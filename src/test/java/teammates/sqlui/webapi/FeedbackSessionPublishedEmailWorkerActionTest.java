@@ -1,5 +1,8 @@
 package teammates.sqlui.webapi;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -8,18 +11,17 @@ import java.util.List;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.EmailBatch;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
 import teammates.ui.output.MessageOutput;
-import teammates.ui.request.SendEmailRequest;
 import teammates.ui.webapi.FeedbackSessionPublishedEmailWorkerAction;
 
 /**
@@ -115,7 +117,9 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         expectedSession.setPublishedEmailSent(true);
 
         when(mockLogic.getFeedbackSession(sessionName, courseId)).thenReturn(session);
-        when(mockSqlEmailGenerator.generateFeedbackSessionPublishedEmails(session)).thenReturn(emails);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_PUBLISHED), isNull(), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(emails), null));
 
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, courseId,
@@ -128,12 +132,10 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         assertEquals("Successful", actionOutput.getMessage());
 
         // Checking Task Queue
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        List<EmailWrapper> emailsScheduled = getEmailsScheduledInBatches();
+        assertEquals(2, emailsScheduled.size());
 
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : emailsScheduled) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(),
                     course.getName(), session.getName());
@@ -141,6 +143,36 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         }
     }
 
+    @Test
+    public void testExecute_moreRecipientsThanBatch_generationOfNextBatchScheduled() {
+        String courseId = session.getCourse().getId();
+        String sessionName = session.getName();
+
+        EmailWrapper studentEmail = new EmailWrapper();
+        studentEmail.setRecipient(student.getEmail());
+        studentEmail.setType(EmailType.FEEDBACK_PUBLISHED);
+        studentEmail.setSubjectFromType(session.getCourse().getName(), session.getName());
+
+        when(mockLogic.getFeedbackSession(sessionName, courseId)).thenReturn(session);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(
+                eq(session), eq(EmailType.FEEDBACK_PUBLISHED), isNull(), anyInt()))
+                .thenReturn(new EmailBatch(getTemplatedEmails(List.of(studentEmail)),
+                        "0:" + student.getId() + ":" + student.getEmail()));
+
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        FeedbackSessionPublishedEmailWorkerAction action = getAction(params);
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        assertTrue(session.isPublishedEmailSent());
+        assertEquals(1, getEmailsScheduledInBatches().size());
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_EMAIL_GENERATION_QUEUE_NAME, 1);
+    }
+
     @Test
     void testAccessControl() {
         String[] params = new String[] {
@@ -42,6 +42,8 @@ import teammates.ui.webapi.DeleteStudentsAction;
 import teammates.ui.webapi.EnrollStudentsAction;
 import teammates.ui.webapi.FeedbackSessionClosedRemindersAction;
 import teammates.ui.webapi.FeedbackSessionClosingSoonRemindersAction;
+import teammates.ui.webapi.FeedbackSessionEmailGenerationWorkerAction;
+import teammates.ui.webapi.FeedbackSessionNotificationsAction;
 import teammates.ui.webapi.FeedbackSessionOpenedRemindersAction;
 import teammates.ui.webapi.FeedbackSessionOpeningSoonRemindersAction;
 import teammates.ui.webapi.FeedbackSessionPublishedEmailWorkerAction;
@@ -79,6 +81,7 @@ import teammates.ui.webapi.GetNotificationsAction;
 import teammates.ui.webapi.GetOngoingSessionsAction;
 import teammates.ui.webapi.GetReadNotificationsAction;
 import teammates.ui.webapi.GetRegkeyValidityAction;
+import teammates.ui.webapi.GetRequestMetricsAction;
 import teammates.ui.webapi.GetSessionResponseStatsAction;
 import teammates.ui.webapi.GetSessionResultsAction;
 import teammates.ui.webapi.GetStudentAction;
@@ -90,6 +93,7 @@ import teammates.ui.webapi.InstructorCourseJoinEmailWorkerAction;
 import teammates.ui.webapi.InstructorSearchIndexingWorkerAction;
 import teammates.ui.webapi.JoinCourseAction;
 import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.MaintainFeedbackSessionLogsAction;
 import teammates.ui.webapi.MarkNotificationAsReadAction;
 import teammates.ui.webapi.PublishFeedbackSessionAction;
 import teammates.ui.webapi.PutDataBundleAction;
@@ -108,6 +112,7 @@ import teammates.ui.webapi.RestoreFeedbackSessionAction;
 import teammates.ui.webapi.SearchAccountRequestsAction;
 import teammates.ui.webapi.SearchInstructorsAction;
 import teammates.ui.webapi.SearchStudentsAction;
+import teammates.ui.webapi.SendEmailBatchWorkerAction;
 import teammates.ui.webapi.SendEmailWorkerAction;
 import teammates.ui.webapi.SendErrorReportAction;
 import teammates.ui.webapi.SendJoinReminderEmailAction;
@@ -228,6 +233,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailBatchWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -261,7 +267,11 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 SendLoginEmailAction.class,
                 PutSqlDataBundleAction.class,
                 DeleteSqlDataBundleAction.class,
-                UpdateFeedbackSessionLogsAction.class
+                UpdateFeedbackSessionLogsAction.class,
+                FeedbackSessionEmailGenerationWorkerAction.class,
+                FeedbackSessionNotificationsAction.class,
+                MaintainFeedbackSessionLogsAction.class,
+                GetRequestMetricsAction.class
         );
         List<String> expectedActionClassesNames = expectedActionClasses.stream()
                 .map(Class::getSimpleName)
@@ -0,0 +1,66 @@
+package teammates.sqlui.webapi;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.Phase;
+import teammates.ui.output.ActionRequestMetricsData;
+import teammates.ui.output.RequestMetricsData;
+import teammates.ui.webapi.GetRequestMetricsAction;
+import teammates.ui.webapi.JsonResult;
+
+/**
+ * SUT: {@link GetRequestMetricsAction}.
+ */
+public class GetRequestMetricsActionTest extends BaseActionTest<GetRequestMetricsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.REQUEST_METRICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+        verifyMaintainersCannotAccess();
+    }
+
+    @BeforeMethod
+    void setUp() {
+        loginAsAdmin();
+    }
+
+    @Test
+    void testExecute_recordedRequests_shouldBeSummarized() {
+        String actionClass = "GetRequestMetricsActionTestAction";
+        RequestMetrics.inst().recordPhase(actionClass, Phase.EXECUTE, 4_000_000L);
+        RequestMetrics.inst().recordRequest(actionClass, 200, 5_000_000L, 2_000_000L, 3);
+        RequestMetrics.inst().recordRequest(actionClass, 500, 7_000_000L, 0L, 0);
+
+        GetRequestMetricsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        RequestMetricsData output = (RequestMetricsData) result.getOutput();
+
+        ActionRequestMetricsData metrics = output.getActions().stream()
+                .filter(actionMetrics -> actionClass.equals(actionMetrics.getActionClass()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, metrics.getRequestCount());
+        assertEquals(0L, metrics.getClientErrorCount());
+        assertEquals(1L, metrics.getServerErrorCount());
+        assertEquals(3L, metrics.getTaskEnqueueCount());
+        assertEquals(2L, metrics.getLatency().getCount());
+        assertEquals(6.0, metrics.getLatency().getMean(), 0.001);
+        assertEquals(7.0, metrics.getLatency().getMax(), 0.001);
+        assertEquals(1L, metrics.getPhaseLatencies().get(Phase.EXECUTE.name()).getCount());
+        assertEquals(0L, metrics.getPhaseLatencies().get(Phase.SEND.name()).getCount());
+    }
+
+}
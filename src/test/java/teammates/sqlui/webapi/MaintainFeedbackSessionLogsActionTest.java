@@ -0,0 +1,59 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.mockito.InOrder;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.MaintainFeedbackSessionLogsAction;
+
+/**
+ * SUT: {@link MaintainFeedbackSessionLogsAction}.
+ */
+public class MaintainFeedbackSessionLogsActionTest extends BaseActionTest<MaintainFeedbackSessionLogsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_FEEDBACK_SESSION_LOGS_MAINTENANCE;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+        verifyMaintainersCannotAccess();
+    }
+
+    @BeforeMethod
+    void setUp() {
+        loginAsAdmin();
+    }
+
+    @Test
+    public void testExecute_normalCase_logsRolledUpBeforeDropped() {
+        when(mockLogic.createUpcomingFeedbackSessionLogsPartitions(isA(Instant.class))).thenReturn(1);
+        when(mockLogic.rollUpRecentFeedbackSessionLogs(isA(Instant.class))).thenReturn(10);
+        when(mockLogic.dropExpiredFeedbackSessionLogs(isA(Instant.class))).thenReturn(1);
+
+        MaintainFeedbackSessionLogsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        InOrder inOrder = inOrder(mockLogic);
+        inOrder.verify(mockLogic).createUpcomingFeedbackSessionLogsPartitions(isA(Instant.class));
+        inOrder.verify(mockLogic).rollUpRecentFeedbackSessionLogs(isA(Instant.class));
+        inOrder.verify(mockLogic).dropExpiredFeedbackSessionLogs(isA(Instant.class));
+    }
+}
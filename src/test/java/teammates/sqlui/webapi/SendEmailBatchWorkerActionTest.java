@@ -0,0 +1,120 @@
+package teammates.sqlui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailBatchRequest;
+import teammates.ui.webapi.SendEmailBatchWorkerAction;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseActionTest<SendEmailBatchWorkerAction> {
+
+    private List<EmailWrapper> emails;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        loginAsAdmin();
+        emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setType(EmailType.FEEDBACK_OPENED);
+            email.setSenderEmail("sender@tm.tmt");
+            email.setReplyTo("reply-to@tm.tmt");
+            email.setRecipient("recipient" + i + "@tm.tmt");
+            email.setSubject("subject");
+            email.setContent("<p>content " + i + "</p>");
+            emails.add(email);
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        mockEmailSender.setShouldFail(false);
+    }
+
+    @Test
+    void testExecute_allEmailsSent_success() {
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails, 1));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verifyNumberOfEmailsSent(3);
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_templatedEmails_renderedAndSent() {
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(getTemplatedEmails(emails), 1));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        List<EmailWrapper> emailsSent = getEmailsSent();
+        assertEquals(3, emailsSent.size());
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper emailSent = emailsSent.get(i);
+            assertEquals("recipient" + i + "@tm.tmt", emailSent.getRecipient());
+            assertEquals("subject", emailSent.getSubject());
+            assertEquals(EmailType.FEEDBACK_OPENED, emailSent.getType());
+            assertTrue(emailSent.getContent().contains("recipient" + i + "@tm.tmt"));
+        }
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emailsFailed_failedEmailsRescheduled() {
+        mockEmailSender.setShouldFail(true);
+
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails, 1));
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        TaskWrapper retryTask = mockTaskQueuer.getTasksAdded().get(0);
+        SendEmailBatchRequest retryRequest = (SendEmailBatchRequest) retryTask.getRequestBody();
+        assertEquals(2, retryRequest.getAttemptNumber());
+        assertEquals(3, retryRequest.getEmails().size());
+    }
+
+    @Test
+    void testExecute_emailsFailedOnLastAttempt_notRescheduled() {
+        mockEmailSender.setShouldFail(true);
+
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails, 5));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Failure", actionOutput.getMessage());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emptyBatch_throwsInvalidHttpRequestBodyException() {
+        verifyHttpRequestBodyFailure(new SendEmailBatchRequest(new ArrayList<>(), 1));
+        verifyHttpRequestBodyFailure(new SendEmailBatchRequest(getTemplatedEmails(new ArrayList<>()), 1));
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+    }
+
+}
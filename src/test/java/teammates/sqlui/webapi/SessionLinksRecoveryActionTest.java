@@ -3,6 +3,8 @@ package teammates.sqlui.webapi;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
@@ -133,6 +135,34 @@ public class SessionLinksRecoveryActionTest extends BaseActionTest<SessionLinksR
         assertEquals(stubStudent.getEmail(), emailSent.getRecipient());
     }
 
+    @Test
+    void testExecute_repeatedRequestsForSameEmail_generatedEmailReused() {
+        String[] params = {
+                Const.ParamsNames.STUDENT_EMAIL, "repeated-recovery@email.com",
+                Const.ParamsNames.USER_CAPTCHA_RESPONSE, "correct-captcha-response",
+        };
+
+        stubEmailWrapper.setRecipient("repeated-recovery@email.com");
+        when(mockRecaptchaVerifier.isVerificationSuccessful(params[3])).thenReturn(true);
+        when(mockDatastoreLogic.getAllStudentsForEmail("repeated-recovery@email.com")).thenReturn(List.of());
+        when(mockSqlEmailGenerator.generateSessionLinksRecoveryEmailForStudent(
+                eq("repeated-recovery@email.com"), eq(""), any()))
+                .thenReturn(stubEmailWrapper);
+        mockEmailSender.setShouldFail(false);
+
+        for (int i = 0; i < 3; i++) {
+            SessionLinksRecoveryAction action = getAction(params);
+            SessionLinksRecoveryResponseData output = (SessionLinksRecoveryResponseData) getJsonResult(action).getOutput();
+            assertTrue(output.isEmailSent());
+        }
+
+        // the email is sent for every request, but generated only once
+        verifyNumberOfEmailsSent(3);
+        verify(mockSqlEmailGenerator, times(1)).generateSessionLinksRecoveryEmailForStudent(
+                eq("repeated-recovery@email.com"), eq(""), any());
+        verify(mockDatastoreLogic, times(1)).getAllStudentsForEmail("repeated-recovery@email.com");
+    }
+
     @Test
     void testExecute_captchaVerificationFailed_returnsFalseResponse() {
         String[] params = {
@@ -0,0 +1,77 @@
+package teammates.ui.servlets;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.testng.annotations.Test;
+
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.Phase;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletRequest;
+import teammates.test.MockHttpServletResponse;
+
+/**
+ * SUT: {@link MetricsServlet}.
+ */
+public class MetricsServletTest extends BaseTestCase {
+
+    @Test
+    public void testDoGet_accessControl() throws Exception {
+        RequestMetrics requestMetrics = RequestMetrics.inst();
+
+        ______TS("no token configured");
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        new MetricsServlet("", requestMetrics).doGet(getRequest("Bearer "), resp);
+        assertEquals(HttpStatus.SC_NOT_FOUND, resp.getStatus());
+
+        ______TS("missing or wrong token");
+
+        MetricsServlet servlet = new MetricsServlet("secret", requestMetrics);
+
+        resp = new MockHttpServletResponse();
+        servlet.doGet(new MockHttpServletRequest(HttpGet.METHOD_NAME, "/metrics"), resp);
+        assertEquals(HttpStatus.SC_UNAUTHORIZED, resp.getStatus());
+
+        resp = new MockHttpServletResponse();
+        servlet.doGet(getRequest("Bearer wrong"), resp);
+        assertEquals(HttpStatus.SC_UNAUTHORIZED, resp.getStatus());
+
+        ______TS("correct token");
+
+        resp = new MockHttpServletResponse();
+        servlet.doGet(getRequest("Bearer secret"), resp);
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+    }
+
+    @Test
+    public void testToPrometheusText() {
+        RequestMetrics requestMetrics = RequestMetrics.inst();
+        requestMetrics.recordPhase("MetricsServletTestAction", Phase.EXECUTE, 3_000_000L);
+        requestMetrics.recordRequest("MetricsServletTestAction", 200, 4_000_000L, 1_000_000L, 0);
+        requestMetrics.recordRequest("MetricsServletTestAction", 404, 2_000_000L, 0L, 2);
+
+        String text = MetricsServlet.toPrometheusText(requestMetrics);
+
+        String action = "action=\"MetricsServletTestAction\"";
+        assertTrue(text.contains("# TYPE teammates_request_duration_seconds summary\n"));
+        assertTrue(text.contains("teammates_request_duration_seconds{" + action + ",quantile=\"0.5\"} 0.002"));
+        assertTrue(text.contains("teammates_request_duration_seconds_sum{" + action + "} 0.006\n"));
+        assertTrue(text.contains("teammates_request_duration_seconds_count{" + action + "} 2\n"));
+        assertTrue(text.contains("teammates_request_phase_duration_seconds_count{" + action + ",phase=\"execute\"} 1\n"));
+        assertTrue(text.contains("teammates_request_db_duration_seconds_sum{" + action + "} 0.001\n"));
+        assertTrue(text.contains("teammates_request_errors_total{" + action + ",type=\"client\"} 1\n"));
+        assertTrue(text.contains("teammates_request_errors_total{" + action + ",type=\"server\"} 0\n"));
+        assertTrue(text.contains("teammates_task_enqueued_total{" + action + "} 2\n"));
+    }
+
+    private MockHttpServletRequest getRequest(String authorizationHeader) {
+        Map<String, List<String>> headers = Map.of("Authorization", Collections.singletonList(authorizationHeader));
+        return new MockHttpServletRequest(HttpGet.METHOD_NAME, "/metrics", headers);
+    }
+
+}
@@ -24,6 +24,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.api.MockAuthProxy;
 import teammates.logic.api.MockEmailSender;
@@ -35,6 +36,7 @@ import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
 import teammates.test.MockHttpServletRequest;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
 
 /**
  * Base class for all action tests.
@@ -667,6 +669,19 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the emails scheduled to be sent in batches as part of the executed action.
+     */
+    protected List<EmailWrapper> getEmailsScheduledInBatches() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            if (Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME.equals(task.getQueueName())) {
+                emails.addAll(((SendEmailBatchRequest) task.getRequestBody()).getEmails());
+            }
+        }
+        return emails;
+    }
+
     /**
      * Verifies that the executed action does not result in any email being sent.
      */
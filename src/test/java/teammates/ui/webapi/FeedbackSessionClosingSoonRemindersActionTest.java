@@ -11,11 +11,9 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosingSoonRemindersAction}.
@@ -114,13 +112,11 @@ public class FeedbackSessionClosingSoonRemindersActionTest
 
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
         // 3 students and 2 instructors in session have deadline extensions and should not receive email
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        List<EmailWrapper> emailsScheduled = getEmailsScheduledInBatches();
+        assertEquals(8, emailsScheduled.size());
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : emailsScheduled) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_CLOSING_SOON.getSubject(),
                     courseName, session1.getFeedbackSessionName());
@@ -213,12 +209,10 @@ public class FeedbackSessionClosingSoonRemindersActionTest
         // 2 students, 1 instructor with valid deadline extensions within time period
         // 1 student in session with reminders disabled
         // 1 student with outdated deadline, 1 student with deleted deadline
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        emailsScheduled = getEmailsScheduledInBatches();
+        assertEquals(3, emailsScheduled.size());
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : emailsScheduled) {
             String expectedSubjectSession1 = String.format(EmailType.FEEDBACK_CLOSING_SOON.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             String expectedSubjectSession3 = String.format(EmailType.FEEDBACK_CLOSING_SOON.getSubject(),
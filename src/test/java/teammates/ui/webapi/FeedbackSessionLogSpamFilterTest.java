@@ -0,0 +1,74 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.logs.FeedbackSessionLogType;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionLogSpamFilter}.
+ */
+public class FeedbackSessionLogSpamFilterTest extends BaseTestCase {
+
+    private static final long WINDOW = 1000;
+
+    @Test
+    public void testShouldKeep_sameKey_onlyLogsOutsideWindowOfLastKeptLogKept() {
+        FeedbackSessionLogSpamFilter spamFilter = new FeedbackSessionLogSpamFilter(WINDOW);
+        UUID studentId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+
+        assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, 0));
+        assertFalse(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, WINDOW - 1));
+        assertFalse(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, WINDOW));
+
+        ______TS("window is measured from the last log kept, not the last log seen");
+
+        assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, WINDOW + 1));
+        assertFalse(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, WINDOW * 2));
+        assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, WINDOW * 2 + 2));
+
+        assertEquals(1, spamFilter.size());
+    }
+
+    @Test
+    public void testShouldKeep_differentKeys_filteredSeparately() {
+        FeedbackSessionLogSpamFilter spamFilter = new FeedbackSessionLogSpamFilter(WINDOW);
+        UUID studentId = UUID.randomUUID();
+        UUID otherStudentId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID otherSessionId = UUID.randomUUID();
+
+        assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.ACCESS, 0));
+        assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.SUBMISSION, 1));
+        assertTrue(spamFilter.shouldKeep(otherStudentId, sessionId, FeedbackSessionLogType.ACCESS, 2));
+        assertTrue(spamFilter.shouldKeep(studentId, otherSessionId, FeedbackSessionLogType.ACCESS, 3));
+        assertTrue(spamFilter.shouldKeep(null, null, FeedbackSessionLogType.ACCESS, 4));
+        assertFalse(spamFilter.shouldKeep(null, null, FeedbackSessionLogType.ACCESS, 5));
+
+        assertEquals(5, spamFilter.size());
+    }
+
+    @Test
+    public void testShouldKeep_manyKeys_keysKeptAcrossResizes() {
+        FeedbackSessionLogSpamFilter spamFilter = new FeedbackSessionLogSpamFilter(WINDOW);
+        List<UUID> studentIds = new ArrayList<>();
+        UUID sessionId = UUID.randomUUID();
+        for (int i = 0; i < 5000; i++) {
+            UUID studentId = UUID.randomUUID();
+            studentIds.add(studentId);
+            assertTrue(spamFilter.shouldKeep(studentId, sessionId, FeedbackSessionLogType.VIEW_RESULT, i));
+        }
+
+        assertEquals(5000, spamFilter.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            assertFalse(spamFilter.shouldKeep(studentIds.get(i), sessionId, FeedbackSessionLogType.VIEW_RESULT, i + 1));
+        }
+        assertEquals(5000, spamFilter.size());
+    }
+
+}
@@ -111,6 +111,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailBatchWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -144,7 +145,11 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 SendLoginEmailAction.class,
                 PutSqlDataBundleAction.class,
                 DeleteSqlDataBundleAction.class,
-                UpdateFeedbackSessionLogsAction.class
+                UpdateFeedbackSessionLogsAction.class,
+                FeedbackSessionEmailGenerationWorkerAction.class,
+                FeedbackSessionNotificationsAction.class,
+                MaintainFeedbackSessionLogsAction.class,
+                GetRequestMetricsAction.class
         );
         List<String> expectedActionClassesNames = expectedActionClasses.stream()
                 .map(Class::getSimpleName)
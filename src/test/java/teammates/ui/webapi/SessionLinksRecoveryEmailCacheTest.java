@@ -0,0 +1,190 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SessionLinksRecoveryEmailCache}.
+ */
+public class SessionLinksRecoveryEmailCacheTest extends BaseTestCase {
+
+    private static EmailWrapper getEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        return email;
+    }
+
+    @Test
+    public void testGet_withinWindow_emailGeneratedOnce() {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache();
+        AtomicInteger generationCount = new AtomicInteger();
+
+        EmailWrapper first = cache.get("student@email.com", () -> {
+            generationCount.incrementAndGet();
+            return getEmail("student@email.com");
+        });
+        EmailWrapper second = cache.get("student@email.com", () -> {
+            generationCount.incrementAndGet();
+            return getEmail("student@email.com");
+        });
+
+        assertSame(first, second);
+        assertEquals(1, generationCount.get());
+
+        ______TS("other addresses are generated separately");
+
+        EmailWrapper other = cache.get("other@email.com", () -> getEmail("other@email.com"));
+        assertEquals("other@email.com", other.getRecipient());
+    }
+
+    @Test
+    public void testGet_windowPassed_emailGeneratedAgain() {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache(Duration.ZERO, 10);
+
+        EmailWrapper first = cache.get("student@email.com", () -> getEmail("student@email.com"));
+        EmailWrapper second = cache.get("student@email.com", () -> getEmail("student@email.com"));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testGet_generationFails_notCached() {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache();
+
+        assertThrows(IllegalStateException.class, () -> cache.get("student@email.com", () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        EmailWrapper email = cache.get("student@email.com", () -> getEmail("student@email.com"));
+        assertEquals("student@email.com", email.getRecipient());
+    }
+
+    @Test
+    public void testGet_generationFailsWithError_notCachedAndWaitingRequestsFail() throws Exception {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache();
+        CountDownLatch generationStarted = new CountDownLatch(1);
+        CountDownLatch canFinishGeneration = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EmailWrapper> first = executor.submit(() -> cache.get("student@email.com", () -> {
+                generationStarted.countDown();
+                try {
+                    canFinishGeneration.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new AssertionError("failed");
+            }));
+            assertTrue(generationStarted.await(10, TimeUnit.SECONDS));
+
+            Future<EmailWrapper> second = executor.submit(() -> cache.get("student@email.com",
+                    () -> getEmail("student@email.com")));
+            canFinishGeneration.countDown();
+
+            ExecutionException firstFailure = assertThrows(ExecutionException.class,
+                    () -> first.get(10, TimeUnit.SECONDS));
+            assertTrue(firstFailure.getCause() instanceof AssertionError);
+            // the waiting request either saw the failure or, if it came after the eviction, generated the email
+            try {
+                assertEquals("student@email.com", second.get(10, TimeUnit.SECONDS).getRecipient());
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof AssertionError);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ______TS("failed email is generated again");
+
+        EmailWrapper email = cache.get("student@email.com", () -> getEmail("student@email.com"));
+        assertEquals("student@email.com", email.getRecipient());
+    }
+
+    @Test
+    public void testGet_generationTakesTooLong_waitingRequestGeneratesEmail() throws Exception {
+        SessionLinksRecoveryEmailCache cache =
+                new SessionLinksRecoveryEmailCache(Duration.ofMinutes(5), 10, Duration.ofMillis(10));
+        CountDownLatch generationStarted = new CountDownLatch(1);
+        CountDownLatch canFinishGeneration = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<EmailWrapper> first = executor.submit(() -> cache.get("student@email.com", () -> {
+                generationStarted.countDown();
+                try {
+                    canFinishGeneration.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return getEmail("student@email.com");
+            }));
+            assertTrue(generationStarted.await(10, TimeUnit.SECONDS));
+
+            EmailWrapper generatedByWaitingRequest = getEmail("student@email.com");
+            assertSame(generatedByWaitingRequest, cache.get("student@email.com", () -> generatedByWaitingRequest));
+
+            canFinishGeneration.countDown();
+            assertNotSame(generatedByWaitingRequest, first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGet_tooManyAddresses_notCached() {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache(Duration.ofMinutes(5), 1);
+        cache.get("first@email.com", () -> getEmail("first@email.com"));
+
+        EmailWrapper first = cache.get("second@email.com", () -> getEmail("second@email.com"));
+        EmailWrapper second = cache.get("second@email.com", () -> getEmail("second@email.com"));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testGet_concurrentRequests_coalesced() throws Exception {
+        SessionLinksRecoveryEmailCache cache = new SessionLinksRecoveryEmailCache();
+        AtomicInteger generationCount = new AtomicInteger();
+        CountDownLatch generationStarted = new CountDownLatch(1);
+        CountDownLatch canFinishGeneration = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EmailWrapper> first = executor.submit(() -> cache.get("student@email.com", () -> {
+                generationCount.incrementAndGet();
+                generationStarted.countDown();
+                try {
+                    canFinishGeneration.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return getEmail("student@email.com");
+            }));
+            assertTrue(generationStarted.await(10, TimeUnit.SECONDS));
+
+            Future<EmailWrapper> second = executor.submit(() -> cache.get("student@email.com", () -> {
+                generationCount.incrementAndGet();
+                return getEmail("student@email.com");
+            }));
+            canFinishGeneration.countDown();
+
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, generationCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.storage.sqlentity.UsageStatistics;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link UsageStatisticsSeriesCache}.
+ */
+public class UsageStatisticsSeriesCacheTest extends BaseTestCase {
+
+    private static final Instant NOW = Instant.parse("2024-07-01T10:30:00Z");
+
+    private final List<UsageStatistics> storedStatistics = createHourlyStatistics(
+            Instant.parse("2024-05-01T00:00:00Z"), NOW.truncatedTo(ChronoUnit.HOURS));
+    private final List<Instant[]> loadedRanges = new ArrayList<>();
+    private final BiFunction<Instant, Instant, List<UsageStatistics>> loader = (startTime, endTime) -> {
+        loadedRanges.add(new Instant[] { startTime, endTime });
+        return getStatisticsInRange(startTime, endTime);
+    };
+
+    private static List<UsageStatistics> createHourlyStatistics(Instant startTime, Instant endTime) {
+        List<UsageStatistics> statistics = new ArrayList<>();
+        for (Instant time = startTime; time.isBefore(endTime); time = time.plus(1, ChronoUnit.HOURS)) {
+            statistics.add(new UsageStatistics(time, 60, 1, 1, 1, 1, 1, 1, 1));
+        }
+        return statistics;
+    }
+
+    private List<UsageStatistics> getStatisticsInRange(Instant startTime, Instant endTime) {
+        return storedStatistics.stream()
+                .filter(stats -> !stats.getStartTime().isBefore(startTime) && stats.getStartTime().isBefore(endTime))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGet_rangeWithWholeDays_sameStatisticsAsLoader() {
+        UsageStatisticsSeriesCache cache = new UsageStatisticsSeriesCache();
+        Instant startTime = Instant.parse("2024-05-10T05:00:00Z");
+        Instant endTime = Instant.parse("2024-06-20T13:00:00Z");
+
+        ______TS("first request loads the partial days and all the whole days with one query each");
+
+        List<UsageStatistics> statistics = cache.get(startTime, endTime, NOW, loader);
+
+        assertEquals(getStatisticsInRange(startTime, endTime), statistics);
+        assertEquals(3, loadedRanges.size());
+        assertEquals(40, cache.getCachedDayCount());
+
+        ______TS("repeated request loads only the partial days");
+
+        loadedRanges.clear();
+        statistics = cache.get(startTime, endTime, NOW, loader);
+
+        assertEquals(getStatisticsInRange(startTime, endTime), statistics);
+        assertEquals(2, loadedRanges.size());
+        assertEquals(startTime, loadedRanges.get(0)[0]);
+        assertEquals(Instant.parse("2024-05-11T00:00:00Z"), loadedRanges.get(0)[1]);
+        assertEquals(Instant.parse("2024-06-20T00:00:00Z"), loadedRanges.get(1)[0]);
+        assertEquals(endTime, loadedRanges.get(1)[1]);
+
+        ______TS("overlapping request loads only the days not cached");
+
+        loadedRanges.clear();
+        Instant laterEndTime = Instant.parse("2024-06-25T00:00:00Z");
+        statistics = cache.get(startTime, laterEndTime, NOW, loader);
+
+        assertEquals(getStatisticsInRange(startTime, laterEndTime), statistics);
+        assertEquals(2, loadedRanges.size());
+        assertEquals(Instant.parse("2024-06-20T00:00:00Z"), loadedRanges.get(1)[0]);
+        assertEquals(laterEndTime, loadedRanges.get(1)[1]);
+    }
+
+    @Test
+    public void testGet_recentDays_notCached() {
+        UsageStatisticsSeriesCache cache = new UsageStatisticsSeriesCache();
+        Instant startTime = Instant.parse("2024-06-28T00:00:00Z");
+
+        List<UsageStatistics> statistics = cache.get(startTime, NOW, NOW, loader);
+
+        assertEquals(getStatisticsInRange(startTime, NOW), statistics);
+        // days ending within the settling period may still be backfilled
+        assertEquals(2, cache.getCachedDayCount());
+        assertEquals(Instant.parse("2024-06-30T00:00:00Z"), loadedRanges.get(loadedRanges.size() - 1)[0]);
+    }
+
+    @Test
+    public void testGet_rangeWithinDay_loadedDirectly() {
+        UsageStatisticsSeriesCache cache = new UsageStatisticsSeriesCache();
+        Instant startTime = Instant.parse("2024-06-01T05:00:00Z");
+        Instant endTime = Instant.parse("2024-06-01T07:00:00Z");
+
+        List<UsageStatistics> statistics = cache.get(startTime, endTime, NOW, loader);
+
+        assertEquals(2, statistics.size());
+        assertEquals(1, loadedRanges.size());
+        assertEquals(0, cache.getCachedDayCount());
+    }
+
+    @Test
+    public void testGet_tooManyDays_cacheBounded() {
+        UsageStatisticsSeriesCache cache = new UsageStatisticsSeriesCache(10);
+        Instant startTime = Instant.parse("2024-05-01T00:00:00Z");
+        Instant endTime = Instant.parse("2024-06-01T00:00:00Z");
+
+        ______TS("days which cannot all be cached are not cached");
+
+        List<UsageStatistics> statistics = cache.get(startTime, endTime, NOW, loader);
+
+        assertEquals(getStatisticsInRange(startTime, endTime), statistics);
+        assertEquals(0, cache.getCachedDayCount());
+
+        ______TS("cache is cleared when full");
+
+        cache.get(startTime, startTime.plus(8, ChronoUnit.DAYS), NOW, loader);
+        assertEquals(8, cache.getCachedDayCount());
+
+        Instant otherStartTime = Instant.parse("2024-05-20T00:00:00Z");
+        statistics = cache.get(otherStartTime, otherStartTime.plus(5, ChronoUnit.DAYS), NOW, loader);
+
+        assertEquals(getStatisticsInRange(otherStartTime, otherStartTime.plus(5, ChronoUnit.DAYS)), statistics);
+        assertEquals(5, cache.getCachedDayCount());
+    }
+
+}